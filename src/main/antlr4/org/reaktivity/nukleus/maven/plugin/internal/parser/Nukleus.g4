@@ -24,13 +24,17 @@ scope
    ;
 
 option
-   : KW_OPTION optionByteOrder SEMICOLON
+   : KW_OPTION (optionByteOrder | optionOffsets) SEMICOLON
    ;
 
 optionByteOrder
    : KW_BYTEORDER (KW_NATIVE | KW_NETWORK)
    ;
 
+optionOffsets
+   : KW_OFFSETS (KW_EAGER | KW_LAZY)
+   ;
+
 scoped_name
    : (DOUBLE_COLON)? ID (DOUBLE_COLON ID)*
    ;
@@ -821,6 +825,21 @@ KW_NETWORK
    ;
 
 
+KW_OFFSETS
+   : 'offsets'
+   ;
+
+
+KW_EAGER
+   : 'eager'
+   ;
+
+
+KW_LAZY
+   : 'lazy'
+   ;
+
+
 ID
    : LETTER (LETTER | ID_DIGIT)*
    ;
@@ -42,6 +42,9 @@ public abstract class AbstractMojo extends org.apache.maven.plugin.AbstractMojo
     @Parameter(required = true)
     protected String scopeNames;
 
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    protected String pluginVersion;
+
     private Parser parser = new Parser()
             .debug(getLog()::debug)
             .error(getLog()::error)
@@ -0,0 +1,278 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records what a previous generation consumed and produced, so that an unchanged build can be skipped.
+ * <p>
+ * The state holds the generator configuration, a content digest for each resolved IDL resource
+ * (empty when the resource was not found) and a content digest for each generated source file,
+ * keyed by its path relative to the output directory.
+ * <p>
+ * Each state file is keyed by package name and scope set, so builds sharing an output directory
+ * neither invalidate nor delete each other's outputs.
+ */
+final class BuildState
+{
+    private static final String CONFIG_PREFIX = "config.";
+    private static final String RESOURCE_PREFIX = "resource.";
+    private static final String OUTPUT_PREFIX = "output.";
+    private static final String MISSING = "";
+    private static final int KEY_LENGTH = 16;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final SortedMap<String, String> entries = new TreeMap<>();
+
+    static BuildState read(
+        File file) throws IOException
+    {
+        BuildState state = new BuildState();
+        if (file.isFile())
+        {
+            try (BufferedReader reader = Files.newBufferedReader(file.toPath(), UTF_8))
+            {
+                String line;
+                while ((line = reader.readLine()) != null)
+                {
+                    int separator = line.indexOf('=');
+                    if (separator != -1)
+                    {
+                        state.entries.put(line.substring(0, separator), line.substring(separator + 1));
+                    }
+                }
+            }
+        }
+        return state;
+    }
+
+    void write(
+        File file) throws IOException
+    {
+        Files.createDirectories(file.getAbsoluteFile().getParentFile().toPath());
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), UTF_8))
+        {
+            for (Map.Entry<String, String> entry : entries.entrySet())
+            {
+                writer.write(entry.getKey());
+                writer.write('=');
+                writer.write(entry.getValue());
+                writer.newLine();
+            }
+        }
+    }
+
+    BuildState config(
+        String name,
+        String value)
+    {
+        entries.put(CONFIG_PREFIX + name, String.valueOf(value));
+        return this;
+    }
+
+    BuildState resource(
+        String resourceName,
+        URL resource) throws IOException
+    {
+        entries.put(RESOURCE_PREFIX + resourceName, digest(resource));
+        return this;
+    }
+
+    BuildState output(
+        String path,
+        byte[] content)
+    {
+        entries.put(OUTPUT_PREFIX + path, digest(content));
+        return this;
+    }
+
+    SortedMap<String, String> outputs()
+    {
+        return entries(OUTPUT_PREFIX);
+    }
+
+    boolean hasSameConfig(
+        BuildState current,
+        String... names)
+    {
+        boolean sameConfig = true;
+        for (String name : names)
+        {
+            sameConfig &= Objects.equals(entries.get(CONFIG_PREFIX + name), current.entries.get(CONFIG_PREFIX + name));
+        }
+        return sameConfig;
+    }
+
+    boolean isUpToDate(
+        BuildState current,
+        ClassLoader loader,
+        File outputDirectory) throws IOException
+    {
+        SortedMap<String, String> resources = entries(RESOURCE_PREFIX);
+        boolean upToDate = !resources.isEmpty() && entries(CONFIG_PREFIX).equals(current.entries(CONFIG_PREFIX));
+
+        for (Map.Entry<String, String> entry : resources.entrySet())
+        {
+            if (!upToDate)
+            {
+                break;
+            }
+            upToDate = entry.getValue().equals(digest(loader.getResource(entry.getKey())));
+        }
+
+        for (Map.Entry<String, String> entry : outputs().entrySet())
+        {
+            if (!upToDate)
+            {
+                break;
+            }
+            Path output = outputDirectory.toPath().resolve(entry.getKey());
+            upToDate = Files.isRegularFile(output) && entry.getValue().equals(digest(Files.readAllBytes(output)));
+        }
+
+        return upToDate;
+    }
+
+    static String key(
+        String... values)
+    {
+        MessageDigest digest = newDigest();
+        for (String value : values)
+        {
+            digest.update(String.valueOf(value).getBytes(UTF_8));
+            digest.update((byte) 0);
+        }
+        return toHex(digest.digest()).substring(0, KEY_LENGTH);
+    }
+
+    static String generatorDigest(
+        Class<?> generatorClass) throws IOException
+    {
+        CodeSource codeSource = generatorClass.getProtectionDomain().getCodeSource();
+        if (codeSource == null || !"file".equals(codeSource.getLocation().getProtocol()))
+        {
+            return MISSING;
+        }
+
+        try
+        {
+            Path location = Paths.get(codeSource.getLocation().toURI());
+            MessageDigest digest = newDigest();
+            if (Files.isDirectory(location))
+            {
+                try (Stream<Path> paths = Files.walk(location))
+                {
+                    for (Path path : paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList()))
+                    {
+                        digest.update(location.relativize(path).toString().getBytes(UTF_8));
+                        digest.update(Files.readAllBytes(path));
+                    }
+                }
+            }
+            else
+            {
+                digest.update(Files.readAllBytes(location));
+            }
+            return toHex(digest.digest());
+        }
+        catch (URISyntaxException ex)
+        {
+            throw new IOException(ex);
+        }
+    }
+
+    private SortedMap<String, String> entries(
+        String prefix)
+    {
+        SortedMap<String, String> entries = new TreeMap<>();
+        this.entries.subMap(prefix, prefix + Character.MAX_VALUE)
+                    .forEach((k, v) -> entries.put(k.substring(prefix.length()), v));
+        return entries;
+    }
+
+    private static String digest(
+        URL resource) throws IOException
+    {
+        if (resource == null)
+        {
+            return MISSING;
+        }
+
+        MessageDigest digest = newDigest();
+        try (InputStream input = resource.openStream())
+        {
+            byte[] chunk = new byte[8192];
+            int length;
+            while ((length = input.read(chunk)) != -1)
+            {
+                digest.update(chunk, 0, length);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String digest(
+        byte[] content)
+    {
+        return toHex(newDigest().digest(content));
+    }
+
+    private static MessageDigest newDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException ex)
+        {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String toHex(
+        byte[] bytes)
+    {
+        char[] hex = new char[bytes.length << 1];
+        for (int i = 0; i < bytes.length; i++)
+        {
+            hex[i << 1] = HEX_DIGITS[(bytes[i] >> 4) & 0x0f];
+            hex[(i << 1) + 1] = HEX_DIGITS[bytes[i] & 0x0f];
+        }
+        return new String(hex);
+    }
+}
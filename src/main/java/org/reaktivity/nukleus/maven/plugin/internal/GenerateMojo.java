@@ -35,6 +35,12 @@ public final class GenerateMojo extends AbstractMojo
     @Parameter(defaultValue = "")
     protected String packageName;
 
+    @Parameter(defaultValue = "false")
+    protected boolean specializeArrays;
+
+    @Parameter(defaultValue = "false")
+    protected boolean cacheStrings;
+
     @Parameter(defaultValue = "${project.build.directory}/generated-sources/reaktivity")
     protected File outputDirectory;
 
@@ -55,6 +61,7 @@ public final class GenerateMojo extends AbstractMojo
     protected void executeImpl() throws IOException
     {
         Generator generator = new Generator();
+        generator.info(getLog()::info);
         generator.debug(getLog()::debug);
         generator.error(getLog()::error);
         generator.warn(getLog()::warn);
@@ -62,6 +69,9 @@ public final class GenerateMojo extends AbstractMojo
         generator.setInputDirectory(inputDirectory);
         generator.setOutputDirectory(outputDirectory);
         generator.setScopeNames(scopeNames);
+        generator.setPluginVersion(pluginVersion);
+        generator.setSpecializeArrays(specializeArrays);
+        generator.setCacheStrings(cacheStrings);
         generator.generate(createLoader());
         project.addCompileSourceRoot(outputDirectory.getPath());
     }
@@ -15,8 +15,11 @@
  */
 package org.reaktivity.nukleus.maven.plugin.internal;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NATIVE;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NETWORK;
 
 import java.io.File;
 import java.io.IOException;
@@ -25,9 +28,17 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
@@ -68,12 +79,21 @@ import com.squareup.javapoet.TypeVariableName;
 
 public class Generator
 {
+    private static final String STATE_FILE_NAME_FORMAT = ".reaktivity-generate-%s.state";
+
     private String scopeNames = "test";
     private File inputDirectory = new File("src/test/resources/test-project");
     private File outputDirectory = new File("target/generated-test-sources/test-reaktivity");
     private String packageName = "org.reaktivity.reaktor.internal.test.types";
+    private String pluginVersion = Generator.class.getPackage().getImplementationVersion();
+    private boolean specializeArrays;
+    private boolean cacheStrings;
 
     private Parser parser = new Parser();
+    private Consumer<String> info = System.out::println;
+    private Consumer<String> debug = s -> {};
+    private Consumer<String> warn = System.out::println;
+    private ForkJoinPool pool;
 
     public static void main(
         String[] args) throws IOException
@@ -91,6 +111,12 @@ public class Generator
                 case "-v":
                     verbose = true;
                     break;
+                case "-s":
+                    generator.specializeArrays = true;
+                    break;
+                case "-c":
+                    generator.cacheStrings = true;
+                    break;
                 case "-d":
                     final String baseDir = args[i + 1];
                     i++;
@@ -113,20 +139,91 @@ public class Generator
 
     void generate(ClassLoader loader) throws IOException
     {
-        List<String> targetScopes = unmodifiableList(asList(scopeNames.split("\\s+")));
-        List<AstSpecificationNode> specifications = parser.parseAST(targetScopes, loader);
+        List<String> targetScopes = unmodifiableList(asList(scopeNames.trim().split("\\s+")));
 
-        TypeResolver resolver = new TypeResolver(packageName);
+        String targetScopeNames = String.join(" ", targetScopes);
+        String stateKey = BuildState.key(packageName, targetScopeNames);
+        File stateFile = new File(outputDirectory, String.format(STATE_FILE_NAME_FORMAT, stateKey));
+        BuildState previousState = BuildState.read(stateFile);
+        BuildState state = new BuildState()
+                .config("generator.version", pluginVersion)
+                .config("generator.digest", BuildState.generatorDigest(Generator.class))
+                .config("packageName", packageName)
+                .config("scopeNames", targetScopeNames)
+                .config("specializeArrays", String.valueOf(specializeArrays))
+                .config("cacheStrings", String.valueOf(cacheStrings));
+
+        if (previousState.isUpToDate(state, loader, outputDirectory))
+        {
+            info.accept("Skipping generation to " + outputDirectory + ", inputs unchanged");
+            return;
+        }
+
+        Map<String, URL> resources = new LinkedHashMap<>();
+        List<AstSpecificationNode> specifications = parser.parseAST(targetScopes, loader, resources);
+        for (Map.Entry<String, URL> resource : resources.entrySet())
+        {
+            state.resource(resource.getKey(), resource.getValue());
+        }
+
+        TypeResolver resolver = new TypeResolver(packageName, specializeArrays);
         specifications.forEach(resolver::visit);
 
         Collection<TypeSpecGenerator<?>> typeSpecs = new HashSet<>();
         for (AstSpecificationNode specification : specifications)
         {
             String scopeName = specification.scope().name();
-            ScopeVisitor visitor = new ScopeVisitor(scopeName, packageName, resolver, targetScopes);
+            ScopeVisitor visitor = new ScopeVisitor(scopeName, packageName, resolver, targetScopes, warn);
             typeSpecs.addAll(specification.accept(visitor));
         }
 
+        addBuiltinTypes(resolver, typeSpecs);
+
+        info.accept("Generating to " + outputDirectory);
+
+        long startedAt = System.nanoTime();
+        ForkJoinPool pool = this.pool != null ? this.pool : new ForkJoinPool();
+        List<Future<EmittedSource>> emittedSources = new ArrayList<>(typeSpecs.size());
+        int written = 0;
+        try
+        {
+            for (TypeSpecGenerator<?> typeSpec : typeSpecs)
+            {
+                emittedSources.add(pool.submit(() -> emit(typeSpec)));
+            }
+
+            for (Future<EmittedSource> emittedSource : emittedSources)
+            {
+                EmittedSource source = Parser.join(emittedSource);
+                state.output(source.outputPath, source.content);
+                if (source.written)
+                {
+                    written++;
+                }
+            }
+        }
+        finally
+        {
+            emittedSources.forEach(f -> f.cancel(false));
+            if (pool != this.pool)
+            {
+                pool.shutdown();
+            }
+        }
+
+        deleteStaleOutputs(previousState, state);
+
+        state.write(stateFile);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        info.accept(String.format("Generated %d types in %d ms (%d written, parallelism %d)",
+                typeSpecs.size(), elapsedMillis, written, pool.getParallelism()));
+    }
+
+    private void addBuiltinTypes(
+        TypeResolver resolver,
+        Collection<TypeSpecGenerator<?>> typeSpecs)
+    {
         ClassName flyweightType = resolver.resolveClass(AstType.FLYWEIGHT);
         ClassName stringType = resolver.resolveClass(AstType.STRING);
         ParameterizedTypeName arrayType = ParameterizedTypeName.get(resolver.resolveClass(AstType.ARRAY),
@@ -138,60 +235,102 @@ public class Generator
 
         typeSpecs.add(new FlyweightGenerator(flyweightType, arrayType));
         typeSpecs.add(new OctetsFlyweightGenerator(flyweightType));
-        typeSpecs.add(new StringFlyweightGenerator(flyweightType));
+        typeSpecs.add(new StringFlyweightGenerator(flyweightType, cacheStrings));
         typeSpecs.add(new String8FlyweightGenerator(stringType));
         typeSpecs.add(new String16FlyweightGenerator(stringType));
         typeSpecs.add(new String32FlyweightGenerator(stringType));
         typeSpecs.add(new ArrayFWGenerator(flyweightType));
         typeSpecs.add(new Array8FWGenerator(flyweightType, arrayType));
-        typeSpecs.add(new Array16FWGenerator(flyweightType, arrayType));
-        typeSpecs.add(new Array32FWGenerator(flyweightType, arrayType));
+        typeSpecs.add(new Array16FWGenerator(flyweightType, arrayType, NATIVE));
+        typeSpecs.add(new Array16FWGenerator(flyweightType, arrayType, NETWORK));
+        typeSpecs.add(new Array32FWGenerator(flyweightType, arrayType, NATIVE));
+        typeSpecs.add(new Array32FWGenerator(flyweightType, arrayType, NETWORK));
         typeSpecs.add(new Varbyteuint32FlyweightGenerator(flyweightType));
         typeSpecs.add(new Varint32FlyweightGenerator(flyweightType));
         typeSpecs.add(new Varint64FlyweightGenerator(flyweightType));
         typeSpecs.add(new ListFWGenerator(flyweightType));
-        typeSpecs.add(new List32FWGenerator(flyweightType, listType));
+        typeSpecs.add(new List32FWGenerator(flyweightType, listType, NATIVE));
+        typeSpecs.add(new List32FWGenerator(flyweightType, listType, NETWORK));
         typeSpecs.add(new List8FWGenerator(flyweightType, listType));
         typeSpecs.add(new List0FWGenerator(flyweightType, listType));
         typeSpecs.add(new MapFWGenerator(flyweightType, mapType));
         typeSpecs.add(new Map8FWGenerator(flyweightType, mapType));
-        typeSpecs.add(new Map16FWGenerator(flyweightType, mapType));
-        typeSpecs.add(new Map32FWGenerator(flyweightType, mapType));
+        typeSpecs.add(new Map16FWGenerator(flyweightType, mapType, NATIVE));
+        typeSpecs.add(new Map16FWGenerator(flyweightType, mapType, NETWORK));
+        typeSpecs.add(new Map32FWGenerator(flyweightType, mapType, NATIVE));
+        typeSpecs.add(new Map32FWGenerator(flyweightType, mapType, NETWORK));
         typeSpecs.add(new BoundedOctetsFlyweightGenerator(flyweightType));
         typeSpecs.add(new BoundedOctets8FlyweightGenerator(flyweightType, boundedOctetsType));
         typeSpecs.add(new BoundedOctets16FlyweightGenerator(flyweightType, boundedOctetsType));
         typeSpecs.add(new BoundedOctets32FlyweightGenerator(flyweightType, boundedOctetsType));
+        resolver.specializedArrayItemTypes()
+            .forEach(t -> typeSpecs.add(new Array32FWGenerator(flyweightType, arrayType, t)));
+    }
 
-        System.out.println("Generating to " + outputDirectory);
-
-        if (outputDirectory.exists())
+    private void deleteStaleOutputs(
+        BuildState previousState,
+        BuildState state) throws IOException
+    {
+        if (previousState.hasSameConfig(state, "packageName", "scopeNames"))
         {
-            Files.walk(outputDirectory.toPath())
-                 .map(Path::toFile)
-                 .filter(File::isFile)
-                 .forEach(f -> f.setWritable(true));
+            Set<String> outputPaths = state.outputs().keySet();
+            for (String outputPath : previousState.outputs().keySet())
+            {
+                if (!outputPaths.contains(outputPath))
+                {
+                    info.accept("Deleting stale output " + outputPath);
+                    Files.deleteIfExists(outputDirectory.toPath().resolve(outputPath));
+                }
+            }
         }
+    }
 
-        for (TypeSpecGenerator<?> typeSpec : typeSpecs)
-        {
-            JavaFile sourceFile = JavaFile.builder(typeSpec.className().packageName(), typeSpec.generate())
-                    .addFileComment("TODO: license")
-                    .skipJavaLangImports(true)
-                    .build();
-            sourceFile.writeTo(outputDirectory);
-        }
+    private EmittedSource emit(
+        TypeSpecGenerator<?> typeSpec) throws IOException
+    {
+        JavaFile sourceFile = JavaFile.builder(typeSpec.className().packageName(), typeSpec.generate())
+                .addFileComment("TODO: license")
+                .skipJavaLangImports(true)
+                .build();
+        String outputPath = String.format("%s/%s.java",
+                sourceFile.packageName.replace('.', '/'), sourceFile.typeSpec.name);
+        byte[] content = sourceFile.toString().getBytes(UTF_8);
+        boolean written = writeIfChanged(outputDirectory.toPath().resolve(outputPath), content);
+        return new EmittedSource(outputPath, content, written);
+    }
 
-        if (outputDirectory.exists())
+    private static boolean writeIfChanged(
+        Path output,
+        byte[] content) throws IOException
+    {
+        boolean changed = !Files.isRegularFile(output) || !Arrays.equals(content, Files.readAllBytes(output));
+        if (changed)
         {
-            Files.walk(outputDirectory.toPath())
-                 .map(Path::toFile)
-                 .filter(File::isFile)
-                 .forEach(f -> f.setWritable(false));
+            Files.createDirectories(output.getParent());
+            File outputFile = output.toFile();
+            outputFile.setWritable(true);
+            Files.write(output, content);
+            outputFile.setWritable(false);
         }
+        return changed;
+    }
+
+    Generator pool(ForkJoinPool pool)
+    {
+        this.pool = pool;
+        parser.pool(pool);
+        return this;
+    }
+
+    Generator info(Consumer<String> info)
+    {
+        this.info = info;
+        return this;
     }
 
     Generator debug(Consumer<String> debug)
     {
+        this.debug = debug;
         parser.debug(debug);
         return this;
     }
@@ -204,6 +343,7 @@ public class Generator
 
     Generator warn(Consumer<String> warn)
     {
+        this.warn = warn;
         parser.warn(warn);
         return this;
     }
@@ -214,12 +354,30 @@ public class Generator
         this.scopeNames = scopeNames;
     }
 
+    void setSpecializeArrays(
+        boolean specializeArrays)
+    {
+        this.specializeArrays = specializeArrays;
+    }
+
+    void setCacheStrings(
+        boolean cacheStrings)
+    {
+        this.cacheStrings = cacheStrings;
+    }
+
     void setPackageName(
         String packageName)
     {
         this.packageName = packageName;
     }
 
+    void setPluginVersion(
+        String pluginVersion)
+    {
+        this.pluginVersion = pluginVersion;
+    }
+
     void setInputDirectory(
         File inputDirectory)
     {
@@ -238,4 +396,21 @@ public class Generator
         return new URLClassLoader(new URL[]{inputDirectory.getAbsoluteFile().toURI().toURL()}, parent);
     }
 
+    private static final class EmittedSource
+    {
+        private final String outputPath;
+        private final byte[] content;
+        private final boolean written;
+
+        private EmittedSource(
+            String outputPath,
+            byte[] content,
+            boolean written)
+        {
+            this.outputPath = outputPath;
+            this.content = content;
+            this.written = written;
+        }
+    }
+
 }
@@ -19,14 +19,20 @@ import static java.util.stream.Collectors.toSet;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URL;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 
 import org.antlr.v4.runtime.BailErrorStrategy;
@@ -52,6 +58,7 @@ class Parser
     private Consumer<String> error = System.err::println;
     private Consumer<String> warn = NO_OP;
     private Consumer<String> debug = NO_OP;
+    private ForkJoinPool pool;
 
     Parser()
     {
@@ -76,29 +83,73 @@ class Parser
         return this;
     }
 
+    Parser pool(ForkJoinPool pool)
+    {
+        this.pool = pool;
+        return this;
+    }
+
     final List<AstSpecificationNode> parseAST(
         List<String> targetScopes, ClassLoader loader) throws IOException
+    {
+        return parseAST(targetScopes, loader, new LinkedHashMap<>());
+    }
+
+    final List<AstSpecificationNode> parseAST(
+        List<String> targetScopes,
+        ClassLoader loader,
+        Map<String, URL> resources) throws IOException
+    {
+        ForkJoinPool pool = this.pool != null ? this.pool : new ForkJoinPool();
+        try
+        {
+            return parseAST(targetScopes, loader, resources, pool);
+        }
+        finally
+        {
+            if (pool != this.pool)
+            {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private List<AstSpecificationNode> parseAST(
+        List<String> targetScopes,
+        ClassLoader loader,
+        Map<String, URL> resources,
+        ForkJoinPool pool) throws IOException
     {
         List<AstSpecificationNode> specifications = new LinkedList<>();
         SortedSet<String> parsedResourceNames = new TreeSet<>();
         Set<String> remainingScopes = new LinkedHashSet<>(targetScopes);
         while (!remainingScopes.isEmpty())
         {
-            String remainingScope = remainingScopes.iterator().next();
-            remainingScopes.remove(remainingScope);
-            String resourceName = remainingScope.replaceAll("([^:]+).*", "$1.idl");
-            if (parsedResourceNames.add(resourceName))
+            Map<String, Future<ParsedResource>> parsedResources = new LinkedHashMap<>();
+            for (String remainingScope : remainingScopes)
+            {
+                String resourceName = remainingScope.replaceAll("([^:]+).*", "$1.idl");
+                if (parsedResourceNames.add(resourceName))
+                {
+                    debug.accept("loading: " + resourceName);
+                    parsedResources.put(resourceName, pool.submit(() -> parseResource(resourceName, loader)));
+                }
+            }
+
+            remainingScopes = new LinkedHashSet<>();
+            for (Map.Entry<String, Future<ParsedResource>> entry : parsedResources.entrySet())
             {
-                debug.accept("loading: " + resourceName);
+                String resourceName = entry.getKey();
+                ParsedResource parsedResource = join(entry.getValue());
+                resources.put(resourceName, parsedResource.resource);
 
-                URL resource = loader.getResource(resourceName);
-                if (resource == null)
+                AstSpecificationNode specification = parsedResource.specification;
+                if (specification == null)
                 {
                     warn.accept(String.format("Resource %s not found", resourceName));
                     continue;
                 }
 
-                AstSpecificationNode specification = parseSpecification(resourceName, resource);
                 specifications.add(specification);
 
                 Set<String> referencedTypes = specification.accept(new ReferencedTypeResolver());
@@ -116,6 +167,46 @@ class Parser
         return specifications;
     }
 
+    private ParsedResource parseResource(
+        String resourceName,
+        ClassLoader loader) throws IOException
+    {
+        URL resource = loader.getResource(resourceName);
+        AstSpecificationNode specification = resource != null ? parseSpecification(resourceName, resource) : null;
+        return new ParsedResource(resource, specification);
+    }
+
+    static <T> T join(
+        Future<T> future) throws IOException
+    {
+        try
+        {
+            return future.get();
+        }
+        catch (InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        catch (ExecutionException ex)
+        {
+            Throwable cause = ex.getCause();
+            if (cause instanceof IOException)
+            {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
     private AstSpecificationNode parseSpecification(
         String resourceName,
         URL resource) throws IOException
@@ -150,6 +241,20 @@ class Parser
         }
     }
 
+    private static final class ParsedResource
+    {
+        private final URL resource;
+        private final AstSpecificationNode specification;
+
+        private ParsedResource(
+            URL resource,
+            AstSpecificationNode specification)
+        {
+            this.resource = resource;
+            this.specification = specification;
+        }
+    }
+
     private static final class ReferencedTypeResolver extends AstNode.Visitor<Set<String>>
     {
         private final Set<String> qualifiedNames = new HashSet<>();
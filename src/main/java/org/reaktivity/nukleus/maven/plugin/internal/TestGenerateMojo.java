@@ -35,6 +35,12 @@ public final class TestGenerateMojo extends AbstractMojo
     @Parameter(defaultValue = "")
     protected String testPackageName;
 
+    @Parameter(defaultValue = "false")
+    protected boolean specializeArrays;
+
+    @Parameter(defaultValue = "false")
+    protected boolean cacheStrings;
+
     @Parameter(defaultValue = "${project.build.directory}/generated-test-sources/reaktivity")
     protected File testOutputDirectory;
 
@@ -55,6 +61,7 @@ public final class TestGenerateMojo extends AbstractMojo
     protected void executeImpl() throws IOException
     {
         Generator generator = new Generator();
+        generator.info(getLog()::info);
         generator.debug(getLog()::debug);
         generator.error(getLog()::error);
         generator.warn(getLog()::warn);
@@ -62,6 +69,9 @@ public final class TestGenerateMojo extends AbstractMojo
         generator.setInputDirectory(inputDirectory);
         generator.setOutputDirectory(testOutputDirectory);
         generator.setScopeNames(scopeNames);
+        generator.setPluginVersion(pluginVersion);
+        generator.setSpecializeArrays(specializeArrays);
+        generator.setCacheStrings(cacheStrings);
         generator.generate(createLoader());
         project.addTestCompileSourceRoot(testOutputDirectory.getPath());
     }
@@ -17,6 +17,7 @@ package org.reaktivity.nukleus.maven.plugin.internal.ast;
 
 import static java.util.Collections.unmodifiableList;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NATIVE;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstOffsets.EAGER;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -30,6 +31,7 @@ public final class AstListNode extends AstNamedNode
     private final AstType fieldCountType;
     private final Byte missingFieldByte;
     private final AstByteOrder byteOrder;
+    private final AstOffsets offsets;
 
     public List<AstListMemberNode> members()
     {
@@ -61,11 +63,16 @@ public final class AstListNode extends AstNamedNode
         return byteOrder;
     }
 
+    public AstOffsets offsets()
+    {
+        return offsets;
+    }
+
     @Override
     public AstNamedNode withName(
         String name)
     {
-        return new AstListNode(name, members, templateType, lengthType, fieldCountType, missingFieldByte, byteOrder);
+        return new AstListNode(name, members, templateType, lengthType, fieldCountType, missingFieldByte, byteOrder, offsets);
     }
 
     @Override
@@ -84,7 +91,7 @@ public final class AstListNode extends AstNamedNode
     @Override
     public int hashCode()
     {
-        return Objects.hash(name, members, templateType, lengthType, fieldCountType, byteOrder);
+        return Objects.hash(name, members, templateType, lengthType, fieldCountType, byteOrder, offsets);
     }
 
     @Override
@@ -107,7 +114,8 @@ public final class AstListNode extends AstNamedNode
             Objects.equals(this.templateType, that.templateType) &&
             Objects.equals(this.lengthType, that.lengthType) &&
             Objects.equals(this.fieldCountType, that.fieldCountType) &&
-            Objects.equals(this.byteOrder, that.byteOrder);
+            Objects.equals(this.byteOrder, that.byteOrder) &&
+            Objects.equals(this.offsets, that.offsets);
     }
 
     private AstListNode(
@@ -117,7 +125,8 @@ public final class AstListNode extends AstNamedNode
         AstType lengthType,
         AstType fieldCountType,
         Byte missingFieldByte,
-        AstByteOrder byteOrder)
+        AstByteOrder byteOrder,
+        AstOffsets offsets)
     {
         super(name);
         this.members = unmodifiableList(members);
@@ -126,6 +135,7 @@ public final class AstListNode extends AstNamedNode
         this.fieldCountType = fieldCountType;
         this.missingFieldByte = missingFieldByte;
         this.byteOrder = byteOrder;
+        this.offsets = offsets;
     }
 
     public static final class Builder extends AstNamedNode.Builder<AstListNode>
@@ -136,11 +146,13 @@ public final class AstListNode extends AstNamedNode
         private AstType fieldCountType;
         private Byte missingFieldByte;
         private AstByteOrder byteOrder;
+        private AstOffsets offsets;
 
         public Builder()
         {
             this.members = new LinkedList<>();
             this.byteOrder = NATIVE;
+            this.offsets = EAGER;
         }
 
         public Builder name(
@@ -192,10 +204,17 @@ public final class AstListNode extends AstNamedNode
             return this;
         }
 
+        public Builder offsets(
+            AstOffsets offsets)
+        {
+            this.offsets = offsets;
+            return this;
+        }
+
         @Override
         public AstListNode build()
         {
-            return new AstListNode(name, members, templateType, lengthType, fieldCountType, missingFieldByte, byteOrder);
+            return new AstListNode(name, members, templateType, lengthType, fieldCountType, missingFieldByte, byteOrder, offsets);
         }
     }
 }
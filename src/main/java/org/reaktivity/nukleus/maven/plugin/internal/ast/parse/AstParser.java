@@ -17,6 +17,8 @@ package org.reaktivity.nukleus.maven.plugin.internal.ast.parse;
 
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NATIVE;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NETWORK;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstOffsets.EAGER;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstOffsets.LAZY;
 
 import java.util.Deque;
 import java.util.HashMap;
@@ -34,6 +36,7 @@ import org.reaktivity.nukleus.maven.plugin.internal.ast.AstListNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstListNode.Builder;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstMapNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstOffsets;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstScopeNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstStructMemberNode;
@@ -78,6 +81,7 @@ import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser.Non_pri
 import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser.Octets_keywordContext;
 import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser.Octets_typeContext;
 import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser.OptionByteOrderContext;
+import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser.OptionOffsetsContext;
 import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser.ScopeContext;
 import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser.Scoped_nameContext;
 import org.reaktivity.nukleus.maven.plugin.internal.parser.NukleusParser.SpecificationContext;
@@ -131,6 +135,7 @@ public final class AstParser extends NukleusBaseVisitor<AstNode>
     private AstUnionNode.Builder unionBuilder;
     private AstUnionCaseNode.Builder caseBuilder;
     private AstByteOrder byteOrder;
+    private AstOffsets offsets;
 
     public AstParser()
     {
@@ -138,6 +143,7 @@ public final class AstParser extends NukleusBaseVisitor<AstNode>
         this.qualifiedPrefixes = new LinkedList<>();
         this.astTypesByQualifiedName = new HashMap<>();
         this.byteOrder = NATIVE;
+        this.offsets = EAGER;
         this.parserByType = initParserByType();
     }
 
@@ -190,11 +196,13 @@ public final class AstParser extends NukleusBaseVisitor<AstNode>
         qualifiedPrefixes.addFirst(String.format("%s::", qualifiedName));
 
         AstByteOrder byteOrder = this.byteOrder;
+        AstOffsets offsets = this.offsets;
         scopeBuilders.offer(scopeBuilder);
         super.visitScope(ctx);
         scopeBuilders.pollLast();
         qualifiedPrefixes.removeFirst();
         this.byteOrder = byteOrder;
+        this.offsets = offsets;
 
         AstScopeNode.Builder parent = scopeBuilders.peekLast();
         if (parent != null)
@@ -235,6 +243,26 @@ public final class AstParser extends NukleusBaseVisitor<AstNode>
         return super.visitOptionByteOrder(ctx);
     }
 
+    @Override
+    public AstNode visitOptionOffsets(
+        OptionOffsetsContext ctx)
+    {
+        if (ctx.KW_EAGER() != null)
+        {
+            offsets = EAGER;
+        }
+        else if (ctx.KW_LAZY() != null)
+        {
+            offsets = LAZY;
+        }
+        else
+        {
+            throw new IllegalStateException("Unexpected offsets option");
+        }
+
+        return super.visitOptionOffsets(ctx);
+    }
+
     @Override
     public AstEnumNode visitEnum_type(
         Enum_typeContext ctx)
@@ -874,6 +902,7 @@ public final class AstParser extends NukleusBaseVisitor<AstNode>
             astTypesByQualifiedName.put(qualifiedListName, AstType.dynamicType(qualifiedListName));
             listBuilder.name(listName);
             listBuilder.byteOrder(byteOrder);
+            listBuilder.offsets(offsets);
             return super.visitList_type(ctx);
         }
 
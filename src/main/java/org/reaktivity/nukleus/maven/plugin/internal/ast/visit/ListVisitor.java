@@ -107,7 +107,7 @@ public final class ListVisitor extends AstNode.Visitor<Collection<TypeSpecGenera
             AstType memberUnsignedType = memberTypes.get(1);
             TypeName memberUnsignedTypeName = resolver.resolveUnsignedType(memberUnsignedType);
 
-            generator.addMember(memberName, memberType, memberTypeName, memberUnsignedTypeName, usedAsSize,
+            generator.addMember(memberName, memberType, memberTypeName, memberUnsignedType, memberUnsignedTypeName, usedAsSize,
                 defaultValue, byteOrder, listMemberNode.isRequired(), arrayItemTypeName, mapKeyType, mapValueType,
                 mapParamName, originalMapKeyName, originalMapValueName);
         }
@@ -149,8 +149,9 @@ public final class ListVisitor extends AstNode.Visitor<Collection<TypeSpecGenera
                 throw new IllegalArgumentException(String.format(
                     " Unable to resolve type %s for field %s", memberType, memberName));
             }
-            TypeName memberUnsignedTypeName = memberType.isUnsignedInt() ? resolver.resolveUnsignedType(memberType) : null;
-            generator.addMember(memberName, memberType, memberTypeName, memberUnsignedTypeName, usedAsSize,
+            AstType memberUnsignedType = memberType.isUnsignedInt() ? memberType : null;
+            TypeName memberUnsignedTypeName = resolver.resolveUnsignedType(memberUnsignedType);
+            generator.addMember(memberName, memberType, memberTypeName, memberUnsignedType, memberUnsignedTypeName, usedAsSize,
                 defaultValue, byteOrder, listMemberNode.isRequired(), arrayItemTypeName, mapKeyType, mapValueType,
                 mapParamName, originalMapKeyName, originalMapValueName);
         }
@@ -20,6 +20,7 @@ import static java.util.Objects.requireNonNull;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstEnumNode;
@@ -28,6 +29,7 @@ import org.reaktivity.nukleus.maven.plugin.internal.ast.AstMapNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNamedNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNamedNode.Kind;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstOffsets;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstScopeNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstStructNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstType;
@@ -36,6 +38,7 @@ import org.reaktivity.nukleus.maven.plugin.internal.ast.AstUnionNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstVariantNode;
 import org.reaktivity.nukleus.maven.plugin.internal.generate.EnumFlyweightGenerator;
 import org.reaktivity.nukleus.maven.plugin.internal.generate.EnumTypeGenerator;
+import org.reaktivity.nukleus.maven.plugin.internal.generate.FrameDispatcherGenerator;
 import org.reaktivity.nukleus.maven.plugin.internal.generate.ListFlyweightGenerator;
 import org.reaktivity.nukleus.maven.plugin.internal.generate.MapFlyweightGenerator;
 import org.reaktivity.nukleus.maven.plugin.internal.generate.StructFlyweightGenerator;
@@ -54,18 +57,23 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
     private final TypeResolver resolver;
     private final List<String> targetScopes;
     private final Collection<TypeSpecGenerator<?>> defaultResult;
+    private final Consumer<String> warn;
+    private final FrameDispatcherGenerator dispatcher;
 
     public ScopeVisitor(
         String scopeName,
         String packageName,
         TypeResolver resolver,
-        List<String> targetScopes)
+        List<String> targetScopes,
+        Consumer<String> warn)
     {
         this.scopeName = requireNonNull(scopeName);
         this.packageName = requireNonNull(packageName);
         this.resolver = requireNonNull(resolver);
         this.targetScopes = requireNonNull(targetScopes);
+        this.warn = requireNonNull(warn);
         this.defaultResult = new LinkedList<>();
+        this.dispatcher = new FrameDispatcherGenerator(ClassName.get(packageName, dispatcherName(scopeName)));
     }
 
     @Override
@@ -77,7 +85,17 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
             return defaultResult();
         }
 
-        return super.visitScope(scopeNode);
+        Collection<TypeSpecGenerator<?>> result = super.visitScope(scopeNode);
+        if (!dispatcher.conflicts().isEmpty())
+        {
+            dispatcher.conflicts().forEach(warn);
+            warn.accept(String.format("Skipping %s for scope %s", dispatcher.className(), scopeName));
+        }
+        else if (dispatcher.hasFrames())
+        {
+            result.add(dispatcher);
+        }
+        return result;
     }
 
     @Override
@@ -87,7 +105,7 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         String nestedName = scopeNode.name();
         String subscopeName = String.format("%s::%s", scopeName, nestedName);
         String subpackageName = String.format("%s.%s", packageName, nestedName);
-        return new ScopeVisitor(subscopeName, subpackageName, resolver, targetScopes).visitScope(scopeNode);
+        return new ScopeVisitor(subscopeName, subpackageName, resolver, targetScopes, warn).visitScope(scopeNode);
     }
 
     @Override
@@ -99,14 +117,12 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
             return defaultResult();
         }
 
-        String baseName = structNode.name();
-        AstType structType = AstType.dynamicType(String.format("%s::%s", scopeName, baseName));
-        ClassName structName = resolver.resolveClass(structType);
-        StructFlyweightGenerator generator = new StructFlyweightGenerator(structName, resolver.flyweightName(), baseName,
-            resolver);
-        generator.typeId(findTypeId(structNode));
+        if (structNode.typeId() != 0)
+        {
+            dispatcher.addFrame(structClass(structNode), structNode.name(), structNode.typeId());
+        }
 
-        return new StructVisitor(generator, resolver).visitStruct(structNode);
+        return generateStruct(structNode);
     }
 
     @Override
@@ -124,7 +140,7 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         switch (kind)
         {
         case STRUCT:
-            return visitStruct((AstStructNode) newNode);
+            return generateStruct((AstStructNode) newNode);
         case UNION:
             return visitUnion((AstUnionNode) newNode);
         case VARIANT:
@@ -261,8 +277,10 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         TypeName fieldCountTypeName = resolver.resolveType(listNode.fieldCountType());
         Byte missingFieldByte = listNode.missingFieldByte();
         AstByteOrder byteOrder = listNode.byteOrder();
+        AstOffsets offsets = listNode.offsets();
         ListFlyweightGenerator generator = new ListFlyweightGenerator(listName, resolver.resolveClass(AstType.LIST), baseName,
-            templateType, lengthTypeName, fieldCountTypeName, missingFieldByte, resolver, byteOrder);
+            templateType, lengthTypeName, fieldCountTypeName, missingFieldByte, listNode.members().size(), resolver, byteOrder,
+            offsets);
         return new ListVisitor(generator, resolver).visitList(listNode);
     }
 
@@ -290,6 +308,36 @@ public final class ScopeVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         return target.equals(scopeName) || scopeName.startsWith(target + "::") || target.startsWith(scopeName + "::");
     }
 
+    private Collection<TypeSpecGenerator<?>> generateStruct(
+        AstStructNode structNode)
+    {
+        String baseName = structNode.name();
+        ClassName structName = structClass(structNode);
+        StructFlyweightGenerator generator = new StructFlyweightGenerator(structName, resolver.flyweightName(), baseName,
+            resolver);
+        generator.typeId(findTypeId(structNode));
+
+        return new StructVisitor(generator, resolver).visitStruct(structNode);
+    }
+
+    private static String dispatcherName(
+        String scopeName)
+    {
+        StringBuilder name = new StringBuilder();
+        for (String segment : scopeName.split("::"))
+        {
+            name.append(Character.toUpperCase(segment.charAt(0))).append(segment.substring(1));
+        }
+        return name.append("FrameDispatcher").toString();
+    }
+
+    private ClassName structClass(
+        AstStructNode structNode)
+    {
+        AstType structType = AstType.dynamicType(String.format("%s::%s", scopeName, structNode.name()));
+        return resolver.resolveClass(structType);
+    }
+
     private int findTypeId(
         AstStructNode structNode)
     {
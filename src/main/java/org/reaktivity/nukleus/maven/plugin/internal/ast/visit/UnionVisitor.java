@@ -130,7 +130,7 @@ public final class UnionVisitor extends AstNode.Visitor<Collection<TypeSpecGener
         String sizeName = memberNode.sizeName();
         AstByteOrder byteOrder = memberNode.byteOrder();
 
-        if (memberType == AstType.ARRAY)
+        if (memberType == AstType.ARRAY32)
         {
             ClassName rawType = resolver.resolveClass(memberType);
             TypeName[] typeArguments = memberNode.types()
@@ -141,14 +141,18 @@ public final class UnionVisitor extends AstNode.Visitor<Collection<TypeSpecGener
                     .toArray(new TypeName[0]);
             ParameterizedTypeName memberTypeName = ParameterizedTypeName.get(rawType, typeArguments);
             List<AstType> memberTypes = memberNode.types();
-            TypeName memberUnsignedTypeName = resolver.resolveUnsignedType(memberTypes.get(1));
-            generator.addMember(value, memberName, memberType, memberTypeName, memberUnsignedTypeName, size, sizeName, byteOrder);
+            AstType memberUnsignedType = memberTypes.get(1);
+            TypeName memberUnsignedTypeName = resolver.resolveUnsignedType(memberUnsignedType);
+            generator.addMember(value, memberName, memberType, memberTypeName, memberUnsignedType, memberUnsignedTypeName, size,
+                sizeName, byteOrder);
         }
         else
         {
             TypeName memberTypeName = resolver.resolveType(memberType);
-            TypeName memberUnsignedTypeName = memberType.isUnsignedInt() ? resolver.resolveUnsignedType(memberType) : null;
-            generator.addMember(value, memberName, memberType, memberTypeName, memberUnsignedTypeName, size, sizeName, byteOrder);
+            AstType memberUnsignedType = memberType.isUnsignedInt() ? memberType : null;
+            TypeName memberUnsignedTypeName = resolver.resolveUnsignedType(memberUnsignedType);
+            generator.addMember(value, memberName, memberType, memberTypeName, memberUnsignedType, memberUnsignedTypeName, size,
+                sizeName, byteOrder);
         }
 
         return defaultResult();
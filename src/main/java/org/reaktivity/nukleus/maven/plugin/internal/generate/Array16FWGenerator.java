@@ -22,17 +22,29 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NETWORK;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.byteOrderArgument;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfByteOrderMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfByteOrderMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfByteOrderMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder;
+
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -46,19 +58,25 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
     private final TypeSpec.Builder classBuilder;
     private final TypeVariableName typeVarV;
     private final BuilderClassBuilder builderClassBuilder;
+    private final AstByteOrder byteOrder;
+    private final CodeBlock byteOrderArgument;
 
     public Array16FWGenerator(
         ClassName flyweightType,
-        ParameterizedTypeName arrayType)
+        ParameterizedTypeName arrayType,
+        AstByteOrder byteOrder)
     {
-        super(flyweightType.peerClass("Array16FW"), TypeVariableName.get("V", flyweightType));
+        super(flyweightType.peerClass(byteOrder == NETWORK ? "NetworkArray16FW" : "Array16FW"),
+            TypeVariableName.get("V", flyweightType));
+        this.byteOrder = byteOrder;
+        this.byteOrderArgument = byteOrderArgument(byteOrder);
         this.typeVarV = (TypeVariableName) thisName.typeArguments.get(0);
         this.classBuilder = classBuilder(thisRawName)
             .superclass(arrayType)
             .addModifiers(PUBLIC, FINAL)
             .addTypeVariable(typeVarV);
 
-        this.builderClassBuilder = new BuilderClassBuilder(flyweightType, arrayType, thisName);
+        this.builderClassBuilder = new BuilderClassBuilder(flyweightType, arrayType, thisName, byteOrderArgument);
     }
 
     @Override
@@ -72,12 +90,15 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .addField(fieldsOffsetConstant())
             .addField(lengthMaxValueConstant())
             .addField(emptyBufferConstant())
-            .addField(byteOrderField())
+            .addField(emptyItemOffsetsConstant())
             .addField(itemField())
             .addField(itemsField())
             .addField(maxLengthField())
+            .addField(itemSizeField())
+            .addField(itemOffsetsField())
+            .addField(itemOffsetsCountField())
             .addMethod(constructor())
-            .addMethod(constructorWithByteOrder())
+            .addMethod(constructorWithItemSize())
             .addMethod(lengthMethod())
             .addMethod(fieldsOffsetMethod())
             .addMethod(fieldCountMethod())
@@ -85,11 +106,21 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .addMethod(forEachMethod())
             .addMethod(anyMatchMethod())
             .addMethod(matchFirstMethod())
+            .addMethod(itemMethod())
+            .addMethod(itemOffsetMethod())
             .addMethod(isEmptyMethod())
             .addMethod(itemsMethod())
             .addMethod(wrapMethod())
+            .addMethod(limitOfMethod())
+            .addMethod(validateMethod())
+            .addMethod(limitOfByteOrderMethod(byteOrder))
+            .addMethod(limitOfWithByteOrderMethod())
+            .addMethod(requiredOfByteOrderMethod(byteOrder))
+            .addMethod(requiredOfWithByteOrderMethod())
+            .addMethod(requiredMethod())
             .addMethod(tryWrapMethod())
             .addMethod(limitMethod())
+            .addMethod(appendToMethod())
             .addMethod(toStringMethod())
             .addMethod(maxLengthSetterMethod())
             .addType(builderClassBuilder.build())
@@ -145,12 +176,6 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
-    private FieldSpec byteOrderField()
-    {
-        return FieldSpec.builder(ByteOrder.class, "byteOrder", PRIVATE, FINAL)
-            .build();
-    }
-
     private FieldSpec itemField()
     {
         return FieldSpec.builder(typeVarV, "itemRO", PRIVATE, FINAL)
@@ -170,24 +195,50 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private FieldSpec emptyItemOffsetsConstant()
+    {
+        return FieldSpec.builder(int[].class, "EMPTY_ITEM_OFFSETS", PRIVATE, STATIC, FINAL)
+            .initializer("new int[0]")
+            .build();
+    }
+
+    private FieldSpec itemSizeField()
+    {
+        return FieldSpec.builder(int.class, "itemSize", PRIVATE, FINAL)
+            .build();
+    }
+
+    private FieldSpec itemOffsetsField()
+    {
+        return FieldSpec.builder(int[].class, "itemOffsets", PRIVATE)
+            .initializer("EMPTY_ITEM_OFFSETS")
+            .build();
+    }
+
+    private FieldSpec itemOffsetsCountField()
+    {
+        return FieldSpec.builder(int.class, "itemOffsetsCount", PRIVATE)
+            .build();
+    }
+
     private MethodSpec constructor()
     {
         return constructorBuilder()
             .addModifiers(PUBLIC)
             .addParameter(typeVarV, "itemRO")
             .addStatement("this.itemRO = itemRO")
-            .addStatement("this.byteOrder = $T.nativeOrder()", ByteOrder.class)
+            .addStatement("this.itemSize = -1")
             .build();
     }
 
-    private MethodSpec constructorWithByteOrder()
+    private MethodSpec constructorWithItemSize()
     {
         return constructorBuilder()
             .addModifiers(PUBLIC)
             .addParameter(typeVarV, "itemRO")
-            .addParameter(ByteOrder.class, "byteOrder")
+            .addParameter(int.class, "itemSize")
             .addStatement("this.itemRO = itemRO")
-            .addStatement("this.byteOrder = byteOrder")
+            .addStatement("this.itemSize = itemSize")
             .build();
     }
 
@@ -197,7 +248,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(int.class)
-            .addStatement("return buffer().getShort(offset() + LENGTH_OFFSET, byteOrder)")
+            .addStatement("return buffer().getShort(offset() + LENGTH_OFFSET$L)", byteOrderArgument)
             .build();
     }
 
@@ -217,7 +268,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(int.class)
-            .addStatement("return buffer().getShort(offset() + FIELD_COUNT_OFFSET, byteOrder)")
+            .addStatement("return buffer().getShort(offset() + FIELD_COUNT_OFFSET$L)", byteOrderArgument)
             .build();
     }
 
@@ -294,6 +345,54 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec itemMethod()
+    {
+        return methodBuilder("item")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(int.class, "index")
+            .returns(typeVarV)
+            .beginControlFlow("if (index < 0 || index >= fieldCount())")
+            .addStatement("throw new IndexOutOfBoundsException(String.format($S, index, fieldCount()))",
+                "index %d out of range for %d items")
+            .endControlFlow()
+            .addStatement("final int itemOffset = itemSize != -1 ? offset() + FIELDS_OFFSET + index * itemSize : " +
+                "itemOffset(index)")
+            .addStatement("itemRO.wrap(buffer(), itemOffset, limit(), this)")
+            .addStatement("return itemRO")
+            .build();
+    }
+
+    private MethodSpec itemOffsetMethod()
+    {
+        return methodBuilder("itemOffset")
+            .addModifiers(PRIVATE)
+            .addParameter(int.class, "index")
+            .returns(int.class)
+            .beginControlFlow("if (index >= itemOffsets.length)")
+            .addComment("variable-size items occupy at least one byte each")
+            .addStatement("final int maxItems = limit() - offset() - FIELDS_OFFSET")
+            .beginControlFlow("if (index >= maxItems)")
+            .addStatement("throw new IndexOutOfBoundsException(String.format($S, index, maxItems))",
+                "index %d out of range for %d bytes of items")
+            .endControlFlow()
+            .addStatement("final int capacity = Math.min(Math.max(index + 1, itemOffsets.length << 1), maxItems)")
+            .addStatement("itemOffsets = $T.copyOf(itemOffsets, capacity)", Arrays.class)
+            .endControlFlow()
+            .addStatement("int count = itemOffsetsCount")
+            .beginControlFlow("if (count == 0)")
+            .addStatement("itemOffsets[0] = offset() + FIELDS_OFFSET")
+            .addStatement("count = 1")
+            .endControlFlow()
+            .beginControlFlow("for (; count <= index; count++)")
+            .addStatement("itemRO.wrap(buffer(), itemOffsets[count - 1], limit(), this)")
+            .addStatement("itemOffsets[count] = itemRO.limit()")
+            .endControlFlow()
+            .addStatement("itemOffsetsCount = count")
+            .addStatement("return itemOffsets[index]")
+            .build();
+    }
+
     private MethodSpec isEmptyMethod()
     {
         return methodBuilder("isEmpty")
@@ -324,6 +423,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .addParameter(int.class, "maxLimit")
             .returns(thisName)
             .addStatement("super.wrap(buffer, offset, maxLimit)")
+            .addStatement("itemOffsetsCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -336,6 +436,35 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec limitOfWithByteOrderMethod()
+    {
+        return methodBuilder("limitOf")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "maxLimit")
+            .addParameter(ByteOrder.class, "byteOrder")
+            .returns(int.class)
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return -2")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getShort(offset + LENGTH_OFFSET, byteOrder)")
+            .addStatement("final int limit = offset + LENGTH_SIZE + length")
+            .addStatement("return length < FIELD_COUNT_SIZE ? -1 : limit > maxLimit ? -2 : limit")
+            .build();
+    }
+
+    private MethodSpec requiredOfWithByteOrderMethod()
+    {
+        return requiredOfByteOrderMethodBuilder()
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return FIELDS_OFFSET")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getShort(offset + LENGTH_OFFSET, byteOrder)")
+            .addStatement("return LENGTH_SIZE + length")
+            .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -351,6 +480,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .beginControlFlow("if (super.tryWrap(buffer, offset, maxLimit) == null)")
             .addStatement("return null")
             .endControlFlow()
+            .addStatement("itemOffsetsCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -375,13 +505,24 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(StringBuilder.class, "builder")
+            .returns(StringBuilder.class)
+            .addStatement("return builder.append(\"array16<\").append(length()).append(\", \").append(fieldCount()).append('>')")
+            .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"array16<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
             .build();
     }
 
@@ -401,13 +542,15 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
         private final TypeSpec.Builder classBuilder;
         private final TypeVariableName typeVarB;
         private final TypeVariableName typeVarV;
-        private final TypeName array16Type;
+        private final ParameterizedTypeName array16Type;
         private final TypeName array16BuilderType;
+        private final CodeBlock byteOrderArgument;
 
         private BuilderClassBuilder(
             ClassName flyweight,
             ParameterizedTypeName arrayType,
-            ParameterizedTypeName array16Type)
+            ParameterizedTypeName array16Type,
+            CodeBlock byteOrderArgument)
         {
             ClassName array8BuilderRawType = array16Type.rawType.nestedClass("Builder");
             ClassName flyweightBuilderRawType = flyweight.nestedClass("Builder");
@@ -415,6 +558,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
             this.typeVarV = TypeVariableName.get("V", flyweight);
             this.typeVarB = TypeVariableName.get("B", ParameterizedTypeName.get(flyweightBuilderRawType, typeVarV));
             this.array16Type = array16Type;
+            this.byteOrderArgument = byteOrderArgument;
             this.array16BuilderType = ParameterizedTypeName.get(array8BuilderRawType, typeVarB, typeVarV);
             TypeName superClassType = ParameterizedTypeName.get(arrayBuilderRawType, array16Type, typeVarB,
                 typeVarV);
@@ -428,13 +572,11 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
         public TypeSpec build()
         {
             return classBuilder
-                .addField(byteOrderField())
                 .addField(itemRWField())
                 .addField(itemROField())
                 .addField(fieldCountField())
                 .addField(maxLengthField())
                 .addMethod(constructor())
-                .addMethod(constructorWithByteOrder())
                 .addMethod(fieldsOffsetMethod())
                 .addMethod(itemMethod())
                 .addMethod(itemsMethod())
@@ -443,12 +585,6 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
                 .build();
         }
 
-        private FieldSpec byteOrderField()
-        {
-            return FieldSpec.builder(ByteOrder.class, "byteOrder", PRIVATE, FINAL)
-                .build();
-        }
-
         private FieldSpec itemRWField()
         {
             return FieldSpec.builder(typeVarB, "itemRW", PRIVATE, FINAL)
@@ -479,22 +615,7 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
                 .addModifiers(PUBLIC)
                 .addParameter(typeVarB, "itemRW")
                 .addParameter(typeVarV, "itemRO")
-                .addStatement("super(new Array16FW<>(itemRO))")
-                .addStatement("this.byteOrder = $T.nativeOrder()", ByteOrder.class)
-                .addStatement("this.itemRW = itemRW")
-                .addStatement("this.itemRO = itemRO")
-                .build();
-        }
-
-        private MethodSpec constructorWithByteOrder()
-        {
-            return constructorBuilder()
-                .addModifiers(PUBLIC)
-                .addParameter(typeVarB, "itemRW")
-                .addParameter(typeVarV, "itemRO")
-                .addParameter(ByteOrder.class, "byteOrder")
-                .addStatement("super(new Array16FW<>(itemRO, byteOrder))")
-                .addStatement("this.byteOrder = byteOrder")
+                .addStatement("super(new $T<>(itemRO))", array16Type.rawType)
                 .addStatement("this.itemRW = itemRW")
                 .addStatement("this.itemRO = itemRO")
                 .build();
@@ -548,9 +669,9 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("this.maxLength = maxLength")
                 .addStatement("assert length <= LENGTH_MAX_VALUE : \"Length is too large\"")
                 .addStatement("assert fieldCount <= LENGTH_MAX_VALUE : \"Field count is too large\"")
-                .addStatement("buffer().putShort(offset() + LENGTH_OFFSET, (short) length, byteOrder)")
+                .addStatement("buffer().putShort(offset() + LENGTH_OFFSET, (short) length$L)", byteOrderArgument)
                 .addStatement("buffer().putShort(offset() + FIELD_COUNT_OFFSET, (short) (fieldCount  + FIELD_COUNT_SIZE)" +
-                    ", byteOrder)")
+                    "$L)", byteOrderArgument)
                 .addStatement("return this")
                 .build();
         }
@@ -584,8 +705,8 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("int length = limit() - offset() - FIELD_COUNT_OFFSET")
                 .addStatement("assert length <= LENGTH_MAX_VALUE : \"Length is too large\"")
                 .addStatement("assert fieldCount <= LENGTH_MAX_VALUE : \"Field count is too large\"")
-                .addStatement("buffer().putShort(offset() + LENGTH_OFFSET, (short) length, byteOrder)")
-                .addStatement("buffer().putShort(offset() + FIELD_COUNT_OFFSET, (short) fieldCount, byteOrder)")
+                .addStatement("buffer().putShort(offset() + LENGTH_OFFSET, (short) length$L)", byteOrderArgument)
+                .addStatement("buffer().putShort(offset() + FIELD_COUNT_OFFSET, (short) fieldCount$L)", byteOrderArgument)
                 .addStatement("final ArrayFW<V> array = super.build()")
                 .addStatement("final int maxLimit = maxLimit()")
                 .addStatement("limit(fieldsOffset())")
@@ -600,8 +721,8 @@ public final class Array16FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("limit(newLimit)")
                 .endControlFlow()
                 .addStatement("length = limit() - offset() - FIELD_COUNT_OFFSET")
-                .addStatement("buffer().putShort(offset() + LENGTH_OFFSET, (short) length, byteOrder)")
-                .addStatement("final Array16FW<V> array16 = super.build()")
+                .addStatement("buffer().putShort(offset() + LENGTH_OFFSET, (short) length$L)", byteOrderArgument)
+                .addStatement("final $T array16 = super.build()", array16Type)
                 .addStatement("array16.maxLength(maxLength)")
                 .addStatement("return array16")
                 .build();
@@ -22,17 +22,32 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NATIVE;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NETWORK;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.byteOrderArgument;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfByteOrderMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfByteOrderMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfByteOrderMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
 import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder;
+
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -41,24 +56,53 @@ import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
 import com.squareup.javapoet.WildcardTypeName;
 
-public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
+public final class Array32FWGenerator extends TypeSpecGenerator<TypeName>
 {
     private final TypeSpec.Builder classBuilder;
-    private final TypeVariableName typeVarV;
+    private final TypeName typeVarV;
     private final BuilderClassBuilder builderClassBuilder;
+    private final AstByteOrder byteOrder;
+    private final CodeBlock byteOrderArgument;
 
     public Array32FWGenerator(
         ClassName flyweightType,
-        ParameterizedTypeName arrayType)
+        ParameterizedTypeName arrayType,
+        AstByteOrder byteOrder)
+    {
+        this(flyweightType.peerClass(byteOrder == NETWORK ? "NetworkArray32FW" : "Array32FW"), flyweightType, arrayType,
+            byteOrder);
+    }
+
+    public Array32FWGenerator(
+        ClassName flyweightType,
+        ParameterizedTypeName arrayType,
+        ClassName itemType)
+    {
+        this(itemType.peerClass(String.format("Array32Of%s", itemType.simpleName())), flyweightType,
+            ParameterizedTypeName.get(arrayType.rawType, itemType), NATIVE);
+    }
+
+    private Array32FWGenerator(
+        ClassName rawType,
+        ClassName flyweightType,
+        ParameterizedTypeName arrayType,
+        AstByteOrder byteOrder)
     {
-        super(flyweightType.peerClass("Array32FW"), TypeVariableName.get("V", flyweightType));
-        this.typeVarV = (TypeVariableName) thisName.typeArguments.get(0);
+        super(isSpecialized(arrayType) ? rawType : ParameterizedTypeName.get(rawType, arrayType.typeArguments.get(0)),
+            rawType);
+        this.byteOrder = byteOrder;
+        this.byteOrderArgument = byteOrderArgument(byteOrder);
+        this.typeVarV = arrayType.typeArguments.get(0);
         this.classBuilder = classBuilder(thisRawName)
             .superclass(arrayType)
-            .addModifiers(PUBLIC, FINAL)
-            .addTypeVariable(typeVarV);
+            .addModifiers(PUBLIC, FINAL);
+        if (!isSpecialized(arrayType))
+        {
+            classBuilder.addTypeVariable((TypeVariableName) typeVarV);
+        }
 
-        this.builderClassBuilder = new BuilderClassBuilder(flyweightType, arrayType, thisName);
+        this.builderClassBuilder = new BuilderClassBuilder(flyweightType, arrayType, thisName, thisRawName,
+            byteOrderArgument);
     }
 
     @Override
@@ -71,12 +115,16 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .addField(fieldCountOffsetConstant())
             .addField(fieldsOffsetConstant())
             .addField(emptyBufferConstant())
-            .addField(byteOrderField())
+            .addField(emptyItemOffsetsConstant())
             .addField(itemField())
             .addField(itemsField())
             .addField(maxLengthField())
+            .addField(itemSizeField())
+            .addField(itemOffsetsField())
+            .addField(itemOffsetsCountField())
             .addMethod(constructor())
-            .addMethod(constructorWithByteOrder())
+            .addMethod(constructorWithItemSize())
+            .addMethods(defaultConstructors())
             .addMethod(lengthMethod())
             .addMethod(fieldsOffsetMethod())
             .addMethod(fieldCountMethod())
@@ -84,11 +132,21 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .addMethod(forEachMethod())
             .addMethod(anyMatchMethod())
             .addMethod(matchFirstMethod())
+            .addMethod(itemMethod())
+            .addMethod(itemOffsetMethod())
             .addMethod(isEmptyMethod())
             .addMethod(itemsMethod())
             .addMethod(wrapMethod())
+            .addMethod(limitOfMethod())
+            .addMethod(validateMethod())
+            .addMethod(limitOfByteOrderMethod(byteOrder))
+            .addMethod(limitOfWithByteOrderMethod())
+            .addMethod(requiredOfByteOrderMethod(byteOrder))
+            .addMethod(requiredOfWithByteOrderMethod())
+            .addMethod(requiredMethod())
             .addMethod(tryWrapMethod())
             .addMethod(limitMethod())
+            .addMethod(appendToMethod())
             .addMethod(toStringMethod())
             .addMethod(maxLengthSetterMethod())
             .addType(builderClassBuilder.build())
@@ -138,12 +196,6 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
-    private FieldSpec byteOrderField()
-    {
-        return FieldSpec.builder(ByteOrder.class, "byteOrder", PRIVATE, FINAL)
-            .build();
-    }
-
     private FieldSpec itemField()
     {
         return FieldSpec.builder(typeVarV, "itemRO", PRIVATE, FINAL)
@@ -163,34 +215,73 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private FieldSpec emptyItemOffsetsConstant()
+    {
+        return FieldSpec.builder(int[].class, "EMPTY_ITEM_OFFSETS", PRIVATE, STATIC, FINAL)
+            .initializer("new int[0]")
+            .build();
+    }
+
+    private FieldSpec itemSizeField()
+    {
+        return FieldSpec.builder(int.class, "itemSize", PRIVATE, FINAL)
+            .build();
+    }
+
+    private FieldSpec itemOffsetsField()
+    {
+        return FieldSpec.builder(int[].class, "itemOffsets", PRIVATE)
+            .initializer("EMPTY_ITEM_OFFSETS")
+            .build();
+    }
+
+    private FieldSpec itemOffsetsCountField()
+    {
+        return FieldSpec.builder(int.class, "itemOffsetsCount", PRIVATE)
+            .build();
+    }
+
     private MethodSpec constructor()
     {
         return constructorBuilder()
             .addModifiers(PUBLIC)
             .addParameter(typeVarV, "itemRO")
             .addStatement("this.itemRO = itemRO")
-            .addStatement("this.byteOrder = $T.nativeOrder()", ByteOrder.class)
+            .addStatement("this.itemSize = -1")
             .build();
     }
 
-    private MethodSpec constructorWithByteOrder()
+    private MethodSpec constructorWithItemSize()
     {
         return constructorBuilder()
             .addModifiers(PUBLIC)
             .addParameter(typeVarV, "itemRO")
-            .addParameter(ByteOrder.class, "byteOrder")
+            .addParameter(int.class, "itemSize")
             .addStatement("this.itemRO = itemRO")
-            .addStatement("this.byteOrder = byteOrder")
+            .addStatement("this.itemSize = itemSize")
             .build();
     }
 
+    private List<MethodSpec> defaultConstructors()
+    {
+        List<MethodSpec> constructors = new ArrayList<>();
+        if (typeVarV instanceof ClassName)
+        {
+            constructors.add(constructorBuilder()
+                .addModifiers(PUBLIC)
+                .addStatement("this(new $T())", typeVarV)
+                .build());
+        }
+        return constructors;
+    }
+
     private MethodSpec lengthMethod()
     {
         return methodBuilder("length")
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(int.class)
-            .addStatement("return buffer().getInt(offset() + LENGTH_OFFSET, byteOrder)")
+            .addStatement("return buffer().getInt(offset() + LENGTH_OFFSET$L)", byteOrderArgument)
             .build();
     }
 
@@ -210,7 +301,7 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(int.class)
-            .addStatement("return buffer().getInt(offset() + FIELD_COUNT_OFFSET, byteOrder)")
+            .addStatement("return buffer().getInt(offset() + FIELD_COUNT_OFFSET$L)", byteOrderArgument)
             .build();
     }
 
@@ -287,6 +378,54 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec itemMethod()
+    {
+        return methodBuilder("item")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(int.class, "index")
+            .returns(typeVarV)
+            .beginControlFlow("if (index < 0 || index >= fieldCount())")
+            .addStatement("throw new IndexOutOfBoundsException(String.format($S, index, fieldCount()))",
+                "index %d out of range for %d items")
+            .endControlFlow()
+            .addStatement("final int itemOffset = itemSize != -1 ? offset() + FIELDS_OFFSET + index * itemSize : " +
+                "itemOffset(index)")
+            .addStatement("itemRO.wrap(buffer(), itemOffset, limit(), this)")
+            .addStatement("return itemRO")
+            .build();
+    }
+
+    private MethodSpec itemOffsetMethod()
+    {
+        return methodBuilder("itemOffset")
+            .addModifiers(PRIVATE)
+            .addParameter(int.class, "index")
+            .returns(int.class)
+            .beginControlFlow("if (index >= itemOffsets.length)")
+            .addComment("variable-size items occupy at least one byte each")
+            .addStatement("final int maxItems = limit() - offset() - FIELDS_OFFSET")
+            .beginControlFlow("if (index >= maxItems)")
+            .addStatement("throw new IndexOutOfBoundsException(String.format($S, index, maxItems))",
+                "index %d out of range for %d bytes of items")
+            .endControlFlow()
+            .addStatement("final int capacity = Math.min(Math.max(index + 1, itemOffsets.length << 1), maxItems)")
+            .addStatement("itemOffsets = $T.copyOf(itemOffsets, capacity)", Arrays.class)
+            .endControlFlow()
+            .addStatement("int count = itemOffsetsCount")
+            .beginControlFlow("if (count == 0)")
+            .addStatement("itemOffsets[0] = offset() + FIELDS_OFFSET")
+            .addStatement("count = 1")
+            .endControlFlow()
+            .beginControlFlow("for (; count <= index; count++)")
+            .addStatement("itemRO.wrap(buffer(), itemOffsets[count - 1], limit(), this)")
+            .addStatement("itemOffsets[count] = itemRO.limit()")
+            .endControlFlow()
+            .addStatement("itemOffsetsCount = count")
+            .addStatement("return itemOffsets[index]")
+            .build();
+    }
+
     private MethodSpec isEmptyMethod()
     {
         return methodBuilder("isEmpty")
@@ -317,6 +456,7 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .addParameter(int.class, "maxLimit")
             .returns(thisName)
             .addStatement("super.wrap(buffer, offset, maxLimit)")
+            .addStatement("itemOffsetsCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -329,6 +469,35 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec limitOfWithByteOrderMethod()
+    {
+        return methodBuilder("limitOf")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "maxLimit")
+            .addParameter(ByteOrder.class, "byteOrder")
+            .returns(int.class)
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return -2")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getInt(offset + LENGTH_OFFSET, byteOrder)")
+            .addStatement("return length < FIELD_COUNT_SIZE ? -1 : length > maxLimit - offset - LENGTH_SIZE ? -2 : " +
+                "offset + LENGTH_SIZE + length")
+            .build();
+    }
+
+    private MethodSpec requiredOfWithByteOrderMethod()
+    {
+        return requiredOfByteOrderMethodBuilder()
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return FIELDS_OFFSET")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getInt(offset + LENGTH_OFFSET, byteOrder)")
+            .addStatement("return (int) Math.min(LENGTH_SIZE + (long) length, Integer.MAX_VALUE)")
+            .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -344,6 +513,7 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .beginControlFlow("if (super.tryWrap(buffer, offset, maxLimit) == null)")
             .addStatement("return null")
             .endControlFlow()
+            .addStatement("itemOffsetsCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -368,13 +538,24 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(StringBuilder.class, "builder")
+            .returns(StringBuilder.class)
+            .addStatement("return builder.append(\"array32<\").append(length()).append(\", \").append(fieldCount()).append('>')")
+            .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"array32<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
             .build();
     }
 
@@ -389,45 +570,65 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private static boolean isSpecialized(
+        ParameterizedTypeName arrayType)
+    {
+        return !(arrayType.typeArguments.get(0) instanceof TypeVariableName);
+    }
+
     private static final class BuilderClassBuilder
     {
         private final TypeSpec.Builder classBuilder;
-        private final TypeVariableName typeVarB;
-        private final TypeVariableName typeVarV;
+        private final TypeName typeVarB;
+        private final TypeName typeVarV;
         private final TypeName array32Type;
+        private final ClassName array32RawType;
+        private final ParameterizedTypeName arrayType;
+        private final ClassName flyweightType;
         private final TypeName array32BuilderType;
+        private final CodeBlock byteOrderArgument;
 
         private BuilderClassBuilder(
             ClassName flyweight,
             ParameterizedTypeName arrayType,
-            ParameterizedTypeName array32Type)
+            TypeName array32Type,
+            ClassName array32RawType,
+            CodeBlock byteOrderArgument)
         {
-            ClassName array8BuilderRawType = array32Type.rawType.nestedClass("Builder");
+            ClassName array8BuilderRawType = array32RawType.nestedClass("Builder");
             ClassName flyweightBuilderRawType = flyweight.nestedClass("Builder");
             ClassName arrayBuilderRawType = arrayType.rawType.nestedClass("Builder");
-            this.typeVarV = TypeVariableName.get("V", flyweight);
-            this.typeVarB = TypeVariableName.get("B", ParameterizedTypeName.get(flyweightBuilderRawType, typeVarV));
+            this.typeVarV = arrayType.typeArguments.get(0);
+            this.typeVarB = isSpecialized(arrayType) ? ((ClassName) typeVarV).nestedClass("Builder") :
+                TypeVariableName.get("B", ParameterizedTypeName.get(flyweightBuilderRawType, typeVarV));
             this.array32Type = array32Type;
-            this.array32BuilderType = ParameterizedTypeName.get(array8BuilderRawType, typeVarB, typeVarV);
+            this.array32RawType = array32RawType;
+            this.arrayType = arrayType;
+            this.flyweightType = flyweight;
+            this.byteOrderArgument = byteOrderArgument;
+            this.array32BuilderType = isSpecialized(arrayType) ? array8BuilderRawType :
+                ParameterizedTypeName.get(array8BuilderRawType, typeVarB, typeVarV);
             TypeName superClassType = ParameterizedTypeName.get(arrayBuilderRawType, array32Type, typeVarB,
                 typeVarV);
             this.classBuilder = classBuilder(array8BuilderRawType.simpleName())
                 .addModifiers(PUBLIC, STATIC, FINAL)
-                .superclass(superClassType)
-                .addTypeVariable(typeVarB)
-                .addTypeVariable(typeVarV);
+                .superclass(superClassType);
+            if (!isSpecialized(arrayType))
+            {
+                classBuilder.addTypeVariable((TypeVariableName) typeVarB)
+                    .addTypeVariable((TypeVariableName) typeVarV);
+            }
         }
 
         public TypeSpec build()
         {
             return classBuilder
-                .addField(byteOrderField())
                 .addField(itemRWField())
                 .addField(itemROField())
                 .addField(fieldCountField())
                 .addField(maxLengthField())
                 .addMethod(constructor())
-                .addMethod(constructorWithByteOrder())
+                .addMethods(defaultConstructors())
                 .addMethod(fieldsOffsetMethod())
                 .addMethod(itemMethod())
                 .addMethod(itemsMethod())
@@ -436,12 +637,6 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
                 .build();
         }
 
-        private FieldSpec byteOrderField()
-        {
-            return FieldSpec.builder(ByteOrder.class, "byteOrder", PRIVATE, FINAL)
-                .build();
-        }
-
         private FieldSpec itemRWField()
         {
             return FieldSpec.builder(typeVarB, "itemRW", PRIVATE, FINAL)
@@ -472,25 +667,23 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
                 .addModifiers(PUBLIC)
                 .addParameter(typeVarB, "itemRW")
                 .addParameter(typeVarV, "itemRO")
-                .addStatement("super(new Array32FW<>(itemRO))")
-                .addStatement("this.byteOrder = ByteOrder.nativeOrder()")
+                .addStatement(isSpecialized(arrayType) ? "super(new $T(itemRO))" : "super(new $T<>(itemRO))", array32RawType)
                 .addStatement("this.itemRW = itemRW")
                 .addStatement("this.itemRO = itemRO")
                 .build();
         }
 
-        private MethodSpec constructorWithByteOrder()
+        private List<MethodSpec> defaultConstructors()
         {
-            return constructorBuilder()
-                .addModifiers(PUBLIC)
-                .addParameter(typeVarB, "itemRW")
-                .addParameter(typeVarV, "itemRO")
-                .addParameter(ByteOrder.class, "byteOrder")
-                .addStatement("super(new Array32FW<>(itemRO, byteOrder))")
-                .addStatement("this.byteOrder = byteOrder")
-                .addStatement("this.itemRW = itemRW")
-                .addStatement("this.itemRO = itemRO")
-                .build();
+            List<MethodSpec> constructors = new ArrayList<>();
+            if (isSpecialized(arrayType))
+            {
+                constructors.add(constructorBuilder()
+                    .addModifiers(PUBLIC)
+                    .addStatement("this(new $T(), new $T())", typeVarB, typeVarV)
+                    .build());
+            }
+            return constructors;
         }
 
         private MethodSpec fieldsOffsetMethod()
@@ -539,8 +732,9 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("limit(newLimit)")
                 .addStatement("this.fieldCount = fieldCount")
                 .addStatement("this.maxLength = maxLength")
-                .addStatement("buffer().putInt(offset() + LENGTH_OFFSET, length, byteOrder)")
-                .addStatement("buffer().putInt(offset() + FIELD_COUNT_OFFSET, fieldCount + FIELD_COUNT_SIZE, byteOrder)")
+                .addStatement("buffer().putInt(offset() + LENGTH_OFFSET, length$L)", byteOrderArgument)
+                .addStatement("buffer().putInt(offset() + FIELD_COUNT_OFFSET, fieldCount + FIELD_COUNT_SIZE$L)",
+                    byteOrderArgument)
                 .addStatement("return this")
                 .build();
         }
@@ -573,24 +767,24 @@ public final class Array32FWGenerator extends ParameterizedTypeSpecGenerator
                 .addModifiers(PUBLIC)
                 .returns(array32Type)
                 .addStatement("int length = limit() - offset() - FIELD_COUNT_OFFSET")
-                .addStatement("buffer().putInt(offset() + LENGTH_OFFSET, length, byteOrder)")
-                .addStatement("buffer().putInt(offset() + FIELD_COUNT_OFFSET, fieldCount, byteOrder)")
-                .addStatement("final ArrayFW<V> array = super.build()")
+                .addStatement("buffer().putInt(offset() + LENGTH_OFFSET, length$L)", byteOrderArgument)
+                .addStatement("buffer().putInt(offset() + FIELD_COUNT_OFFSET, fieldCount$L)", byteOrderArgument)
+                .addStatement("final $T array = super.build()", arrayType)
                 .addStatement("final int maxLimit = maxLimit()")
                 .addStatement("limit(fieldsOffset())")
                 .addStatement("int itemOffset = fieldsOffset()")
                 .addStatement("itemRW.reset(this)")
                 .beginControlFlow("for (int i = 0; i < fieldCount; i++)")
-                .addStatement("final Flyweight item = itemRO.wrap(buffer(), itemOffset, maxLimit, array)")
+                .addStatement("final $T item = itemRO.wrap(buffer(), itemOffset, maxLimit, array)", flyweightType)
                 .addStatement("itemOffset = item.limit()")
-                .addStatement("final Flyweight newItem = itemRW.wrap(this).rebuild((V) item, maxLength)")
+                .addStatement("final $T newItem = itemRW.wrap(this).rebuild(($T) item, maxLength)", flyweightType, typeVarV)
                 .addStatement("final int newLimit = newItem.limit()")
                 .addStatement("assert newLimit <= itemOffset")
                 .addStatement("limit(newLimit)")
                 .endControlFlow()
                 .addStatement("length = limit() - offset() - FIELD_COUNT_OFFSET")
-                .addStatement("buffer().putInt(offset() + LENGTH_OFFSET, length, byteOrder)")
-                .addStatement("final Array32FW<V> array32 = super.build()")
+                .addStatement("buffer().putInt(offset() + LENGTH_OFFSET, length$L)", byteOrderArgument)
+                .addStatement("final $T array32 = super.build()", array32Type)
                 .addStatement("array32.maxLength(maxLength)")
                 .addStatement("return array32")
                 .build();
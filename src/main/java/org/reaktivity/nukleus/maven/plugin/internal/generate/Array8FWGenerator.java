@@ -22,11 +22,17 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
+import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -70,10 +76,15 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
             .addField(fieldsOffsetConstant())
             .addField(lengthMaxValueConstant())
             .addField(emptyBufferConstant())
+            .addField(emptyItemOffsetsConstant())
             .addField(itemField())
             .addField(itemsField())
             .addField(maxLengthField())
+            .addField(itemSizeField())
+            .addField(itemOffsetsField())
+            .addField(itemOffsetsCountField())
             .addMethod(constructor())
+            .addMethod(constructorWithItemSize())
             .addMethod(lengthMethod())
             .addMethod(fieldsOffsetMethod())
             .addMethod(fieldCountMethod())
@@ -81,11 +92,19 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
             .addMethod(forEachMethod())
             .addMethod(anyMatchMethod())
             .addMethod(matchFirstMethod())
+            .addMethod(itemMethod())
+            .addMethod(itemOffsetMethod())
             .addMethod(isEmptyMethod())
             .addMethod(itemsMethod())
             .addMethod(wrapMethod())
+            .addMethod(limitOfMethod())
+            .addMethod(validateMethod())
+            .addMethod(limitOfWithDepthMethod())
+            .addMethod(requiredOfMethod())
+            .addMethod(requiredMethod())
             .addMethod(tryWrapMethod())
             .addMethod(limitMethod())
+            .addMethod(appendToMethod())
             .addMethod(toStringMethod())
             .addMethod(maxLengthSetterMethod())
             .addType(builderClassBuilder.build())
@@ -160,12 +179,50 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private FieldSpec emptyItemOffsetsConstant()
+    {
+        return FieldSpec.builder(int[].class, "EMPTY_ITEM_OFFSETS", PRIVATE, STATIC, FINAL)
+            .initializer("new int[0]")
+            .build();
+    }
+
+    private FieldSpec itemSizeField()
+    {
+        return FieldSpec.builder(int.class, "itemSize", PRIVATE, FINAL)
+            .build();
+    }
+
+    private FieldSpec itemOffsetsField()
+    {
+        return FieldSpec.builder(int[].class, "itemOffsets", PRIVATE)
+            .initializer("EMPTY_ITEM_OFFSETS")
+            .build();
+    }
+
+    private FieldSpec itemOffsetsCountField()
+    {
+        return FieldSpec.builder(int.class, "itemOffsetsCount", PRIVATE)
+            .build();
+    }
+
     private MethodSpec constructor()
     {
         return constructorBuilder()
             .addModifiers(PUBLIC)
             .addParameter(typeVarV, "itemRO")
             .addStatement("this.itemRO = itemRO")
+            .addStatement("this.itemSize = -1")
+            .build();
+    }
+
+    private MethodSpec constructorWithItemSize()
+    {
+        return constructorBuilder()
+            .addModifiers(PUBLIC)
+            .addParameter(typeVarV, "itemRO")
+            .addParameter(int.class, "itemSize")
+            .addStatement("this.itemRO = itemRO")
+            .addStatement("this.itemSize = itemSize")
             .build();
     }
 
@@ -272,6 +329,54 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec itemMethod()
+    {
+        return methodBuilder("item")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(int.class, "index")
+            .returns(typeVarV)
+            .beginControlFlow("if (index < 0 || index >= fieldCount())")
+            .addStatement("throw new IndexOutOfBoundsException(String.format($S, index, fieldCount()))",
+                "index %d out of range for %d items")
+            .endControlFlow()
+            .addStatement("final int itemOffset = itemSize != -1 ? offset() + FIELDS_OFFSET + index * itemSize : " +
+                "itemOffset(index)")
+            .addStatement("itemRO.wrap(buffer(), itemOffset, limit(), this)")
+            .addStatement("return itemRO")
+            .build();
+    }
+
+    private MethodSpec itemOffsetMethod()
+    {
+        return methodBuilder("itemOffset")
+            .addModifiers(PRIVATE)
+            .addParameter(int.class, "index")
+            .returns(int.class)
+            .beginControlFlow("if (index >= itemOffsets.length)")
+            .addComment("variable-size items occupy at least one byte each")
+            .addStatement("final int maxItems = limit() - offset() - FIELDS_OFFSET")
+            .beginControlFlow("if (index >= maxItems)")
+            .addStatement("throw new IndexOutOfBoundsException(String.format($S, index, maxItems))",
+                "index %d out of range for %d bytes of items")
+            .endControlFlow()
+            .addStatement("final int capacity = Math.min(Math.max(index + 1, itemOffsets.length << 1), maxItems)")
+            .addStatement("itemOffsets = $T.copyOf(itemOffsets, capacity)", Arrays.class)
+            .endControlFlow()
+            .addStatement("int count = itemOffsetsCount")
+            .beginControlFlow("if (count == 0)")
+            .addStatement("itemOffsets[0] = offset() + FIELDS_OFFSET")
+            .addStatement("count = 1")
+            .endControlFlow()
+            .beginControlFlow("for (; count <= index; count++)")
+            .addStatement("itemRO.wrap(buffer(), itemOffsets[count - 1], limit(), this)")
+            .addStatement("itemOffsets[count] = itemRO.limit()")
+            .endControlFlow()
+            .addStatement("itemOffsetsCount = count")
+            .addStatement("return itemOffsets[index]")
+            .build();
+    }
+
     private MethodSpec isEmptyMethod()
     {
         return methodBuilder("isEmpty")
@@ -302,6 +407,7 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
             .addParameter(int.class, "maxLimit")
             .returns(thisName)
             .addStatement("super.wrap(buffer, offset, maxLimit)")
+            .addStatement("itemOffsetsCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -314,6 +420,29 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec limitOfWithDepthMethod()
+    {
+        return limitOfMethodBuilder()
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return -2")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getByte(offset + LENGTH_OFFSET)")
+            .addStatement("final int limit = offset + LENGTH_SIZE + length")
+            .addStatement("return length < FIELD_COUNT_SIZE ? -1 : limit > maxLimit ? -2 : limit")
+            .build();
+    }
+
+    private MethodSpec requiredOfMethod()
+    {
+        return requiredOfMethodBuilder()
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return FIELDS_OFFSET")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getByte(offset + LENGTH_OFFSET)")
+            .addStatement("return LENGTH_SIZE + length")
+            .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -329,6 +458,7 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
             .beginControlFlow("if (super.tryWrap(buffer, offset, maxLimit) == null)")
             .addStatement("return null")
             .endControlFlow()
+            .addStatement("itemOffsetsCount = 0")
             .addStatement("final int itemsSize = limit() - fieldsOffset()")
             .beginControlFlow("if (itemsSize == 0)")
             .addStatement("itemsRO.wrap(EMPTY_BUFFER, 0, 0)")
@@ -353,13 +483,24 @@ public final class Array8FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(StringBuilder.class, "builder")
+            .returns(StringBuilder.class)
+            .addStatement("return builder.append(\"array8<\").append(length()).append(\", \").append(fieldCount()).append('>')")
+            .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"array8<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
             .build();
     }
 
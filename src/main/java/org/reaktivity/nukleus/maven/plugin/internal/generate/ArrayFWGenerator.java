@@ -63,6 +63,7 @@ public final class ArrayFWGenerator extends ClassSpecGenerator
             .addMethod(forEachMethod())
             .addMethod(anyMatchMethod())
             .addMethod(matchFirstMethod())
+            .addMethod(itemMethod())
             .addMethod(isEmptyMethod())
             .addMethod(itemsMethod())
             .addMethod(maxLengthMutatorMethod())
@@ -135,6 +136,15 @@ public final class ArrayFWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec itemMethod()
+    {
+        return methodBuilder("item")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .returns(typeVarV)
+            .addParameter(int.class, "index")
+            .build();
+    }
+
     private MethodSpec isEmptyMethod()
     {
         return methodBuilder("isEmpty")
@@ -81,6 +81,7 @@ public class ArrayFlyweightGenerator extends ParameterizedTypeSpecGenerator
                 .addMethod(anyMatchMethod())
                 .addMethod(matchFirstMethod())
                 .addMethod(isEmptyMethod())
+                .addMethod(appendToMethod())
                 .addMethod(toStringMethod())
                 .addMethod(length0Method())
                 .addType(builderClassBuilder.build())
@@ -250,13 +251,24 @@ public class ArrayFlyweightGenerator extends ParameterizedTypeSpecGenerator
               .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class)
+                .addStatement("return builder.append($S).append(length0()).append($S)", "ARRAY containing ", " bytes of data")
+                .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return String.format($S, length0())", "ARRAY containing %d bytes of data")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
                 .build();
     }
 
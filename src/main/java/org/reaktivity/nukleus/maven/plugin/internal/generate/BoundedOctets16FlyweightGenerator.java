@@ -22,6 +22,12 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfNativeOrderMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfByteOrderMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfNativeOrderMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
@@ -69,9 +75,17 @@ public final class BoundedOctets16FlyweightGenerator extends ClassSpecGenerator
             .addMethod(getMethod())
             .addMethod(valueMethod())
             .addMethod(lengthMethod())
+            .addMethod(limitOfMethod())
+            .addMethod(validateMethod())
+            .addMethod(limitOfNativeOrderMethod())
+            .addMethod(limitOfWithByteOrderMethod())
+            .addMethod(requiredOfNativeOrderMethod())
+            .addMethod(requiredOfWithByteOrderMethod())
+            .addMethod(requiredMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
             .addMethod(limitMethod())
+            .addMethod(appendToMethod())
             .addMethod(toStringMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -162,6 +176,35 @@ public final class BoundedOctets16FlyweightGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec limitOfWithByteOrderMethod()
+    {
+        return methodBuilder("limitOf")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "maxLimit")
+            .addParameter(ByteOrder.class, "byteOrder")
+            .returns(int.class)
+            .beginControlFlow("if (offset + LENGTH_SIZE > maxLimit)")
+            .addStatement("return -2")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getShort(offset + LENGTH_OFFSET, byteOrder) & 0xFFFF")
+            .addStatement("final int limit = offset + LENGTH_SIZE + length")
+            .addStatement("return limit > maxLimit ? -2 : limit")
+            .build();
+    }
+
+    private MethodSpec requiredOfWithByteOrderMethod()
+    {
+        return requiredOfByteOrderMethodBuilder()
+            .beginControlFlow("if (offset + LENGTH_SIZE > maxLimit)")
+            .addStatement("return LENGTH_SIZE")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getShort(offset + LENGTH_OFFSET, byteOrder) & 0xFFFF")
+            .addStatement("return LENGTH_SIZE + length")
+            .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -208,13 +251,24 @@ public final class BoundedOctets16FlyweightGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(StringBuilder.class, "builder")
+            .returns(StringBuilder.class)
+            .addStatement("return builder.append(\"boundedOctets16[\").append(length()).append(']')")
+            .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"boundedOctets16[%d]\", length())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
             .build();
     }
 
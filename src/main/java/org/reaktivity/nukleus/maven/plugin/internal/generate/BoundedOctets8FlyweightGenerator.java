@@ -22,6 +22,11 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
@@ -64,9 +69,15 @@ public final class BoundedOctets8FlyweightGenerator extends ClassSpecGenerator
             .addMethod(getMethod())
             .addMethod(valueMethod())
             .addMethod(lengthMethod())
+            .addMethod(limitOfMethod())
+            .addMethod(validateMethod())
+            .addMethod(limitOfWithDepthMethod())
+            .addMethod(requiredOfMethod())
+            .addMethod(requiredMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
             .addMethod(limitMethod())
+            .addMethod(appendToMethod())
             .addMethod(toStringMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -133,6 +144,29 @@ public final class BoundedOctets8FlyweightGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec limitOfWithDepthMethod()
+    {
+        return limitOfMethodBuilder()
+                .beginControlFlow("if (offset + LENGTH_SIZE > maxLimit)")
+                .addStatement("return -2")
+                .endControlFlow()
+                .addStatement("final int length = buffer.getByte(offset + LENGTH_OFFSET) & 0xFF")
+                .addStatement("final int limit = offset + LENGTH_SIZE + length")
+                .addStatement("return limit > maxLimit ? -2 : limit")
+                .build();
+    }
+
+    private MethodSpec requiredOfMethod()
+    {
+        return requiredOfMethodBuilder()
+                .beginControlFlow("if (offset + LENGTH_SIZE > maxLimit)")
+                .addStatement("return LENGTH_SIZE")
+                .endControlFlow()
+                .addStatement("final int length = buffer.getByte(offset + LENGTH_OFFSET) & 0xFF")
+                .addStatement("return LENGTH_SIZE + length")
+                .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -179,13 +213,24 @@ public final class BoundedOctets8FlyweightGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(StringBuilder.class, "builder")
+            .returns(StringBuilder.class)
+            .addStatement("return builder.append(\"boundedOctets8[\").append(length()).append(']')")
+            .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"boundedOctets8[%d]\", length())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
             .build();
     }
 
@@ -23,6 +23,11 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
@@ -85,18 +90,39 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
             classBuilder.addField(nonPrimitiveField());
             if (isStringType((ClassName) valueTypeName))
             {
-                classBuilder.addMethod(stringMethod());
+                classBuilder.addMethod(stringMethod())
+                            .addMethod(stringGetMethod());
+            }
+            String simpleName = ((ClassName) valueTypeName).simpleName();
+            if ("String8FW".equals(simpleName) || "String16FW".equals(simpleName))
+            {
+                classBuilder.addField(FieldSpec.builder(int.class, "MAX_SIZEOF", PUBLIC, STATIC, FINAL)
+                                               .initializer("$T.MAX_SIZEOF", valueTypeName)
+                                               .build());
             }
         }
         else
         {
             classBuilder.addField(fieldOffsetValueConstant())
-                        .addField(fieldSizeValueConstant());
+                        .addField(fieldSizeValueConstant())
+                        .addField(FieldSpec.builder(int.class, "SIZEOF", PUBLIC, STATIC, FINAL)
+                                           .initializer("FIELD_SIZE_VALUE")
+                                           .build())
+                        .addField(FieldSpec.builder(int.class, "MAX_SIZEOF", PUBLIC, STATIC, FINAL)
+                                           .initializer("SIZEOF")
+                                           .build());
         }
         return classBuilder.addMethod(limitMethod())
                            .addMethod(getMethod())
+                           .addMethod(staticGetMethod())
+                           .addMethod(limitOfMethod())
+                           .addMethod(validateMethod())
+                           .addMethod(limitOfWithDepthMethod())
+                           .addMethod(requiredOfMethod())
+                           .addMethod(requiredMethod())
                            .addMethod(tryWrapMethod())
                            .addMethod(wrapMethod())
+                           .addMethod(appendToMethod())
                            .addMethod(toStringMethod())
                            .addType(builderClassBuilder.build())
                            .build();
@@ -157,6 +183,43 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
     private MethodSpec getMethod()
     {
         String bufferType = valueTypeName == null ? "Byte" : CLASS_NAMES.get(valueTypeName);
+        String unsignedHex = unsignedHex();
+
+        MethodSpec.Builder builder = methodBuilder("get")
+                .addModifiers(PUBLIC)
+                .returns(enumTypeName);
+
+        if (isValueTypeNonPrimitive() && isStringType((ClassName) valueTypeName))
+        {
+            builder.addStatement("final $T value = stringRO.value()", DIRECT_BUFFER_TYPE)
+                   .addStatement("return value != null ? get(value, 0, value.capacity()) : null");
+        }
+        else
+        {
+            String returnStatement = String.format("return %s", isValueTypeNonPrimitive() ?
+                String.format("$T.valueOf(%sRO.get())", fieldName(valueTypeName)) :
+                String.format("$T.valueOf(buffer().get%s(offset() + FIELD_OFFSET_VALUE)%s)", bufferType, unsignedHex));
+            builder.addStatement(returnStatement, enumTypeName);
+        }
+        return builder.build();
+    }
+
+    private MethodSpec stringGetMethod()
+    {
+        return methodBuilder("get")
+                .addModifiers(PRIVATE, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "length")
+                .returns(enumTypeName)
+                .addStatement("final $T value = $T.valueOf(buffer, offset, length)", enumTypeName, enumTypeName)
+                .addStatement("return value != null ? value : " +
+                    "$T.valueOf(buffer.getStringWithoutLengthUtf8(offset, length).toUpperCase())", enumTypeName)
+                .build();
+    }
+
+    private String unsignedHex()
+    {
         String unsignedHex = "";
         if (unsignedValueTypeName != null)
         {
@@ -173,16 +236,75 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
                 unsignedHex = " & 0xFFFF_FFFFL";
             }
         }
+        return unsignedHex;
+    }
 
-        String returnStatement = String.format("return %s", isValueTypeNonPrimitive() ? isStringType((ClassName) valueTypeName) ?
-            "stringRO.asString() != null ? $T.valueOf(stringRO.asString().toUpperCase()) : null" :
-            String.format("$T.valueOf(%sRO.get())", fieldName(valueTypeName)) :
-            String.format("$T.valueOf(buffer().get%s(offset() + FIELD_OFFSET_VALUE)%s)", bufferType, unsignedHex));
-        return methodBuilder("get")
-                .addModifiers(PUBLIC)
-                .returns(enumTypeName)
-                .addStatement(returnStatement, enumTypeName)
-                .build();
+    private MethodSpec staticGetMethod()
+    {
+        MethodSpec.Builder builder = methodBuilder("get")
+                .addModifiers(PUBLIC, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .returns(enumTypeName);
+
+        if (!isValueTypeNonPrimitive())
+        {
+            String bufferType = valueTypeName == null ? "Byte" : CLASS_NAMES.get(valueTypeName);
+            builder.addStatement("return $T.valueOf(buffer.get$L(offset + FIELD_OFFSET_VALUE)$L)", enumTypeName, bufferType,
+                unsignedHex());
+        }
+        else if (isString8Type((ClassName) valueTypeName))
+        {
+            builder.addStatement("final int length = buffer.getByte(offset) & 0xFF")
+                   .addStatement("return length == 255 ? null : get(buffer, offset + $T.SIZE_OF_BYTE, length)",
+                       BIT_UTIL_TYPE);
+        }
+        else if (isString16Type((ClassName) valueTypeName))
+        {
+            builder.addStatement("final int length = buffer.getShort(offset) & 0xFFFF")
+                   .addStatement("return length == 65535 ? null : get(buffer, offset + $T.SIZE_OF_SHORT, length)",
+                       BIT_UTIL_TYPE);
+        }
+        else if (isString32Type((ClassName) valueTypeName))
+        {
+            builder.addStatement("final int length = buffer.getInt(offset)")
+                   .addStatement("return length < 0 ? null : get(buffer, offset + $T.SIZE_OF_INT, length)",
+                       BIT_UTIL_TYPE);
+        }
+        else
+        {
+            builder.addStatement("return $T.valueOf($T.get(buffer, offset))", enumTypeName, valueTypeName);
+        }
+        return builder.build();
+    }
+
+    private MethodSpec limitOfWithDepthMethod()
+    {
+        MethodSpec.Builder builder = limitOfMethodBuilder();
+        if (isValueTypeNonPrimitive())
+        {
+            builder.addStatement("return $T.limitOf(buffer, offset, maxLimit, depth)", valueTypeName);
+        }
+        else
+        {
+            builder.addStatement("final int limit = offset + FIELD_SIZE_VALUE")
+                   .addStatement("return offset > maxLimit || limit > maxLimit ? -2 : limit");
+        }
+        return builder.build();
+    }
+
+    private MethodSpec requiredOfMethod()
+    {
+        MethodSpec.Builder builder = requiredOfMethodBuilder();
+        if (isValueTypeNonPrimitive())
+        {
+            builder.addStatement("return $T.requiredOf(buffer, offset, maxLimit)", valueTypeName);
+        }
+        else
+        {
+            builder.addStatement("return FIELD_SIZE_VALUE");
+        }
+        return builder.build();
     }
 
     private MethodSpec tryWrapMethod()
@@ -238,13 +360,27 @@ public final class EnumFlyweightGenerator extends ClassSpecGenerator
                       .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class)
+                .beginControlFlow("if (maxLimit() == offset())")
+                .addStatement("return builder.append(\"null\")")
+                .endControlFlow()
+                .addStatement("return builder.append(get())")
+                .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return maxLimit() == offset() ? \"null\" : get().toString()")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
                 .build();
     }
 
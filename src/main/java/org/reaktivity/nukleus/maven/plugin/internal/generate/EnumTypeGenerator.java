@@ -18,10 +18,19 @@ package org.reaktivity.nukleus.maven.plugin.internal.generate;
 import static com.squareup.javapoet.MethodSpec.constructorBuilder;
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static com.squareup.javapoet.TypeSpec.enumBuilder;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.LONG_2_OBJECT_HASH_MAP_TYPE;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -30,8 +39,10 @@ import java.util.Objects;
 
 import javax.lang.model.element.Modifier;
 
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
@@ -39,6 +50,11 @@ import com.squareup.javapoet.TypeSpec;
 
 public final class EnumTypeGenerator extends ClassSpecGenerator
 {
+    private static final int HASH_MULTIPLIER = 0x9e3779b9;
+    private static final int HASH_MULTIPLIER_ATTEMPTS = 256;
+    private static final int HASH_TABLE_GROWTH_ATTEMPTS = 4;
+    private static final int DENSE_TABLE_SPARSITY = 4;
+
     private final TypeSpec.Builder builder;
     private final NameConstantGenerator nameConstant;
     private final ValueOfMethodGenerator valueOfMethod;
@@ -90,7 +106,7 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
         nameConstant.build();
         if (isParameterizedType())
         {
-            if (isValueTypeLong())
+            if (isValueTypeLong() && !valueOfMethod.isDense())
             {
                 longHashMap.generate();
             }
@@ -107,8 +123,9 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
                    .addMethod(valueMethod.generate());
         }
 
-        return builder.addMethod(valueOfMethod.generate())
-                      .build();
+        valueOfMethod.mixin(builder);
+
+        return builder.build();
     }
 
     private static final class NameConstantGenerator extends ClassSpecMixinGenerator
@@ -166,8 +183,6 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
             TypeSpec.Builder builder)
         {
             super(thisType, builder);
-            builder.addField(ParameterizedTypeName.get(LONG_2_OBJECT_HASH_MAP_TYPE, thisType), "VALUE_BY_LONG",
-                Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL);
             putStatementsBuilder = CodeBlock.builder();
         }
 
@@ -183,6 +198,8 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
 
         public TypeSpec generate()
         {
+            builder.addField(ParameterizedTypeName.get(LONG_2_OBJECT_HASH_MAP_TYPE, thisType), "VALUE_BY_LONG",
+                Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL);
             return builder.addStaticBlock(CodeBlock.builder()
                 .addStatement("$T<$T> valueByLong = new $T<>($L, 0.9f)", LONG_2_OBJECT_HASH_MAP_TYPE,
                     thisType, LONG_2_OBJECT_HASH_MAP_TYPE, count)
@@ -240,6 +257,7 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
 
     private final class ValueOfMethodGenerator extends MethodSpecGenerator
     {
+        private final ClassName enumName;
         private final List<String> constantNames = new LinkedList<>();
         private final Map<String, Object> valueByConstantName = new HashMap<>();
 
@@ -249,6 +267,7 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
             super(methodBuilder("valueOf")
                     .addModifiers(PUBLIC, STATIC)
                     .returns(enumName));
+            this.enumName = enumName;
         }
 
         public ValueOfMethodGenerator addValue(
@@ -263,18 +282,43 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
             return this;
         }
 
+        @Override
+        public void mixin(
+            TypeSpec.Builder typeBuilder)
+        {
+            if (isValueTypeStringFW())
+            {
+                typeBuilder.addMethod(generate());
+                generateValueByHash(typeBuilder);
+            }
+            else
+            {
+                super.mixin(typeBuilder);
+            }
+        }
+
         @Override
         public MethodSpec generate()
         {
             final String discriminant = isParameterizedType() ? "value" : "ordinal";
+            final TypeName discriminantType = isParameterizedType() ?
+                (isTypeUnsignedInt() ? unsignedValueTypeName : valueTypeName) : TypeName.INT;
 
-            builder.addParameter(isParameterizedType() ? (isTypeUnsignedInt() ? unsignedValueTypeName : valueTypeName) :
-                TypeName.INT, discriminant);
+            builder.addParameter(discriminantType, discriminant);
 
-            if (isValueTypeLong())
+            if (isDense())
+            {
+                generateValueByIndex(discriminant, discriminantType);
+            }
+            else if (isValueTypeLong())
             {
                 builder.addStatement("return VALUE_BY_LONG.get(value)");
             }
+            else if (isValueTypeStringFW())
+            {
+                builder.addStatement("final $T buffer = $L.value()", DIRECT_BUFFER_TYPE, discriminant)
+                       .addStatement("return buffer != null ? valueOf(buffer, 0, buffer.capacity()) : null");
+            }
             else
             {
                 if (isValueTypeString())
@@ -297,6 +341,206 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
             }
             return builder.build();
         }
+
+        private boolean isDense()
+        {
+            boolean dense = !isValueTypeString() && !constantNames.isEmpty();
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int index = 0; dense && index < constantNames.size(); index++)
+            {
+                Object value = valueByConstantName.get(constantNames.get(index));
+                dense = value == null || value instanceof Number;
+                long key = value == null ? index : dense ? ((Number) value).longValue() : 0L;
+                min = Math.min(min, key);
+                max = Math.max(max, key);
+            }
+            return dense && max - min >= 0 && max - min < (long) DENSE_TABLE_SPARSITY * constantNames.size();
+        }
+
+        private void generateValueByIndex(
+            String discriminant,
+            TypeName discriminantType)
+        {
+            final boolean isLong = TypeName.LONG.equals(discriminantType);
+
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            final long[] keys = new long[constantNames.size()];
+            for (int index = 0; index < keys.length; index++)
+            {
+                Object value = valueByConstantName.get(constantNames.get(index));
+                keys[index] = value == null ? index : ((Number) value).longValue();
+                min = Math.min(min, keys[index]);
+                max = Math.max(max, keys[index]);
+            }
+
+            final String[] table = new String[(int) (max - min + 1)];
+            for (int index = keys.length - 1; index >= 0; index--)
+            {
+                table[(int) (keys[index] - min)] = constantNames.get(index);
+            }
+
+            List<String> entries = new ArrayList<>(table.length);
+            for (String constantName : table)
+            {
+                entries.add(constantName != null ? constantName : "null");
+            }
+
+            EnumTypeGenerator.this.builder.addField(
+                FieldSpec.builder(ArrayTypeName.of(enumName), "VALUE_BY_INDEX", PRIVATE, STATIC, FINAL)
+                         .initializer("{ $L }", String.join(", ", entries))
+                         .build());
+
+            final String suffix = isLong ? "L" : "";
+            final CodeBlock index = min == 0 ? CodeBlock.of("$L", discriminant) :
+                min > 0 ? CodeBlock.of("$L - $L$L", discriminant, min, suffix) :
+                CodeBlock.of("$L + $L$L", discriminant, -min, suffix);
+
+            builder.addStatement("final $T index = $L", isLong ? long.class : int.class, index)
+                   .addStatement("return index >= 0 && index < VALUE_BY_INDEX.length ? VALUE_BY_INDEX[$L] : null",
+                       isLong ? "(int) index" : "index");
+        }
+
+        private void generateValueByHash(
+            TypeSpec.Builder typeBuilder)
+        {
+            final List<String> literals = new ArrayList<>(constantNames.size());
+            final int[] hashes = new int[constantNames.size()];
+            boolean hashable = true;
+            for (int index = 0; index < hashes.length; index++)
+            {
+                String literal = String.valueOf(valueByConstantName.get(constantNames.get(index)));
+                hashable &= literal.length() >= 2 && literal.startsWith("\"") && literal.endsWith("\"") &&
+                    literal.indexOf('\\') == -1;
+                literals.add(literal);
+                hashes[index] = hashable ? hash(literal.substring(1, literal.length() - 1).getBytes(UTF_8)) : 0;
+            }
+
+            final int[] perfectHash = hashable ? perfectHash(hashes) : null;
+            final int tableSize = perfectHash != null ? 1 << perfectHash[1] : hashes.length;
+            final String[] values = new String[tableSize];
+            final String[] bytes = new String[tableSize];
+            for (int index = 0; index < hashes.length; index++)
+            {
+                int slot = perfectHash != null ? (hashes[index] * perfectHash[0]) >>> (Integer.SIZE - perfectHash[1]) : index;
+                values[slot] = constantNames.get(index);
+                bytes[slot] = literals.get(index);
+            }
+
+            CodeBlock.Builder valuesInitializer = CodeBlock.builder().add("{ ");
+            CodeBlock.Builder bytesInitializer = CodeBlock.builder().add("{ ");
+            for (int slot = 0; slot < tableSize; slot++)
+            {
+                String separator = slot + 1 < tableSize ? ", " : " }";
+                valuesInitializer.add("$L$L", values[slot] != null ? values[slot] : "null", separator);
+                if (bytes[slot] != null)
+                {
+                    bytesInitializer.add("$L.getBytes($T.UTF_8)$L", bytes[slot], StandardCharsets.class, separator);
+                }
+                else
+                {
+                    bytesInitializer.add("null$L", separator);
+                }
+            }
+
+            typeBuilder.addField(FieldSpec.builder(ArrayTypeName.of(enumName), "VALUE_BY_HASH", PRIVATE, STATIC, FINAL)
+                                          .initializer(valuesInitializer.build())
+                                          .build())
+                       .addField(FieldSpec.builder(byte[][].class, "BYTES_BY_HASH", PRIVATE, STATIC, FINAL)
+                                          .initializer(bytesInitializer.build())
+                                          .build());
+
+            final ClassName stringType = ((ClassName) valueTypeName).peerClass("StringFW");
+            MethodSpec.Builder valueOfBytes = methodBuilder("valueOf")
+                .addModifiers(PUBLIC, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "length")
+                .returns(enumName);
+
+            if (perfectHash != null)
+            {
+                valueOfBytes.addStatement("final int index = ($T.hash(buffer, offset, length) * 0x$L) >>> $L",
+                                stringType, Integer.toHexString(perfectHash[0]), Integer.SIZE - perfectHash[1])
+                            .addStatement("return matches(BYTES_BY_HASH[index], buffer, offset, length) ? " +
+                                "VALUE_BY_HASH[index] : null");
+            }
+            else
+            {
+                valueOfBytes.beginControlFlow("for (int index = 0; index < BYTES_BY_HASH.length; index++)")
+                            .beginControlFlow("if (matches(BYTES_BY_HASH[index], buffer, offset, length))")
+                            .addStatement("return VALUE_BY_HASH[index]")
+                            .endControlFlow()
+                            .endControlFlow()
+                            .addStatement("return null");
+            }
+
+            typeBuilder.addMethod(valueOfBytes.build())
+                       .addMethod(methodBuilder("matches")
+                           .addModifiers(PRIVATE, STATIC)
+                           .addParameter(byte[].class, "bytes")
+                           .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                           .addParameter(int.class, "offset")
+                           .addParameter(int.class, "length")
+                           .returns(boolean.class)
+                           .beginControlFlow("if (bytes == null || bytes.length != length)")
+                           .addStatement("return false")
+                           .endControlFlow()
+                           .beginControlFlow("for (int i = 0; i < length; i++)")
+                           .beginControlFlow("if (buffer.getByte(offset + i) != bytes[i])")
+                           .addStatement("return false")
+                           .endControlFlow()
+                           .endControlFlow()
+                           .addStatement("return true")
+                           .build());
+        }
+    }
+
+    // must agree with StringFW.hash(DirectBuffer, int, int) in the generated flyweights
+    private static int hash(
+        byte[] bytes)
+    {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        final int wordLimit = bytes.length & ~(Long.BYTES - 1);
+        int result = 1;
+        int index = 0;
+        for (; index < wordLimit; index += Long.BYTES)
+        {
+            final long word = buffer.getLong(index);
+            result = 31 * result + (int) (word ^ (word >>> 32));
+        }
+        for (; index < bytes.length; index++)
+        {
+            result = 31 * result + bytes[index];
+        }
+        return result;
+    }
+
+    private static int[] perfectHash(
+        int[] hashes)
+    {
+        final int minBits = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(hashes.length - 1));
+        for (int bits = minBits; bits < minBits + HASH_TABLE_GROWTH_ATTEMPTS; bits++)
+        {
+            for (int attempt = 0; attempt < HASH_MULTIPLIER_ATTEMPTS; attempt++)
+            {
+                final int multiplier = HASH_MULTIPLIER + (attempt << 1);
+                final BitSet slots = new BitSet(1 << bits);
+                boolean perfect = true;
+                for (int index = 0; perfect && index < hashes.length; index++)
+                {
+                    final int slot = (hashes[index] * multiplier) >>> (Integer.SIZE - bits);
+                    perfect = !slots.get(slot);
+                    slots.set(slot);
+                }
+                if (perfect)
+                {
+                    return new int[] { multiplier, bits };
+                }
+            }
+        }
+        return null;
     }
 
     private boolean isParameterizedType()
@@ -322,4 +566,14 @@ public final class EnumTypeGenerator extends ClassSpecGenerator
     {
         return valueTypeName != null && !valueTypeName.isPrimitive();
     }
+
+    private boolean isValueTypeStringFW()
+    {
+        if (!isValueTypeString() || !(valueTypeName instanceof ClassName))
+        {
+            return false;
+        }
+        String simpleName = ((ClassName) valueTypeName).simpleName();
+        return "String8FW".equals(simpleName) || "String16FW".equals(simpleName) || "String32FW".equals(simpleName);
+    }
 }
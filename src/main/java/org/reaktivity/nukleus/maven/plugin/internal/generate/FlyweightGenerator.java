@@ -24,13 +24,18 @@ import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PROTECTED;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NATIVE;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NETWORK;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
-import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
+import java.nio.ByteOrder;
 import java.util.function.Consumer;
 
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder;
+
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -59,23 +64,34 @@ public final class FlyweightGenerator extends ClassSpecGenerator
     public TypeSpec generate()
     {
         return classBuilder
+            .addField(defaultMaxDepthField())
             .addField(bufferField())
-            .addField(emptyBytesField())
+            .addField(hexDigitsField())
             .addField(offsetField())
             .addField(maxLimitField())
-            .addField(compareBufferField())
+            .addField(appendBuilderField())
             .addMethod(offsetMethod())
             .addMethod(bufferMethod())
             .addMethod(limitMethod())
             .addMethod(sizeofMethod())
             .addMethod(maxLimitMethod())
             .addMethod(tryWrapMethod())
+            .addMethod(validateBaseMethod())
+            .addMethod(requiredOfBaseMethod())
+            .addMethod(requiredBaseMethod())
+            .addMethod(tryWrapWithProgressMethod())
             .addMethod(wrapMethod())
             .addMethod(wrapWithArrayMethod())
             .addMethod(checkLimitMethod())
+            .addMethod(appendToMethod())
+            .addMethod(appendToBufferMethod())
+            .addMethod(appendHexMethod())
             .addMethod(equalsMethod())
+            .addMethod(equalsBufferMethod())
             .addMethod(hashCodeMethod())
             .addType(visitorInterface())
+            .addType(validatorInterface())
+            .addType(progressClass())
             .addType(builderClassBuilder.build())
             .build();
     }
@@ -97,6 +113,193 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private TypeSpec validatorInterface()
+    {
+        return TypeSpec.interfaceBuilder(thisName.nestedClass("Validator"))
+                .addModifiers(PUBLIC)
+                .addAnnotation(FunctionalInterface.class)
+                .addMethod(MethodSpec.methodBuilder("limitOf")
+                        .addModifiers(PUBLIC, ABSTRACT)
+                        .returns(int.class)
+                        .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                        .addParameter(int.class, "offset")
+                        .addParameter(int.class, "maxLimit")
+                        .addParameter(int.class, "depth")
+                        .build())
+                .build();
+    }
+
+    private TypeSpec progressClass()
+    {
+        ClassName progressType = thisName.nestedClass("Progress");
+        return TypeSpec.classBuilder(progressType)
+                .addModifiers(PUBLIC, STATIC, FINAL)
+                .addField(int.class, "member", PRIVATE)
+                .addField(int.class, "length", PRIVATE)
+                .addField(int.class, "required", PRIVATE)
+                .addMethod(methodBuilder("member")
+                        .addModifiers(PUBLIC)
+                        .returns(int.class)
+                        .addStatement("return member")
+                        .build())
+                .addMethod(methodBuilder("length")
+                        .addModifiers(PUBLIC)
+                        .returns(int.class)
+                        .addStatement("return length")
+                        .build())
+                .addMethod(methodBuilder("required")
+                        .addModifiers(PUBLIC)
+                        .returns(int.class)
+                        .addStatement("return required")
+                        .build())
+                .addMethod(methodBuilder("remaining")
+                        .addModifiers(PUBLIC)
+                        .addParameter(int.class, "offset")
+                        .addParameter(int.class, "maxLimit")
+                        .returns(int.class)
+                        .addStatement("return Math.max(offset + required - maxLimit, 0)")
+                        .build())
+                .addMethod(methodBuilder("resume")
+                        .addModifiers(PUBLIC)
+                        .addParameter(int.class, "member")
+                        .addParameter(int.class, "length")
+                        .returns(progressType)
+                        .addStatement("this.member = member")
+                        .addStatement("this.length = length")
+                        .addStatement("return this")
+                        .build())
+                .addMethod(methodBuilder("require")
+                        .addModifiers(PUBLIC)
+                        .addParameter(int.class, "required")
+                        .returns(int.class)
+                        .addStatement("this.required = required")
+                        .addStatement("return -2")
+                        .build())
+                .addMethod(methodBuilder("reset")
+                        .addModifiers(PUBLIC)
+                        .returns(progressType)
+                        .addStatement("this.member = 0")
+                        .addStatement("this.length = 0")
+                        .addStatement("this.required = 0")
+                        .addStatement("return this")
+                        .build())
+                .build();
+    }
+
+    static MethodSpec limitOfMethod()
+    {
+        return methodBuilder("limitOf")
+                .addModifiers(PUBLIC, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(int.class)
+                .addStatement("return Math.max(limitOf(buffer, offset, maxLimit, DEFAULT_MAX_DEPTH), -1)")
+                .build();
+    }
+
+    static MethodSpec validateMethod()
+    {
+        return methodBuilder("validate")
+                .addAnnotation(Override.class)
+                .addModifiers(PROTECTED)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(int.class)
+                .addStatement("return limitOf(buffer, offset, maxLimit, DEFAULT_MAX_DEPTH)")
+                .build();
+    }
+
+    static MethodSpec.Builder requiredOfMethodBuilder()
+    {
+        // after limitOf returned -2, the number of bytes from offset needed before limitOf can decide
+        return methodBuilder("requiredOf")
+                .addModifiers(PUBLIC, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(int.class);
+    }
+
+    static MethodSpec.Builder requiredOfByteOrderMethodBuilder()
+    {
+        return requiredOfMethodBuilder()
+                .addParameter(ByteOrder.class, "byteOrder");
+    }
+
+    static MethodSpec requiredOfNativeOrderMethod()
+    {
+        return requiredOfByteOrderMethod(NATIVE);
+    }
+
+    static MethodSpec requiredOfByteOrderMethod(
+        AstByteOrder byteOrder)
+    {
+        return requiredOfMethodBuilder()
+                .addStatement("return requiredOf(buffer, offset, maxLimit, $L)", byteOrderConstant(byteOrder))
+                .build();
+    }
+
+    static MethodSpec requiredMethod()
+    {
+        return methodBuilder("required")
+                .addAnnotation(Override.class)
+                .addModifiers(PROTECTED)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(int.class)
+                .addStatement("return requiredOf(buffer, offset, maxLimit)")
+                .build();
+    }
+
+    static MethodSpec.Builder limitOfMethodBuilder()
+    {
+        // members of one type are walked in a loop, each nested type validates itself in its own static limitOf;
+        // an explicit stack would need a schema interpreter, whereas depth already bounds the call stack to depth frames
+        return methodBuilder("limitOf")
+                .addModifiers(PUBLIC, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .addParameter(int.class, "depth")
+                .returns(int.class);
+    }
+
+    static MethodSpec limitOfNativeOrderMethod()
+    {
+        return limitOfByteOrderMethod(NATIVE);
+    }
+
+    static MethodSpec limitOfByteOrderMethod(
+        AstByteOrder byteOrder)
+    {
+        return limitOfMethodBuilder()
+                .addStatement("return limitOf(buffer, offset, maxLimit, $L)", byteOrderConstant(byteOrder))
+                .build();
+    }
+
+    static CodeBlock byteOrderConstant(
+        AstByteOrder byteOrder)
+    {
+        return CodeBlock.of(byteOrder == NETWORK ? "$T.BIG_ENDIAN" : "$T.nativeOrder()", ByteOrder.class);
+    }
+
+    static CodeBlock byteOrderArgument(
+        AstByteOrder byteOrder)
+    {
+        // native order uses the plain accessor, network order passes a constant the JIT folds into a byte swap
+        return byteOrder == NETWORK ? CodeBlock.of(", $T.BIG_ENDIAN", ByteOrder.class) : CodeBlock.of("");
+    }
+
+    private FieldSpec defaultMaxDepthField()
+    {
+        return FieldSpec.builder(int.class, "DEFAULT_MAX_DEPTH", PUBLIC, STATIC, FINAL)
+                .initializer("32")
+                .build();
+    }
+
     private FieldSpec bufferField()
     {
         return FieldSpec.builder(DIRECT_BUFFER_TYPE, "buffer", PRIVATE).build();
@@ -112,17 +315,15 @@ public final class FlyweightGenerator extends ClassSpecGenerator
         return FieldSpec.builder(int.class, "maxLimit", PRIVATE).build();
     }
 
-    private FieldSpec compareBufferField()
+    private FieldSpec appendBuilderField()
     {
-        return FieldSpec.builder(UNSAFE_BUFFER_TYPE, "compareBuffer", PRIVATE)
-                .initializer("new UnsafeBuffer(EMPTY_BYTES)")
-                .build();
+        return FieldSpec.builder(StringBuilder.class, "appendBuilder", PRIVATE).build();
     }
 
-    private FieldSpec emptyBytesField()
+    private FieldSpec hexDigitsField()
     {
-        return FieldSpec.builder(byte[].class, "EMPTY_BYTES", PRIVATE, STATIC)
-                .initializer("new byte[0]")
+        return FieldSpec.builder(char[].class, "HEX_DIGITS", PRIVATE, STATIC, FINAL)
+                .initializer("$S.toCharArray()", "0123456789ABCDEF")
                 .build();
     }
 
@@ -188,6 +389,63 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                   .build();
     }
 
+    private MethodSpec tryWrapWithProgressMethod()
+    {
+        return methodBuilder("tryWrap")
+                  .addModifiers(PUBLIC)
+                  .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .addParameter(int.class, "maxLimit")
+                  .addParameter(thisName.nestedClass("Progress"), "progress")
+                  .returns(thisName)
+                  .beginControlFlow("if (maxLimit - offset < progress.required())")
+                  .addStatement("return null")
+                  .endControlFlow()
+                  .addStatement("final int limit = validate(buffer, offset, maxLimit)")
+                  .beginControlFlow("if (limit == -2)")
+                  .addStatement("progress.require(Math.max(required(buffer, offset, maxLimit), maxLimit - offset + 1))")
+                  .addStatement("return null")
+                  .endControlFlow()
+                  .addStatement("progress.reset()")
+                  .addStatement("return limit < 0 ? null : tryWrap(buffer, offset, maxLimit)")
+                  .build();
+    }
+
+    private MethodSpec validateBaseMethod()
+    {
+        // -1 rejects a malformed frame, -2 only asks for more bytes; types without a static limitOf
+        // cannot tell the two apart, so a failed tryWrap is reported as incomplete
+        return methodBuilder("validate")
+                  .addModifiers(PROTECTED)
+                  .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .addParameter(int.class, "maxLimit")
+                  .returns(int.class)
+                  .addStatement("return tryWrap(buffer, offset, maxLimit) == null ? -2 : limit()")
+                  .build();
+    }
+
+    private MethodSpec requiredOfBaseMethod()
+    {
+        // types that can read their own length prefix hide this with the exact byte count, the rest only know
+        // that one more byte is needed
+        return requiredOfMethodBuilder()
+                  .addStatement("return maxLimit - offset + 1")
+                  .build();
+    }
+
+    private MethodSpec requiredBaseMethod()
+    {
+        return methodBuilder("required")
+                  .addModifiers(PROTECTED)
+                  .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .addParameter(int.class, "maxLimit")
+                  .returns(int.class)
+                  .addStatement("return requiredOf(buffer, offset, maxLimit)")
+                  .build();
+    }
+
     private MethodSpec wrapMethod()
     {
         return methodBuilder("wrap")
@@ -236,6 +494,51 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                   .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                  .addModifiers(PUBLIC)
+                  .addParameter(StringBuilder.class, "builder")
+                  .returns(StringBuilder.class)
+                  .addStatement("return builder.append(toString())")
+                  .build();
+    }
+
+    private MethodSpec appendToBufferMethod()
+    {
+        return methodBuilder("appendTo")
+                  .addModifiers(PUBLIC, FINAL)
+                  .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .returns(int.class)
+                  .beginControlFlow("if (appendBuilder == null)")
+                  .addStatement("appendBuilder = new StringBuilder()")
+                  .endControlFlow()
+                  .addStatement("appendBuilder.setLength(0)")
+                  .addStatement("appendTo(appendBuilder)")
+                  .addStatement("final int length = appendBuilder.length()")
+                  .beginControlFlow("for (int i = 0; i < length; i++)")
+                  .addStatement("final char ch = appendBuilder.charAt(i)")
+                  .addStatement("buffer.putByte(offset + i, (byte) (ch < 0x80 ? ch : '?'))")
+                  .endControlFlow()
+                  .addStatement("return offset + length")
+                  .build();
+    }
+
+    private MethodSpec appendHexMethod()
+    {
+        return methodBuilder("appendHex")
+                  .addModifiers(PROTECTED, STATIC, FINAL)
+                  .addParameter(StringBuilder.class, "builder")
+                  .addParameter(long.class, "value")
+                  .returns(StringBuilder.class)
+                  .beginControlFlow("for (int shift = Long.SIZE - 4; shift >= 0; shift -= 4)")
+                  .addStatement("builder.append(HEX_DIGITS[(int) (value >>> shift) & 0x0F])")
+                  .endControlFlow()
+                  .addStatement("return builder")
+                  .build();
+    }
+
     private MethodSpec equalsMethod()
     {
         return methodBuilder("equals")
@@ -249,10 +552,37 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                   .addStatement("return false")
                   .nextControlFlow("else")
                   .addStatement("Flyweight that = (Flyweight) obj")
-                  .addStatement("compareBuffer.wrap(buffer, offset, sizeof())")
-                  .addStatement("that.compareBuffer.wrap(that.buffer, that.offset, that.sizeof())")
-                  .addStatement("return compareBuffer.equals(that.compareBuffer)")
+                  .addStatement("final int length = sizeof()")
+                  .addStatement("return length == that.sizeof() && equals(buffer, offset, that.buffer, that.offset, length)")
+                  .endControlFlow()
+                  .build();
+    }
+
+    private MethodSpec equalsBufferMethod()
+    {
+        return methodBuilder("equals")
+                  .addModifiers(PUBLIC, STATIC)
+                  .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                  .addParameter(int.class, "offset")
+                  .addParameter(DIRECT_BUFFER_TYPE, "thatBuffer")
+                  .addParameter(int.class, "thatOffset")
+                  .addParameter(int.class, "length")
+                  .returns(boolean.class)
+                  .addStatement("final int wordLimit = offset + (length & ~(Long.BYTES - 1))")
+                  .addStatement("final int limit = offset + length")
+                  .addStatement("int index = offset")
+                  .addStatement("int thatIndex = thatOffset")
+                  .beginControlFlow("for (; index < wordLimit; index += Long.BYTES, thatIndex += Long.BYTES)")
+                  .beginControlFlow("if (buffer.getLong(index) != thatBuffer.getLong(thatIndex))")
+                  .addStatement("return false")
                   .endControlFlow()
+                  .endControlFlow()
+                  .beginControlFlow("for (; index < limit; index++, thatIndex++)")
+                  .beginControlFlow("if (buffer.getByte(index) != thatBuffer.getByte(thatIndex))")
+                  .addStatement("return false")
+                  .endControlFlow()
+                  .endControlFlow()
+                  .addStatement("return true")
                   .build();
     }
 
@@ -262,9 +592,16 @@ public final class FlyweightGenerator extends ClassSpecGenerator
                   .addAnnotation(Override.class)
                   .addModifiers(PUBLIC)
                   .returns(int.class)
+                  .addStatement("final int limit = limit()")
+                  .addStatement("final int wordLimit = offset + ((limit - offset) & ~(Long.BYTES - 1))")
                   .addStatement("int result = 1")
-                  .beginControlFlow("for (int i = offset; i < limit(); i++)")
-                  .addStatement("result = 31 * result + buffer.getByte(i)")
+                  .addStatement("int index = offset")
+                  .beginControlFlow("for (; index < wordLimit; index += Long.BYTES)")
+                  .addStatement("final long word = buffer.getLong(index)")
+                  .addStatement("result = 31 * result + (int) (word ^ (word >>> 32))")
+                  .endControlFlow()
+                  .beginControlFlow("for (; index < limit; index++)")
+                  .addStatement("result = 31 * result + buffer.getByte(index)")
                   .endControlFlow()
                   .addStatement("return result")
                   .build();
@@ -0,0 +1,187 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generate;
+
+import static com.squareup.javapoet.MethodSpec.constructorBuilder;
+import static com.squareup.javapoet.MethodSpec.methodBuilder;
+import static com.squareup.javapoet.TypeSpec.classBuilder;
+import static com.squareup.javapoet.TypeSpec.interfaceBuilder;
+import static javax.lang.model.element.Modifier.DEFAULT;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MESSAGE_HANDLER_TYPE;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+
+public final class FrameDispatcherGenerator extends ClassSpecGenerator
+{
+    private final TypeSpec.Builder builder;
+    private final ClassName handlerName;
+    private final SortedMap<Integer, Frame> frames;
+    private final List<String> conflicts;
+
+    public FrameDispatcherGenerator(
+        ClassName dispatcherName)
+    {
+        super(dispatcherName);
+        this.builder = classBuilder(dispatcherName).addModifiers(PUBLIC, FINAL);
+        this.handlerName = dispatcherName.nestedClass("Handler");
+        this.frames = new TreeMap<>();
+        this.conflicts = new ArrayList<>();
+    }
+
+    public FrameDispatcherGenerator addFrame(
+        ClassName frameName,
+        String baseName,
+        int typeId)
+    {
+        Frame existing = frames.putIfAbsent(typeId, new Frame(frameName, baseName));
+        if (existing != null)
+        {
+            conflicts.add(String.format("Duplicate typeId 0x%08x for struct types %s and %s",
+                    typeId, existing.frameName, frameName));
+        }
+        return this;
+    }
+
+    public boolean hasFrames()
+    {
+        return !frames.isEmpty();
+    }
+
+    public List<String> conflicts()
+    {
+        return conflicts;
+    }
+
+    @Override
+    public TypeSpec generate()
+    {
+        for (Frame frame : frames.values())
+        {
+            builder.addField(FieldSpec.builder(frame.frameName, frame.fieldName(), PRIVATE, FINAL)
+                    .initializer("new $T()", frame.frameName)
+                    .build());
+        }
+
+        return builder.addSuperinterface(MESSAGE_HANDLER_TYPE)
+                      .addField(handlerName, "handler", PRIVATE, FINAL)
+                      .addMethod(constructor())
+                      .addMethod(onMessageMethod())
+                      .addType(handlerInterface())
+                      .build();
+    }
+
+    private MethodSpec constructor()
+    {
+        return constructorBuilder()
+                .addModifiers(PUBLIC)
+                .addParameter(handlerName, "handler")
+                .addStatement("this.handler = handler")
+                .build();
+    }
+
+    private MethodSpec onMessageMethod()
+    {
+        CodeBlock.Builder code = CodeBlock.builder().beginControlFlow("switch (msgTypeId)");
+        for (Frame frame : frames.values())
+        {
+            code.add("case $T.TYPE_ID:\n", frame.frameName)
+                .indent()
+                .addStatement("handler.$L($L.wrap(buffer, index, index + length))", frame.methodName(), frame.fieldName())
+                .addStatement("break")
+                .unindent();
+        }
+        code.add("default:\n")
+            .indent()
+            .addStatement("handler.onUnknown(msgTypeId, buffer, index, length)")
+            .addStatement("break")
+            .unindent()
+            .endControlFlow();
+
+        return methodBuilder("onMessage")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(int.class, "msgTypeId")
+                .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "index")
+                .addParameter(int.class, "length")
+                .addCode(code.build())
+                .build();
+    }
+
+    private TypeSpec handlerInterface()
+    {
+        TypeSpec.Builder handler = interfaceBuilder(handlerName).addModifiers(PUBLIC);
+        for (Frame frame : frames.values())
+        {
+            handler.addMethod(methodBuilder(frame.methodName())
+                    .addModifiers(PUBLIC, DEFAULT)
+                    .addParameter(frame.frameName, frame.parameterName())
+                    .build());
+        }
+
+        return handler.addMethod(methodBuilder("onUnknown")
+                        .addModifiers(PUBLIC, DEFAULT)
+                        .addParameter(int.class, "msgTypeId")
+                        .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                        .addParameter(int.class, "index")
+                        .addParameter(int.class, "length")
+                        .build())
+                      .build();
+    }
+
+    private static final class Frame
+    {
+        private final ClassName frameName;
+        private final String baseName;
+
+        private Frame(
+            ClassName frameName,
+            String baseName)
+        {
+            this.frameName = frameName;
+            this.baseName = baseName;
+        }
+
+        private String fieldName()
+        {
+            return String.format("%sRO", parameterName());
+        }
+
+        private String parameterName()
+        {
+            return Character.toLowerCase(baseName.charAt(0)) + baseName.substring(1);
+        }
+
+        private String methodName()
+        {
+            return String.format("on%s%s", Character.toUpperCase(baseName.charAt(0)), baseName.substring(1));
+        }
+    }
+}
@@ -22,6 +22,11 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
@@ -60,8 +65,16 @@ public final class List0FWGenerator extends ClassSpecGenerator
             .addMethod(lengthMethod())
             .addMethod(fieldCountMethod())
             .addMethod(fieldsMethod())
+            .addMethod(limitOfMethod())
+            .addMethod(validateMethod())
+            .addMethod(limitOfWithDepthMethod())
+            .addMethod(requiredOfMethod())
+            .addMethod(requiredMethod())
+            .addMethod(staticFieldCountMethod())
+            .addMethod(staticFieldsOffsetMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
+            .addMethod(appendToMethod())
             .addMethod(toStringMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -135,6 +148,42 @@ public final class List0FWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec limitOfWithDepthMethod()
+    {
+        return limitOfMethodBuilder()
+            .addStatement("final int limit = offset + LENGTH_SIZE + LENGTH_VALUE")
+            .addStatement("return offset > maxLimit || limit > maxLimit ? -2 : limit")
+            .build();
+    }
+
+    private MethodSpec requiredOfMethod()
+    {
+        return requiredOfMethodBuilder()
+            .addStatement("return LENGTH_SIZE + LENGTH_VALUE")
+            .build();
+    }
+
+    private MethodSpec staticFieldCountMethod()
+    {
+        return methodBuilder("fieldCount")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .returns(int.class)
+            .addStatement("return FIELD_COUNT_VALUE")
+            .build();
+    }
+
+    private MethodSpec staticFieldsOffsetMethod()
+    {
+        return methodBuilder("fieldsOffset")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(int.class, "offset")
+            .returns(int.class)
+            .addStatement("return offset + LENGTH_SIZE + LENGTH_VALUE")
+            .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -169,13 +218,24 @@ public final class List0FWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(StringBuilder.class, "builder")
+            .returns(StringBuilder.class)
+            .addStatement("return builder.append(\"list0<\").append(length()).append(\", \").append(fieldCount()).append('>')")
+            .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"list0<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
             .build();
     }
 
@@ -22,6 +22,15 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NETWORK;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.byteOrderArgument;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.byteOrderConstant;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfByteOrderMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfByteOrderMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfByteOrderMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
@@ -29,7 +38,10 @@ import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UN
 
 import java.nio.ByteOrder;
 
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder;
+
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -40,16 +52,21 @@ public final class List32FWGenerator extends ClassSpecGenerator
 {
     private final TypeSpec.Builder classBuilder;
     private final BuilderClassBuilder builderClassBuilder;
+    private final AstByteOrder byteOrder;
+    private final CodeBlock byteOrderArgument;
 
     public List32FWGenerator(
         ClassName flyweightType,
-        ClassName listType)
+        ClassName listType,
+        AstByteOrder byteOrder)
     {
-        super(listType.peerClass("List32FW"));
+        super(listType.peerClass(byteOrder == NETWORK ? "NetworkList32FW" : "List32FW"));
+        this.byteOrder = byteOrder;
+        this.byteOrderArgument = byteOrderArgument(byteOrder);
 
         this.classBuilder = classBuilder(thisName).superclass(listType).addModifiers(PUBLIC, FINAL);
         this.builderClassBuilder = new BuilderClassBuilder(thisName, flyweightType.nestedClass("Builder"),
-            listType.nestedClass("Builder"));
+            listType.nestedClass("Builder"), byteOrderArgument);
     }
 
     @Override
@@ -61,15 +78,24 @@ public final class List32FWGenerator extends ClassSpecGenerator
             .addField(lengthOffsetConstant())
             .addField(fieldCountOffsetConstant())
             .addField(fieldsOffsetConstant())
-            .addField(byteOrderField())
             .addMethod(constructor())
-            .addMethod(constructorWithByteOrder())
             .addMethod(limitMethod())
             .addMethod(lengthMethod())
             .addMethod(fieldCountMethod())
             .addMethod(fieldsMethod())
+            .addMethod(limitOfMethod())
+            .addMethod(validateMethod())
+            .addMethod(limitOfByteOrderMethod(byteOrder))
+            .addMethod(limitOfWithByteOrderMethod())
+            .addMethod(requiredOfByteOrderMethod(byteOrder))
+            .addMethod(requiredOfWithByteOrderMethod())
+            .addMethod(requiredMethod())
+            .addMethod(staticFieldCountMethod())
+            .addMethod(staticFieldCountWithByteOrderMethod())
+            .addMethod(staticFieldsOffsetMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
+            .addMethod(appendToMethod())
             .addMethod(toStringMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -117,26 +143,10 @@ public final class List32FWGenerator extends ClassSpecGenerator
             .build();
     }
 
-    private FieldSpec byteOrderField()
-    {
-        return FieldSpec.builder(ByteOrder.class, "byteOrder", PRIVATE, FINAL)
-            .build();
-    }
-
     private MethodSpec constructor()
     {
         return constructorBuilder()
             .addModifiers(PUBLIC)
-            .addStatement("this.byteOrder = ByteOrder.nativeOrder()")
-            .build();
-    }
-
-    private MethodSpec constructorWithByteOrder()
-    {
-        return constructorBuilder()
-            .addModifiers(PUBLIC)
-            .addParameter(ByteOrder.class, "byteOrder")
-            .addStatement("this.byteOrder = byteOrder")
             .build();
     }
 
@@ -156,7 +166,7 @@ public final class List32FWGenerator extends ClassSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(int.class)
-            .addStatement("return buffer().getInt(offset() + LENGTH_OFFSET, byteOrder)")
+            .addStatement("return buffer().getInt(offset() + LENGTH_OFFSET$L)", byteOrderArgument)
             .build();
     }
 
@@ -166,7 +176,7 @@ public final class List32FWGenerator extends ClassSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(int.class)
-            .addStatement("return buffer().getInt(offset() + FIELD_COUNT_OFFSET, byteOrder)")
+            .addStatement("return buffer().getInt(offset() + FIELD_COUNT_OFFSET$L)", byteOrderArgument)
             .build();
     }
 
@@ -180,6 +190,68 @@ public final class List32FWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec limitOfWithByteOrderMethod()
+    {
+        return methodBuilder("limitOf")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "maxLimit")
+            .addParameter(ByteOrder.class, "byteOrder")
+            .returns(int.class)
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return -2")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getInt(offset + LENGTH_OFFSET, byteOrder)")
+            .addStatement("return length < FIELD_COUNT_SIZE ? -1 : length > maxLimit - offset - LENGTH_SIZE ? -2 : " +
+                "offset + LENGTH_SIZE + length")
+            .build();
+    }
+
+    private MethodSpec requiredOfWithByteOrderMethod()
+    {
+        return requiredOfByteOrderMethodBuilder()
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return FIELDS_OFFSET")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getInt(offset + LENGTH_OFFSET, byteOrder)")
+            .addStatement("return (int) Math.min(LENGTH_SIZE + (long) length, Integer.MAX_VALUE)")
+            .build();
+    }
+
+    private MethodSpec staticFieldCountMethod()
+    {
+        return methodBuilder("fieldCount")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .returns(int.class)
+            .addStatement("return fieldCount(buffer, offset, $L)", byteOrderConstant(byteOrder))
+            .build();
+    }
+
+    private MethodSpec staticFieldCountWithByteOrderMethod()
+    {
+        return methodBuilder("fieldCount")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(ByteOrder.class, "byteOrder")
+            .returns(int.class)
+            .addStatement("return buffer.getInt(offset + FIELD_COUNT_OFFSET, byteOrder)")
+            .build();
+    }
+
+    private MethodSpec staticFieldsOffsetMethod()
+    {
+        return methodBuilder("fieldsOffset")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(int.class, "offset")
+            .returns(int.class)
+            .addStatement("return offset + FIELDS_OFFSET")
+            .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -218,13 +290,24 @@ public final class List32FWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(StringBuilder.class, "builder")
+            .returns(StringBuilder.class)
+            .addStatement("return builder.append(\"list32<\").append(length()).append(\", \").append(fieldCount()).append('>')")
+            .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"list32<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
             .build();
     }
 
@@ -234,11 +317,13 @@ public final class List32FWGenerator extends ClassSpecGenerator
         private final ClassName classType;
         private final ClassName listType;
         private final ClassName visitorType;
+        private final CodeBlock byteOrderArgument;
 
         private BuilderClassBuilder(
             ClassName listType,
             ClassName flyweightBuilderRawType,
-            ClassName builderRawType)
+            ClassName builderRawType,
+            CodeBlock byteOrderArgument)
         {
             TypeName builderType = ParameterizedTypeName.get(builderRawType, listType);
             this.listType = listType;
@@ -247,15 +332,14 @@ public final class List32FWGenerator extends ClassSpecGenerator
                 .addModifiers(PUBLIC, STATIC, FINAL)
                 .superclass(builderType);
             this.visitorType = flyweightBuilderRawType.nestedClass("Visitor");
+            this.byteOrderArgument = byteOrderArgument;
         }
 
         public TypeSpec build()
         {
             return classBuilder
-                .addField(byteOrder())
                 .addField(fieldCount())
                 .addMethod(constructor())
-                .addMethod(constructorWithByteOrder())
                 .addMethod(fieldMethod())
                 .addMethod(fieldsMethodViaVisitor())
                 .addMethod(fieldsMethodViaBuffer())
@@ -264,12 +348,6 @@ public final class List32FWGenerator extends ClassSpecGenerator
                 .build();
         }
 
-        private FieldSpec byteOrder()
-        {
-            return FieldSpec.builder(ByteOrder.class, "byteOrder", PRIVATE, FINAL)
-                .build();
-        }
-
         private FieldSpec fieldCount()
         {
             return FieldSpec.builder(int.class, "fieldCount", PRIVATE)
@@ -280,18 +358,7 @@ public final class List32FWGenerator extends ClassSpecGenerator
         {
             return constructorBuilder()
                 .addModifiers(PUBLIC)
-                .addStatement("super(new List32FW())")
-                .addStatement("this.byteOrder = $T.nativeOrder()", ByteOrder.class)
-                .build();
-        }
-
-        private MethodSpec constructorWithByteOrder()
-        {
-            return constructorBuilder()
-                .addModifiers(PUBLIC)
-                .addParameter(ByteOrder.class, "byteOrder")
-                .addStatement("super(new List32FW(byteOrder))")
-                .addStatement("this.byteOrder = byteOrder")
+                .addStatement("super(new $T())", listType)
                 .build();
         }
 
@@ -371,8 +438,9 @@ public final class List32FWGenerator extends ClassSpecGenerator
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(listType)
-                .addStatement("buffer().putInt(offset() + LENGTH_OFFSET, limit() - offset() - FIELD_COUNT_OFFSET, byteOrder)")
-                .addStatement("buffer().putInt(offset() + FIELD_COUNT_OFFSET, fieldCount, byteOrder)")
+                .addStatement("buffer().putInt(offset() + LENGTH_OFFSET, limit() - offset() - FIELD_COUNT_OFFSET$L)",
+                    byteOrderArgument)
+                .addStatement("buffer().putInt(offset() + FIELD_COUNT_OFFSET, fieldCount$L)", byteOrderArgument)
                 .addStatement("return super.build()")
                 .build();
         }
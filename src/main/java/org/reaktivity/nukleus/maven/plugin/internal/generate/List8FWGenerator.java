@@ -22,6 +22,11 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
@@ -64,8 +69,16 @@ public final class List8FWGenerator extends ClassSpecGenerator
             .addMethod(lengthMethod())
             .addMethod(fieldCountMethod())
             .addMethod(fieldsMethod())
+            .addMethod(limitOfMethod())
+            .addMethod(validateMethod())
+            .addMethod(limitOfWithDepthMethod())
+            .addMethod(requiredOfMethod())
+            .addMethod(requiredMethod())
+            .addMethod(staticFieldCountMethod())
+            .addMethod(staticFieldsOffsetMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
+            .addMethod(appendToMethod())
             .addMethod(toStringMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -160,6 +173,50 @@ public final class List8FWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec limitOfWithDepthMethod()
+    {
+        return limitOfMethodBuilder()
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return -2")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getByte(offset + LENGTH_OFFSET) & 0xFF")
+            .addStatement("final int limit = offset + LENGTH_SIZE + length")
+            .addStatement("return length < FIELD_COUNT_SIZE ? -1 : limit > maxLimit ? -2 : limit")
+            .build();
+    }
+
+    private MethodSpec requiredOfMethod()
+    {
+        return requiredOfMethodBuilder()
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return FIELDS_OFFSET")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getByte(offset + LENGTH_OFFSET) & 0xFF")
+            .addStatement("return LENGTH_SIZE + length")
+            .build();
+    }
+
+    private MethodSpec staticFieldCountMethod()
+    {
+        return methodBuilder("fieldCount")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .returns(int.class)
+            .addStatement("return buffer.getByte(offset + FIELD_COUNT_OFFSET) & 0xFF")
+            .build();
+    }
+
+    private MethodSpec staticFieldsOffsetMethod()
+    {
+        return methodBuilder("fieldsOffset")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(int.class, "offset")
+            .returns(int.class)
+            .addStatement("return offset + FIELDS_OFFSET")
+            .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -198,13 +255,24 @@ public final class List8FWGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(StringBuilder.class, "builder")
+            .returns(StringBuilder.class)
+            .addStatement("return builder.append(\"list8<\").append(length()).append(\", \").append(fieldCount()).append('>')")
+            .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"list8<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
             .build();
     }
 
@@ -26,13 +26,18 @@ import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NATIVE;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NETWORK;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstOffsets.LAZY;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -47,6 +52,7 @@ import org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstEnumNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNamedNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNamedNode.Kind;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstOffsets;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstType;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstTypedefNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstVariantNode;
@@ -107,6 +113,8 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
     }
 
     private final String baseName;
+    private final boolean lazy;
+    private final int bitmaskWords;
     private final TypeSpec.Builder builder;
     private final MemberSizeConstantGenerator memberSizeConstant;
     private final MemberOffsetConstantGenerator memberOffsetConstant;
@@ -123,9 +131,12 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
     private final MemberAccessorGenerator memberAccessor;
     private final HasFieldMethodGenerator hasFieldMethod;
     private final WrapMethodGenerator wrapMethod;
+    private final LimitOfMethodGenerator limitOfMethod;
+    private final RequiredOfMethodGenerator requiredOfMethod;
     private final TryWrapMethodGenerator tryWrapMethod;
+    private final ResolveMethodGenerator resolveMethod;
     private final LimitMethodGenerator limitMethod;
-    private final ToStringMethodGenerator toStringMethod;
+    private final AppendToMethodGenerator appendToMethod;
     private final BuilderClassGenerator builderClass;
 
     public ListFlyweightGenerator(
@@ -136,16 +147,26 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         TypeName lengthTypeName,
         TypeName fieldCountTypeName,
         Byte missingFieldByte,
+        int memberCount,
         TypeResolver resolver,
-        AstByteOrder byteOrder)
+        AstByteOrder byteOrder,
+        AstOffsets offsets)
     {
         super(listName);
+        if ((missingFieldByte != null || templateType != null) && memberCount > Long.SIZE)
+        {
+            throw new IllegalArgumentException(String.format("List %s has %d members but only lists with a bitmask " +
+                "header support more than %d members", baseName, memberCount, Long.SIZE));
+        }
+        final int bitmaskWords = Math.max(1, (memberCount + Long.SIZE - 1) / Long.SIZE);
         this.baseName = baseName;
+        this.bitmaskWords = bitmaskWords;
+        this.lazy = offsets == LAZY && missingFieldByte == null && templateType == null;
         this.builder = builder(listName, templateType, resolver);
         this.memberSizeConstant = new MemberSizeConstantGenerator(listName, builder, templateType, lengthTypeName,
-            fieldCountTypeName, missingFieldByte);
+            fieldCountTypeName, missingFieldByte, bitmaskWords);
         this.memberOffsetConstant = new MemberOffsetConstantGenerator(listName, builder, templateType, missingFieldByte);
-        this.maskConstant = new MaskConstantGenerator(listName, builder);
+        this.maskConstant = new MaskConstantGenerator(listName, builder, bitmaskWords);
         this.fieldIndexConstant = new FieldIndexConstantGenerator(listName, builder);
         this.defaultValueConstant = new DefaultValueConstantGenerator(listName, builder, resolver);
         this.nullValueConstant = new MissingFieldByteConstantGenerator(listName, builder, missingFieldByte, templateType,
@@ -157,20 +178,27 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         this.fieldCountMethod = new FieldCountMethodGenerator(listName, builder, templateType, fieldCountTypeName, resolver,
             byteOrder);
         this.fieldsMethod = new FieldsMethodGenerator(listName, builder, templateType, resolver);
-        this.memberAccessor = new MemberAccessorGenerator(listName, builder, templateType, resolver, missingFieldByte, byteOrder);
-        this.hasFieldMethod = new HasFieldMethodGenerator(listName, builder, templateType, missingFieldByte);
-        this.wrapMethod = new WrapMethodGenerator(missingFieldByte, templateType, resolver);
-        this.tryWrapMethod = new TryWrapMethodGenerator(missingFieldByte, templateType, resolver);
+        this.memberAccessor = new MemberAccessorGenerator(listName, builder, templateType, resolver, missingFieldByte, byteOrder,
+            lazy, bitmaskWords);
+        this.hasFieldMethod = new HasFieldMethodGenerator(listName, builder, templateType, missingFieldByte, bitmaskWords);
+        this.wrapMethod = new WrapMethodGenerator(missingFieldByte, templateType, resolver, lazy, bitmaskWords);
+        this.limitOfMethod = new LimitOfMethodGenerator(lengthTypeName, fieldCountTypeName, missingFieldByte, templateType,
+            resolver, byteOrder, bitmaskWords);
+        this.requiredOfMethod = new RequiredOfMethodGenerator(lengthTypeName, missingFieldByte, templateType, resolver,
+            byteOrder);
+        this.tryWrapMethod = new TryWrapMethodGenerator(missingFieldByte, templateType, resolver, lazy, bitmaskWords);
+        this.resolveMethod = new ResolveMethodGenerator(bitmaskWords);
         this.limitMethod = new LimitMethodGenerator(lengthTypeName, templateType, resolver, byteOrder);
-        this.toStringMethod = new ToStringMethodGenerator(missingFieldByte, templateType);
+        this.appendToMethod = new AppendToMethodGenerator(missingFieldByte, templateType, resolver, bitmaskWords);
         this.builderClass = new BuilderClassGenerator(listName, listFWName, templateType, lengthTypeName,
-            fieldCountTypeName, resolver, missingFieldByte);
+            fieldCountTypeName, resolver, missingFieldByte, bitmaskWords);
     }
 
     public ListFlyweightGenerator addMember(
         String name,
         AstType type,
         TypeName typeName,
+        AstType unsignedType,
         TypeName unsignedTypeName,
         boolean usedAsSize,
         Object defaultValue,
@@ -187,15 +215,18 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         fieldIndexConstant.addMember(name);
         maskConstant.addMember(name);
         defaultValueConstant.addMember(name, type, typeName, unsignedTypeName, defaultValue);
-        memberField.addMember(name, type, typeName, byteOrder, arrayItemTypeName,
+        memberField.addMember(name, type, typeName, unsignedType, byteOrder, arrayItemTypeName,
             variantOfMapKeyType, variantOfMapValueType, mapParamName, originalMapKeyName, originalMapValueName);
         optionalOffsets.addMember(name);
         memberAccessor.addMember(name, type, typeName, unsignedTypeName, byteOrder, isRequired, defaultValue,
             arrayItemTypeName, variantOfMapKeyType, variantOfMapValueType, mapParamName);
         hasFieldMethod.addMember(name);
         wrapMethod.addMember(name, typeName, defaultValue, isRequired);
+        limitOfMethod.addMember(name, type, typeName, defaultValue, byteOrder, isRequired, arrayItemTypeName,
+            variantOfMapKeyType, variantOfMapValueType, mapParamName);
         tryWrapMethod.addMember(name, typeName, defaultValue, isRequired);
-        toStringMethod.addMember(name, typeName, defaultValue, isRequired);
+        resolveMethod.addMember(name, typeName, defaultValue, isRequired);
+        appendToMethod.addMember(name, type, typeName, defaultValue, isRequired);
         builderClass.addMember(name, type, typeName, unsignedTypeName, usedAsSize,
             byteOrder, isRequired, arrayItemTypeName, variantOfMapKeyType, variantOfMapValueType, mapParamName,
             originalMapKeyName, originalMapValueName);
@@ -219,11 +250,27 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         fieldsMethod.build();
         memberAccessor.build();
         hasFieldMethod.build();
-        return builder.addField(bitmask())
-            .addMethod(wrapMethod.generate())
+        if (bitmaskWords == 1)
+        {
+            // wider bitmasks are read a word at a time through bitmask(word)
+            builder.addField(bitmask());
+        }
+        if (lazy)
+        {
+            builder.addField(resolvedIndex())
+                .addField(resolvedLimit())
+                .addMethod(resolveMethod.generate());
+        }
+        return builder.addMethod(wrapMethod.generate())
+            .addMethod(limitOfMethod())
+            .addMethod(validateMethod())
+            .addMethod(limitOfMethod.generate())
+            .addMethod(requiredOfMethod.generate())
+            .addMethod(requiredMethod())
             .addMethod(tryWrapMethod.generate())
             .addMethod(limitMethod.generate())
-            .addMethod(toStringMethod.generate())
+            .addMethod(appendToMethod.generate())
+            .addMethod(toStringMethod())
             .addType(builderClass.generate())
             .build();
     }
@@ -242,6 +289,16 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         return FieldSpec.builder(long.class, "bitmask", PRIVATE).build();
     }
 
+    private FieldSpec resolvedIndex()
+    {
+        return FieldSpec.builder(int.class, "resolvedIndex", PRIVATE).build();
+    }
+
+    private FieldSpec resolvedLimit()
+    {
+        return FieldSpec.builder(int.class, "resolvedLimit", PRIVATE).build();
+    }
+
     private static final class MemberOffsetConstantGenerator extends ClassSpecMixinGenerator
     {
         private final AstType templateType;
@@ -291,11 +348,15 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
 
     private static final class MaskConstantGenerator extends ClassSpecMixinGenerator
     {
+        private final int bitmaskWords;
+
         protected MaskConstantGenerator(
             ClassName thisType,
-            Builder builder)
+            Builder builder,
+            int bitmaskWords)
         {
             super(thisType, builder);
+            this.bitmaskWords = bitmaskWords;
         }
 
         public MaskConstantGenerator addMember(
@@ -303,7 +364,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         {
             builder.addField(
                 FieldSpec.builder(long.class, maskConstant(name), PRIVATE, STATIC, FINAL)
-                    .initializer("1 << $L", fieldIndex(name))
+                    .initializer(bitmaskWords == 1 ? "1L << $L" : "1L << ($L & 0x3F)", fieldIndex(name))
                     .build());
             return this;
         }
@@ -316,6 +377,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         private final TypeName lengthTypeName;
         private final TypeName fieldCountTypeName;
         private final Byte nullValue;
+        private final int bitmaskWords;
 
         private MemberSizeConstantGenerator(
             ClassName thisType,
@@ -323,13 +385,15 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             AstType templateType,
             TypeName lengthTypeName,
             TypeName fieldCountTypeName,
-            Byte nullValue)
+            Byte nullValue,
+            int bitmaskWords)
         {
             super(thisType, builder);
             this.templateType = templateType;
             this.lengthTypeName = lengthTypeName;
             this.fieldCountTypeName = fieldCountTypeName;
             this.nullValue = nullValue;
+            this.bitmaskWords = bitmaskWords;
         }
 
         public MemberSizeConstantGenerator addMember(
@@ -356,11 +420,20 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     FieldSpec.builder(int.class, size(FIELD_COUNT), PRIVATE, STATIC, FINAL)
                         .initializer("$T.SIZE_OF_$L", BIT_UTIL_TYPE, TYPE_NAMES.get(fieldCountTypeName))
                         .build());
+                if (TypeName.BYTE.equals(lengthTypeName) || TypeName.SHORT.equals(lengthTypeName))
+                {
+                    builder.addField(
+                        FieldSpec.builder(int.class, "MAX_SIZEOF", PUBLIC, STATIC, FINAL)
+                            .initializer("$L", TypeName.BYTE.equals(lengthTypeName) ? "0xFF" : "0xFFFF")
+                            .build());
+                }
                 if (nullValue == null)
                 {
+                    CodeBlock initializer = bitmaskWords == 1 ? CodeBlock.of("$T.SIZE_OF_LONG", BIT_UTIL_TYPE) :
+                        CodeBlock.of("$T.SIZE_OF_LONG * $L", BIT_UTIL_TYPE, bitmaskWords);
                     builder.addField(
                         FieldSpec.builder(int.class, size(BIT_MASK), PRIVATE, STATIC, FINAL)
-                            .initializer("$T.SIZE_OF_LONG", BIT_UTIL_TYPE)
+                            .initializer(initializer)
                             .build());
                 }
             }
@@ -570,6 +643,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             String name,
             AstType type,
             TypeName typeName,
+            AstType unsignedType,
             AstByteOrder byteOrder,
             AstType arrayItemTypeName,
             AstType variantOfMapKeyType,
@@ -580,7 +654,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         {
             if (!typeName.isPrimitive())
             {
-                addNonPrimitiveMember(name, type, typeName, byteOrder, arrayItemTypeName,
+                addNonPrimitiveMember(name, type, typeName, unsignedType, byteOrder, arrayItemTypeName,
                     variantOfMapKeyType, variantOfMapValueType, mapParamName, originalMapKeyName, originalMapValueName);
             }
             return this;
@@ -590,6 +664,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             String name,
             AstType type,
             TypeName typeName,
+            AstType unsignedType,
             AstByteOrder byteOrder,
             AstType arrayItemTypeName,
             AstType variantOfMapKeyType,
@@ -599,12 +674,26 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             ClassName originalMapValueName)
         {
             String fieldRO = String.format("%sRO", name);
-            FieldSpec.Builder fieldBuilder = FieldSpec.builder(typeName, fieldRO, PRIVATE);
+            TypeName specializedTypeName = resolver.resolveSpecializedType(typeName);
+            FieldSpec.Builder fieldBuilder = specializedTypeName != typeName ?
+                FieldSpec.builder(specializedTypeName, fieldRO, PRIVATE, FINAL) :
+                FieldSpec.builder(typeName, fieldRO, PRIVATE);
             if (typeName instanceof ParameterizedTypeName)
             {
                 ParameterizedTypeName parameterizedType = (ParameterizedTypeName) typeName;
                 TypeName typeArgument = parameterizedType.typeArguments.get(0);
-                fieldBuilder.initializer("new $T(new $T())", typeName, typeArgument);
+                if (unsignedType != null && resolver.isFixedSize(unsignedType))
+                {
+                    fieldBuilder.initializer("new $T(new $T(), $T.SIZEOF)", specializedTypeName, typeArgument, typeArgument);
+                }
+                else if (specializedTypeName != typeName)
+                {
+                    fieldBuilder.initializer("new $T()", specializedTypeName);
+                }
+                else
+                {
+                    fieldBuilder.initializer("new $T(new $T())", typeName, typeArgument);
+                }
             }
             else if (typeName instanceof ClassName && (isString16Type((ClassName) typeName) ||
                 isString32Type((ClassName) typeName)) && byteOrder == NETWORK)
@@ -615,8 +704,16 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             {
                 TypeName parameterizedArrayName = ParameterizedTypeName.get(resolver.resolveClass(type),
                     resolver.resolveClass(arrayItemTypeName));
-                fieldBuilder = FieldSpec.builder(parameterizedArrayName, fieldRO, PRIVATE)
-                    .initializer("new $T<>(new $T())", typeName, resolver.resolveClass(arrayItemTypeName));
+                fieldBuilder = FieldSpec.builder(parameterizedArrayName, fieldRO, PRIVATE);
+                if (resolver.isFixedSize(arrayItemTypeName))
+                {
+                    fieldBuilder.initializer("new $T<>(new $T(), $T.SIZEOF)", typeName, resolver.resolveClass(arrayItemTypeName),
+                        resolver.resolveClass(arrayItemTypeName));
+                }
+                else
+                {
+                    fieldBuilder.initializer("new $T<>(new $T())", typeName, resolver.resolveClass(arrayItemTypeName));
+                }
             }
             else if (variantOfMapKeyType != null)
             {
@@ -625,12 +722,14 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 TypeName parameterizedMapName = ParameterizedTypeName.get(resolver.resolveClass(type), mapKeyClassName,
                     mapValueClassName);
                 fieldBuilder = FieldSpec.builder(parameterizedMapName, fieldRO, PRIVATE)
-                    .initializer("new $T<>(new $T(), new $T())", typeName, mapKeyClassName, mapValueClassName);
+                    .initializer("new $T<>(new $T(), new $T(), new $T(), new $T())", typeName, mapKeyClassName,
+                        mapValueClassName, mapKeyClassName, mapValueClassName);
             }
             else if (mapParamName != null)
             {
                 fieldBuilder = FieldSpec.builder(ParameterizedTypeName.get((ClassName) typeName, mapParamName), fieldRO, PRIVATE)
-                    .initializer("new $T<>(new $T(), new $T())", typeName, originalMapKeyName, originalMapValueName);
+                    .initializer("new $T<>(new $T(), new $T(), new $T(), new $T())", typeName, originalMapKeyName,
+                        originalMapValueName, originalMapKeyName, originalMapValueName);
             }
             else
             {
@@ -802,6 +901,9 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         private final Byte nullValue;
         private final AstType templateType;
         private final AstByteOrder byteOrder;
+        private final boolean lazy;
+        private final int bitmaskWords;
+        private int position;
 
         private MemberAccessorGenerator(
             ClassName thisType,
@@ -809,13 +911,17 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             AstType templateType,
             TypeResolver resolver,
             Byte nullValue,
-            AstByteOrder byteOrder)
+            AstByteOrder byteOrder,
+            boolean lazy,
+            int bitmaskWords)
         {
             super(thisType, builder);
             this.resolver = resolver;
             this.nullValue = nullValue;
             this.templateType = templateType;
             this.byteOrder = byteOrder;
+            this.lazy = lazy;
+            this.bitmaskWords = bitmaskWords;
         }
 
         public MemberAccessorGenerator addMember(
@@ -840,6 +946,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 addNonPrimitiveMember(name, type, typeName, isRequired, defaultValue, arrayItemTypeName,
                     mapKeyType, mapValueType, mapParamName);
             }
+            position++;
             return this;
         }
 
@@ -849,15 +956,21 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             if (nullValue == null && templateType == null)
             {
                 MethodSpec.Builder bitmaskMethodBuilder = methodBuilder("bitmask")
-                    .addModifiers(PRIVATE)
+                    .addModifiers(PUBLIC)
                     .returns(long.class);
+                CodeBlock bitmaskOffset = CodeBlock.of("offset() + $L", offset(BIT_MASK));
+                if (bitmaskWords != 1)
+                {
+                    bitmaskMethodBuilder.addParameter(int.class, "word");
+                    bitmaskOffset = CodeBlock.of("offset() + $L + word * $T.SIZE_OF_LONG", offset(BIT_MASK), BIT_UTIL_TYPE);
+                }
                 if (byteOrder == NATIVE)
                 {
-                    bitmaskMethodBuilder.addStatement("return buffer().getLong(offset() + $L)", offset(BIT_MASK));
+                    bitmaskMethodBuilder.addStatement("return buffer().getLong($L)", bitmaskOffset);
                 }
                 else
                 {
-                    bitmaskMethodBuilder.addStatement("return buffer().getLong(offset() + $L, $T.BIG_ENDIAN)", offset(BIT_MASK),
+                    bitmaskMethodBuilder.addStatement("return buffer().getLong($L, $T.BIG_ENDIAN)", bitmaskOffset,
                         ByteOrder.class);
                 }
                 builder.addMethod(bitmaskMethodBuilder.build());
@@ -885,15 +998,18 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
 
             if (!isRequired && defaultValue == null)
             {
-                codeBlock.addStatement("assert (bitmask() & (1 << $L)) != 0 : " +
-                    "\"Field \\\"$L\\\" is not set\"", fieldIndex(name), name);
+                codeBlock.addStatement("assert ($L & $L) != 0L : " +
+                    "\"Field \\\"$L\\\" is not set\"", bitmaskWord(position, bitmaskWords), maskConstant(name), name);
             }
 
+            addResolve(codeBlock, name);
+
             codeBlock.add("$[").add("return ");
 
             if (defaultValue != null)
             {
-                codeBlock.add("(bitmask() & (1 << $L)) == 0 ? $L : ", fieldIndex(name), defaultConstant(name));
+                codeBlock.add("($L & $L) == 0L ? $L : ", bitmaskWord(position, bitmaskWords), maskConstant(name),
+                    defaultConstant(name));
             }
 
             if (generateType != type)
@@ -960,7 +1076,8 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             ClassName mapParamName)
         {
             CodeBlock.Builder codeBlock = CodeBlock.builder();
-            TypeName returnType = mapParamName == null ? typeName : ParameterizedTypeName.get((ClassName) typeName, mapParamName);
+            TypeName returnType = mapParamName == null ? resolver.resolveSpecializedType(typeName) :
+                ParameterizedTypeName.get((ClassName) typeName, mapParamName);
             AstNamedNode namedNode = resolver.resolve(type.name());
             if (namedNode == null)
             {
@@ -1047,9 +1164,10 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             String returnValue)
         {
             String returnStatement = String.format("return %s", returnValue);
-            String bitmask = nullValue == null && templateType == null ? "bitmask()" : "bitmask";
+            String bitmask = nullValue == null && templateType == null ? bitmaskWord(position, bitmaskWords) : "bitmask";
             if (defaultValue != null)
             {
+                addResolve(codeBlock, name);
                 codeBlock.addStatement("return ($L & $L) != 0L ? $LRO.get() : $L", bitmask, maskConstant(name),
                     name, defaultConstant(name));
             }
@@ -1057,32 +1175,49 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             {
                 codeBlock.addStatement("assert ($L & $L) != 0L : \"Field \\\"$L\\\" is not set\"", bitmask,
                     maskConstant(name), name);
+                addResolve(codeBlock, name);
                 codeBlock.addStatement(returnStatement, name);
             }
         }
+
+        private void addResolve(
+            CodeBlock.Builder codeBlock,
+            String name)
+        {
+            if (lazy)
+            {
+                codeBlock.beginControlFlow("if (resolvedIndex <= $L)", fieldIndex(name))
+                    .addStatement("resolve($L)", fieldIndex(name))
+                    .endControlFlow();
+            }
+        }
     }
 
     private static final class HasFieldMethodGenerator extends ClassSpecMixinGenerator
     {
         private final AstType templateType;
         private final Byte nullValue;
+        private final int bitmaskWords;
+        private int position;
 
         protected HasFieldMethodGenerator(
             ClassName thisType,
             TypeSpec.Builder builder,
             AstType templateType,
-            Byte nullValue)
+            Byte nullValue,
+            int bitmaskWords)
         {
             super(thisType, builder);
             this.templateType = templateType;
             this.nullValue = nullValue;
+            this.bitmaskWords = bitmaskWords;
         }
 
         public HasFieldMethodGenerator addMember(
             String memberName)
         {
             CodeBlock.Builder codeBlock = CodeBlock.builder();
-            String bitmask = nullValue == null && templateType == null ? "bitmask()" : "bitmask";
+            String bitmask = nullValue == null && templateType == null ? bitmaskWord(position++, bitmaskWords) : "bitmask";
             codeBlock.addStatement("return ($L & $L) != 0L", bitmask, maskConstant(memberName));
 
             builder.addMethod(methodBuilder(methodName(String.format("has%s%s", Character.toUpperCase(memberName.charAt(0)),
@@ -1101,16 +1236,22 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         private final Byte missingFieldByte;
         private final AstType templateType;
         private final ClassName templateTypeName;
+        private final boolean lazy;
+        private final int bitmaskWords;
 
         private WrapMethodGenerator(
             Byte missingFieldByte,
             AstType templateType,
-            TypeResolver resolver)
+            TypeResolver resolver,
+            boolean lazy,
+            int bitmaskWords)
         {
             super(methodBuilder("wrap"));
             this.missingFieldByte = missingFieldByte;
             this.templateType = templateType;
             this.templateTypeName = resolver.resolveClass(templateType);
+            this.lazy = lazy;
+            this.bitmaskWords = bitmaskWords;
         }
 
         public WrapMethodGenerator addMember(
@@ -1151,14 +1292,14 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 {
                     builder.addStatement("$LRO.wrap($L, fieldLimit, maxLimit)", fieldName, buffer)
                         .addStatement("fieldLimit = $LRO.limit()", fieldName)
-                        .addStatement("bitmask |= 1 << $L", fieldIndex(fieldName));
+                        .addStatement("bitmask |= $L", maskConstant(fieldName));
                 }
                 else
                 {
                     builder.beginControlFlow("if ($L.getByte(fieldLimit) != MISSING_FIELD_BYTE)", buffer)
                         .addStatement("$LRO.wrap($L, fieldLimit, maxLimit)", fieldName, buffer)
                         .addStatement("fieldLimit = $LRO.limit()", fieldName)
-                        .addStatement("bitmask |= 1 << $L", fieldIndex(fieldName))
+                        .addStatement("bitmask |= $L", maskConstant(fieldName))
                         .endControlFlow()
                         .beginControlFlow("else")
                         .addStatement("fieldLimit += MISSING_FIELD_BYTE_SIZE")
@@ -1171,18 +1312,23 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
 
         private void generateWrap()
         {
-            builder.addStatement("final long bitmask = bitmask()")
-                .addStatement("int fieldLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK))
+            if (bitmaskWords == 1)
+            {
+                builder.addStatement("final long bitmask = bitmask()");
+            }
+            builder.addStatement("int fieldLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK))
                 .beginControlFlow("for (int field = $L; field < $L + 1; field++)",
                     fieldIndex(fields.get(0).fieldName()), fieldIndex(fields.get(fields.size() - 1).fieldName()))
                 .beginControlFlow("switch (field)");
-            for (ListField field : fields)
+            for (int position = 0; position < fields.size(); position++)
             {
+                ListField field = fields.get(position);
                 String fieldName = field.fieldName();
+                String bitmask = bitmaskLocal(position, bitmaskWords);
                 builder.beginControlFlow("case $L:", fieldIndex(fieldName));
                 if (field.isRequired())
                 {
-                    builder.beginControlFlow("if ((bitmask & $L) == 0)", maskConstant(fieldName))
+                    builder.beginControlFlow("if (($L & $L) == 0)", bitmask, maskConstant(fieldName))
                         .addStatement("throw new IllegalArgumentException(\"Field \\\"$L\\\" is required but not set\")",
                             fieldName)
                         .endControlFlow();
@@ -1199,7 +1345,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 }
                 else
                 {
-                    builder.beginControlFlow("if ((bitmask & $L) != 0)", maskConstant(fieldName));
+                    builder.beginControlFlow("if (($L & $L) != 0)", bitmask, maskConstant(fieldName));
                     if (field.type().isPrimitive())
                     {
                         builder.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
@@ -1217,6 +1363,29 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             }
         }
 
+        private void generateLazyWrap()
+        {
+            if (bitmaskWords == 1 && fields.stream().anyMatch(ListField::isRequired))
+            {
+                builder.addStatement("final long bitmask = bitmask()");
+            }
+            for (int position = 0; position < fields.size(); position++)
+            {
+                ListField field = fields.get(position);
+                if (field.isRequired())
+                {
+                    String fieldName = field.fieldName();
+                    builder.beginControlFlow("if (($L & $L) == 0)", bitmaskLocal(position, bitmaskWords),
+                        maskConstant(fieldName))
+                        .addStatement("throw new IllegalArgumentException(\"Field \\\"$L\\\" is required but not set\")",
+                            fieldName)
+                        .endControlFlow();
+                }
+            }
+            builder.addStatement("resolvedIndex = $L", fieldIndex(fields.get(0).fieldName()))
+                .addStatement("resolvedLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK));
+        }
+
         @Override
         public MethodSpec generate()
         {
@@ -1237,20 +1406,323 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             }
             builder.addStatement("final int limit = limit()")
                 .addStatement("checkLimit(limit, maxLimit)");
+            if (lazy)
+            {
+                generateLazyWrap();
+            }
+            else
+            {
+                if (missingFieldByte == null && templateType == null)
+                {
+                    generateWrap();
+                }
+                else
+                {
+                    generateWrapWithDefaultNull();
+                }
+                builder.endControlFlow()
+                    .endControlFlow()
+                    .addStatement("checkLimit(fieldLimit, limit)");
+            }
+            return builder.addStatement("return this")
+                .build();
+        }
+    }
+
+    private final class LimitOfMethodGenerator extends MethodSpecGenerator
+    {
+        private final List<ListField> fields = new ArrayList<>();
+        private final Map<String, CodeBlock> fieldLimits = new HashMap<>();
+        private final TypeName lengthTypeName;
+        private final TypeName fieldCountTypeName;
+        private final Byte missingFieldByte;
+        private final AstType templateType;
+        private final ClassName templateTypeName;
+        private final TypeResolver resolver;
+        private final AstByteOrder byteOrder;
+        private final int bitmaskWords;
+
+        private LimitOfMethodGenerator(
+            TypeName lengthTypeName,
+            TypeName fieldCountTypeName,
+            Byte missingFieldByte,
+            AstType templateType,
+            TypeResolver resolver,
+            AstByteOrder byteOrder,
+            int bitmaskWords)
+        {
+            super(limitOfMethodBuilder());
+            this.lengthTypeName = lengthTypeName;
+            this.fieldCountTypeName = fieldCountTypeName;
+            this.missingFieldByte = missingFieldByte;
+            this.templateType = templateType;
+            this.templateTypeName = resolver.resolveClass(templateType);
+            this.resolver = resolver;
+            this.byteOrder = byteOrder;
+            this.bitmaskWords = bitmaskWords;
+        }
+
+        public LimitOfMethodGenerator addMember(
+            String name,
+            AstType type,
+            TypeName typeName,
+            Object defaultValue,
+            AstByteOrder byteOrder,
+            boolean isRequired,
+            AstType arrayItemTypeName,
+            AstType variantOfMapKeyType,
+            AstType variantOfMapValueType,
+            ClassName mapParamName)
+        {
+            fields.add(new ListField(name, typeName, isRequired, defaultValue));
+            if (!typeName.isPrimitive())
+            {
+                CodeBlock fieldLimit;
+                if (typeName instanceof ParameterizedTypeName)
+                {
+                    fieldLimit = CodeBlock.of("$T.limitOf(buffer, fieldLimit, limit, depth - 1)",
+                        ((ParameterizedTypeName) typeName).rawType);
+                }
+                else if (typeName instanceof ClassName && (isString16Type((ClassName) typeName) ||
+                    isString32Type((ClassName) typeName)) && byteOrder == NETWORK)
+                {
+                    fieldLimit = CodeBlock.of("$T.limitOf(buffer, fieldLimit, limit, $T.BIG_ENDIAN)", typeName,
+                        ByteOrder.class);
+                }
+                else if (variantOfMapKeyType != null)
+                {
+                    fieldLimit = CodeBlock.of("$T.limitOf(buffer, fieldLimit, limit, $T::limitOf, $T::limitOf, depth - 1)",
+                        resolver.resolveClass(type), resolver.resolveClass(variantOfMapKeyType),
+                        resolver.resolveClass(variantOfMapValueType));
+                }
+                else if (mapParamName != null)
+                {
+                    fieldLimit = CodeBlock.of("$T.limitOf(buffer, fieldLimit, limit, $T::limitOf, depth - 1)", typeName,
+                        mapParamName);
+                }
+                else
+                {
+                    fieldLimit = CodeBlock.of("$T.limitOf(buffer, fieldLimit, limit, depth - 1)",
+                        arrayItemTypeName != null ? resolver.resolveClass(type) : typeName);
+                }
+                fieldLimits.put(name, fieldLimit);
+            }
+            return this;
+        }
+
+        @Override
+        public MethodSpec generate()
+        {
+            if (templateType == null)
+            {
+                String headerName = missingFieldByte == null ? BIT_MASK : FIELD_COUNT;
+                builder.beginControlFlow("if (depth < 1)")
+                    .addStatement("return -1")
+                    .endControlFlow()
+                    .beginControlFlow("if (offset + $L + $L > maxLimit)", offset(headerName), size(headerName))
+                    .addStatement("return -2")
+                    .endControlFlow();
+                if (byteOrder == NATIVE)
+                {
+                    builder.addStatement("final int limit = offset + buffer.$L(offset + $L)", GETTER_NAMES.get(lengthTypeName),
+                        offset(LENGTH));
+                }
+                else
+                {
+                    builder.addStatement("final int limit = offset + buffer.$L(offset + $L, $T.BIG_ENDIAN)",
+                        GETTER_NAMES.get(lengthTypeName), offset(LENGTH), ByteOrder.class);
+                }
+                builder.beginControlFlow("if (limit < offset + $L + $L)", offset(headerName), size(headerName))
+                    .addStatement("return -1")
+                    .endControlFlow()
+                    .beginControlFlow("if (limit > maxLimit)")
+                    .addStatement("return -2")
+                    .endControlFlow();
+            }
+            else
+            {
+                builder.beginControlFlow("if (depth < 1)")
+                    .addStatement("return -1")
+                    .endControlFlow()
+                    .addStatement("final int limit = $T.limitOf(buffer, offset, maxLimit, depth - 1)", templateTypeName)
+                    .beginControlFlow("if (limit < 0)")
+                    .addStatement("return limit")
+                    .endControlFlow();
+            }
+
             if (missingFieldByte == null && templateType == null)
             {
-                generateWrap();
+                generateLimitOf();
             }
             else
             {
-                generateWrapWithDefaultNull();
+                generateLimitOfWithDefaultNull();
             }
             return builder.endControlFlow()
                 .endControlFlow()
-                .addStatement("checkLimit(fieldLimit, limit)")
-                .addStatement("return this")
+                .addStatement("return fieldLimit > limit ? -1 : limit")
                 .build();
         }
+
+        private void generateLimitOfWithDefaultNull()
+        {
+            if (templateType == null)
+            {
+                if (byteOrder == NATIVE)
+                {
+                    builder.addStatement("final int fieldCount = buffer.$L(offset + $L)", GETTER_NAMES.get(fieldCountTypeName),
+                        offset(FIELD_COUNT));
+                }
+                else
+                {
+                    builder.addStatement("final int fieldCount = buffer.$L(offset + $L, $T.BIG_ENDIAN)",
+                        GETTER_NAMES.get(fieldCountTypeName), offset(FIELD_COUNT), ByteOrder.class);
+                }
+                builder.addStatement("int fieldLimit = offset + $L + $L", offset(FIELD_COUNT), size(FIELD_COUNT));
+            }
+            else
+            {
+                builder.addStatement("final int fieldCount = $T.fieldCount(buffer, offset)", templateTypeName)
+                    .addStatement("int fieldLimit = $T.fieldsOffset(buffer, offset)", templateTypeName);
+            }
+            builder.beginControlFlow("if (fieldCount > $L + 1)", fieldIndex(fields.get(fields.size() - 1).fieldName()))
+                .addStatement("return -1")
+                .endControlFlow()
+                .beginControlFlow("for (int field = $L; field < fieldCount; field++)",
+                    fieldIndex(fields.get(0).fieldName()))
+                .beginControlFlow("if (fieldLimit + $T.SIZE_OF_BYTE > limit)", BIT_UTIL_TYPE)
+                .addStatement("return -1")
+                .endControlFlow()
+                .beginControlFlow("switch (field)");
+            for (ListField field : fields)
+            {
+                String fieldName = field.fieldName();
+                builder.beginControlFlow("case $L:", fieldIndex(fieldName));
+                if (field.isRequired())
+                {
+                    addFieldLimit(field);
+                }
+                else
+                {
+                    builder.beginControlFlow("if (buffer.getByte(fieldLimit) != MISSING_FIELD_BYTE)");
+                    addFieldLimit(field);
+                    builder.endControlFlow()
+                        .beginControlFlow("else")
+                        .addStatement("fieldLimit += MISSING_FIELD_BYTE_SIZE")
+                        .endControlFlow();
+                }
+                builder.addStatement("break")
+                    .endControlFlow();
+            }
+        }
+
+        private void generateLimitOf()
+        {
+            if (bitmaskWords == 1)
+            {
+                builder.addStatement("final long bitmask = $L", bitmaskWord(0));
+            }
+            builder.addStatement("int fieldLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK))
+                .beginControlFlow("for (int field = $L; field < $L + 1; field++)",
+                    fieldIndex(fields.get(0).fieldName()), fieldIndex(fields.get(fields.size() - 1).fieldName()))
+                .beginControlFlow("switch (field)");
+
+            for (int position = 0; position < fields.size(); position++)
+            {
+                ListField field = fields.get(position);
+                String fieldName = field.fieldName();
+                CodeBlock bitmask = bitmaskWords == 1 ? CodeBlock.of("bitmask") : bitmaskWord(position);
+                builder.beginControlFlow("case $L:", fieldIndex(fieldName));
+                if (field.isRequired())
+                {
+                    builder.beginControlFlow("if (($L & $L) == 0)", bitmask, maskConstant(fieldName))
+                        .addStatement("return -1")
+                        .endControlFlow();
+                    addFieldLimit(field);
+                }
+                else
+                {
+                    builder.beginControlFlow("if (($L & $L) != 0)", bitmask, maskConstant(fieldName));
+                    addFieldLimit(field);
+                    builder.endControlFlow();
+                }
+                builder.addStatement("break")
+                    .endControlFlow();
+            }
+        }
+
+        private void addFieldLimit(
+            ListField field)
+        {
+            String fieldName = field.fieldName();
+            if (field.type().isPrimitive())
+            {
+                builder.addStatement("fieldLimit += $L", fieldSize(fieldName));
+            }
+            else
+            {
+                builder.addStatement("fieldLimit = $L", fieldLimits.get(fieldName))
+                    .beginControlFlow("if (fieldLimit < 0)")
+                    .addStatement("return -1")
+                    .endControlFlow();
+            }
+        }
+
+        private CodeBlock bitmaskWord(
+            int position)
+        {
+            CodeBlock bitmaskOffset = position < Long.SIZE ? CodeBlock.of("offset + $L", offset(BIT_MASK)) :
+                CodeBlock.of("offset + $L + $L * $T.SIZE_OF_LONG", offset(BIT_MASK), position / Long.SIZE, BIT_UTIL_TYPE);
+            return byteOrder == NATIVE ? CodeBlock.of("buffer.getLong($L)", bitmaskOffset) :
+                CodeBlock.of("buffer.getLong($L, $T.BIG_ENDIAN)", bitmaskOffset, ByteOrder.class);
+        }
+    }
+
+    private final class RequiredOfMethodGenerator extends MethodSpecGenerator
+    {
+        private final TypeName lengthTypeName;
+        private final Byte missingFieldByte;
+        private final ClassName templateTypeName;
+        private final AstByteOrder byteOrder;
+
+        private RequiredOfMethodGenerator(
+            TypeName lengthTypeName,
+            Byte missingFieldByte,
+            AstType templateType,
+            TypeResolver resolver,
+            AstByteOrder byteOrder)
+        {
+            super(requiredOfMethodBuilder());
+            this.lengthTypeName = lengthTypeName;
+            this.missingFieldByte = missingFieldByte;
+            this.templateTypeName = templateType != null ? resolver.resolveClass(templateType) : null;
+            this.byteOrder = byteOrder;
+        }
+
+        @Override
+        public MethodSpec generate()
+        {
+            if (templateTypeName != null)
+            {
+                return builder.addStatement("return $T.requiredOf(buffer, offset, maxLimit)", templateTypeName)
+                    .build();
+            }
+
+            String headerName = missingFieldByte == null ? BIT_MASK : FIELD_COUNT;
+            builder.beginControlFlow("if (offset + $L + $L > maxLimit)", offset(headerName), size(headerName))
+                .addStatement("return $L + $L", offset(headerName), size(headerName))
+                .endControlFlow();
+            if (byteOrder == NATIVE)
+            {
+                builder.addStatement("return buffer.$L(offset + $L)", GETTER_NAMES.get(lengthTypeName), offset(LENGTH));
+            }
+            else
+            {
+                builder.addStatement("return buffer.$L(offset + $L, $T.BIG_ENDIAN)", GETTER_NAMES.get(lengthTypeName),
+                    offset(LENGTH), ByteOrder.class);
+            }
+            return builder.build();
+        }
     }
 
     private final class TryWrapMethodGenerator extends MethodSpecGenerator
@@ -1259,16 +1731,22 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         private final Byte missingFieldByte;
         private final AstType templateType;
         private final ClassName templateTypeName;
+        private final boolean lazy;
+        private final int bitmaskWords;
 
         private TryWrapMethodGenerator(
             Byte missingFieldByte,
             AstType templateType,
-            TypeResolver resolver)
+            TypeResolver resolver,
+            boolean lazy,
+            int bitmaskWords)
         {
             super(methodBuilder("tryWrap"));
             this.missingFieldByte = missingFieldByte;
             this.templateType = templateType;
             this.templateTypeName = resolver.resolveClass(templateType);
+            this.lazy = lazy;
+            this.bitmaskWords = bitmaskWords;
         }
 
         public TryWrapMethodGenerator addMember(
@@ -1317,12 +1795,17 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             {
                 generateTryWrapWithDefaultNull();
             }
-            return builder.endControlFlow()
+            builder.endControlFlow()
                 .endControlFlow()
                 .beginControlFlow("if (fieldLimit > limit)")
                 .addStatement("return null")
-                .endControlFlow()
-                .addStatement("return this")
+                .endControlFlow();
+            if (lazy)
+            {
+                builder.addStatement("resolvedIndex = $L + 1", fieldIndex(fields.get(fields.size() - 1).fieldName()))
+                    .addStatement("resolvedLimit = fieldLimit");
+            }
+            return builder.addStatement("return this")
                 .build();
         }
 
@@ -1356,7 +1839,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                         .addStatement("return null")
                         .endControlFlow()
                         .addStatement("fieldLimit = $LRO.limit()", fieldName)
-                        .addStatement("bitmask |= 1 << $L", fieldIndex(fieldName));
+                        .addStatement("bitmask |= $L", maskConstant(fieldName));
                 }
                 else
                 {
@@ -1365,7 +1848,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                         .addStatement("return null")
                         .endControlFlow()
                         .addStatement("fieldLimit = $LRO.limit()", fieldName)
-                        .addStatement("bitmask |= 1 << $L", fieldIndex(fieldName))
+                        .addStatement("bitmask |= $L", maskConstant(fieldName))
                         .endControlFlow()
                         .beginControlFlow("else")
                         .addStatement("fieldLimit += MISSING_FIELD_BYTE_SIZE")
@@ -1378,19 +1861,24 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
 
         private void generateTryWrap()
         {
-            builder.addStatement("final long bitmask = bitmask()")
-                .addStatement("int fieldLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK))
+            if (bitmaskWords == 1)
+            {
+                builder.addStatement("final long bitmask = bitmask()");
+            }
+            builder.addStatement("int fieldLimit = offset + $L + $L", offset(BIT_MASK), size(BIT_MASK))
                 .beginControlFlow("for (int field = $L; field < $L + 1; field++)",
                     fieldIndex(fields.get(0).fieldName()), fieldIndex(fields.get(fields.size() - 1).fieldName()))
                 .beginControlFlow("switch (field)");
 
-            for (ListField field : fields)
+            for (int position = 0; position < fields.size(); position++)
             {
+                ListField field = fields.get(position);
                 String fieldName = field.fieldName();
+                String bitmask = bitmaskLocal(position, bitmaskWords);
                 builder.beginControlFlow("case $L:", fieldIndex(fieldName));
                 if (field.isRequired())
                 {
-                    builder.beginControlFlow("if ((bitmask & $L) == 0)", maskConstant(fieldName))
+                    builder.beginControlFlow("if (($L & $L) == 0)", bitmask, maskConstant(fieldName))
                         .addStatement("return null")
                         .endControlFlow();
                     if (field.type().isPrimitive())
@@ -1408,7 +1896,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 }
                 else
                 {
-                    builder.beginControlFlow("if ((bitmask & $L) != 0)", maskConstant(fieldName));
+                    builder.beginControlFlow("if (($L & $L) != 0)", bitmask, maskConstant(fieldName));
                     if (field.type().isPrimitive())
                     {
                         builder.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
@@ -1429,6 +1917,78 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         }
     }
 
+    private final class ResolveMethodGenerator extends MethodSpecGenerator
+    {
+        private final List<ListField> fields = new ArrayList<>();
+        private final int bitmaskWords;
+
+        private ResolveMethodGenerator(
+            int bitmaskWords)
+        {
+            super(methodBuilder("resolve"));
+            this.bitmaskWords = bitmaskWords;
+        }
+
+        public ResolveMethodGenerator addMember(
+            String name,
+            TypeName type,
+            Object defaultValue,
+            boolean isRequired)
+        {
+            fields.add(new ListField(name, type, isRequired, defaultValue));
+            return this;
+        }
+
+        @Override
+        public MethodSpec generate()
+        {
+            builder.addModifiers(PRIVATE)
+                .addParameter(int.class, "index")
+                .addStatement("final $T buffer = buffer()", DIRECT_BUFFER_TYPE)
+                .addStatement("final int maxLimit = maxLimit()");
+            if (bitmaskWords == 1)
+            {
+                builder.addStatement("final long bitmask = bitmask()");
+            }
+            builder.addStatement("int fieldLimit = resolvedLimit")
+                .beginControlFlow("for (int field = resolvedIndex; field < index + 1; field++)")
+                .beginControlFlow("switch (field)");
+            for (int position = 0; position < fields.size(); position++)
+            {
+                ListField field = fields.get(position);
+                String fieldName = field.fieldName();
+                builder.beginControlFlow("case $L:", fieldIndex(fieldName));
+                if (!field.isRequired())
+                {
+                    builder.beginControlFlow("if (($L & $L) != 0)", bitmaskLocal(position, bitmaskWords),
+                        maskConstant(fieldName));
+                }
+                if (field.type().isPrimitive())
+                {
+                    builder.addStatement("optionalOffsets[$L] = fieldLimit", fieldIndex(fieldName))
+                        .addStatement("fieldLimit += $L", fieldSize(fieldName));
+                }
+                else
+                {
+                    builder.addStatement("$LRO.wrap(buffer, fieldLimit, maxLimit)", fieldName)
+                        .addStatement("fieldLimit = $LRO.limit()", fieldName);
+                }
+                if (!field.isRequired())
+                {
+                    builder.endControlFlow();
+                }
+                builder.addStatement("break")
+                    .endControlFlow();
+            }
+            return builder.endControlFlow()
+                .endControlFlow()
+                .addStatement("checkLimit(fieldLimit, limit())")
+                .addStatement("resolvedIndex = index + 1")
+                .addStatement("resolvedLimit = fieldLimit")
+                .build();
+        }
+    }
+
     private final class LimitMethodGenerator extends MethodSpecGenerator
     {
         private final TypeName lengthTypeName;
@@ -1477,88 +2037,112 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         }
     }
 
-    private final class ToStringMethodGenerator extends MethodSpecGenerator
+    private MethodSpec toStringMethod()
+    {
+        return methodBuilder("toString")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(String.class)
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private final class AppendToMethodGenerator extends MethodSpecGenerator
     {
         private final List<ListField> fields = new ArrayList<>();
+        private final Set<String> flyweightFields = new HashSet<>();
         private final Byte nullValue;
         private final AstType templateType;
+        private final TypeResolver resolver;
+        private final int bitmaskWords;
 
-        private ToStringMethodGenerator(
+        private AppendToMethodGenerator(
             Byte nullValue,
-            AstType templateType)
+            AstType templateType,
+            TypeResolver resolver,
+            int bitmaskWords)
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
-                .returns(String.class));
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class));
             this.nullValue = nullValue;
             this.templateType = templateType;
+            this.resolver = resolver;
+            this.bitmaskWords = bitmaskWords;
         }
 
-        public ToStringMethodGenerator addMember(
+        public AppendToMethodGenerator addMember(
             String name,
-            TypeName type,
+            AstType type,
+            TypeName typeName,
             Object defaultValue,
             boolean isRequired)
         {
-            fields.add(new ListField(name, type, isRequired, defaultValue));
+            fields.add(new ListField(name, typeName, isRequired, defaultValue));
+            if (!typeName.isPrimitive())
+            {
+                AstNamedNode namedNode = resolver.resolve(type.name());
+                while (namedNode != null && isTypedefType(namedNode.getKind()))
+                {
+                    namedNode = resolver.resolve(((AstTypedefNode) namedNode).originalType().name());
+                }
+                if (namedNode == null || !isEnumType(namedNode.getKind()) && !isVariantType(namedNode.getKind()))
+                {
+                    flyweightFields.add(name);
+                }
+                else if (isVariantType(namedNode.getKind()))
+                {
+                    AstType ofType = ((AstVariantNode) namedNode).of();
+                    if (resolver.resolveUnsignedType(ofType) == null && !resolver.resolveType(ofType).isPrimitive())
+                    {
+                        flyweightFields.add(name);
+                    }
+                }
+            }
             return this;
         }
 
         @Override
         public MethodSpec generate()
         {
-            String typeName = constant(baseName);
-            if (nullValue == null && templateType == null)
+            builder.addStatement("builder.append($S)", String.format("%s [bitmask=0x", constant(baseName)));
+            if (nullValue != null || templateType != null)
             {
-                builder.addStatement("final long bitmask = bitmask()");
+                builder.addStatement("appendHex(builder, bitmask)");
             }
-            for (ListField field : fields)
+            else
             {
-                if (!field.isRequired() && field.defaultValue() == null)
+                for (int word = bitmaskWords - 1; word >= 0; word--)
                 {
-                    builder.addStatement("Object $L = null", field.fieldName());
+                    builder.addStatement("appendHex(builder, $L)", bitmaskWord(word * Long.SIZE, bitmaskWords));
                 }
             }
-            builder.addStatement("StringBuilder format = new StringBuilder()")
-                .addStatement("format.append(\"$L [bitmask={0}\")", typeName);
-            int fieldIndex = 1;
             for (ListField field : fields)
             {
                 String name = field.fieldName();
-                if (field.isRequired() || field.defaultValue() != null)
-                {
-                    builder.addStatement("format.append(\", $L={$L}\")", name, fieldIndex);
-                }
-                else
+                boolean optional = !field.isRequired() && field.defaultValue() == null;
+                if (optional)
                 {
                     builder.beginControlFlow("if (has$L())", String.format("%s%s", Character.toUpperCase(name.charAt(0)),
-                        name.substring(1)))
-                        .addStatement("format.append(\", $L={$L}\")", name, fieldIndex)
-                        .addStatement("$L = $L()", name, name)
-                        .endControlFlow();
+                        name.substring(1)));
                 }
-                fieldIndex++;
-            }
-            builder.addStatement("format.append(\"]\")");
-
-            CodeBlock.Builder returnStatement = CodeBlock.builder()
-                .add("$[").add("return $T.format(format.toString(), String.format(\"0x%16X\", bitmask)",
-                    MessageFormat.class);
-            for (ListField field : fields)
-            {
-                String name = field.fieldName();
-                if (field.isRequired() || field.defaultValue() != null)
+                builder.addStatement("builder.append($S)", String.format(", %s=", name));
+                if (flyweightFields.contains(name))
                 {
-                    returnStatement.add(", $L()", name);
+                    builder.addStatement("$L().appendTo(builder)", name);
                 }
                 else
                 {
-                    returnStatement.add(", $L", name);
+                    builder.addStatement("builder.append($L())", name);
+                }
+                if (optional)
+                {
+                    builder.endControlFlow();
                 }
             }
-            returnStatement.add(");\n$]");
-            return builder.addCode(returnStatement.build())
+            return builder.addStatement("return builder.append(']')")
                 .build();
         }
     }
@@ -1585,10 +2169,11 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             TypeName lengthTypeName,
             TypeName fieldCountTypeName,
             TypeResolver resolver,
-            Byte nullValue)
+            Byte nullValue,
+            int bitmaskWords)
         {
             this(listType.nestedClass("Builder"), listFWName.nestedClass("Builder"), listType, templateType,
-                lengthTypeName, fieldCountTypeName, resolver, nullValue);
+                lengthTypeName, fieldCountTypeName, resolver, nullValue, bitmaskWords);
         }
 
         private BuilderClassGenerator(
@@ -1599,21 +2184,25 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             TypeName lengthTypeName,
             TypeName fieldCountTypeName,
             TypeResolver resolver,
-            Byte nullValue)
+            Byte nullValue,
+            int bitmaskWords)
         {
             super(thisType);
             this.listType = listType;
             this.builder = builder(listFWBuilderRawType, templateType, resolver);
-            this.fieldsMask = new FieldsMaskGenerator(thisType, builder, nullValue, templateType);
+            this.fieldsMask = new FieldsMaskGenerator(thisType, builder, nullValue, templateType, bitmaskWords);
             this.memberField = new MemberFieldGenerator(thisType, builder, resolver);
             this.templateTypeRW = new TemplateTypeRWGenerator(thisType, builder, templateType, resolver);
-            this.memberAccessor = new MemberAccessorGenerator(thisType, builder, templateType, resolver, nullValue);
-            this.memberMutator = new MemberMutatorGenerator(thisType, builder, templateType, resolver, nullValue);
+            this.memberAccessor = new MemberAccessorGenerator(thisType, builder, templateType, resolver, nullValue,
+                bitmaskWords);
+            this.memberMutator = new MemberMutatorGenerator(thisType, builder, templateType, resolver, nullValue,
+                bitmaskWords);
             this.fieldMethod = new FieldMethodGenerator(templateType, resolver);
             this.fieldsMethodWithVisitor = new FieldsMethodWithVisitorGenerator(templateType, resolver);
             this.fieldsMethodWithBuffer = new FieldsMethodWithBufferGenerator(templateType, resolver);
-            this.wrapMethod = new WrapMethodGenerator(nullValue, templateType, resolver);
-            this.buildMethod = new BuildMethodGenerator(templateType, lengthTypeName, fieldCountTypeName, nullValue, resolver);
+            this.wrapMethod = new WrapMethodGenerator(nullValue, templateType, resolver, bitmaskWords);
+            this.buildMethod = new BuildMethodGenerator(templateType, lengthTypeName, fieldCountTypeName, nullValue, resolver,
+                bitmaskWords);
         }
 
         private void addMember(
@@ -1675,27 +2264,37 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         {
             private final Byte nullValue;
             private final AstType templateType;
+            private final int bitmaskWords;
 
             protected FieldsMaskGenerator(
                 ClassName thisType,
                 Builder builder,
                 Byte nullValue,
-                AstType templateType)
+                AstType templateType,
+                int bitmaskWords)
             {
                 super(thisType, builder);
                 this.nullValue = nullValue;
                 this.templateType = templateType;
+                this.bitmaskWords = bitmaskWords;
             }
 
             @Override
             public Builder build()
             {
-                if (nullValue == null && templateType == null)
+                if (nullValue == null && templateType == null && bitmaskWords == 1)
                 {
                     builder.addField(FieldSpec.builder(long.class, "fieldsMask")
                         .addModifiers(PRIVATE)
                         .build());
                 }
+                else if (nullValue == null && templateType == null)
+                {
+                    builder.addField(FieldSpec.builder(long[].class, "fieldsMask")
+                        .addModifiers(PRIVATE, FINAL)
+                        .initializer("new long[$L]", bitmaskWords)
+                        .build());
+                }
                 else
                 {
                     builder.addField(FieldSpec.builder(int.class, "lastFieldSet")
@@ -1855,7 +2454,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             private final AstType templateType;
             private final TypeResolver resolver;
             private final Byte nullValue;
-            private long bitsOfOnes;
+            private final int bitmaskWords;
             private int position;
             private String priorRequiredFieldName = null;
             private String priorFieldName = null;
@@ -1866,13 +2465,15 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 TypeSpec.Builder builder,
                 AstType templateType,
                 TypeResolver resolver,
-                Byte nullValue)
+                Byte nullValue,
+                int bitmaskWords)
             {
                 super(thisType, builder);
                 requiredFieldPosition = new HashMap<>();
                 this.templateType = templateType;
                 this.resolver = resolver;
                 this.nullValue = nullValue;
+                this.bitmaskWords = bitmaskWords;
             }
 
             public MemberAccessorGenerator addMember(
@@ -1896,10 +2497,9 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                             addVariantType(name, className);
                         }
                     }
-                    bitsOfOnes = (bitsOfOnes << 1) | 1;
                     if (isRequired)
                     {
-                        requiredFieldPosition.put(name, 1 << position);
+                        requiredFieldPosition.put(name, position);
                         priorRequiredFieldName = name;
                     }
                     priorFieldName = name;
@@ -1917,21 +2517,21 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     .addModifiers(PRIVATE)
                     .returns(builderType);
                 String outOfOrderCheck = String.format("assert %s : \"Field \\\"$L\\\" cannot be set out of order\"",
-                    nullValue == null ? "(fieldsMask & ~$L) == 0" : "lastFieldSet < $L");
+                    nullValue == null ? "$L" : "lastFieldSet < $L");
                 methodBuilder.addStatement(outOfOrderCheck,
-                    nullValue == null ? String.format("0x%02X", bitsOfOnes) : fieldIndex(name), name);
+                    nullValue == null ? fieldsUnsetFrom(position, bitmaskWords) : fieldIndex(name), name);
                 if (priorRequiredFieldName != null)
                 {
                     int priorRequiredFieldPosition = requiredFieldPosition.get(priorRequiredFieldName);
                     if (nullValue == null)
                     {
-                        methodBuilder.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field " +
-                            "\\\"$L\\\" is not set\"", String.format("0x%02X", priorRequiredFieldPosition),
+                        methodBuilder.addStatement("assert $L : \"Prior required field " +
+                            "\\\"$L\\\" is not set\"", fieldSet(priorRequiredFieldPosition, bitmaskWords),
                             priorRequiredFieldName);
                     }
                     else
                     {
-                        if (priorRequiredFieldPosition == ((1 << position) >> 1))
+                        if (priorRequiredFieldPosition == position - 1)
                         {
                             methodBuilder.addStatement("assert lastFieldSet == $L : \"Prior required field " +
                                 "\\\"$L\\\" is not set\"", fieldIndex(priorRequiredFieldName), priorRequiredFieldName);
@@ -1973,7 +2573,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             private final AstType templateType;
             private final TypeResolver resolver;
             private final Byte nullValue;
-            private int bitsOfOnes;
+            private final int bitmaskWords;
             private int position;
             private String priorRequiredFieldName = null;
             private String priorFieldName = null;
@@ -1985,7 +2585,8 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 TypeSpec.Builder builder,
                 AstType templateType,
                 TypeResolver resolver,
-                Byte nullValue)
+                Byte nullValue,
+                int bitmaskWords)
             {
                 super(thisType, builder);
                 this.requiredFieldPosition = new HashMap<>();
@@ -1993,6 +2594,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 this.templateType = templateType;
                 this.resolver = resolver;
                 this.nullValue = nullValue;
+                this.bitmaskWords = bitmaskWords;
             }
 
             public MemberMutatorGenerator addMember(
@@ -2017,10 +2619,9 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     addNonPrimitiveMember(name, type, typeName, isRequired, arrayItemTypeName, mapKeyType, mapValueType,
                         mapParamName);
                 }
-                bitsOfOnes = (bitsOfOnes << 1) | 1;
                 if (isRequired)
                 {
-                    requiredFieldPosition.put(name, 1 << position);
+                    requiredFieldPosition.put(name, position);
                     priorRequiredFieldName = name;
                 }
                 priorFieldName = name;
@@ -2043,8 +2644,8 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
 
                 TypeName generateType = (unsignedType != null) ? unsignedType : type;
                 CodeBlock.Builder code = CodeBlock.builder();
-                code.addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" cannot be set out of order\"",
-                    String.format("0x%02X", bitsOfOnes), name);
+                code.addStatement("assert $L : \"Field \\\"$L\\\" cannot be set out of order\"",
+                    fieldsUnsetFrom(position, bitmaskWords), name);
                 if (unsignedType != null)
                 {
                     String[] range = UNSIGNED_INT_RANGES.get(type);
@@ -2097,7 +2698,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 }
                 code.add(");\n$]");
 
-                code.addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                code.addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name))
                     .addStatement("limit(newLimit)")
                     .addStatement("return this");
 
@@ -2188,18 +2789,18 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 TypeName mutatorType = ParameterizedTypeName.get(consumerType, builderType);
 
                 CodeBlock.Builder code = CodeBlock.builder();
-                code.addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" is already set or subsequent fields " +
-                            "are already set\"", String.format("0x%02X", bitsOfOnes), name);
+                code.addStatement("assert $L : \"Field \\\"$L\\\" is already set or subsequent fields " +
+                            "are already set\"", fieldsUnsetFrom(position, bitmaskWords), name);
                 if (priorRequiredFieldName != null)
                 {
-                    code.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
-                        "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
+                    code.addStatement("assert $L : \"Prior required field \\\"$L\\\" is not " +
+                        "set\"", fieldSet(requiredFieldPosition.get(priorRequiredFieldName), bitmaskWords),
                         priorRequiredFieldName);
                 }
                 code.addStatement("$T $LRW = this.$LRW.wrap(buffer(), limit(), maxLimit())", builderType, name, name)
                     .addStatement("mutator.accept($LRW)", name)
                     .addStatement("limit($LRW.build().limit())", name)
-                    .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                    .addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name))
                     .addStatement("return this");
 
                 builder.addMethod(methodBuilder(methodName(name))
@@ -2212,19 +2813,19 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 if ("Array32FW".equals(rawType.simpleName()))
                 {
                     code = CodeBlock.builder();
-                    code.addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" is already set or subsequent fields " +
-                                "are already set\"", String.format("0x%02X", bitsOfOnes), name);
+                    code.addStatement("assert $L : \"Field \\\"$L\\\" is already set or subsequent fields " +
+                                "are already set\"", fieldsUnsetFrom(position, bitmaskWords), name);
                     if (priorRequiredFieldName != null)
                     {
-                        code.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
-                            "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
+                        code.addStatement("assert $L : \"Prior required field \\\"$L\\\" is not " +
+                            "set\"", fieldSet(requiredFieldPosition.get(priorRequiredFieldName), bitmaskWords),
                             priorRequiredFieldName);
                     }
                     code.addStatement("int newLimit = limit() + field.sizeof()")
                         .addStatement("checkLimit(newLimit, maxLimit())")
                         .addStatement("buffer().putBytes(limit(), field.buffer(), field.offset(), field.sizeof())")
                         .addStatement("limit(newLimit)")
-                        .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                        .addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name))
                         .addStatement("return this");
                     builder.addMethod(methodBuilder(methodName(name))
                                           .addModifiers(PUBLIC)
@@ -2235,20 +2836,21 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
 
                     // Add a method to append list items
                     code = CodeBlock.builder();
-                    code.addStatement("assert (fieldsMask & ~$L) >= 0 : \"Field \\\"$L\\\" is already set or subsequent fields" +
-                                          " are already set\"", String.format("0x%02X", bitsOfOnes), name);
+                    code.addStatement("assert ($L & ~$L) >= 0 : \"Field \\\"$L\\\" is already set or subsequent fields" +
+                                          " are already set\"", fieldsMaskWord(position, bitmaskWords),
+                                          String.format("0x%02XL", (1L << position % Long.SIZE) - 1), name);
                     if (priorRequiredFieldName != null)
                     {
-                        code.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
-                                              "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
+                        code.addStatement("assert $L : \"Prior required field \\\"$L\\\" is not " +
+                                              "set\"", fieldSet(requiredFieldPosition.get(priorRequiredFieldName), bitmaskWords),
                             priorRequiredFieldName);
                     }
-                    code.beginControlFlow("if ((fieldsMask & ~$L) == 0)", String.format("0x%02X", bitsOfOnes))
+                    code.beginControlFlow("if ($L)", fieldsUnsetFrom(position, bitmaskWords))
                             .addStatement("$LRW.wrap(buffer(), limit(), maxLimit())", name)
                         .endControlFlow()
                         .addStatement("$LRW.item(mutator)", name)
                         .addStatement("limit($LRW.build().limit())", name)
-                        .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                        .addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name))
                         .addStatement("return this");
 
                     TypeName itemMutatorType = ParameterizedTypeName.get(consumerType, itemBuilderType);
@@ -2276,20 +2878,20 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     .addModifiers(PUBLIC)
                     .returns(thisType)
                     .addParameter(className, "value")
-                    .addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" cannot be set out of order\"",
-                        String.format("0x%02X", bitsOfOnes), name);
+                    .addStatement("assert $L : \"Field \\\"$L\\\" cannot be set out of order\"",
+                        fieldsUnsetFrom(position, bitmaskWords), name);
                 if (templateType == null)
                 {
                     if (priorRequiredFieldName != null)
                     {
-                        methodBuilder.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
-                                "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
+                        methodBuilder.addStatement("assert $L : \"Prior required field \\\"$L\\\" is not " +
+                                "set\"", fieldSet(requiredFieldPosition.get(priorRequiredFieldName), bitmaskWords),
                             priorRequiredFieldName);
                     }
                     methodBuilder.addStatement("int newLimit = limit() + value.sizeof()")
                         .addStatement("checkLimit(newLimit, maxLimit())")
                         .addStatement("buffer().putBytes(limit(), value.buffer(), value.offset(), value.sizeof())")
-                        .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                        .addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name))
                         .addStatement("limit(newLimit)")
                         .addStatement("return this");
                     builder.addMethod(methodBuilder.build());
@@ -2303,8 +2905,8 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 ClassName templateClassName = resolver.resolveClass(templateType);
                 if (templateType == null)
                 {
-                    methodBuilder.addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" cannot be set out of order\"",
-                        String.format("0x%02X", bitsOfOnes), name);
+                    methodBuilder.addStatement("assert $L : \"Field \\\"$L\\\" cannot be set out of order\"",
+                        fieldsUnsetFrom(position, bitmaskWords), name);
                 }
                 else
                 {
@@ -2314,13 +2916,13 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 if (priorRequiredFieldName != null)
                 {
                     int priorRequiredFieldPosition = requiredFieldPosition.get(priorRequiredFieldName);
-                    if (priorRequiredFieldPosition == ((1 << position) >> 1))
+                    if (priorRequiredFieldPosition == position - 1)
                     {
                         if (templateType == null)
                         {
-                            methodBuilder.addStatement("assert (fieldsMask & $L) != 0 : " +
+                            methodBuilder.addStatement("assert $L : " +
                                     "\"Prior required field \\\"$L\\\" is not " +
-                                    "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
+                                    "set\"", fieldSet(requiredFieldPosition.get(priorRequiredFieldName), bitmaskWords),
                                     priorRequiredFieldName);
                         }
                         else
@@ -2348,7 +2950,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 {
                     methodBuilder.addStatement("$T $LRW = this.$LRW.wrap(buffer(), limit(), maxLimit())", builderType, name, name)
                         .addStatement("mutator.accept($LRW)", name)
-                        .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                        .addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name))
                         .addStatement("limit($LRW.build().limit())", name);
                 }
                 else
@@ -2361,7 +2963,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 }
                 if (nullValue == null && templateType == null)
                 {
-                    methodBuilder.addStatement("fieldsMask |= $L", maskConstant(name));
+                    methodBuilder.addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name));
                 }
                 else
                 {
@@ -2416,7 +3018,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     if (priorRequiredFieldName != null)
                     {
                         int priorRequiredFieldPosition = requiredFieldPosition.get(priorRequiredFieldName);
-                        if (priorRequiredFieldPosition == ((1 << position) >> 1))
+                        if (priorRequiredFieldPosition == position - 1)
                         {
                             methodBuilder.addStatement("assert lastFieldSet == $L : \"Prior required field " +
                                 "\\\"$L\\\" is not set\"", fieldIndex(priorRequiredFieldName), priorRequiredFieldName);
@@ -2467,7 +3069,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
 
                 if (nullValue == null && templateType == null)
                 {
-                    methodBuilder.addStatement("fieldsMask |= $L", maskConstant(name));
+                    methodBuilder.addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name));
                 }
                 else
                 {
@@ -2502,7 +3104,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 if (priorRequiredFieldName != null)
                 {
                     int priorRequiredFieldPosition = requiredFieldPosition.get(priorRequiredFieldName);
-                    if (priorRequiredFieldPosition == ((1 << position) >> 1))
+                    if (priorRequiredFieldPosition == position - 1)
                     {
                         methodBuilder.addStatement("assert lastFieldSet == $L : \"Prior required field " +
                             "\\\"$L\\\" is not set\"", fieldIndex(priorRequiredFieldName), priorRequiredFieldName);
@@ -2530,7 +3132,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
 
                 if (nullValue == null && templateType == null)
                 {
-                    methodBuilder.addStatement("fieldsMask |= $L", maskConstant(name));
+                    methodBuilder.addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name));
                 }
                 else
                 {
@@ -2565,7 +3167,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 if (priorRequiredFieldName != null)
                 {
                     int priorRequiredFieldPosition = requiredFieldPosition.get(priorRequiredFieldName);
-                    if (priorRequiredFieldPosition == ((1 << position) >> 1))
+                    if (priorRequiredFieldPosition == position - 1)
                     {
                         methodBuilder.addStatement("assert lastFieldSet == $L : \"Prior required field " +
                             "\\\"$L\\\" is not set\"", fieldIndex(priorRequiredFieldName), priorRequiredFieldName);
@@ -2591,7 +3193,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
 
                 if (nullValue == null && templateType == null)
                 {
-                    methodBuilder.addStatement("fieldsMask |= $L", maskConstant(name));
+                    methodBuilder.addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name));
                 }
                 else
                 {
@@ -2619,7 +3221,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 if (priorRequiredFieldName != null)
                 {
                     int priorRequiredFieldPosition = requiredFieldPosition.get(priorRequiredFieldName);
-                    if (priorRequiredFieldPosition == ((1 << position) >> 1))
+                    if (priorRequiredFieldPosition == position - 1)
                     {
                         defaultNullMethod.addStatement("assert lastFieldSet == $L : \"Prior required field " +
                             "\\\"$L\\\" is not set\";", fieldIndex(priorRequiredFieldName), priorRequiredFieldName);
@@ -2678,8 +3280,8 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
 
                 if (templateType == null)
                 {
-                    methodBuilder.addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" cannot be set out of order\"",
-                        String.format("0x%02X", bitsOfOnes), name);
+                    methodBuilder.addStatement("assert $L : \"Field \\\"$L\\\" cannot be set out of order\"",
+                        fieldsUnsetFrom(position, bitmaskWords), name);
                 }
                 else
                 {
@@ -2692,13 +3294,13 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     int priorRequiredFieldPosition = requiredFieldPosition.get(priorRequiredFieldName);
                     if (nullValue == null && templateType == null)
                     {
-                        methodBuilder.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field " +
-                                "\\\"$L\\\" is not set\"", String.format("0x%02X", priorRequiredFieldPosition),
+                        methodBuilder.addStatement("assert $L : \"Prior required field " +
+                                "\\\"$L\\\" is not set\"", fieldSet(priorRequiredFieldPosition, bitmaskWords),
                             priorRequiredFieldName);
                     }
                     else
                     {
-                        if (priorRequiredFieldPosition == ((1 << position) >> 1))
+                        if (priorRequiredFieldPosition == position - 1)
                         {
                             methodBuilder.addStatement("assert lastFieldSet == $L : \"Prior required field " +
                                 "\\\"$L\\\" is not set\"", fieldIndex(priorRequiredFieldName), priorRequiredFieldName);
@@ -2725,7 +3327,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                         .addStatement("int newLimit = limit() + value.sizeof()")
                         .addStatement("checkLimit(newLimit, maxLimit())")
                         .addStatement("buffer().putBytes(limit(), value.buffer(), value.offset(), value.sizeof())")
-                        .addStatement("fieldsMask |= $L", maskConstant(name));
+                        .addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name));
                 }
                 else
                 {
@@ -2762,8 +3364,8 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
 
                 if (templateType == null)
                 {
-                    methodBuilder.addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" cannot be set out of order\"",
-                        String.format("0x%02X", bitsOfOnes), name);
+                    methodBuilder.addStatement("assert $L : \"Field \\\"$L\\\" cannot be set out of order\"",
+                        fieldsUnsetFrom(position, bitmaskWords), name);
                 }
                 else
                 {
@@ -2776,13 +3378,13 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     int priorRequiredFieldPosition = requiredFieldPosition.get(priorRequiredFieldName);
                     if (nullValue == null && templateType == null)
                     {
-                        methodBuilder.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field " +
-                                "\\\"$L\\\" is not set\"", String.format("0x%02X", priorRequiredFieldPosition),
+                        methodBuilder.addStatement("assert $L : \"Prior required field " +
+                                "\\\"$L\\\" is not set\"", fieldSet(priorRequiredFieldPosition, bitmaskWords),
                             priorRequiredFieldName);
                     }
                     else
                     {
-                        if (priorRequiredFieldPosition == ((1 << position) >> 1))
+                        if (priorRequiredFieldPosition == position - 1)
                         {
                             methodBuilder.addStatement("assert lastFieldSet == $L : \"Prior required field " +
                                 "\\\"$L\\\" is not set\"", fieldIndex(priorRequiredFieldName), priorRequiredFieldName);
@@ -2816,7 +3418,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     {
                         methodBuilder.addStatement("$LRW.set(value)", name);
                     }
-                    methodBuilder.addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                    methodBuilder.addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name))
                         .addStatement("limit($LRW.build().limit())", name);
                 }
                 else
@@ -2841,17 +3443,17 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     .addModifiers(PUBLIC)
                     .returns(thisType)
                     .addParameter(String.class, "value")
-                    .addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" is already set or subsequent fields " +
-                        "are already set\"", String.format("0x%02X", bitsOfOnes), name);
+                    .addStatement("assert $L : \"Field \\\"$L\\\" is already set or subsequent fields " +
+                        "are already set\"", fieldsUnsetFrom(position, bitmaskWords), name);
                 if (priorRequiredFieldName != null)
                 {
-                    methodBuilder.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
-                        "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
+                    methodBuilder.addStatement("assert $L : \"Prior required field \\\"$L\\\" is not " +
+                        "set\"", fieldSet(requiredFieldPosition.get(priorRequiredFieldName), bitmaskWords),
                         priorRequiredFieldName);
                 }
                 methodBuilder.addStatement("$T $LRW = $L()", builderType, name, methodName(name))
                     .addStatement("$LRW.set(value, $T.UTF_8)", name, StandardCharsets.class)
-                    .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                    .addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name))
                     .addStatement("limit($LRW.build().limit())", name)
                     .addStatement("return this");
                 builder.addMethod(methodBuilder.build());
@@ -2861,17 +3463,17 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     .addModifiers(PUBLIC)
                     .returns(thisType)
                     .addParameter(className, "value")
-                    .addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" is already set or subsequent fields " +
-                        "are already set\"", String.format("0x%02X", bitsOfOnes), name);
+                    .addStatement("assert $L : \"Field \\\"$L\\\" is already set or subsequent fields " +
+                        "are already set\"", fieldsUnsetFrom(position, bitmaskWords), name);
                 if (priorRequiredFieldName != null)
                 {
-                    methodBuilder.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
-                        "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
+                    methodBuilder.addStatement("assert $L : \"Prior required field \\\"$L\\\" is not " +
+                        "set\"", fieldSet(requiredFieldPosition.get(priorRequiredFieldName), bitmaskWords),
                         priorRequiredFieldName);
                 }
                 methodBuilder.addStatement("$T $LRW = $L()", builderType, name, methodName(name))
                     .addStatement("$LRW.set(value)", name)
-                    .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                    .addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name))
                     .addStatement("limit($LRW.build().limit())", name)
                     .addStatement("return this");
                 builder.addMethod(methodBuilder.build());
@@ -2882,17 +3484,17 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                     .addParameter(DIRECT_BUFFER_TYPE, "buffer")
                     .addParameter(int.class, "offset")
                     .addParameter(int.class, "length")
-                    .addStatement("assert (fieldsMask & ~$L) == 0 : \"Field \\\"$L\\\" is already set or subsequent fields " +
-                        "are already set\"", String.format("0x%02X", bitsOfOnes), name);
+                    .addStatement("assert $L : \"Field \\\"$L\\\" is already set or subsequent fields " +
+                        "are already set\"", fieldsUnsetFrom(position, bitmaskWords), name);
                 if (priorRequiredFieldName != null)
                 {
-                    methodBuilder.addStatement("assert (fieldsMask & $L) != 0 : \"Prior required field \\\"$L\\\" is not " +
-                        "set\"", String.format("0x%02X", requiredFieldPosition.get(priorRequiredFieldName)),
+                    methodBuilder.addStatement("assert $L : \"Prior required field \\\"$L\\\" is not " +
+                        "set\"", fieldSet(requiredFieldPosition.get(priorRequiredFieldName), bitmaskWords),
                         priorRequiredFieldName);
                 }
                 methodBuilder.addStatement("$T $LRW = $L()", builderType, name, methodName(name))
                     .addStatement("$LRW.set(buffer, offset, length)", name)
-                    .addStatement("fieldsMask |= 1 << $L", fieldIndex(name))
+                    .addStatement("$L |= $L", fieldsMaskWord(position, bitmaskWords), maskConstant(name))
                     .addStatement("limit($LRW.build().limit())", name)
                     .addStatement("return this");
                 builder.addMethod(methodBuilder.build());
@@ -2905,7 +3507,6 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 {
                     builder.addMethod(defaultNullMutators.get(i));
                 }
-                bitsOfOnes = 0;
                 position = 0;
                 if (templateType != null)
                 {
@@ -3083,11 +3684,13 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             private final Byte nullValue;
             private final AstType templateType;
             private final TypeResolver resolver;
+            private final int bitmaskWords;
 
             private WrapMethodGenerator(
                 Byte nullValue,
                 AstType templateType,
-                TypeResolver resolver)
+                TypeResolver resolver,
+                int bitmaskWords)
             {
                 super(methodBuilder("wrap")
                     .addAnnotation(Override.class)
@@ -3099,6 +3702,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 this.nullValue = nullValue;
                 this.templateType = templateType;
                 this.resolver = resolver;
+                this.bitmaskWords = bitmaskWords;
             }
 
             @Override
@@ -3107,8 +3711,19 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 builder.addStatement("super.wrap(buffer, offset, maxLimit)");
                 if (templateType == null)
                 {
-                    builder.addStatement(nullValue == null ? "fieldsMask = 0" : "lastFieldSet = -1")
-                        .addStatement("int newLimit = limit() + $L", offset(FIRST_FIELD))
+                    if (nullValue != null)
+                    {
+                        builder.addStatement("lastFieldSet = -1");
+                    }
+                    else if (bitmaskWords == 1)
+                    {
+                        builder.addStatement("fieldsMask = 0");
+                    }
+                    else
+                    {
+                        builder.addStatement("$T.fill(fieldsMask, 0L)", Arrays.class);
+                    }
+                    builder.addStatement("int newLimit = limit() + $L", offset(FIRST_FIELD))
                         .addStatement("checkLimit(newLimit, maxLimit())")
                         .addStatement("limit(newLimit)");
                 }
@@ -3128,6 +3743,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             private final TypeName lengthTypeName;
             private final TypeName fieldCountTypeName;
             private final Byte nullValue;
+            private final int bitmaskWords;
             private AstByteOrder byteOrder;
             private int position;
             private Map<String, Integer> requiredFieldPosition;
@@ -3137,7 +3753,8 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 TypeName lengthTypeName,
                 TypeName fieldCountTypeName,
                 Byte nullValue,
-                TypeResolver resolver)
+                TypeResolver resolver,
+                int bitmaskWords)
             {
                 super(methodBuilder("build")
                     .addAnnotation(Override.class)
@@ -3149,6 +3766,7 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 this.lengthTypeName = lengthTypeName;
                 this.fieldCountTypeName = fieldCountTypeName;
                 this.nullValue = nullValue;
+                this.bitmaskWords = bitmaskWords;
                 this.byteOrder = NATIVE;
             }
 
@@ -3165,9 +3783,9 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
                 {
                     if (nullValue == null && templateType == null)
                     {
-                        requiredFieldPosition.put(name, 1 << position);
-                        builder.addStatement("assert (fieldsMask & $L) != 0 : \"Required field \\\"$L\\\" is not " +
-                            "set\"", String.format("0x%02X", requiredFieldPosition.get(name)), name);
+                        requiredFieldPosition.put(name, position);
+                        builder.addStatement("assert $L : \"Required field \\\"$L\\\" is not " +
+                            "set\"", fieldSet(requiredFieldPosition.get(name), bitmaskWords), name);
                     }
                     else
                     {
@@ -3202,29 +3820,52 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
             private MethodSpec generateBuild(
                 String putLength)
             {
+                final String fieldCount = bitmaskWords == 1 ? "Long.bitCount(fieldsMask)" : fieldsMaskBitCount();
                 final String putFieldCount = fieldCountTypeName.equals(TypeName.BYTE) ? "buffer().$L(offset() " +
-                    "+ $L, (byte) (Long.bitCount(fieldsMask)))" : String.format("buffer().$L(offset() + $L, Long.bitCount" +
-                    "(fieldsMask)%s)", byteOrder == NATIVE ? "" : ", $T.BIG_ENDIAN");
+                    "+ $L, (byte) (" + fieldCount + "))" : String.format("buffer().$L(offset() + $L, %s%s)", fieldCount,
+                    byteOrder == NATIVE ? "" : ", $T.BIG_ENDIAN");
                 if (byteOrder == NETWORK && !fieldCountTypeName.equals(TypeName.BYTE))
                 {
                     builder
                         .addStatement(putLength, PUTTER_NAMES.get(lengthTypeName), offset(LENGTH), ByteOrder.class)
-                        .addStatement(putFieldCount, PUTTER_NAMES.get(fieldCountTypeName), offset(FIELD_COUNT), ByteOrder.class)
-                        .addStatement("buffer().putLong(offset() + $L, fieldsMask, $T.BIG_ENDIAN)", offset(BIT_MASK),
-                            ByteOrder.class);
+                        .addStatement(putFieldCount, PUTTER_NAMES.get(fieldCountTypeName), offset(FIELD_COUNT), ByteOrder.class);
                 }
                 else
                 {
                     builder
                         .addStatement(putLength, PUTTER_NAMES.get(lengthTypeName), offset(LENGTH))
-                        .addStatement(putFieldCount, PUTTER_NAMES.get(fieldCountTypeName), offset(FIELD_COUNT))
-                        .addStatement("buffer().putLong(offset() + $L, fieldsMask)", offset(BIT_MASK));
+                        .addStatement(putFieldCount, PUTTER_NAMES.get(fieldCountTypeName), offset(FIELD_COUNT));
+                }
+                for (int word = 0; word < bitmaskWords; word++)
+                {
+                    final CodeBlock bitmaskOffset = word == 0 ? CodeBlock.of("$L", offset(BIT_MASK)) :
+                        CodeBlock.of("$L + $L * $T.SIZE_OF_LONG", offset(BIT_MASK), word, BIT_UTIL_TYPE);
+                    final String fieldsMaskWord = fieldsMaskWord(word * Long.SIZE, bitmaskWords);
+                    if (byteOrder == NETWORK)
+                    {
+                        builder.addStatement("buffer().putLong(offset() + $L, $L, $T.BIG_ENDIAN)", bitmaskOffset, fieldsMaskWord,
+                            ByteOrder.class);
+                    }
+                    else
+                    {
+                        builder.addStatement("buffer().putLong(offset() + $L, $L)", bitmaskOffset, fieldsMaskWord);
+                    }
                 }
                 return builder
                     .addStatement("return super.build()")
                     .build();
             }
 
+            private String fieldsMaskBitCount()
+            {
+                StringBuilder bitCount = new StringBuilder("Long.bitCount(fieldsMask[0])");
+                for (int word = 1; word < bitmaskWords; word++)
+                {
+                    bitCount.append(String.format(" + Long.bitCount(fieldsMask[%d])", word));
+                }
+                return bitCount.toString();
+            }
+
             private MethodSpec generateBuildWithDefaultNull(
                 String putLength)
             {
@@ -3410,6 +4051,47 @@ public final class ListFlyweightGenerator extends ClassSpecGenerator
         return String.format("INDEX_%s", constant(fieldName));
     }
 
+    private static String bitmaskWord(
+        int position,
+        int bitmaskWords)
+    {
+        return bitmaskWords == 1 ? "bitmask()" : String.format("bitmask(%d)", position / Long.SIZE);
+    }
+
+    private static String bitmaskLocal(
+        int position,
+        int bitmaskWords)
+    {
+        return bitmaskWords == 1 ? "bitmask" : bitmaskWord(position, bitmaskWords);
+    }
+
+    private static String fieldsMaskWord(
+        int position,
+        int bitmaskWords)
+    {
+        return bitmaskWords == 1 ? "fieldsMask" : String.format("fieldsMask[%d]", position / Long.SIZE);
+    }
+
+    private static String fieldSet(
+        int position,
+        int bitmaskWords)
+    {
+        return String.format("(%s & 0x%02XL) != 0", fieldsMaskWord(position, bitmaskWords), 1L << position % Long.SIZE);
+    }
+
+    private static String fieldsUnsetFrom(
+        int position,
+        int bitmaskWords)
+    {
+        StringBuilder condition = new StringBuilder(String.format("(%s & ~0x%02XL) == 0",
+            fieldsMaskWord(position, bitmaskWords), (1L << position % Long.SIZE) - 1));
+        for (int word = position / Long.SIZE + 1; word < bitmaskWords; word++)
+        {
+            condition.append(String.format(" && fieldsMask[%d] == 0", word));
+        }
+        return condition.toString();
+    }
+
     private static String defaultMethodName(
         String name)
     {
@@ -22,17 +22,28 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NETWORK;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.byteOrderArgument;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.byteOrderConstant;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfByteOrderMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfByteOrderMethodBuilder;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.HASHING_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder;
+
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -45,23 +56,30 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
     private final TypeSpec.Builder classBuilder;
     private final TypeVariableName typeVarK;
     private final TypeVariableName typeVarV;
+    private final ClassName validatorType;
     private final BuilderClassBuilder builderClassBuilder;
+    private final AstByteOrder byteOrder;
+    private final CodeBlock byteOrderArgument;
 
     public Map16FWGenerator(
         ClassName flyweightType,
-        ParameterizedTypeName mapType)
+        ParameterizedTypeName mapType,
+        AstByteOrder byteOrder)
     {
-        super(ParameterizedTypeName.get(flyweightType.peerClass("Map16FW"),
+        super(ParameterizedTypeName.get(flyweightType.peerClass(byteOrder == NETWORK ? "NetworkMap16FW" : "Map16FW"),
                 TypeVariableName.get("K", flyweightType), TypeVariableName.get("V", flyweightType)));
+        this.byteOrder = byteOrder;
+        this.byteOrderArgument = byteOrderArgument(byteOrder);
         this.typeVarK = (TypeVariableName) thisName.typeArguments.get(0);
         this.typeVarV = (TypeVariableName) thisName.typeArguments.get(1);
+        this.validatorType = flyweightType.nestedClass("Validator");
         this.classBuilder = classBuilder(thisRawName)
             .superclass(mapType)
             .addModifiers(PUBLIC, FINAL)
             .addTypeVariable(typeVarK)
             .addTypeVariable(typeVarV);
 
-        this.builderClassBuilder = new BuilderClassBuilder(thisName, mapType, flyweightType);
+        this.builderClassBuilder = new BuilderClassBuilder(thisName, mapType, flyweightType, byteOrderArgument);
     }
 
     @Override
@@ -74,19 +92,36 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .addField(fieldCountOffsetConstant())
             .addField(fieldsOffsetConstant())
             .addField(lengthMaxValueConstant())
-            .addField(byteOrderField())
             .addField(keyField())
             .addField(valueField())
+            .addField(lookupKeyField())
+            .addField(lookupValueField())
             .addField(entriesField())
+            .addField(emptyKeyIndexConstant())
+            .addField(keyOffsetsField())
+            .addField(valueOffsetsField())
+            .addField(keyHashesField())
+            .addField(keyIndexMaskField())
             .addMethod(constructor())
-            .addMethod(constructorWithByteOrder())
+            .addMethod(lookupConstructor())
             .addMethod(lengthMethod())
             .addMethod(fieldCountMethod())
             .addMethod(entriesMethod())
             .addMethod(forEachMethod())
+            .addMethod(getMethod())
+            .addMethod(containsKeyMethod())
+            .addMethod(keySlotMethod())
+            .addMethod(buildKeyIndexMethod())
+            .addMethod(limitOfMethod())
+            .addMethod(limitOfWithDepthMethod())
+            .addMethod(limitOfWithByteOrderMethod())
+            .addMethod(requiredOfByteOrderMethod(byteOrder))
+            .addMethod(requiredOfWithByteOrderMethod())
+            .addMethod(requiredMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
             .addMethod(limitMethod())
+            .addMethod(appendToMethod())
             .addMethod(toStringMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -134,12 +169,6 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
-    private FieldSpec byteOrderField()
-    {
-        return FieldSpec.builder(ByteOrder.class, "byteOrder", PRIVATE, FINAL)
-            .build();
-    }
-
     private FieldSpec keyField()
     {
         return FieldSpec.builder(typeVarK, "keyRO", PRIVATE, FINAL)
@@ -152,6 +181,18 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private FieldSpec lookupKeyField()
+    {
+        return FieldSpec.builder(typeVarK, "lookupKeyRO", PRIVATE, FINAL)
+            .build();
+    }
+
+    private FieldSpec lookupValueField()
+    {
+        return FieldSpec.builder(typeVarV, "lookupValueRO", PRIVATE, FINAL)
+            .build();
+    }
+
     private FieldSpec entriesField()
     {
         return FieldSpec.builder(DIRECT_BUFFER_TYPE, "entriesRO", PRIVATE, FINAL)
@@ -159,28 +200,62 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private FieldSpec emptyKeyIndexConstant()
+    {
+        return FieldSpec.builder(int[].class, "EMPTY_KEY_INDEX", PRIVATE, STATIC, FINAL)
+            .initializer("new int[0]")
+            .build();
+    }
+
+    private FieldSpec keyOffsetsField()
+    {
+        return FieldSpec.builder(int[].class, "keyOffsets", PRIVATE)
+            .initializer("EMPTY_KEY_INDEX")
+            .build();
+    }
+
+    private FieldSpec valueOffsetsField()
+    {
+        return FieldSpec.builder(int[].class, "valueOffsets", PRIVATE)
+            .initializer("EMPTY_KEY_INDEX")
+            .build();
+    }
+
+    private FieldSpec keyHashesField()
+    {
+        return FieldSpec.builder(int[].class, "keyHashes", PRIVATE)
+            .initializer("EMPTY_KEY_INDEX")
+            .build();
+    }
+
+    private FieldSpec keyIndexMaskField()
+    {
+        return FieldSpec.builder(int.class, "keyIndexMask", PRIVATE)
+            .build();
+    }
+
     private MethodSpec constructor()
     {
         return constructorBuilder()
             .addModifiers(PUBLIC)
             .addParameter(typeVarK, "keyRO")
             .addParameter(typeVarV, "valueRO")
-            .addStatement("this.keyRO = keyRO")
-            .addStatement("this.valueRO = valueRO")
-            .addStatement("this.byteOrder = $T.nativeOrder()", ByteOrder.class)
+            .addStatement("this(keyRO, valueRO, keyRO, valueRO)")
             .build();
     }
 
-    private MethodSpec constructorWithByteOrder()
+    private MethodSpec lookupConstructor()
     {
         return constructorBuilder()
             .addModifiers(PUBLIC)
             .addParameter(typeVarK, "keyRO")
             .addParameter(typeVarV, "valueRO")
-            .addParameter(ByteOrder.class, "byteOrder")
+            .addParameter(typeVarK, "lookupKeyRO")
+            .addParameter(typeVarV, "lookupValueRO")
             .addStatement("this.keyRO = keyRO")
             .addStatement("this.valueRO = valueRO")
-            .addStatement("this.byteOrder = byteOrder")
+            .addStatement("this.lookupKeyRO = lookupKeyRO")
+            .addStatement("this.lookupValueRO = lookupValueRO")
             .build();
     }
 
@@ -190,7 +265,7 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(int.class)
-            .addStatement("return buffer().getShort(offset() + LENGTH_OFFSET, byteOrder)")
+            .addStatement("return buffer().getShort(offset() + LENGTH_OFFSET$L)", byteOrderArgument)
             .build();
     }
 
@@ -200,7 +275,7 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(int.class)
-            .addStatement("return buffer().getShort(offset() + FIELD_COUNT_OFFSET, byteOrder)")
+            .addStatement("return buffer().getShort(offset() + FIELD_COUNT_OFFSET$L)", byteOrderArgument)
             .build();
     }
 
@@ -234,6 +309,170 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec getMethod()
+    {
+        return methodBuilder("get")
+            .addAnnotation(Override.class)
+            .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "\"unchecked\"").build())
+            .addModifiers(PUBLIC)
+            .addParameter(typeVarK, "key")
+            .returns(typeVarV)
+            .addStatement("final int slot = keySlot(key)")
+            .addStatement("return slot == -1 ? null : (V) lookupValueRO.wrap(buffer(), valueOffsets[slot], limit())")
+            .build();
+    }
+
+    private MethodSpec containsKeyMethod()
+    {
+        return methodBuilder("containsKey")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(typeVarK, "key")
+            .returns(boolean.class)
+            .addStatement("return keySlot(key) != -1")
+            .build();
+    }
+
+    private MethodSpec keySlotMethod()
+    {
+        return methodBuilder("keySlot")
+            .addModifiers(PRIVATE)
+            .addParameter(typeVarK, "key")
+            .returns(int.class)
+            .addStatement("final int hash = key.hashCode()")
+            .addStatement("final $T keyBuffer = key.buffer()", DIRECT_BUFFER_TYPE)
+            .addStatement("final int keyOffset = key.offset()")
+            .addStatement("final int keyLength = key.sizeof()")
+            .beginControlFlow("if (keyIndexMask == 0)")
+            .addStatement("buildKeyIndex()")
+            .endControlFlow()
+            .addStatement("final int mask = keyIndexMask")
+            .beginControlFlow("for (int slot = $T.hash(hash, mask); keyOffsets[slot] != 0; slot = (slot + 1) & mask)",
+                HASHING_TYPE)
+            .beginControlFlow("if (keyHashes[slot] == hash && valueOffsets[slot] - keyOffsets[slot] == keyLength && " +
+                "equals(buffer(), keyOffsets[slot], keyBuffer, keyOffset, keyLength))")
+            .addStatement("return slot")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return -1")
+            .build();
+    }
+
+    private MethodSpec buildKeyIndexMethod()
+    {
+        return methodBuilder("buildKeyIndex")
+            .addModifiers(PRIVATE)
+            .addStatement("final int entryCount = fieldCount() >> 1")
+            .addStatement("final int capacity = $T.findNextPositivePowerOfTwo(Math.max(entryCount << 1, 2))", BIT_UTIL_TYPE)
+            .beginControlFlow("if (keyOffsets.length < capacity)")
+            .addStatement("keyOffsets = new int[capacity]")
+            .addStatement("valueOffsets = new int[capacity]")
+            .addStatement("keyHashes = new int[capacity]")
+            .nextControlFlow("else")
+            .addStatement("$T.fill(keyOffsets, 0, capacity, 0)", Arrays.class)
+            .endControlFlow()
+            .addStatement("final int mask = capacity - 1")
+            .addStatement("int entryOffset = offset() + FIELDS_OFFSET")
+            .beginControlFlow("for (int i = 0; i < entryCount; i++)")
+            .addStatement("final Flyweight key = lookupKeyRO.wrap(buffer(), entryOffset, limit())")
+            .addStatement("final int hash = key.hashCode()")
+            .addStatement("int slot = $T.hash(hash, mask)", HASHING_TYPE)
+            .beginControlFlow("while (keyOffsets[slot] != 0)")
+            .addStatement("slot = (slot + 1) & mask")
+            .endControlFlow()
+            .addStatement("keyOffsets[slot] = entryOffset")
+            .addStatement("valueOffsets[slot] = key.limit()")
+            .addStatement("keyHashes[slot] = hash")
+            .addStatement("entryOffset = lookupValueRO.wrap(buffer(), key.limit(), limit()).limit()")
+            .endControlFlow()
+            .addStatement("keyIndexMask = mask")
+            .build();
+    }
+
+    private MethodSpec limitOfMethod()
+    {
+        return methodBuilder("limitOf")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "maxLimit")
+            .addParameter(validatorType, "keyValidator")
+            .addParameter(validatorType, "valueValidator")
+            .returns(int.class)
+            .addStatement("return Math.max(limitOf(buffer, offset, maxLimit, keyValidator, valueValidator, " +
+                "DEFAULT_MAX_DEPTH), -1)")
+            .build();
+    }
+
+    private MethodSpec limitOfWithDepthMethod()
+    {
+        return methodBuilder("limitOf")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "maxLimit")
+            .addParameter(validatorType, "keyValidator")
+            .addParameter(validatorType, "valueValidator")
+            .addParameter(int.class, "depth")
+            .returns(int.class)
+            .addStatement("return limitOf(buffer, offset, maxLimit, keyValidator, valueValidator, $L, depth)",
+                byteOrderConstant(byteOrder))
+            .build();
+    }
+
+    private MethodSpec limitOfWithByteOrderMethod()
+    {
+        return methodBuilder("limitOf")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "maxLimit")
+            .addParameter(validatorType, "keyValidator")
+            .addParameter(validatorType, "valueValidator")
+            .addParameter(ByteOrder.class, "byteOrder")
+            .addParameter(int.class, "depth")
+            .returns(int.class)
+            .beginControlFlow("if (depth < 1)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return -2")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getShort(offset + LENGTH_OFFSET, byteOrder)")
+            .addStatement("final int limit = offset + LENGTH_SIZE + length")
+            .beginControlFlow("if (length < FIELD_COUNT_SIZE)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .beginControlFlow("if (limit > maxLimit)")
+            .addStatement("return -2")
+            .endControlFlow()
+            .addStatement("final int fieldCount = buffer.getShort(offset + FIELD_COUNT_OFFSET, byteOrder)")
+            .addStatement("int entryOffset = offset + FIELDS_OFFSET")
+            .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
+            .addStatement("final int keyLimit = keyValidator.limitOf(buffer, entryOffset, limit, depth - 1)")
+            .beginControlFlow("if (keyLimit < 0)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .addStatement("entryOffset = valueValidator.limitOf(buffer, keyLimit, limit, depth - 1)")
+            .beginControlFlow("if (entryOffset < 0)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return limit")
+            .build();
+    }
+
+    private MethodSpec requiredOfWithByteOrderMethod()
+    {
+        return requiredOfByteOrderMethodBuilder()
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return FIELDS_OFFSET")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getShort(offset + LENGTH_OFFSET, byteOrder)")
+            .addStatement("return LENGTH_SIZE + length")
+            .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -247,6 +486,7 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .beginControlFlow("if (super.tryWrap(buffer, offset, maxLimit) == null)")
             .addStatement("return null")
             .endControlFlow()
+            .addStatement("keyIndexMask = 0")
             .addStatement("int entryOffset = offset + FIELDS_OFFSET")
             .addStatement("int fieldCount = fieldCount()")
             .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
@@ -280,6 +520,7 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .addParameter(int.class, "maxLimit")
             .returns(thisName)
             .addStatement("super.wrap(buffer, offset, maxLimit)")
+            .addStatement("keyIndexMask = 0")
             .addStatement("int entryOffset = offset + FIELDS_OFFSET")
             .addStatement("int fieldCount = fieldCount()")
             .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
@@ -304,13 +545,24 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(StringBuilder.class, "builder")
+            .returns(StringBuilder.class)
+            .addStatement("return builder.append(\"map16<\").append(length()).append(\", \").append(fieldCount()).append('>')")
+            .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"map16<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
             .build();
     }
 
@@ -323,16 +575,19 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
         private final TypeVariableName typeVarVB;
         private final TypeVariableName typeVarV;
         private final TypeName parameterizedBuilderType;
+        private final CodeBlock byteOrderArgument;
 
         private BuilderClassBuilder(
             ParameterizedTypeName map16Type,
             ParameterizedTypeName mapType,
-            ClassName flyweightType)
+            ClassName flyweightType,
+            CodeBlock byteOrderArgument)
         {
             ClassName map16BuilderType = map16Type.rawType.nestedClass("Builder");
             ClassName mapBuilderType = mapType.rawType.nestedClass("Builder");
             ClassName flyweightBuilderType = flyweightType.nestedClass("Builder");
             this.map16Type = map16Type;
+            this.byteOrderArgument = byteOrderArgument;
             this.typeVarK = TypeVariableName.get("K", flyweightType);
             this.typeVarKB = TypeVariableName.get("KB", ParameterizedTypeName.get(flyweightBuilderType, typeVarK));
             this.typeVarV = TypeVariableName.get("V", flyweightType);
@@ -354,12 +609,10 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
         public TypeSpec build()
         {
             return classBuilder
-                .addField(byteOrderField())
                 .addField(keyRWField())
                 .addField(valueRWField())
                 .addField(fieldCountField())
                 .addMethod(constructor())
-                .addMethod(constructorWithByteOrder())
                 .addMethod(wrapMethod())
                 .addMethod(entryMethod())
                 .addMethod(entriesMethod())
@@ -367,11 +620,6 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
                 .build();
         }
 
-        private FieldSpec byteOrderField()
-        {
-            return FieldSpec.builder(ByteOrder.class, "byteOrder", PRIVATE, FINAL).build();
-        }
-
         private FieldSpec keyRWField()
         {
             return FieldSpec.builder(typeVarKB, "keyRW", PRIVATE, FINAL).build();
@@ -395,26 +643,9 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
                 .addParameter(typeVarV, "valueRO")
                 .addParameter(typeVarKB, "keyRW")
                 .addParameter(typeVarVB, "valueRW")
-                .addStatement("super(new Map16FW<>(keyRO, valueRO))")
-                .addStatement("this.keyRW = keyRW")
-                .addStatement("this.valueRW = valueRW")
-                .addStatement("this.byteOrder = $T.nativeOrder()", ByteOrder.class)
-                .build();
-        }
-
-        private MethodSpec constructorWithByteOrder()
-        {
-            return constructorBuilder()
-                .addModifiers(PUBLIC)
-                .addParameter(typeVarK, "keyRO")
-                .addParameter(typeVarV, "valueRO")
-                .addParameter(typeVarKB, "keyRW")
-                .addParameter(typeVarVB, "valueRW")
-                .addParameter(ByteOrder.class, "byteOrder")
-                .addStatement("super(new Map16FW<>(keyRO, valueRO))")
+                .addStatement("super(new $T<>(keyRO, valueRO))", map16Type.rawType)
                 .addStatement("this.keyRW = keyRW")
                 .addStatement("this.valueRW = valueRW")
-                .addStatement("this.byteOrder = byteOrder")
                 .build();
         }
 
@@ -488,8 +719,8 @@ public final class Map16FWGenerator extends ParameterizedTypeSpecGenerator
                 .addStatement("int length = limit() - offset() - FIELD_COUNT_OFFSET")
                 .addStatement("assert length <= LENGTH_MAX_VALUE : \"Length is too large\"")
                 .addStatement("assert fieldCount <= LENGTH_MAX_VALUE : \"Field count is too large\"")
-                .addStatement("buffer().putShort(offset() + LENGTH_OFFSET, (short) length, byteOrder)")
-                .addStatement("buffer().putShort(offset() + FIELD_COUNT_OFFSET, (short) fieldCount, byteOrder)")
+                .addStatement("buffer().putShort(offset() + LENGTH_OFFSET, (short) length$L)", byteOrderArgument)
+                .addStatement("buffer().putShort(offset() + FIELD_COUNT_OFFSET, (short) fieldCount$L)", byteOrderArgument)
                 .addStatement("return super.build()")
                 .build();
         }
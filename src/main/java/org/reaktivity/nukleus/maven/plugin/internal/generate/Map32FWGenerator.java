@@ -22,17 +22,28 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NETWORK;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.byteOrderArgument;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.byteOrderConstant;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfByteOrderMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfByteOrderMethodBuilder;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.HASHING_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder;
+
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -44,24 +55,31 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
 {
     private final TypeSpec.Builder classBuilder;
     private final TypeVariableName typeVarK;
+    private final ClassName validatorType;
     private final TypeVariableName typeVarV;
     private final Map32FWGenerator.BuilderClassBuilder builderClassBuilder;
+    private final AstByteOrder byteOrder;
+    private final CodeBlock byteOrderArgument;
 
     public Map32FWGenerator(
         ClassName flyweightType,
-        ParameterizedTypeName mapType)
+        ParameterizedTypeName mapType,
+        AstByteOrder byteOrder)
     {
-        super(ParameterizedTypeName.get(flyweightType.peerClass("Map32FW"),
+        super(ParameterizedTypeName.get(flyweightType.peerClass(byteOrder == NETWORK ? "NetworkMap32FW" : "Map32FW"),
                 TypeVariableName.get("K", flyweightType), TypeVariableName.get("V", flyweightType)));
+        this.byteOrder = byteOrder;
+        this.byteOrderArgument = byteOrderArgument(byteOrder);
         this.typeVarK = (TypeVariableName) thisName.typeArguments.get(0);
         this.typeVarV = (TypeVariableName) thisName.typeArguments.get(1);
+        this.validatorType = flyweightType.nestedClass("Validator");
         this.classBuilder = classBuilder(thisRawName)
             .superclass(mapType)
             .addModifiers(PUBLIC, FINAL)
             .addTypeVariable(typeVarK)
             .addTypeVariable(typeVarV);
 
-        this.builderClassBuilder = new Map32FWGenerator.BuilderClassBuilder(thisName, mapType, flyweightType);
+        this.builderClassBuilder = new Map32FWGenerator.BuilderClassBuilder(thisName, mapType, flyweightType, byteOrderArgument);
     }
 
     @Override
@@ -73,19 +91,36 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .addField(lengthOffsetConstant())
             .addField(fieldCountOffsetConstant())
             .addField(fieldsOffsetConstant())
-            .addField(byteOrderField())
             .addField(keyField())
             .addField(valueField())
+            .addField(lookupKeyField())
+            .addField(lookupValueField())
             .addField(entriesField())
+            .addField(emptyKeyIndexConstant())
+            .addField(keyOffsetsField())
+            .addField(valueOffsetsField())
+            .addField(keyHashesField())
+            .addField(keyIndexMaskField())
             .addMethod(constructor())
-            .addMethod(constructorWithByteOrder())
+            .addMethod(lookupConstructor())
             .addMethod(lengthMethod())
             .addMethod(fieldCountMethod())
             .addMethod(entriesMethod())
             .addMethod(forEachMethod())
+            .addMethod(getMethod())
+            .addMethod(containsKeyMethod())
+            .addMethod(keySlotMethod())
+            .addMethod(buildKeyIndexMethod())
+            .addMethod(limitOfMethod())
+            .addMethod(limitOfWithDepthMethod())
+            .addMethod(limitOfWithByteOrderMethod())
+            .addMethod(requiredOfByteOrderMethod(byteOrder))
+            .addMethod(requiredOfWithByteOrderMethod())
+            .addMethod(requiredMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
             .addMethod(limitMethod())
+            .addMethod(appendToMethod())
             .addMethod(toStringMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -126,12 +161,6 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
-    private FieldSpec byteOrderField()
-    {
-        return FieldSpec.builder(ByteOrder.class, "byteOrder", PRIVATE, FINAL)
-            .build();
-    }
-
     private FieldSpec keyField()
     {
         return FieldSpec.builder(typeVarK, "keyRO", PRIVATE, FINAL)
@@ -144,6 +173,18 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private FieldSpec lookupKeyField()
+    {
+        return FieldSpec.builder(typeVarK, "lookupKeyRO", PRIVATE, FINAL)
+            .build();
+    }
+
+    private FieldSpec lookupValueField()
+    {
+        return FieldSpec.builder(typeVarV, "lookupValueRO", PRIVATE, FINAL)
+            .build();
+    }
+
     private FieldSpec entriesField()
     {
         return FieldSpec.builder(DIRECT_BUFFER_TYPE, "entriesRO", PRIVATE, FINAL)
@@ -151,28 +192,62 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private FieldSpec emptyKeyIndexConstant()
+    {
+        return FieldSpec.builder(int[].class, "EMPTY_KEY_INDEX", PRIVATE, STATIC, FINAL)
+            .initializer("new int[0]")
+            .build();
+    }
+
+    private FieldSpec keyOffsetsField()
+    {
+        return FieldSpec.builder(int[].class, "keyOffsets", PRIVATE)
+            .initializer("EMPTY_KEY_INDEX")
+            .build();
+    }
+
+    private FieldSpec valueOffsetsField()
+    {
+        return FieldSpec.builder(int[].class, "valueOffsets", PRIVATE)
+            .initializer("EMPTY_KEY_INDEX")
+            .build();
+    }
+
+    private FieldSpec keyHashesField()
+    {
+        return FieldSpec.builder(int[].class, "keyHashes", PRIVATE)
+            .initializer("EMPTY_KEY_INDEX")
+            .build();
+    }
+
+    private FieldSpec keyIndexMaskField()
+    {
+        return FieldSpec.builder(int.class, "keyIndexMask", PRIVATE)
+            .build();
+    }
+
     private MethodSpec constructor()
     {
         return constructorBuilder()
             .addModifiers(PUBLIC)
             .addParameter(typeVarK, "keyRO")
             .addParameter(typeVarV, "valueRO")
-            .addStatement("this.keyRO = keyRO")
-            .addStatement("this.valueRO = valueRO")
-            .addStatement("this.byteOrder = $T.nativeOrder()", ByteOrder.class)
+            .addStatement("this(keyRO, valueRO, keyRO, valueRO)")
             .build();
     }
 
-    private MethodSpec constructorWithByteOrder()
+    private MethodSpec lookupConstructor()
     {
         return constructorBuilder()
             .addModifiers(PUBLIC)
             .addParameter(typeVarK, "keyRO")
             .addParameter(typeVarV, "valueRO")
-            .addParameter(ByteOrder.class, "byteOrder")
+            .addParameter(typeVarK, "lookupKeyRO")
+            .addParameter(typeVarV, "lookupValueRO")
             .addStatement("this.keyRO = keyRO")
             .addStatement("this.valueRO = valueRO")
-            .addStatement("this.byteOrder = byteOrder")
+            .addStatement("this.lookupKeyRO = lookupKeyRO")
+            .addStatement("this.lookupValueRO = lookupValueRO")
             .build();
     }
 
@@ -182,7 +257,7 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(int.class)
-            .addStatement("return buffer().getInt(offset() + LENGTH_OFFSET, byteOrder)")
+            .addStatement("return buffer().getInt(offset() + LENGTH_OFFSET$L)", byteOrderArgument)
             .build();
     }
 
@@ -192,7 +267,7 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(int.class)
-            .addStatement("return buffer().getInt(offset() + FIELD_COUNT_OFFSET, byteOrder)")
+            .addStatement("return buffer().getInt(offset() + FIELD_COUNT_OFFSET$L)", byteOrderArgument)
             .build();
     }
 
@@ -226,6 +301,170 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec getMethod()
+    {
+        return methodBuilder("get")
+            .addAnnotation(Override.class)
+            .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "\"unchecked\"").build())
+            .addModifiers(PUBLIC)
+            .addParameter(typeVarK, "key")
+            .returns(typeVarV)
+            .addStatement("final int slot = keySlot(key)")
+            .addStatement("return slot == -1 ? null : (V) lookupValueRO.wrap(buffer(), valueOffsets[slot], limit())")
+            .build();
+    }
+
+    private MethodSpec containsKeyMethod()
+    {
+        return methodBuilder("containsKey")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(typeVarK, "key")
+            .returns(boolean.class)
+            .addStatement("return keySlot(key) != -1")
+            .build();
+    }
+
+    private MethodSpec keySlotMethod()
+    {
+        return methodBuilder("keySlot")
+            .addModifiers(PRIVATE)
+            .addParameter(typeVarK, "key")
+            .returns(int.class)
+            .addStatement("final int hash = key.hashCode()")
+            .addStatement("final $T keyBuffer = key.buffer()", DIRECT_BUFFER_TYPE)
+            .addStatement("final int keyOffset = key.offset()")
+            .addStatement("final int keyLength = key.sizeof()")
+            .beginControlFlow("if (keyIndexMask == 0)")
+            .addStatement("buildKeyIndex()")
+            .endControlFlow()
+            .addStatement("final int mask = keyIndexMask")
+            .beginControlFlow("for (int slot = $T.hash(hash, mask); keyOffsets[slot] != 0; slot = (slot + 1) & mask)",
+                HASHING_TYPE)
+            .beginControlFlow("if (keyHashes[slot] == hash && valueOffsets[slot] - keyOffsets[slot] == keyLength && " +
+                "equals(buffer(), keyOffsets[slot], keyBuffer, keyOffset, keyLength))")
+            .addStatement("return slot")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return -1")
+            .build();
+    }
+
+    private MethodSpec buildKeyIndexMethod()
+    {
+        return methodBuilder("buildKeyIndex")
+            .addModifiers(PRIVATE)
+            .addStatement("final int entryCount = fieldCount() >> 1")
+            .addStatement("final int capacity = $T.findNextPositivePowerOfTwo(Math.max(entryCount << 1, 2))", BIT_UTIL_TYPE)
+            .beginControlFlow("if (keyOffsets.length < capacity)")
+            .addStatement("keyOffsets = new int[capacity]")
+            .addStatement("valueOffsets = new int[capacity]")
+            .addStatement("keyHashes = new int[capacity]")
+            .nextControlFlow("else")
+            .addStatement("$T.fill(keyOffsets, 0, capacity, 0)", Arrays.class)
+            .endControlFlow()
+            .addStatement("final int mask = capacity - 1")
+            .addStatement("int entryOffset = offset() + FIELDS_OFFSET")
+            .beginControlFlow("for (int i = 0; i < entryCount; i++)")
+            .addStatement("final Flyweight key = lookupKeyRO.wrap(buffer(), entryOffset, limit())")
+            .addStatement("final int hash = key.hashCode()")
+            .addStatement("int slot = $T.hash(hash, mask)", HASHING_TYPE)
+            .beginControlFlow("while (keyOffsets[slot] != 0)")
+            .addStatement("slot = (slot + 1) & mask")
+            .endControlFlow()
+            .addStatement("keyOffsets[slot] = entryOffset")
+            .addStatement("valueOffsets[slot] = key.limit()")
+            .addStatement("keyHashes[slot] = hash")
+            .addStatement("entryOffset = lookupValueRO.wrap(buffer(), key.limit(), limit()).limit()")
+            .endControlFlow()
+            .addStatement("keyIndexMask = mask")
+            .build();
+    }
+
+    private MethodSpec limitOfMethod()
+    {
+        return methodBuilder("limitOf")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "maxLimit")
+            .addParameter(validatorType, "keyValidator")
+            .addParameter(validatorType, "valueValidator")
+            .returns(int.class)
+            .addStatement("return Math.max(limitOf(buffer, offset, maxLimit, keyValidator, valueValidator, " +
+                "DEFAULT_MAX_DEPTH), -1)")
+            .build();
+    }
+
+    private MethodSpec limitOfWithDepthMethod()
+    {
+        return methodBuilder("limitOf")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "maxLimit")
+            .addParameter(validatorType, "keyValidator")
+            .addParameter(validatorType, "valueValidator")
+            .addParameter(int.class, "depth")
+            .returns(int.class)
+            .addStatement("return limitOf(buffer, offset, maxLimit, keyValidator, valueValidator, $L, depth)",
+                byteOrderConstant(byteOrder))
+            .build();
+    }
+
+    private MethodSpec limitOfWithByteOrderMethod()
+    {
+        return methodBuilder("limitOf")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "maxLimit")
+            .addParameter(validatorType, "keyValidator")
+            .addParameter(validatorType, "valueValidator")
+            .addParameter(ByteOrder.class, "byteOrder")
+            .addParameter(int.class, "depth")
+            .returns(int.class)
+            .beginControlFlow("if (depth < 1)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return -2")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getInt(offset + LENGTH_OFFSET, byteOrder)")
+            .beginControlFlow("if (length < FIELD_COUNT_SIZE)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .beginControlFlow("if (length > maxLimit - offset - LENGTH_SIZE)")
+            .addStatement("return -2")
+            .endControlFlow()
+            .addStatement("final int limit = offset + LENGTH_SIZE + length")
+            .addStatement("final int fieldCount = buffer.getInt(offset + FIELD_COUNT_OFFSET, byteOrder)")
+            .addStatement("int entryOffset = offset + FIELDS_OFFSET")
+            .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
+            .addStatement("final int keyLimit = keyValidator.limitOf(buffer, entryOffset, limit, depth - 1)")
+            .beginControlFlow("if (keyLimit < 0)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .addStatement("entryOffset = valueValidator.limitOf(buffer, keyLimit, limit, depth - 1)")
+            .beginControlFlow("if (entryOffset < 0)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return limit")
+            .build();
+    }
+
+    private MethodSpec requiredOfWithByteOrderMethod()
+    {
+        return requiredOfByteOrderMethodBuilder()
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return FIELDS_OFFSET")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getInt(offset + LENGTH_OFFSET, byteOrder)")
+            .addStatement("return (int) Math.min(LENGTH_SIZE + (long) length, Integer.MAX_VALUE)")
+            .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -239,6 +478,7 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .beginControlFlow("if (super.tryWrap(buffer, offset, maxLimit) == null)")
             .addStatement("return null")
             .endControlFlow()
+            .addStatement("keyIndexMask = 0")
             .addStatement("int entryOffset = offset + FIELDS_OFFSET")
             .addStatement("int fieldCount = fieldCount()")
             .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
@@ -272,6 +512,7 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .addParameter(int.class, "maxLimit")
             .returns(thisName)
             .addStatement("super.wrap(buffer, offset, maxLimit)")
+            .addStatement("keyIndexMask = 0")
             .addStatement("int entryOffset = offset + FIELDS_OFFSET")
             .addStatement("int fieldCount = fieldCount()")
             .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
@@ -296,13 +537,24 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(StringBuilder.class, "builder")
+            .returns(StringBuilder.class)
+            .addStatement("return builder.append(\"map32<\").append(length()).append(\", \").append(fieldCount()).append('>')")
+            .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"map32<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
             .build();
     }
 
@@ -315,16 +567,19 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
         private final TypeVariableName typeVarVB;
         private final TypeVariableName typeVarV;
         private final TypeName parameterizedBuilderType;
+        private final CodeBlock byteOrderArgument;
 
         private BuilderClassBuilder(
             ParameterizedTypeName map32Type,
             ParameterizedTypeName mapType,
-            ClassName flyweightType)
+            ClassName flyweightType,
+            CodeBlock byteOrderArgument)
         {
             ClassName map32BuilderType = map32Type.rawType.nestedClass("Builder");
             ClassName mapBuilderType = mapType.rawType.nestedClass("Builder");
             ClassName flyweightBuilderType = flyweightType.nestedClass("Builder");
             this.map32Type = map32Type;
+            this.byteOrderArgument = byteOrderArgument;
             this.typeVarK = TypeVariableName.get("K", flyweightType);
             this.typeVarKB = TypeVariableName.get("KB", ParameterizedTypeName.get(flyweightBuilderType, typeVarK));
             this.typeVarV = TypeVariableName.get("V", flyweightType);
@@ -346,12 +601,10 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
         public TypeSpec build()
         {
             return classBuilder
-                .addField(byteOrderField())
                 .addField(keyRWField())
                 .addField(valueRWField())
                 .addField(fieldCountField())
                 .addMethod(constructor())
-                .addMethod(constructorWithByteOrder())
                 .addMethod(wrapMethod())
                 .addMethod(entryMethod())
                 .addMethod(entriesMethod())
@@ -359,11 +612,6 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
                 .build();
         }
 
-        private FieldSpec byteOrderField()
-        {
-            return FieldSpec.builder(ByteOrder.class, "byteOrder", PRIVATE, FINAL).build();
-        }
-
         private FieldSpec keyRWField()
         {
             return FieldSpec.builder(typeVarKB, "keyRW", PRIVATE, FINAL).build();
@@ -387,26 +635,9 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
                 .addParameter(typeVarV, "valueRO")
                 .addParameter(typeVarKB, "keyRW")
                 .addParameter(typeVarVB, "valueRW")
-                .addStatement("super(new Map32FW<>(keyRO, valueRO))")
-                .addStatement("this.keyRW = keyRW")
-                .addStatement("this.valueRW = valueRW")
-                .addStatement("this.byteOrder = $T.nativeOrder()", ByteOrder.class)
-                .build();
-        }
-
-        private MethodSpec constructorWithByteOrder()
-        {
-            return constructorBuilder()
-                .addModifiers(PUBLIC)
-                .addParameter(typeVarK, "keyRO")
-                .addParameter(typeVarV, "valueRO")
-                .addParameter(typeVarKB, "keyRW")
-                .addParameter(typeVarVB, "valueRW")
-                .addParameter(ByteOrder.class, "byteOrder")
-                .addStatement("super(new Map32FW<>(keyRO, valueRO, byteOrder))")
+                .addStatement("super(new $T<>(keyRO, valueRO))", map32Type.rawType)
                 .addStatement("this.keyRW = keyRW")
                 .addStatement("this.valueRW = valueRW")
-                .addStatement("this.byteOrder = byteOrder")
                 .build();
         }
 
@@ -478,8 +709,8 @@ public final class Map32FWGenerator extends ParameterizedTypeSpecGenerator
                 .addModifiers(PUBLIC)
                 .returns(map32Type)
                 .addStatement("int length = limit() - offset() - FIELD_COUNT_OFFSET")
-                .addStatement("buffer().putInt(offset() + LENGTH_OFFSET, length, byteOrder)")
-                .addStatement("buffer().putInt(offset() + FIELD_COUNT_OFFSET, fieldCount, byteOrder)")
+                .addStatement("buffer().putInt(offset() + LENGTH_OFFSET, length$L)", byteOrderArgument)
+                .addStatement("buffer().putInt(offset() + FIELD_COUNT_OFFSET, fieldCount$L)", byteOrderArgument)
                 .addStatement("return super.build()")
                 .build();
         }
@@ -22,11 +22,15 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfMethodBuilder;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.HASHING_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
+import java.util.Arrays;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -44,6 +48,7 @@ public final class Map8FWGenerator extends ParameterizedTypeSpecGenerator
     private final TypeSpec.Builder classBuilder;
     private final TypeVariableName typeVarK;
     private final TypeVariableName typeVarV;
+    private final ClassName validatorType;
     private final BuilderClassBuilder builderClassBuilder;
 
     public Map8FWGenerator(
@@ -54,6 +59,7 @@ public final class Map8FWGenerator extends ParameterizedTypeSpecGenerator
                 TypeVariableName.get("K", flyweightType), TypeVariableName.get("V", flyweightType)));
         this.typeVarK = (TypeVariableName) thisName.typeArguments.get(0);
         this.typeVarV = (TypeVariableName) thisName.typeArguments.get(1);
+        this.validatorType = flyweightType.nestedClass("Validator");
         this.classBuilder = classBuilder(thisRawName)
             .superclass(mapType)
             .addModifiers(PUBLIC, FINAL)
@@ -75,15 +81,32 @@ public final class Map8FWGenerator extends ParameterizedTypeSpecGenerator
             .addField(lengthMaxValueConstant())
             .addField(keyField())
             .addField(valueField())
+            .addField(lookupKeyField())
+            .addField(lookupValueField())
             .addField(entriesField())
+            .addField(emptyKeyIndexConstant())
+            .addField(keyOffsetsField())
+            .addField(valueOffsetsField())
+            .addField(keyHashesField())
+            .addField(keyIndexMaskField())
             .addMethod(constructor())
+            .addMethod(lookupConstructor())
             .addMethod(lengthMethod())
             .addMethod(fieldCountMethod())
             .addMethod(entriesMethod())
             .addMethod(forEachMethod())
+            .addMethod(getMethod())
+            .addMethod(containsKeyMethod())
+            .addMethod(keySlotMethod())
+            .addMethod(buildKeyIndexMethod())
+            .addMethod(limitOfMethod())
+            .addMethod(limitOfWithDepthMethod())
+            .addMethod(requiredOfMethod())
+            .addMethod(requiredMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
             .addMethod(limitMethod())
+            .addMethod(appendToMethod())
             .addMethod(toStringMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -143,6 +166,18 @@ public final class Map8FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private FieldSpec lookupKeyField()
+    {
+        return FieldSpec.builder(typeVarK, "lookupKeyRO", PRIVATE, FINAL)
+            .build();
+    }
+
+    private FieldSpec lookupValueField()
+    {
+        return FieldSpec.builder(typeVarV, "lookupValueRO", PRIVATE, FINAL)
+            .build();
+    }
+
     private FieldSpec entriesField()
     {
         return FieldSpec.builder(DIRECT_BUFFER_TYPE, "entriesRO", PRIVATE, FINAL)
@@ -150,14 +185,62 @@ public final class Map8FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private FieldSpec emptyKeyIndexConstant()
+    {
+        return FieldSpec.builder(int[].class, "EMPTY_KEY_INDEX", PRIVATE, STATIC, FINAL)
+            .initializer("new int[0]")
+            .build();
+    }
+
+    private FieldSpec keyOffsetsField()
+    {
+        return FieldSpec.builder(int[].class, "keyOffsets", PRIVATE)
+            .initializer("EMPTY_KEY_INDEX")
+            .build();
+    }
+
+    private FieldSpec valueOffsetsField()
+    {
+        return FieldSpec.builder(int[].class, "valueOffsets", PRIVATE)
+            .initializer("EMPTY_KEY_INDEX")
+            .build();
+    }
+
+    private FieldSpec keyHashesField()
+    {
+        return FieldSpec.builder(int[].class, "keyHashes", PRIVATE)
+            .initializer("EMPTY_KEY_INDEX")
+            .build();
+    }
+
+    private FieldSpec keyIndexMaskField()
+    {
+        return FieldSpec.builder(int.class, "keyIndexMask", PRIVATE)
+            .build();
+    }
+
     private MethodSpec constructor()
     {
         return constructorBuilder()
             .addModifiers(PUBLIC)
             .addParameter(typeVarK, "keyRO")
             .addParameter(typeVarV, "valueRO")
+            .addStatement("this(keyRO, valueRO, keyRO, valueRO)")
+            .build();
+    }
+
+    private MethodSpec lookupConstructor()
+    {
+        return constructorBuilder()
+            .addModifiers(PUBLIC)
+            .addParameter(typeVarK, "keyRO")
+            .addParameter(typeVarV, "valueRO")
+            .addParameter(typeVarK, "lookupKeyRO")
+            .addParameter(typeVarV, "lookupValueRO")
             .addStatement("this.keyRO = keyRO")
             .addStatement("this.valueRO = valueRO")
+            .addStatement("this.lookupKeyRO = lookupKeyRO")
+            .addStatement("this.lookupValueRO = lookupValueRO")
             .build();
     }
 
@@ -211,6 +294,153 @@ public final class Map8FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec getMethod()
+    {
+        return methodBuilder("get")
+            .addAnnotation(Override.class)
+            .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "\"unchecked\"").build())
+            .addModifiers(PUBLIC)
+            .addParameter(typeVarK, "key")
+            .returns(typeVarV)
+            .addStatement("final int slot = keySlot(key)")
+            .addStatement("return slot == -1 ? null : (V) lookupValueRO.wrap(buffer(), valueOffsets[slot], limit())")
+            .build();
+    }
+
+    private MethodSpec containsKeyMethod()
+    {
+        return methodBuilder("containsKey")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(typeVarK, "key")
+            .returns(boolean.class)
+            .addStatement("return keySlot(key) != -1")
+            .build();
+    }
+
+    private MethodSpec keySlotMethod()
+    {
+        return methodBuilder("keySlot")
+            .addModifiers(PRIVATE)
+            .addParameter(typeVarK, "key")
+            .returns(int.class)
+            .addStatement("final int hash = key.hashCode()")
+            .addStatement("final $T keyBuffer = key.buffer()", DIRECT_BUFFER_TYPE)
+            .addStatement("final int keyOffset = key.offset()")
+            .addStatement("final int keyLength = key.sizeof()")
+            .beginControlFlow("if (keyIndexMask == 0)")
+            .addStatement("buildKeyIndex()")
+            .endControlFlow()
+            .addStatement("final int mask = keyIndexMask")
+            .beginControlFlow("for (int slot = $T.hash(hash, mask); keyOffsets[slot] != 0; slot = (slot + 1) & mask)",
+                HASHING_TYPE)
+            .beginControlFlow("if (keyHashes[slot] == hash && valueOffsets[slot] - keyOffsets[slot] == keyLength && " +
+                "equals(buffer(), keyOffsets[slot], keyBuffer, keyOffset, keyLength))")
+            .addStatement("return slot")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return -1")
+            .build();
+    }
+
+    private MethodSpec buildKeyIndexMethod()
+    {
+        return methodBuilder("buildKeyIndex")
+            .addModifiers(PRIVATE)
+            .addStatement("final int entryCount = fieldCount() >> 1")
+            .addStatement("final int capacity = $T.findNextPositivePowerOfTwo(Math.max(entryCount << 1, 2))", BIT_UTIL_TYPE)
+            .beginControlFlow("if (keyOffsets.length < capacity)")
+            .addStatement("keyOffsets = new int[capacity]")
+            .addStatement("valueOffsets = new int[capacity]")
+            .addStatement("keyHashes = new int[capacity]")
+            .nextControlFlow("else")
+            .addStatement("$T.fill(keyOffsets, 0, capacity, 0)", Arrays.class)
+            .endControlFlow()
+            .addStatement("final int mask = capacity - 1")
+            .addStatement("int entryOffset = offset() + FIELDS_OFFSET")
+            .beginControlFlow("for (int i = 0; i < entryCount; i++)")
+            .addStatement("final Flyweight key = lookupKeyRO.wrap(buffer(), entryOffset, limit())")
+            .addStatement("final int hash = key.hashCode()")
+            .addStatement("int slot = $T.hash(hash, mask)", HASHING_TYPE)
+            .beginControlFlow("while (keyOffsets[slot] != 0)")
+            .addStatement("slot = (slot + 1) & mask")
+            .endControlFlow()
+            .addStatement("keyOffsets[slot] = entryOffset")
+            .addStatement("valueOffsets[slot] = key.limit()")
+            .addStatement("keyHashes[slot] = hash")
+            .addStatement("entryOffset = lookupValueRO.wrap(buffer(), key.limit(), limit()).limit()")
+            .endControlFlow()
+            .addStatement("keyIndexMask = mask")
+            .build();
+    }
+
+    private MethodSpec limitOfMethod()
+    {
+        return methodBuilder("limitOf")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "maxLimit")
+            .addParameter(validatorType, "keyValidator")
+            .addParameter(validatorType, "valueValidator")
+            .returns(int.class)
+            .addStatement("return Math.max(limitOf(buffer, offset, maxLimit, keyValidator, valueValidator, " +
+                "DEFAULT_MAX_DEPTH), -1)")
+            .build();
+    }
+
+    private MethodSpec limitOfWithDepthMethod()
+    {
+        return methodBuilder("limitOf")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "maxLimit")
+            .addParameter(validatorType, "keyValidator")
+            .addParameter(validatorType, "valueValidator")
+            .addParameter(int.class, "depth")
+            .returns(int.class)
+            .beginControlFlow("if (depth < 1)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return -2")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getByte(offset + LENGTH_OFFSET)")
+            .addStatement("final int limit = offset + LENGTH_SIZE + length")
+            .beginControlFlow("if (length < FIELD_COUNT_SIZE)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .beginControlFlow("if (limit > maxLimit)")
+            .addStatement("return -2")
+            .endControlFlow()
+            .addStatement("final int fieldCount = buffer.getByte(offset + FIELD_COUNT_OFFSET)")
+            .addStatement("int entryOffset = offset + FIELDS_OFFSET")
+            .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
+            .addStatement("final int keyLimit = keyValidator.limitOf(buffer, entryOffset, limit, depth - 1)")
+            .beginControlFlow("if (keyLimit < 0)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .addStatement("entryOffset = valueValidator.limitOf(buffer, keyLimit, limit, depth - 1)")
+            .beginControlFlow("if (entryOffset < 0)")
+            .addStatement("return -1")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return limit")
+            .build();
+    }
+
+    private MethodSpec requiredOfMethod()
+    {
+        return requiredOfMethodBuilder()
+            .beginControlFlow("if (offset + FIELDS_OFFSET > maxLimit)")
+            .addStatement("return FIELDS_OFFSET")
+            .endControlFlow()
+            .addStatement("final int length = buffer.getByte(offset + LENGTH_OFFSET)")
+            .addStatement("return LENGTH_SIZE + length")
+            .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -224,6 +454,7 @@ public final class Map8FWGenerator extends ParameterizedTypeSpecGenerator
             .beginControlFlow("if (super.tryWrap(buffer, offset, maxLimit) == null)")
             .addStatement("return null")
             .endControlFlow()
+            .addStatement("keyIndexMask = 0")
             .addStatement("int entryOffset = offset + FIELDS_OFFSET")
             .addStatement("int fieldCount = fieldCount()")
             .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
@@ -257,6 +488,7 @@ public final class Map8FWGenerator extends ParameterizedTypeSpecGenerator
             .addParameter(int.class, "maxLimit")
             .returns(thisName)
             .addStatement("super.wrap(buffer, offset, maxLimit)")
+            .addStatement("keyIndexMask = 0")
             .addStatement("int entryOffset = offset + FIELDS_OFFSET")
             .addStatement("int fieldCount = fieldCount()")
             .beginControlFlow("for (int i = 0; i < fieldCount; i += 2)")
@@ -281,13 +513,24 @@ public final class Map8FWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(StringBuilder.class, "builder")
+            .returns(StringBuilder.class)
+            .addStatement("return builder.append(\"map8<\").append(length()).append(\", \").append(fieldCount()).append('>')")
+            .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"map8<%d, %d>\", length(), fieldCount())")
+            .addStatement("return appendTo(new StringBuilder()).toString()")
             .build();
     }
 
@@ -63,6 +63,8 @@ public final class MapFWGenerator extends ParameterizedTypeSpecGenerator
             .addMethod(lengthMethod())
             .addMethod(fieldCountMethod())
             .addMethod(forEachMethod())
+            .addMethod(getMethod())
+            .addMethod(containsKeyMethod())
             .addMethod(entriesMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -93,6 +95,24 @@ public final class MapFWGenerator extends ParameterizedTypeSpecGenerator
             .build();
     }
 
+    private MethodSpec getMethod()
+    {
+        return methodBuilder("get")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .addParameter(typeVarK, "key")
+            .returns(typeVarV)
+            .build();
+    }
+
+    private MethodSpec containsKeyMethod()
+    {
+        return methodBuilder("containsKey")
+            .addModifiers(PUBLIC, ABSTRACT)
+            .addParameter(typeVarK, "key")
+            .returns(boolean.class)
+            .build();
+    }
+
     private MethodSpec entriesMethod()
     {
         return methodBuilder("entries")
@@ -22,6 +22,9 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 
@@ -32,6 +35,7 @@ import java.util.function.Consumer;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstType;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
@@ -45,6 +49,7 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
     private final TypeName keyTypeName;
     private final TypeName valueTypeName;
     private final ClassName templateMapTypeName;
+    private final ClassName validatorType;
     private final TypeName parameterizedMapName;
     private final BuilderClassBuilder builderClassBuilder;
 
@@ -63,6 +68,7 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
         this.valueTypeName = Objects.requireNonNullElse(mapValueTypeName,
             TypeVariableName.get(mapValueType.name(), flyweightName));
         this.templateMapTypeName = templateMapTypeName;
+        this.validatorType = flyweightName.nestedClass("Validator");
         ClassName mapFWType = resolver.resolveClass(AstType.MAP);
         if (mapKeyTypeName == null && mapValueTypeName == null)
         {
@@ -112,16 +118,29 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
     @Override
     public TypeSpec generate()
     {
-        return builder
+        builder
             .addField(mapField())
             .addMethod(constructor())
+            .addMethod(lookupConstructor())
             .addMethod(lengthMethod())
             .addMethod(fieldCountMethod())
             .addMethod(entriesMethod())
             .addMethod(forEachMethod())
+            .addMethod(getMethod())
+            .addMethod(containsKeyMethod())
+            .addMethod(limitOfMethod());
+        if (!(keyTypeName instanceof TypeVariableName) && !(valueTypeName instanceof TypeVariableName))
+        {
+            builder.addMethod(validateMethod());
+        }
+        return builder
+            .addMethod(limitOfWithDepthMethod())
+            .addMethod(requiredOfMethod())
+            .addMethod(requiredMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
             .addMethod(limitMethod())
+            .addMethod(appendToMethod())
             .addMethod(toStringMethod())
             .addType(builderClassBuilder.build())
             .build();
@@ -143,7 +162,20 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
             .addModifiers(PUBLIC)
             .addParameter(keyTypeName, "keyRO")
             .addParameter(valueTypeName, "valueRO")
-            .addStatement("$LRO = new $T<>(keyRO, valueRO)", fieldName(templateMapTypeName), templateMapTypeName)
+            .addStatement("this(keyRO, valueRO, keyRO, valueRO)")
+            .build();
+    }
+
+    private MethodSpec lookupConstructor()
+    {
+        return constructorBuilder()
+            .addModifiers(PUBLIC)
+            .addParameter(keyTypeName, "keyRO")
+            .addParameter(valueTypeName, "valueRO")
+            .addParameter(keyTypeName, "lookupKeyRO")
+            .addParameter(valueTypeName, "lookupValueRO")
+            .addStatement("$LRO = new $T<>(keyRO, valueRO, lookupKeyRO, lookupValueRO)", fieldName(templateMapTypeName),
+                templateMapTypeName)
             .build();
     }
 
@@ -189,6 +221,93 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec getMethod()
+    {
+        return methodBuilder("get")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(keyTypeName, "key")
+            .returns(valueTypeName)
+            .addStatement("return $LRO.get().get(key)", fieldName(templateMapTypeName))
+            .build();
+    }
+
+    private MethodSpec containsKeyMethod()
+    {
+        return methodBuilder("containsKey")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(keyTypeName, "key")
+            .returns(boolean.class)
+            .addStatement("return $LRO.get().containsKey(key)", fieldName(templateMapTypeName))
+            .build();
+    }
+
+    private MethodSpec limitOfMethod()
+    {
+        MethodSpec.Builder builder = limitOfMethodBuilder();
+        CodeBlock.Builder arguments = CodeBlock.builder();
+        if (keyTypeName instanceof TypeVariableName)
+        {
+            builder.addParameter(validatorType, "keyValidator");
+            arguments.add("keyValidator, ");
+        }
+        if (valueTypeName instanceof TypeVariableName)
+        {
+            builder.addParameter(validatorType, "valueValidator");
+            arguments.add("valueValidator, ");
+        }
+        return builder.addStatement("return Math.max(limitOf(buffer, offset, maxLimit, $LDEFAULT_MAX_DEPTH), -1)",
+                arguments.build())
+            .build();
+    }
+
+    private MethodSpec limitOfWithDepthMethod()
+    {
+        MethodSpec.Builder builder = limitOfMethodBuilder();
+        CodeBlock keyValidator = validator(builder, keyTypeName, "keyValidator");
+        CodeBlock valueValidator = validator(builder, valueTypeName, "valueValidator");
+        return builder.addParameter(int.class, "depth")
+            .addStatement("return $T.limitOf(buffer, offset, maxLimit, $L, $L, depth)", templateMapTypeName,
+                keyValidator, valueValidator)
+            .build();
+    }
+
+    private MethodSpec requiredOfMethod()
+    {
+        return requiredOfMethodBuilder()
+            .addStatement("return $T.requiredOf(buffer, offset, maxLimit)", templateMapTypeName)
+            .build();
+    }
+
+    private MethodSpec.Builder limitOfMethodBuilder()
+    {
+        return methodBuilder("limitOf")
+            .addModifiers(PUBLIC, STATIC)
+            .returns(int.class)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "maxLimit");
+    }
+
+    private CodeBlock validator(
+        MethodSpec.Builder builder,
+        TypeName typeName,
+        String parameterName)
+    {
+        CodeBlock validator;
+        if (typeName instanceof TypeVariableName)
+        {
+            builder.addParameter(validatorType, parameterName);
+            validator = CodeBlock.of("$L", parameterName);
+        }
+        else
+        {
+            validator = CodeBlock.of("$T::limitOf", typeName);
+        }
+        return validator;
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -243,8 +362,20 @@ public final class MapFlyweightGenerator extends ClassSpecGenerator
             .addAnnotation(Override.class)
             .addModifiers(PUBLIC)
             .returns(String.class)
-            .addStatement("return String.format(\"$L[%d, %d]\", $LRO.get().length(), $LRO.get().fieldCount())",
-                thisName.simpleName(), fieldName(templateMapTypeName), fieldName(templateMapTypeName))
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .addParameter(StringBuilder.class, "builder")
+            .returns(StringBuilder.class)
+            .addStatement("return builder.append($S).append($LRO.get().length()).append(\", \").append($LRO.get().fieldCount())" +
+                ".append(']')", String.format("%s[", thisName.simpleName()), fieldName(templateMapTypeName),
+                fieldName(templateMapTypeName))
             .build();
     }
 
@@ -22,6 +22,9 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
@@ -59,8 +62,12 @@ public final class OctetsFlyweightGenerator extends ClassSpecGenerator
                 .addMethod(getMethod())
                 .addMethod(valueMethod())
                 .addMethod(limitMethod())
+                .addMethod(limitOfMethod())
+                .addMethod(validateMethod())
+                .addMethod(limitOfWithDepthMethod())
                 .addMethod(tryWrapMethod())
                 .addMethod(wrapMethod())
+                .addMethod(appendToMethod())
                 .addMethod(toStringMethod())
                 .addType(builderClassBuilder.build())
                 .build();
@@ -109,6 +116,13 @@ public final class OctetsFlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec limitOfWithDepthMethod()
+    {
+        return limitOfMethodBuilder()
+                .addStatement("return offset > maxLimit ? -2 : maxLimit")
+                .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -143,13 +157,24 @@ public final class OctetsFlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class)
+                .addStatement("return builder.append(\"octets[\").append(sizeof()).append(']')")
+                .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return String.format(\"octets[%d]\", sizeof())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
                 .build();
     }
 
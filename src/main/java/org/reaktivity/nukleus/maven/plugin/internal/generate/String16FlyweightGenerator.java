@@ -22,6 +22,12 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfNativeOrderMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfByteOrderMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfNativeOrderMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
@@ -57,6 +63,7 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
     {
         return classBuilder
                 .addField(fieldSizeLengthConstant())
+                .addField(maxSizeofConstant())
                 .addField(fieldByteOrder())
                 .addField(valueField())
                 .addMethod(constructor())
@@ -69,8 +76,16 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                 .addMethod(limitMethod())
                 .addMethod(valueMethod())
                 .addMethod(asStringMethod())
+                .addMethod(limitOfMethod())
+                .addMethod(validateMethod())
+                .addMethod(limitOfNativeOrderMethod())
+                .addMethod(limitOfWithByteOrderMethod())
+                .addMethod(requiredOfNativeOrderMethod())
+                .addMethod(requiredOfWithByteOrderMethod())
+                .addMethod(requiredMethod())
                 .addMethod(tryWrapMethod())
                 .addMethod(wrapMethod())
+                .addMethod(appendToMethod())
                 .addMethod(toStringMethod())
                 .addMethod(lengthMethod())
                 .addType(builderClassBuilder.build())
@@ -90,6 +105,13 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                         .build();
     }
 
+    private FieldSpec maxSizeofConstant()
+    {
+        return FieldSpec.builder(int.class, "MAX_SIZEOF", PUBLIC, STATIC, FINAL)
+                .initializer("FIELD_SIZE_LENGTH + $L", 65534)
+                .build();
+    }
+
     private FieldSpec valueField()
     {
         return FieldSpec.builder(DIRECT_BUFFER_TYPE, "valueRO", PRIVATE, FINAL)
@@ -197,7 +219,36 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                 .beginControlFlow("if (maxLimit() == offset() || length() == -1)")
                 .addStatement("return null")
                 .endControlFlow()
-                .addStatement("return buffer().getStringWithoutLengthUtf8(offset() + FIELD_SIZE_LENGTH, length())")
+                .addStatement("return decode(offset() + FIELD_SIZE_LENGTH, length())")
+                .build();
+    }
+
+    private MethodSpec limitOfWithByteOrderMethod()
+    {
+        return methodBuilder("limitOf")
+                .addModifiers(PUBLIC, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .addParameter(ByteOrder.class, "byteOrder")
+                .returns(int.class)
+                .beginControlFlow("if (offset + FIELD_SIZE_LENGTH > maxLimit)")
+                .addStatement("return -2")
+                .endControlFlow()
+                .addStatement("int length = buffer.getShort(offset, byteOrder) & 0xFFFF")
+                .addStatement("final int limit = offset + FIELD_SIZE_LENGTH + (length == 65535 ? 0 : length)")
+                .addStatement("return limit > maxLimit ? -2 : limit")
+                .build();
+    }
+
+    private MethodSpec requiredOfWithByteOrderMethod()
+    {
+        return requiredOfByteOrderMethodBuilder()
+                .beginControlFlow("if (offset + FIELD_SIZE_LENGTH > maxLimit)")
+                .addStatement("return FIELD_SIZE_LENGTH")
+                .endControlFlow()
+                .addStatement("int length = buffer.getShort(offset, byteOrder) & 0xFFFF")
+                .addStatement("return FIELD_SIZE_LENGTH + (length == 65535 ? 0 : length)")
                 .build();
     }
 
@@ -252,13 +303,27 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class)
+                .beginControlFlow("if (maxLimit() == offset())")
+                .addStatement("return builder.append(\"null\")")
+                .endControlFlow()
+                .addStatement("return appendStringTo(builder.append('\"')).append('\"')")
+                .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return maxLimit() == offset() ? \"null\" : String.format(\"\\\"%s\\\"\", asString())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
                 .build();
     }
 
@@ -418,12 +483,19 @@ public final class String16FlyweightGenerator extends ClassSpecGenerator
                     .addStatement("buffer().putShort(offset(), (short) -1, byteOrder)")
                     .addStatement("limit(newLimit)")
                     .nextControlFlow("else")
-                    .addStatement("byte[] charBytes = value.getBytes(charset)")
-                    .addStatement("checkLength(charBytes.length)")
-                    .addStatement("int newLimit = offset() + FIELD_SIZE_LENGTH + charBytes.length")
+                    .addStatement("int length = putAscii(buffer(), offset() + FIELD_SIZE_LENGTH, maxLimit(), value, charset)")
+                    .addStatement("byte[] charBytes = null")
+                    .beginControlFlow("if (length == -1)")
+                    .addStatement("charBytes = value.getBytes(charset)")
+                    .addStatement("length = charBytes.length")
+                    .endControlFlow()
+                    .addStatement("checkLength(length)")
+                    .addStatement("int newLimit = offset() + FIELD_SIZE_LENGTH + length")
                     .addStatement("checkLimit(newLimit, maxLimit())")
-                    .addStatement("buffer().putShort(offset(), (short) charBytes.length, byteOrder)")
-                    .addStatement("buffer().putBytes(offset() + 2, charBytes)")
+                    .addStatement("buffer().putShort(offset(), (short) length, byteOrder)")
+                    .beginControlFlow("if (charBytes != null)")
+                    .addStatement("buffer().putBytes(offset() + FIELD_SIZE_LENGTH, charBytes)")
+                    .endControlFlow()
                     .addStatement("limit(newLimit)")
                     .endControlFlow()
                     .addStatement("valueSet = true")
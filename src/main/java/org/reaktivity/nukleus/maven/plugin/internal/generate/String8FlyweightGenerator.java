@@ -22,6 +22,11 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
@@ -56,6 +61,7 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
     {
         return classBuilder
             .addField(fieldSizeLengthConstant())
+            .addField(maxSizeofConstant())
             .addField(valueField())
             .addMethod(constructor())
             .addMethod(constructorString())
@@ -63,9 +69,15 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
             .addMethod(fieldSizeLengthMethod())
             .addMethod(limitMethod())
             .addMethod(asStringMethod())
+            .addMethod(limitOfMethod())
+            .addMethod(validateMethod())
+            .addMethod(limitOfWithDepthMethod())
+            .addMethod(requiredOfMethod())
+            .addMethod(requiredMethod())
             .addMethod(tryWrapMethod())
             .addMethod(wrapMethod())
             .addMethod(valueMethod())
+            .addMethod(appendToMethod())
             .addMethod(toStringMethod())
             .addMethod(lengthMethod())
             .addType(builderClassBuilder.build())
@@ -79,6 +91,13 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private FieldSpec maxSizeofConstant()
+    {
+        return FieldSpec.builder(int.class, "MAX_SIZEOF", PUBLIC, STATIC, FINAL)
+                .initializer("FIELD_SIZE_LENGTH + $L", 254)
+                .build();
+    }
+
     private FieldSpec valueField()
     {
         return FieldSpec.builder(DIRECT_BUFFER_TYPE, "valueRO", PRIVATE, FINAL)
@@ -153,7 +172,30 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
                 .beginControlFlow("if (maxLimit() == offset() || length() == -1)")
                 .addStatement("return null")
                 .endControlFlow()
-                .addStatement("return buffer().getStringWithoutLengthUtf8(offset() + FIELD_SIZE_LENGTH, length())")
+                .addStatement("return decode(offset() + FIELD_SIZE_LENGTH, length())")
+                .build();
+    }
+
+    private MethodSpec limitOfWithDepthMethod()
+    {
+        return limitOfMethodBuilder()
+                .beginControlFlow("if (offset + FIELD_SIZE_LENGTH > maxLimit)")
+                .addStatement("return -2")
+                .endControlFlow()
+                .addStatement("int length = buffer.getByte(offset) & 0xFF")
+                .addStatement("final int limit = offset + FIELD_SIZE_LENGTH + (length == 255 ? 0 : length)")
+                .addStatement("return limit > maxLimit ? -2 : limit")
+                .build();
+    }
+
+    private MethodSpec requiredOfMethod()
+    {
+        return requiredOfMethodBuilder()
+                .beginControlFlow("if (offset + FIELD_SIZE_LENGTH > maxLimit)")
+                .addStatement("return FIELD_SIZE_LENGTH")
+                .endControlFlow()
+                .addStatement("int length = buffer.getByte(offset) & 0xFF")
+                .addStatement("return FIELD_SIZE_LENGTH + (length == 255 ? 0 : length)")
                 .build();
     }
 
@@ -208,13 +250,24 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class)
+                .addStatement("return appendStringTo(builder.append('\"')).append('\"')")
+                .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return String.format(\"\\\"%s\\\"\", asString())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
                 .build();
     }
 
@@ -354,12 +407,19 @@ public final class String8FlyweightGenerator extends ClassSpecGenerator
                 .addStatement("buffer().putByte(offset(), (byte) -1)")
                 .addStatement("limit(newLimit)")
                 .nextControlFlow("else")
-                .addStatement("byte[] charBytes = value.getBytes(charset)")
-                .addStatement("checkLength(charBytes.length)")
-                .addStatement("int newLimit = offset() + FIELD_SIZE_LENGTH + charBytes.length")
+                .addStatement("int length = putAscii(buffer(), offset() + FIELD_SIZE_LENGTH, maxLimit(), value, charset)")
+                .addStatement("byte[] charBytes = null")
+                .beginControlFlow("if (length == -1)")
+                .addStatement("charBytes = value.getBytes(charset)")
+                .addStatement("length = charBytes.length")
+                .endControlFlow()
+                .addStatement("checkLength(length)")
+                .addStatement("int newLimit = offset() + FIELD_SIZE_LENGTH + length")
                 .addStatement("checkLimit(newLimit, maxLimit())")
-                .addStatement("buffer().putByte(offset(), (byte) charBytes.length)")
-                .addStatement("buffer().putBytes(offset() + 1, charBytes)")
+                .addStatement("buffer().putByte(offset(), (byte) length)")
+                .beginControlFlow("if (charBytes != null)")
+                .addStatement("buffer().putBytes(offset() + FIELD_SIZE_LENGTH, charBytes)")
+                .endControlFlow()
                 .addStatement("limit(newLimit)")
                 .endControlFlow()
                 .addStatement("valueSet = true")
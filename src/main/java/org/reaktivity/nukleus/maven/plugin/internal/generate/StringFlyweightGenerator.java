@@ -19,13 +19,23 @@ import static com.squareup.javapoet.MethodSpec.constructorBuilder;
 import static com.squareup.javapoet.MethodSpec.methodBuilder;
 import static com.squareup.javapoet.TypeSpec.classBuilder;
 import static javax.lang.model.element.Modifier.ABSTRACT;
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PROTECTED;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
+import java.nio.ByteOrder;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
@@ -35,27 +45,53 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
 {
     private final TypeSpec.Builder classBuilder;
     private final BuilderClassBuilder builderClassBuilder;
+    private final CacheClassBuilder cacheClassBuilder;
 
     public StringFlyweightGenerator(
-        ClassName flyweightType)
+        ClassName flyweightType,
+        boolean cacheStrings)
     {
         super(flyweightType.peerClass("StringFW"));
 
         this.classBuilder = classBuilder(thisName).superclass(flyweightType).addModifiers(PUBLIC, ABSTRACT);
         this.builderClassBuilder = new BuilderClassBuilder(thisName, flyweightType);
+        this.cacheClassBuilder = cacheStrings ? new CacheClassBuilder(thisName) : null;
     }
 
     @Override
     public TypeSpec generate()
     {
+        if (cacheClassBuilder != null)
+        {
+            classBuilder.addField(cacheField())
+                .addMethod(cacheMethod())
+                .addType(cacheClassBuilder.build());
+        }
         return classBuilder
             .addMethod(fieldSizeLengthMethod())
             .addMethod(asStringMethod())
             .addMethod(lengthMethod())
+            .addMethod(appendStringToMethod())
+            .addMethod(decodeMethod())
+            .addMethod(contentEqualsStringMethod())
+            .addMethod(contentEqualsBufferMethod())
+            .addMethod(equalsIgnoreAsciiCaseStringMethod())
+            .addMethod(equalsIgnoreAsciiCaseBufferMethod())
+            .addMethod(hashMethod())
+            .addMethod(hashBufferMethod())
+            .addMethod(contentEqualsUtf8Method())
+            .addMethod(equalsAsciiMethod())
+            .addMethod(equalsBytesMethod())
             .addType(builderClassBuilder.build())
             .build();
     }
 
+    private FieldSpec cacheField()
+    {
+        return FieldSpec.builder(cacheClassBuilder.cacheType, "cache", PRIVATE)
+            .build();
+    }
+
     private MethodSpec fieldSizeLengthMethod()
     {
         return methodBuilder("fieldSizeLength")
@@ -80,6 +116,367 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
             .build();
     }
 
+    private MethodSpec appendStringToMethod()
+    {
+        return methodBuilder("appendStringTo")
+            .addModifiers(PUBLIC)
+            .addParameter(StringBuilder.class, "builder")
+            .returns(StringBuilder.class)
+            .addStatement("final int length = maxLimit() == offset() ? -1 : length()")
+            .beginControlFlow("if (length == -1)")
+            .addStatement("return builder.append(\"null\")")
+            .endControlFlow()
+            .addStatement("final $T buffer = buffer()", DIRECT_BUFFER_TYPE)
+            .addStatement("final int offset = offset() + fieldSizeLength()")
+            .beginControlFlow("for (int i = 0; i < length; i++)")
+            .beginControlFlow("if (buffer.getByte(offset + i) < 0)")
+            .addStatement("return builder.append(asString())")
+            .endControlFlow()
+            .endControlFlow()
+            .beginControlFlow("for (int i = 0; i < length; i++)")
+            .addStatement("builder.append((char) buffer.getByte(offset + i))")
+            .endControlFlow()
+            .addStatement("return builder")
+            .build();
+    }
+
+    private MethodSpec cacheMethod()
+    {
+        return methodBuilder("cache")
+            .addModifiers(PUBLIC)
+            .addParameter(cacheClassBuilder.cacheType, "cache")
+            .addStatement("this.cache = cache")
+            .build();
+    }
+
+    private MethodSpec decodeMethod()
+    {
+        MethodSpec.Builder builder = methodBuilder("decode")
+            .addModifiers(PROTECTED, FINAL)
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "length")
+            .returns(String.class);
+        if (cacheClassBuilder != null)
+        {
+            builder.addStatement("return cache != null ? cache.get(buffer(), offset, length) : " +
+                "buffer().getStringWithoutLengthUtf8(offset, length)");
+        }
+        else
+        {
+            builder.addStatement("return buffer().getStringWithoutLengthUtf8(offset, length)");
+        }
+        return builder.build();
+    }
+
+    private MethodSpec contentEqualsStringMethod()
+    {
+        return methodBuilder("contentEquals")
+            .addModifiers(PUBLIC)
+            .addParameter(String.class, "value")
+            .returns(boolean.class)
+            .addStatement("return contentEquals(value, false)")
+            .build();
+    }
+
+    private MethodSpec contentEqualsBufferMethod()
+    {
+        return methodBuilder("contentEquals")
+            .addModifiers(PUBLIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "srcBuffer")
+            .addParameter(int.class, "srcOffset")
+            .addParameter(int.class, "length")
+            .returns(boolean.class)
+            .beginControlFlow("if (maxLimit() == offset() || length() != length)")
+            .addStatement("return false")
+            .endControlFlow()
+            .addStatement("return equalsBytes(buffer(), offset() + fieldSizeLength(), srcBuffer, srcOffset, length)")
+            .build();
+    }
+
+    private MethodSpec equalsIgnoreAsciiCaseStringMethod()
+    {
+        return methodBuilder("equalsIgnoreAsciiCase")
+            .addModifiers(PUBLIC)
+            .addParameter(String.class, "value")
+            .returns(boolean.class)
+            .addStatement("return contentEquals(value, true)")
+            .build();
+    }
+
+    private MethodSpec equalsIgnoreAsciiCaseBufferMethod()
+    {
+        return methodBuilder("equalsIgnoreAsciiCase")
+            .addModifiers(PUBLIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "srcBuffer")
+            .addParameter(int.class, "srcOffset")
+            .addParameter(int.class, "length")
+            .returns(boolean.class)
+            .beginControlFlow("if (maxLimit() == offset() || length() != length)")
+            .addStatement("return false")
+            .endControlFlow()
+            .addStatement("final $T buffer = buffer()", DIRECT_BUFFER_TYPE)
+            .addStatement("final int offset = offset() + fieldSizeLength()")
+            .beginControlFlow("for (int i = 0; i < length; i++)")
+            .beginControlFlow("if (!equalsAscii(buffer.getByte(offset + i), srcBuffer.getByte(srcOffset + i), true))")
+            .addStatement("return false")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return true")
+            .build();
+    }
+
+    private MethodSpec hashMethod()
+    {
+        return methodBuilder("hash")
+            .addModifiers(PUBLIC)
+            .returns(int.class)
+            .addStatement("final int length = maxLimit() == offset() ? -1 : length()")
+            .addStatement("return length == -1 ? 0 : hash(buffer(), offset() + fieldSizeLength(), length)")
+            .build();
+    }
+
+    private MethodSpec hashBufferMethod()
+    {
+        return methodBuilder("hash")
+            .addModifiers(PUBLIC, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(int.class, "length")
+            .returns(int.class)
+            .addStatement("final int wordLimit = offset + (length & ~(Long.BYTES - 1))")
+            .addStatement("final int limit = offset + length")
+            .addStatement("int result = 1")
+            .addStatement("int index = offset")
+            .beginControlFlow("for (; index < wordLimit; index += Long.BYTES)")
+            .addStatement("final long word = buffer.getLong(index, $T.LITTLE_ENDIAN)", ByteOrder.class)
+            .addStatement("result = 31 * result + (int) (word ^ (word >>> 32))")
+            .endControlFlow()
+            .beginControlFlow("for (; index < limit; index++)")
+            .addStatement("result = 31 * result + buffer.getByte(index)")
+            .endControlFlow()
+            .addStatement("return result")
+            .build();
+    }
+
+    private MethodSpec contentEqualsUtf8Method()
+    {
+        return methodBuilder("contentEquals")
+            .addModifiers(PRIVATE)
+            .addParameter(String.class, "value")
+            .addParameter(boolean.class, "ignoreAsciiCase")
+            .returns(boolean.class)
+            .addStatement("final int length = maxLimit() == offset() ? -1 : length()")
+            .beginControlFlow("if (value == null || length == -1)")
+            .addStatement("return value == null && length == -1")
+            .endControlFlow()
+            .beginControlFlow("if (value.length() > length)")
+            .addStatement("return false")
+            .endControlFlow()
+            .addStatement("final $T buffer = buffer()", DIRECT_BUFFER_TYPE)
+            .addStatement("final int offset = offset() + fieldSizeLength()")
+            .beginControlFlow("if (value.length() == length && !ignoreAsciiCase)")
+            .beginControlFlow("for (int i = 0; i < length; i++)")
+            .beginControlFlow("if (buffer.getByte(offset + i) != value.charAt(i))")
+            .addStatement("return false")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return true")
+            .endControlFlow()
+            .addStatement("final int limit = offset + length")
+            .addStatement("int index = offset")
+            .beginControlFlow("for (int i = 0; i < value.length(); i++)")
+            .addStatement("final char ch = value.charAt(i)")
+            .beginControlFlow("if (ch < 0x80)")
+            .beginControlFlow("if (index >= limit || !equalsAscii(buffer.getByte(index++), (byte) ch, ignoreAsciiCase))")
+            .addStatement("return false")
+            .endControlFlow()
+            .addStatement("continue")
+            .endControlFlow()
+            .addStatement("int codePoint = ch")
+            .beginControlFlow("if ($1T.isHighSurrogate(ch) && i + 1 < value.length() && " +
+                "$1T.isLowSurrogate(value.charAt(i + 1)))", Character.class)
+            .addStatement("codePoint = $T.toCodePoint(ch, value.charAt(++i))", Character.class)
+            .nextControlFlow("else if ($T.isSurrogate(ch))", Character.class)
+            .addStatement("return false")
+            .endControlFlow()
+            .addStatement("final int size = codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4")
+            .beginControlFlow("if (index + size > limit)")
+            .addStatement("return false")
+            .endControlFlow()
+            .addStatement("final int lead = size == 2 ? 0xc0 : size == 3 ? 0xe0 : 0xf0")
+            .beginControlFlow("if ((buffer.getByte(index) & 0xff) != (lead | (codePoint >>> (6 * (size - 1)))))")
+            .addStatement("return false")
+            .endControlFlow()
+            .beginControlFlow("for (int j = 1; j < size; j++)")
+            .beginControlFlow("if ((buffer.getByte(index + j) & 0xff) != (0x80 | ((codePoint >>> (6 * (size - 1 - j))) & 0x3f)))")
+            .addStatement("return false")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("index += size")
+            .endControlFlow()
+            .addStatement("return index == limit")
+            .build();
+    }
+
+    private MethodSpec equalsAsciiMethod()
+    {
+        return methodBuilder("equalsAscii")
+            .addModifiers(PRIVATE, STATIC)
+            .addParameter(byte.class, "b1")
+            .addParameter(byte.class, "b2")
+            .addParameter(boolean.class, "ignoreAsciiCase")
+            .returns(boolean.class)
+            .beginControlFlow("if (b1 == b2)")
+            .addStatement("return true")
+            .endControlFlow()
+            .addStatement("final int lower = b1 | 0x20")
+            .addStatement("return ignoreAsciiCase && lower == (b2 | 0x20) && lower >= 'a' && lower <= 'z'")
+            .build();
+    }
+
+    private MethodSpec equalsBytesMethod()
+    {
+        return methodBuilder("equalsBytes")
+            .addModifiers(PRIVATE, STATIC)
+            .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+            .addParameter(int.class, "offset")
+            .addParameter(DIRECT_BUFFER_TYPE, "srcBuffer")
+            .addParameter(int.class, "srcOffset")
+            .addParameter(int.class, "length")
+            .returns(boolean.class)
+            .addStatement("final int wordLimit = offset + (length & ~(Long.BYTES - 1))")
+            .addStatement("final int limit = offset + length")
+            .addStatement("int index = offset")
+            .addStatement("int srcIndex = srcOffset")
+            .beginControlFlow("for (; index < wordLimit; index += Long.BYTES, srcIndex += Long.BYTES)")
+            .beginControlFlow("if (buffer.getLong(index) != srcBuffer.getLong(srcIndex))")
+            .addStatement("return false")
+            .endControlFlow()
+            .endControlFlow()
+            .beginControlFlow("for (; index < limit; index++, srcIndex++)")
+            .beginControlFlow("if (buffer.getByte(index) != srcBuffer.getByte(srcIndex))")
+            .addStatement("return false")
+            .endControlFlow()
+            .endControlFlow()
+            .addStatement("return true")
+            .build();
+    }
+
+    private static final class CacheClassBuilder
+    {
+        private final ClassName cacheType;
+        private final TypeSpec.Builder classBuilder;
+
+        private CacheClassBuilder(
+            ClassName stringType)
+        {
+            this.cacheType = stringType.nestedClass("Cache");
+            this.classBuilder = classBuilder(cacheType)
+                .addModifiers(PUBLIC, STATIC, FINAL);
+        }
+
+        public TypeSpec build()
+        {
+            return classBuilder
+                .addField(int.class, "mask", PRIVATE, FINAL)
+                .addField(int.class, "maxLength", PRIVATE, FINAL)
+                .addField(ArrayTypeName.of(UNSAFE_BUFFER_TYPE), "keys", PRIVATE, FINAL)
+                .addField(String[].class, "values", PRIVATE, FINAL)
+                .addField(long.class, "hits", PRIVATE)
+                .addField(long.class, "misses", PRIVATE)
+                .addMethod(constructor())
+                .addMethod(hitsMethod())
+                .addMethod(missesMethod())
+                .addMethod(getMethod())
+                .addMethod(indexMethod())
+                .build();
+        }
+
+        private MethodSpec constructor()
+        {
+            return constructorBuilder()
+                .addModifiers(PUBLIC)
+                .addParameter(int.class, "capacity")
+                .addParameter(int.class, "maxLength")
+                .beginControlFlow("if (capacity <= 0 || maxLength < 0)")
+                .addStatement("throw new IllegalArgumentException(\"capacity \" + capacity + \", maxLength \" + maxLength)")
+                .endControlFlow()
+                .addStatement("final int slots = $T.findNextPositivePowerOfTwo(capacity)", BIT_UTIL_TYPE)
+                .addStatement("this.mask = slots - 1")
+                .addStatement("this.maxLength = maxLength")
+                .addStatement("this.keys = new $T[slots]", UNSAFE_BUFFER_TYPE)
+                .addStatement("this.values = new String[slots]")
+                .build();
+        }
+
+        private MethodSpec hitsMethod()
+        {
+            return methodBuilder("hits")
+                .addModifiers(PUBLIC)
+                .returns(long.class)
+                .addStatement("return hits")
+                .build();
+        }
+
+        private MethodSpec missesMethod()
+        {
+            return methodBuilder("misses")
+                .addModifiers(PUBLIC)
+                .returns(long.class)
+                .addStatement("return misses")
+                .build();
+        }
+
+        private MethodSpec getMethod()
+        {
+            return methodBuilder("get")
+                .addModifiers(PUBLIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "length")
+                .returns(String.class)
+                .beginControlFlow("if (length > maxLength)")
+                .addStatement("misses++")
+                .addStatement("return buffer.getStringWithoutLengthUtf8(offset, length)")
+                .endControlFlow()
+                .addStatement("final int index = index(buffer, offset, length)")
+                .addStatement("final $T key = keys[index]", UNSAFE_BUFFER_TYPE)
+                .beginControlFlow("if (key != null && key.capacity() == length && equalsBytes(key, 0, buffer, offset, length))")
+                .addStatement("hits++")
+                .addStatement("return values[index]")
+                .endControlFlow()
+                .addStatement("misses++")
+                .addStatement("final byte[] bytes = new byte[length]")
+                .addStatement("buffer.getBytes(offset, bytes)")
+                .addStatement("final String value = new String(bytes, $T.UTF_8)", StandardCharsets.class)
+                .addStatement("keys[index] = new $T(bytes)", UNSAFE_BUFFER_TYPE)
+                .addStatement("values[index] = value")
+                .addStatement("return value")
+                .build();
+        }
+
+        private MethodSpec indexMethod()
+        {
+            return methodBuilder("index")
+                .addModifiers(PRIVATE)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "length")
+                .returns(int.class)
+                .addStatement("long word = length")
+                .beginControlFlow("if (length >= Long.BYTES)")
+                .addStatement("word += 31L * buffer.getLong(offset) + buffer.getLong(offset + length - Long.BYTES)")
+                .nextControlFlow("else")
+                .beginControlFlow("for (int i = 0; i < length; i++)")
+                .addStatement("word = 31L * word + buffer.getByte(offset + i)")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("final int hash = (int) (word ^ (word >>> 32)) * 0x9e3779b9")
+                .addStatement("return (hash ^ (hash >>> 16)) & mask")
+                .build();
+        }
+    }
+
     private static final class BuilderClassBuilder
     {
         private final ClassName stringType;
@@ -103,10 +500,12 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
         public TypeSpec build()
         {
             return classBuilder
+                .addField(maxAsciiLengthConstant())
                 .addMethod(constructor())
                 .addMethod(setMethod())
                 .addMethod(setDirectBufferMethod())
                 .addMethod(setStringMethod())
+                .addMethod(putAsciiMethod())
                 .build();
         }
 
@@ -139,6 +538,42 @@ public final class StringFlyweightGenerator extends ClassSpecGenerator
                 .build();
         }
 
+        private FieldSpec maxAsciiLengthConstant()
+        {
+            return FieldSpec.builder(int.class, "MAX_ASCII_LENGTH", PRIVATE, STATIC, FINAL)
+                .initializer("16")
+                .build();
+        }
+
+        private MethodSpec putAsciiMethod()
+        {
+            return methodBuilder("putAscii")
+                .addModifiers(PROTECTED, STATIC)
+                .addParameter(MUTABLE_DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "limit")
+                .addParameter(String.class, "value")
+                .addParameter(Charset.class, "charset")
+                .returns(int.class)
+                .beginControlFlow("if (charset != $1T.UTF_8 && charset != $1T.US_ASCII && charset != $1T.ISO_8859_1)",
+                    StandardCharsets.class)
+                .addStatement("return -1")
+                .endControlFlow()
+                .addStatement("final int length = value.length()")
+                .beginControlFlow("if (length > MAX_ASCII_LENGTH || length > limit - offset)")
+                .addStatement("return -1")
+                .endControlFlow()
+                .beginControlFlow("for (int i = 0; i < length; i++)")
+                .addStatement("final char ch = value.charAt(i)")
+                .beginControlFlow("if (ch >= 0x80)")
+                .addStatement("return -1")
+                .endControlFlow()
+                .addStatement("buffer.putByte(offset + i, (byte) ch)")
+                .endControlFlow()
+                .addStatement("return length")
+                .build();
+        }
+
         private MethodSpec setStringMethod()
         {
             return methodBuilder("set")
@@ -26,18 +26,24 @@ import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstAbstractMemberNode.NULL_DEFAULT;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NETWORK;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BUFFER_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BYTE_ARRAY;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.RING_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.UNSAFE_BUFFER_TYPE;
 
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -49,6 +55,7 @@ import java.util.function.IntBinaryOperator;
 import java.util.function.IntConsumer;
 import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
+import java.util.function.LongConsumer;
 
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstEnumNode;
@@ -70,7 +77,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
 {
     private static final Set<String> RESERVED_METHOD_NAMES = new HashSet<>(Arrays.asList(new String[]
     {
-        "offset", "buffer", "limit", "sizeof", "maxLimit", "wrap", "checkLimit", "build", "rewrap"
+        "offset", "buffer", "limit", "sizeof", "maxLimit", "wrap", "checkLimit", "build", "rewrap",
+        "tryClaim"
     }));
 
     private static final ClassName INT_ITERATOR_CLASS_NAME = ClassName.get(PrimitiveIterator.OfInt.class);
@@ -100,11 +108,15 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
     private final MemberFieldGenerator memberField;
     private final MemberSizeConstantGenerator memberSizeConstant;
     private final MemberOffsetConstantGenerator memberOffsetConstant;
+    private final SizeofConstantGenerator sizeofConstant;
     private final MemberAccessorGenerator memberAccessor;
+    private final LimitOfMethodGenerator limitOfMethod;
+    private final LimitOfMethodGenerator resumableLimitOfMethod;
+    private final LimitOfMethodGenerator requiredOfMethod;
     private final TryWrapMethodGenerator tryWrapMethod;
     private final WrapMethodGenerator wrapMethod;
     private final LimitMethodGenerator limitMethod;
-    private final ToStringMethodGenerator toStringMethod;
+    private final AppendToMethodGenerator appendToMethod;
     private final BuilderClassGenerator builderClass;
 
     public StructFlyweightGenerator(
@@ -120,13 +132,17 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         this.typeId = new TypeIdGenerator(structName, builder);
         this.memberSizeConstant = new MemberSizeConstantGenerator(structName, builder);
         this.memberOffsetConstant = new MemberOffsetConstantGenerator(structName, builder);
-        this.memberField = new MemberFieldGenerator(structName, builder);
-        this.memberAccessor = new MemberAccessorGenerator(structName, builder);
+        this.sizeofConstant = new SizeofConstantGenerator(structName, builder, resolver);
+        this.memberField = new MemberFieldGenerator(structName, builder, resolver);
+        this.memberAccessor = new MemberAccessorGenerator(structName, builder, resolver);
+        this.limitOfMethod = new LimitOfMethodGenerator(false);
+        this.resumableLimitOfMethod = new LimitOfMethodGenerator(flyweightName.nestedClass("Progress"));
+        this.requiredOfMethod = new LimitOfMethodGenerator(true);
         this.tryWrapMethod = new TryWrapMethodGenerator(structName);
         this.wrapMethod = new WrapMethodGenerator(structName);
-        this.limitMethod = new LimitMethodGenerator();
-        this.toStringMethod = new ToStringMethodGenerator();
-        this.builderClass = new BuilderClassGenerator(structName, flyweightName, resolver);
+        this.limitMethod = new LimitMethodGenerator(sizeofConstant);
+        this.appendToMethod = new AppendToMethodGenerator();
+        this.builderClass = new BuilderClassGenerator(structName, flyweightName, sizeofConstant, resolver);
     }
 
     public StructFlyweightGenerator typeId(
@@ -151,12 +167,17 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
     {
         memberOffsetConstant.addMember(name, typeName, unsignedTypeName, size, sizeName);
         memberSizeConstant.addMember(name, type, typeName, unsignedType, unsignedTypeName, size);
-        memberField.addMember(name, typeName, unsignedTypeName, size, sizeName, byteOrder, defaultValue);
+        sizeofConstant.addMember(name, type, typeName, size, sizeName);
+        memberField.addMember(name, typeName, unsignedType, unsignedTypeName, size, sizeName, byteOrder, defaultValue);
         memberAccessor.addMember(name, type, typeName, unsignedType, unsignedTypeName, byteOrder, size, sizeName, defaultValue);
         limitMethod.addMember(name, typeName, unsignedTypeName, size, sizeName);
+        limitOfMethod.addMember(name, type, typeName, unsignedTypeName, size, sizeName, usedAsSize, defaultValue, byteOrder);
+        resumableLimitOfMethod.addMember(name, type, typeName, unsignedTypeName, size, sizeName, usedAsSize, defaultValue,
+                byteOrder);
+        requiredOfMethod.addMember(name, type, typeName, unsignedTypeName, size, sizeName, usedAsSize, defaultValue, byteOrder);
         tryWrapMethod.addMember(name, type, typeName, unsignedType, unsignedTypeName, size, sizeName, defaultValue);
         wrapMethod.addMember(name, type, typeName, unsignedTypeName, size, sizeName, defaultValue);
-        toStringMethod.addMember(name, typeName, unsignedTypeName, size, sizeName);
+        appendToMethod.addMember(name, typeName, unsignedTypeName, size, sizeName);
         builderClass.addMember(name, type, typeName, unsignedType, unsignedTypeName, size, sizeName, sizeTypeName,
                 usedAsSize, defaultValue, byteOrder);
 
@@ -169,17 +190,41 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         typeId.build();
         memberOffsetConstant.build();
         memberSizeConstant.build();
+        sizeofConstant.build();
         memberField.build();
         memberAccessor.build();
 
         return builder.addMethod(wrapMethod.generate())
+                      .addMethod(limitOfMethod())
+                      .addMethod(validateMethod())
+                      .addMethod(limitOfMethod.generate())
+                      .addMethod(resumableLimitOfMethod.generate())
+                      .addMethod(requiredOfMethod.generate())
+                      .addMethod(requiredMethod())
                       .addMethod(tryWrapMethod.generate())
+                      .addMethod(tryWrapWithProgressMethod())
                       .addMethod(limitMethod.generate())
-                      .addMethod(toStringMethod.generate())
+                      .addMethod(appendToMethod.generate())
+                      .addMethod(toStringMethod())
                       .addType(builderClass.generate())
                       .build();
     }
 
+    private MethodSpec tryWrapWithProgressMethod()
+    {
+        return methodBuilder("tryWrap")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .addParameter(resumableLimitOfMethod.progressType, "progress")
+                .returns(thisName)
+                .addStatement("return limitOf(buffer, offset, maxLimit, progress) < 0 ? null : " +
+                        "tryWrap(buffer, offset, maxLimit)")
+                .build();
+    }
+
     private static final class TypeIdGenerator extends ClassSpecMixinGenerator
     {
         private int typeId;
@@ -251,6 +296,124 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         }
     }
 
+    private static final class SizeofConstantGenerator extends ClassSpecMixinGenerator
+    {
+        private final TypeResolver resolver;
+        private final List<CodeBlock> sizeof = new ArrayList<>();
+        private final List<CodeBlock> maxSizeof = new ArrayList<>();
+        private boolean fixedSize = true;
+        private boolean boundedSize = true;
+        private String lastName;
+        private int lastSize;
+
+        private SizeofConstantGenerator(
+            ClassName thisType,
+            TypeSpec.Builder builder,
+            TypeResolver resolver)
+        {
+            super(thisType, builder);
+            this.resolver = resolver;
+        }
+
+        public SizeofConstantGenerator addMember(
+            String name,
+            AstType type,
+            TypeName typeName,
+            int size,
+            String sizeName)
+        {
+            if (typeName.isPrimitive())
+            {
+                if (sizeName != null)
+                {
+                    fixedSize = false;
+                    boundedSize = false;
+                }
+                lastName = name;
+                lastSize = size;
+            }
+            else
+            {
+                if (AstType.OCTETS.equals(type) && size >= 0)
+                {
+                    sizeof.add(CodeBlock.of("$L + $L", offset(name), size));
+                    maxSizeof.add(CodeBlock.of("$L + $L", offset(name), size));
+                }
+                else if (!DIRECT_BUFFER_TYPE.equals(typeName) && !AstType.OCTETS.equals(type) && resolver.isBoundedSize(type))
+                {
+                    ClassName className = (ClassName) typeName;
+                    if (resolver.isFixedSize(type))
+                    {
+                        sizeof.add(CodeBlock.of("$L + $T.SIZEOF", offset(name), className));
+                    }
+                    else
+                    {
+                        fixedSize = false;
+                    }
+                    maxSizeof.add(CodeBlock.of("$L + $T.MAX_SIZEOF", offset(name), className));
+                }
+                else
+                {
+                    fixedSize = false;
+                    boundedSize = false;
+                }
+                lastName = null;
+            }
+            return this;
+        }
+
+        public boolean isFixedSize()
+        {
+            return fixedSize;
+        }
+
+        public boolean isBoundedSize()
+        {
+            return boundedSize;
+        }
+
+        @Override
+        public TypeSpec.Builder build()
+        {
+            if (lastName != null)
+            {
+                CodeBlock tail = lastSize != -1 ?
+                    CodeBlock.of("$L + ($L * $L)", offset(lastName), size(lastName), arraySize(lastName)) :
+                    CodeBlock.of("$L + $L", offset(lastName), size(lastName));
+                sizeof.add(tail);
+                maxSizeof.add(tail);
+            }
+
+            if (fixedSize)
+            {
+                builder.addField(FieldSpec.builder(int.class, "SIZEOF", PUBLIC, STATIC, FINAL)
+                                          .initializer(sum(sizeof))
+                                          .build());
+                builder.addField(FieldSpec.builder(int.class, "MAX_SIZEOF", PUBLIC, STATIC, FINAL)
+                                          .initializer("SIZEOF")
+                                          .build());
+            }
+            else if (boundedSize)
+            {
+                builder.addField(FieldSpec.builder(int.class, "MAX_SIZEOF", PUBLIC, STATIC, FINAL)
+                                          .initializer(sum(maxSizeof))
+                                          .build());
+            }
+            return builder;
+        }
+
+        private static CodeBlock sum(
+            List<CodeBlock> terms)
+        {
+            CodeBlock.Builder sum = CodeBlock.builder();
+            for (int i = 0; i < terms.size(); i++)
+            {
+                sum.add(i == 0 ? "$L" : " + $L", terms.get(i));
+            }
+            return terms.isEmpty() ? CodeBlock.of("0") : sum.build();
+        }
+    }
+
     private static final class MemberOffsetConstantGenerator extends ClassSpecMixinGenerator
     {
         private String previousName;
@@ -299,20 +462,24 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
 
     private static final class MemberFieldGenerator extends ClassSpecMixinGenerator
     {
+        private final TypeResolver resolver;
         private boolean generateIntPrimitiveIterator;
         private boolean generateLongPrimitiveIterator;
 
         private MemberFieldGenerator(
             ClassName thisType,
-            TypeSpec.Builder builder)
+            TypeSpec.Builder builder,
+            TypeResolver resolver)
         {
             super(thisType, builder);
+            this.resolver = resolver;
         }
 
         public MemberFieldGenerator addMember(
             String name,
             TypeName type,
-            TypeName unsignedType,
+            AstType unsignedType,
+            TypeName unsignedTypeName,
             int size,
             String sizeName,
             AstByteOrder byteOrder,
@@ -320,11 +487,13 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         {
             if (!type.isPrimitive())
             {
-                addNonPrimitiveMember(name, type, unsignedType, byteOrder, defaultValue);
+                boolean fixedSizeItem = unsignedType != null && resolver.isFixedSize(unsignedType);
+                addNonPrimitiveMember(name, type, resolver.resolveSpecializedType(type), fixedSizeItem, byteOrder,
+                    defaultValue);
             }
             else if (size != -1 || sizeName != null)
             {
-                addIntegerArrayMember(name, type, unsignedType, sizeName != null);
+                addIntegerArrayMember(name, type, unsignedTypeName, sizeName != null);
             }
             return this;
         }
@@ -354,8 +523,9 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
 
         private MemberFieldGenerator addNonPrimitiveMember(
             String name,
+            TypeName declaredType,
             TypeName type,
-            TypeName unsignedType,
+            boolean fixedSizeItem,
             AstByteOrder byteOrder,
             Object defaultValue)
         {
@@ -370,11 +540,22 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 fieldBuilder.initializer("new $T(new byte[0])", UNSAFE_BUFFER_TYPE);
             }
-            else if (type instanceof ParameterizedTypeName)
+            else if (declaredType instanceof ParameterizedTypeName)
             {
-                ParameterizedTypeName parameterizedType = (ParameterizedTypeName) type;
+                ParameterizedTypeName parameterizedType = (ParameterizedTypeName) declaredType;
                 TypeName typeArgument = parameterizedType.typeArguments.get(0);
-                fieldBuilder.initializer("new $T(new $T())", type, typeArgument);
+                if (fixedSizeItem)
+                {
+                    fieldBuilder.initializer("new $T(new $T(), $T.SIZEOF)", type, typeArgument, typeArgument);
+                }
+                else if (type != declaredType)
+                {
+                    fieldBuilder.initializer("new $T()", type);
+                }
+                else
+                {
+                    fieldBuilder.initializer("new $T(new $T())", type, typeArgument);
+                }
             }
             else if (type instanceof ClassName && (isString16Type((ClassName) type) ||
                     isString32Type((ClassName) type)) && byteOrder == NETWORK)
@@ -387,6 +568,11 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             }
 
             builder.addField(fieldBuilder.build());
+
+            if (!TypeNames.DIRECT_BUFFER_TYPE.equals(type))
+            {
+                builder.addField(TypeName.INT, dynamicLimit(name), PRIVATE);
+            }
             return this;
         }
 
@@ -447,21 +633,13 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     .addStatement("return accessor.applyAsInt(offset + fieldSize * index++)")
                     .build());
 
+            builder.addMethod(appendToIteratorMethod("applyAsInt"));
+
             builder.addMethod(MethodSpec.methodBuilder("toString")
                             .addAnnotation(Override.class)
                             .addModifiers(PUBLIC)
                             .returns(String.class)
-                            .addStatement("StringBuffer result = new StringBuffer().append($S)", "[")
-                            .addStatement("boolean first = true")
-                            .beginControlFlow("while(hasNext())")
-                            .beginControlFlow("if (!first)")
-                            .addStatement("result.append($S)", ", ")
-                            .endControlFlow()
-                            .addStatement("result.append(nextInt())")
-                            .addStatement("first = false")
-                            .endControlFlow()
-                            .addStatement("result.append($S)", "]")
-                            .addStatement("return result.toString()")
+                            .addStatement("return appendTo(new StringBuilder()).toString()")
                             .build());
 
             MemberFieldGenerator.this.builder.addType(builder.build());
@@ -510,36 +688,48 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     .addStatement("return accessor.applyAsLong(offset + fieldSize * index++)")
                     .build());
 
+            builder.addMethod(appendToIteratorMethod("applyAsLong"));
+
             builder.addMethod(MethodSpec.methodBuilder("toString")
                             .addAnnotation(Override.class)
                             .addModifiers(PUBLIC)
                             .returns(String.class)
-                            .addStatement("StringBuffer result = new StringBuffer().append($S)", "[")
-                            .addStatement("boolean first = true")
-                            .beginControlFlow("while(hasNext())")
-                            .beginControlFlow("if (!first)")
-                            .addStatement("result.append($S)", ", ")
-                            .endControlFlow()
-                            .addStatement("result.append(nextLong())")
-                            .addStatement("first = false")
-                            .endControlFlow()
-                            .addStatement("result.append($S)", "]")
-                            .addStatement("return result.toString()")
+                            .addStatement("return appendTo(new StringBuilder()).toString()")
                             .build());
 
             MemberFieldGenerator.this.builder.addType(builder.build());
         }
+
+        private MethodSpec appendToIteratorMethod(
+            String applyName)
+        {
+            return MethodSpec.methodBuilder("appendTo")
+                    .addParameter(StringBuilder.class, "builder")
+                    .returns(StringBuilder.class)
+                    .addStatement("builder.append('[')")
+                    .beginControlFlow("for (int i = 0; i < count; i++)")
+                    .beginControlFlow("if (i != 0)")
+                    .addStatement("builder.append($S)", ", ")
+                    .endControlFlow()
+                    .addStatement("builder.append(accessor.$L(offset + fieldSize * i))", applyName)
+                    .endControlFlow()
+                    .addStatement("return builder.append(']')")
+                    .build();
+        }
     }
 
     private static final class MemberAccessorGenerator extends ClassSpecMixinGenerator
     {
+        private final TypeResolver resolver;
         private String anchorLimit;
 
         private MemberAccessorGenerator(
             ClassName thisType,
-            TypeSpec.Builder builder)
+            TypeSpec.Builder builder,
+            TypeResolver resolver)
         {
             super(thisType, builder);
+            this.resolver = resolver;
         }
 
         public MemberAccessorGenerator addMember(
@@ -557,7 +747,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 if (size != -1 || sizeName != null)
                 {
-                    addIntegerArrayMember(name, typeName, unsignedTypeName, byteOrder, sizeName);
+                    addIntegerArrayMember(name, type, typeName, unsignedTypeName, byteOrder, sizeName);
                 }
                 else
                 {
@@ -573,12 +763,13 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
 
         private void addIntegerArrayMember(
             String name,
-            TypeName type,
-            TypeName unsignedType,
+            AstType type,
+            TypeName typeName,
+            TypeName unsignedTypeName,
             AstByteOrder byteOrder,
             String sizeName)
         {
-            TypeName generateType = (unsignedType != null) ? unsignedType : type;
+            TypeName generateType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
             generateType = generateType == TypeName.LONG ? LONG_ITERATOR_CLASS_NAME
                     : INT_ITERATOR_CLASS_NAME;
             builder.addMethod(methodBuilder(methodName(name))
@@ -589,6 +780,47 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     .endControlFlow()
                     .addStatement("return $L",  iterator(name))
                     .build());
+
+            TypeName targetType = generateType == LONG_ITERATOR_CLASS_NAME ? TypeName.LONG : TypeName.INT;
+            ClassName iteratorClass = iteratorClass(thisType, typeName, unsignedTypeName);
+
+            CodeBlock.Builder get = CodeBlock.builder()
+                .addStatement("final $T iterator = $L", iteratorClass, iterator(name))
+                .beginControlFlow("if (iterator == null)")
+                .addStatement("return -1")
+                .endControlFlow()
+                .addStatement("final int count = iterator.count")
+                .beginControlFlow("for (int i = 0, o = iterator.offset; i < count; i++, o += $L)", size(name))
+                .add("$[dst[dstOffset + i] = ");
+            addBufferGet(get, targetType, type, typeName, unsignedTypeName, "o");
+            get.add(";\n$]");
+            get.endControlFlow();
+            get.addStatement("return count");
+
+            builder.addMethod(methodBuilder(methodName(name))
+                    .addModifiers(PUBLIC)
+                    .addParameter(targetType == TypeName.LONG ? long[].class : int[].class, "dst")
+                    .addParameter(int.class, "dstOffset")
+                    .returns(int.class)
+                    .addCode(get.build())
+                    .build());
+
+            CodeBlock.Builder forEach = CodeBlock.builder()
+                .addStatement("final $T iterator = $L", iteratorClass, iterator(name))
+                .beginControlFlow("if (iterator != null)")
+                .beginControlFlow("for (int i = 0, o = iterator.offset; i < iterator.count; i++, o += $L)", size(name))
+                .add("$[consumer.accept(");
+            addBufferGet(forEach, targetType, type, typeName, unsignedTypeName, "o");
+            forEach.add(");\n$]");
+            forEach.endControlFlow();
+            forEach.endControlFlow();
+
+            builder.addMethod(methodBuilder(forEachMethodName(name))
+                    .addModifiers(PUBLIC)
+                    .addParameter(targetType == TypeName.LONG ? LongConsumer.class : IntConsumer.class, "consumer")
+                    .addCode(forEach.build())
+                    .build());
+
             if (sizeName != null)
             {
                 anchorLimit = dynamicLimit(name);
@@ -626,7 +858,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                         .build());
             }
 
-            TypeName returnType = type;
+            TypeName returnType = resolver.resolveSpecializedType(type);
             if (defaultValue == NULL_DEFAULT && sizeName != null)
             {
                 codeBlock.addStatement("return $L() == -1 ? null : $LRO", methodName(sizeName), name);
@@ -646,13 +878,26 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 codeBlock.addStatement("return $LRO", name);
             }
 
-            anchorLimit = name + "RO." + (DIRECT_BUFFER_TYPE.equals(type) ? "capacity()" : "limit()");
+            anchorLimit = DIRECT_BUFFER_TYPE.equals(type) ? name + "RO.capacity()" : dynamicLimit(name);
 
             builder.addMethod(methodBuilder(methodName(name))
                     .addModifiers(PUBLIC)
                     .returns(returnType)
                     .addCode(codeBlock.build())
                     .build());
+
+            if (isVarintArrayType(type) && defaultValue != NULL_DEFAULT)
+            {
+                TypeName itemType = ((ParameterizedTypeName) type).typeArguments.get(0);
+                builder.addMethod(methodBuilder(methodName(name))
+                        .addModifiers(PUBLIC)
+                        .addParameter(isVarint32Type(itemType) ? int[].class : long[].class, "dst")
+                        .addParameter(int.class, "dstOffset")
+                        .returns(int.class)
+                        .addStatement("return $T.decodeAll(buffer(), $LRO.fieldsOffset(), $LRO.limit(), dst, dstOffset)",
+                                itemType, name, name)
+                        .build());
+            }
         }
 
         private void addPrimitiveMember(
@@ -665,6 +910,35 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         {
             TypeName generateType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
 
+            String offset = anchorLimit != null ? anchorLimit : "offset()";
+            builder.addMethod(methodBuilder(methodName(name))
+                    .addModifiers(PUBLIC)
+                    .returns(generateType)
+                    .addCode(primitiveGetter(name, type, typeName, unsignedTypeName, byteOrder, "buffer()", offset))
+                    .build());
+
+            if (anchorLimit == null)
+            {
+                builder.addMethod(methodBuilder(methodName(name))
+                        .addModifiers(PUBLIC, STATIC)
+                        .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                        .addParameter(int.class, "offset")
+                        .returns(generateType)
+                        .addCode(primitiveGetter(name, type, typeName, unsignedTypeName, byteOrder, "buffer", "offset"))
+                        .build());
+            }
+        }
+
+        private CodeBlock primitiveGetter(
+            String name,
+            AstType type,
+            TypeName typeName,
+            TypeName unsignedTypeName,
+            AstByteOrder byteOrder,
+            String buffer,
+            String offset)
+        {
+            TypeName generateType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
             CodeBlock.Builder codeBlock = CodeBlock.builder();
 
             String getterName = GETTER_NAMES.get(typeName);
@@ -675,25 +949,19 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
 
             if (type.bits() == 24)
             {
-                if (anchorLimit != null)
-                {
-                    codeBlock.addStatement("int offset = $L + $L", anchorLimit, offset(name));
-                }
-                else
-                {
-                    codeBlock.addStatement("int offset = offset() + $L", offset(name));
-                }
+                codeBlock.addStatement("int fieldOffset = $L + $L", offset, offset(name));
 
                 codeBlock.add("$[")
-                         .add("int bits = (buffer().getByte(offset) & 0xff) << 16 |")
-                         .add(" (buffer().getByte(offset + 1) & 0xff) << 8 |")
-                         .add(" (buffer().getByte(offset + 2) & 0xff)")
+                         .add("int bits = ($L.getByte(fieldOffset) & 0xff) << 16 |", buffer)
+                         .add(" ($L.getByte(fieldOffset + 1) & 0xff) << 8 |", buffer)
+                         .add(" ($L.getByte(fieldOffset + 2) & 0xff)", buffer)
                          .add(";\n$]");
 
                 if (byteOrder != AstByteOrder.NETWORK)
                 {
+                    String shift = unsignedTypeName != null ? ">>>" : ">>";
                     codeBlock.beginControlFlow("if ($T.NATIVE_BYTE_ORDER != $T.BIG_ENDIAN)", BUFFER_UTIL_TYPE, ByteOrder.class);
-                    codeBlock.addStatement("bits = Integer.reverseBytes(bits) >> 8");
+                    codeBlock.addStatement("bits = Integer.reverseBytes(bits) $L 8", shift);
                     codeBlock.endControlFlow();
                 }
 
@@ -708,14 +976,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     codeBlock.add("($T)(", generateType);
                 }
 
-                if (anchorLimit != null)
-                {
-                    codeBlock.add("buffer().$L($L + $L", getterName, anchorLimit, offset(name));
-                }
-                else
-                {
-                    codeBlock.add("buffer().$L(offset() + $L", getterName, offset(name));
-                }
+                codeBlock.add("$L.$L($L + $L", buffer, getterName, offset, offset(name));
 
                 if (byteOrder == AstByteOrder.NETWORK)
                 {
@@ -756,16 +1017,13 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 codeBlock.add(";\n$]");
             }
 
-            builder.addMethod(methodBuilder(methodName(name))
-                    .addModifiers(PUBLIC)
-                    .returns(generateType)
-                    .addCode(codeBlock.build())
-                    .build());
+            return codeBlock.build();
         }
     }
 
     private final class LimitMethodGenerator extends MethodSpecGenerator
     {
+        private final SizeofConstantGenerator sizeofConstant;
         private String anchorName;
         private TypeName anchorType;
         private String lastName;
@@ -773,12 +1031,14 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         private int lastSize;
         private String lastSizeName;
 
-        private LimitMethodGenerator()
+        private LimitMethodGenerator(
+            SizeofConstantGenerator sizeofConstant)
         {
             super(methodBuilder("limit")
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
                     .returns(int.class));
+            this.sizeofConstant = sizeofConstant;
         }
 
         public LimitMethodGenerator addMember(
@@ -809,6 +1069,10 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             {
                 builder.addStatement("return offset()");
             }
+            else if (sizeofConstant.isFixedSize())
+            {
+                builder.addStatement("return offset() + SIZEOF");
+            }
             else
             {
                 CodeBlock.Builder code = CodeBlock.builder();
@@ -819,13 +1083,9 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     {
                         code.add("return $L().capacity()", methodName(anchorName));
                     }
-                    else if (anchorType.isPrimitive()) // variable length array
-                    {
-                        code.add("return $L", dynamicLimit(anchorName));
-                    }
                     else
                     {
-                        code.add("return $LRO.limit()", anchorName);
+                        code.add("return $L", dynamicLimit(anchorName));
                     }
                 }
                 else
@@ -851,6 +1111,378 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         }
 
     }
+    private final class LimitOfMethodGenerator extends MethodSpecGenerator
+    {
+        private final Map<String, String> sizeValues = new HashMap<>();
+        private final Set<String> pendingSizes = new HashSet<>();
+        private final ClassName progressType;
+        private final boolean resumable;
+        private final boolean required;
+        private final String depth;
+        private String anchorLimit = "offset";
+        private boolean sizedLimitDeclared;
+        private boolean resumeOpen;
+        private int memberIndex;
+        private String lastName;
+        private TypeName lastType;
+        private int lastSize;
+        private String lastSizeName;
+
+        private LimitOfMethodGenerator(
+            boolean required)
+        {
+            // requiredOf walks the same members as limitOf, returning the bytes still needed where limitOf returns -2
+            super(required ? requiredOfMethodBuilder() : limitOfMethodBuilder());
+            this.progressType = null;
+            this.resumable = false;
+            this.required = required;
+            if (required)
+            {
+                this.depth = "DEFAULT_MAX_DEPTH - 1";
+            }
+            else
+            {
+                this.depth = "depth - 1";
+                builder.beginControlFlow("if (depth < 1)")
+                       .addStatement("return -1")
+                       .endControlFlow()
+                       .beginControlFlow("if (offset > maxLimit)")
+                       .addStatement("return -2")
+                       .endControlFlow();
+            }
+        }
+
+        private LimitOfMethodGenerator(
+            ClassName progressType)
+        {
+            super(methodBuilder("limitOf")
+                    .addModifiers(PUBLIC, STATIC)
+                    .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "maxLimit")
+                    .addParameter(progressType, "progress")
+                    .returns(int.class));
+            this.progressType = progressType;
+            this.resumable = true;
+            this.required = false;
+            this.depth = "DEFAULT_MAX_DEPTH - 1";
+            this.anchorLimit = "anchor";
+            builder.beginControlFlow("if (offset > maxLimit || maxLimit - offset < progress.required())")
+                   .addStatement("return -2")
+                   .endControlFlow()
+                   .addStatement("int anchor = offset + progress.length()");
+        }
+
+        public LimitOfMethodGenerator addMember(
+            String name,
+            AstType type,
+            TypeName typeName,
+            TypeName unsignedTypeName,
+            int size,
+            String sizeName,
+            boolean usedAsSize,
+            Object defaultValue,
+            AstByteOrder byteOrder)
+        {
+            if (sizeName != null)
+            {
+                pendingSizes.remove(sizeName);
+            }
+
+            if (!typeName.isPrimitive() && !DIRECT_BUFFER_TYPE.equals(typeName))
+            {
+                addNonPrimitiveMember(name, typeName, size, sizeName, usedAsSize, defaultValue, byteOrder);
+            }
+            else if (typeName.isPrimitive() && size == -1)
+            {
+                if (sizeName != null)
+                {
+                    addVariableIntegerArrayMember(name, sizeName);
+                }
+                else
+                {
+                    addPrimitiveMember(name, type, typeName, unsignedTypeName, usedAsSize, byteOrder);
+                }
+            }
+
+            if (usedAsSize)
+            {
+                pendingSizes.add(name);
+            }
+
+            memberIndex++;
+            if (resumeOpen && pendingSizes.isEmpty() && !"anchor".equals(anchorLimit))
+            {
+                builder.addStatement("anchor = $L", anchorLimit)
+                       .addStatement("progress.resume($L, anchor - offset)", memberIndex)
+                       .endControlFlow();
+                anchorLimit = "anchor";
+                resumeOpen = false;
+            }
+
+            lastName = name;
+            lastType = typeName;
+            lastSize = size;
+            lastSizeName = sizeName;
+
+            return this;
+        }
+
+        private void beginResume()
+        {
+            if (resumable && !resumeOpen)
+            {
+                builder.beginControlFlow("if (progress.member() <= $L)", memberIndex);
+                sizedLimitDeclared = false;
+                resumeOpen = true;
+            }
+        }
+
+        private void addReturnIfBeyond(
+            String limit)
+        {
+            builder.beginControlFlow("if ($L > maxLimit)", limit);
+            if (resumable)
+            {
+                builder.addStatement("return progress.require($L - offset)", limit);
+            }
+            else if (required)
+            {
+                builder.addStatement("return $L - offset", limit);
+            }
+            else
+            {
+                builder.addStatement("return -2");
+            }
+            builder.endControlFlow();
+        }
+
+        private void addReturnInvalid()
+        {
+            if (resumable)
+            {
+                builder.addStatement("progress.reset()");
+            }
+            builder.addStatement("return -1");
+        }
+
+        private void addPrimitiveMember(
+            String name,
+            AstType type,
+            TypeName typeName,
+            TypeName unsignedTypeName,
+            boolean usedAsSize,
+            AstByteOrder byteOrder)
+        {
+            if (usedAsSize)
+            {
+                beginResume();
+                String memberOffset = String.format("%s + %s", anchorLimit, offset(name));
+                addReturnIfBeyond(String.format("%s + %s", memberOffset, size(name)));
+                addSizeValue(name, primitiveValue(type, typeName, unsignedTypeName, byteOrder, memberOffset));
+            }
+        }
+
+        private void addSizeValue(
+            String name,
+            CodeBlock value)
+        {
+            String sizeValue = "size" + initCap(name);
+            builder.addStatement("final int $L = (int) $L", sizeValue, value);
+            sizeValues.put(name, sizeValue);
+        }
+
+        private void addVariableIntegerArrayMember(
+            String name,
+            String sizeName)
+        {
+            beginResume();
+            String offsetName = "offset" + initCap(name);
+            String limitName = dynamicLimit(name);
+            String sizeValue = sizeValues.get(sizeName);
+            builder.addStatement("final int $L = $L + $L", offsetName, anchorLimit, offset(name))
+                   .addStatement("final int $L = $L == -1 ? $L : $L + $L * $L", limitName, sizeValue,
+                       offsetName, offsetName, size(name), sizeValue);
+            builder.beginControlFlow("if ($L < $L)", limitName, offsetName);
+            addReturnInvalid();
+            builder.endControlFlow();
+            addReturnIfBeyond(limitName);
+            anchorLimit = limitName;
+        }
+
+        private void addNonPrimitiveMember(
+            String name,
+            TypeName typeName,
+            int size,
+            String sizeName,
+            boolean usedAsSize,
+            Object defaultValue,
+            AstByteOrder byteOrder)
+        {
+            beginResume();
+            String memberOffset = String.format("%s + %s", anchorLimit, offset(name));
+            String memberMaxLimit = "maxLimit";
+            if (size >= 0 || sizeName != null)
+            {
+                if (!sizedLimitDeclared)
+                {
+                    builder.addStatement("int sizedLimit");
+                    sizedLimitDeclared = true;
+                }
+                if (size >= 0)
+                {
+                    builder.addStatement("sizedLimit = $L + $L", memberOffset, size);
+                }
+                else if (defaultValue == NULL_DEFAULT)
+                {
+                    String sizeValue = sizeValues.get(sizeName);
+                    builder.addStatement("sizedLimit = $L + ($L == -1 ? 0 : $L)", memberOffset, sizeValue, sizeValue);
+                }
+                else
+                {
+                    builder.addStatement("sizedLimit = $L + $L", memberOffset, sizeValues.get(sizeName));
+                }
+                addReturnIfBeyond("sizedLimit");
+                memberMaxLimit = "sizedLimit";
+            }
+
+            String limitName = dynamicLimit(name);
+            TypeName rawType = typeName instanceof ParameterizedTypeName ? ((ParameterizedTypeName) typeName).rawType : typeName;
+            boolean bigEndian = !(typeName instanceof ParameterizedTypeName) && byteOrder == NETWORK &&
+                (isString16Type((ClassName) typeName) || isString32Type((ClassName) typeName));
+            if (bigEndian)
+            {
+                builder.addStatement("final int $L = $T.limitOf(buffer, $L, $L, $T.BIG_ENDIAN)", limitName, typeName,
+                    memberOffset, memberMaxLimit, ByteOrder.class);
+            }
+            else
+            {
+                builder.addStatement("final int $L = $T.limitOf(buffer, $L, $L, $L)", limitName, rawType,
+                    memberOffset, memberMaxLimit, depth);
+            }
+            // only a member running past maxLimit needs more bytes, a sized member failing inside its own bound is malformed
+            if (!"maxLimit".equals(memberMaxLimit) || resumable || required)
+            {
+                if ("maxLimit".equals(memberMaxLimit) && (resumable || required))
+                {
+                    String relativeOffset = "offset".equals(anchorLimit) ? offset(name) : memberOffset + " - offset";
+                    CodeBlock memberRequired = bigEndian ?
+                        CodeBlock.of("$L + $T.requiredOf(buffer, $L, maxLimit, $T.BIG_ENDIAN)", relativeOffset, typeName,
+                            memberOffset, ByteOrder.class) :
+                        CodeBlock.of("$L + $T.requiredOf(buffer, $L, maxLimit)", relativeOffset, rawType, memberOffset);
+                    builder.beginControlFlow("if ($L == -2)", limitName)
+                           .addStatement(resumable ? "return progress.require($L)" : "return $L", memberRequired)
+                           .endControlFlow();
+                }
+                builder.beginControlFlow("if ($L < 0)", limitName);
+                addReturnInvalid();
+                builder.endControlFlow();
+            }
+            else
+            {
+                builder.beginControlFlow("if ($L < 0)", limitName)
+                       .addStatement("return $L", limitName)
+                       .endControlFlow();
+            }
+
+            if (usedAsSize)
+            {
+                addSizeValue(name, CodeBlock.of("$T.valueOf(buffer, $L, $L)", typeName, memberOffset, limitName));
+            }
+            anchorLimit = limitName;
+        }
+
+        private CodeBlock primitiveValue(
+            AstType type,
+            TypeName typeName,
+            TypeName unsignedTypeName,
+            AstByteOrder byteOrder,
+            String offset)
+        {
+            CodeBlock value;
+            if (type.bits() == 24)
+            {
+                CodeBlock bits = CodeBlock.of("((buffer.getByte($L) & 0xff) << 16 | (buffer.getByte($L + 1) & 0xff) << 8 | " +
+                    "(buffer.getByte($L + 2) & 0xff))", offset, offset, offset);
+                value = byteOrder == NETWORK ? bits :
+                    CodeBlock.of("($T.NATIVE_BYTE_ORDER != $T.BIG_ENDIAN ? $T.reverseBytes($L) $L 8 : $L)", BUFFER_UTIL_TYPE,
+                        ByteOrder.class, Integer.class, bits, unsignedTypeName != null ? ">>>" : ">>", bits);
+            }
+            else
+            {
+                boolean bigEndian = byteOrder == NETWORK &&
+                    (typeName == TypeName.SHORT || typeName == TypeName.INT || typeName == TypeName.LONG);
+                CodeBlock get = bigEndian ?
+                    CodeBlock.of("buffer.$L($L, $T.BIG_ENDIAN)", GETTER_NAMES.get(typeName), offset, ByteOrder.class) :
+                    CodeBlock.of("buffer.$L($L)", GETTER_NAMES.get(typeName), offset);
+                if (unsignedTypeName == null || unsignedTypeName.equals(typeName))
+                {
+                    value = get;
+                }
+                else if (typeName == TypeName.BYTE)
+                {
+                    value = CodeBlock.of("($L & 0xFF)", get);
+                }
+                else if (typeName == TypeName.SHORT)
+                {
+                    value = CodeBlock.of("($L & 0xFFFF)", get);
+                }
+                else if (typeName == TypeName.INT)
+                {
+                    value = CodeBlock.of("($L & 0xFFFF_FFFFL)", get);
+                }
+                else
+                {
+                    value = get;
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public MethodSpec generate()
+        {
+            CodeBlock.Builder code = CodeBlock.builder();
+            code.add("$[").add("final int limit = $L", anchorLimit);
+            if (lastName != null && lastType.isPrimitive())
+            {
+                if (lastSize != -1)
+                {
+                    code.add(" + $L + ($L * $L)", offset(lastName), size(lastName), arraySize(lastName));
+                }
+                else if (lastSizeName == null)
+                {
+                    code.add(" + $L + $L", offset(lastName), size(lastName));
+                }
+            }
+            code.add(";\n$]");
+
+            if (resumable)
+            {
+                if (resumeOpen)
+                {
+                    builder.addStatement("anchor = $L", anchorLimit)
+                           .endControlFlow();
+                }
+                builder.addCode(code.build());
+                addReturnIfBeyond("limit");
+                builder.addStatement("progress.reset()")
+                       .addStatement("return limit");
+            }
+            else if (required)
+            {
+                builder.addCode(code.build())
+                       .addStatement("return limit - offset");
+            }
+            else
+            {
+                builder.addCode(code.build())
+                       .addStatement("return limit > maxLimit ? -2 : limit");
+            }
+            return builder.build();
+        }
+    }
+
     private final class TryWrapMethodGenerator extends MethodSpecGenerator
     {
         private final ClassName thisType;
@@ -1062,84 +1694,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                             name, offset(name));
                 }
             }
-            anchorLimit = name + "RO.limit()";
-        }
-
-        private void addBufferGet(
-            CodeBlock.Builder codeBlock,
-            TypeName targetTypeName,
-            AstType type,
-            TypeName typeName,
-            TypeName unsignedTypeName,
-            String offset)
-        {
-            if (type.bits() == 24)
-            {
-                if (type.isUnsignedInt())
-                {
-                    codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
-                             .add("(buffer().getByte($L) & 0xff) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L + 2) & 0xff)", offset)
-                             .add(" : ")
-                             .add("(buffer().getByte($L + 2) & 0xff) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L) & 0xff)", offset);
-                }
-                else
-                {
-                    codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
-                             .add("buffer().getByte($L) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L + 2) & 0xff)", offset)
-                             .add(" : ")
-                             .add("buffer().getByte($L + 2) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L) & 0xff)", offset);
-                }
-            }
-            else
-            {
-                String getterName = GETTER_NAMES.get(typeName);
-                if (getterName == null)
-                {
-                    throw new IllegalStateException("member type not supported: " + typeName);
-                }
-                if (targetTypeName != typeName)
-                {
-                    codeBlock.add("($T)(", targetTypeName);
-                }
-
-                codeBlock.add("buffer().$L($L", getterName, offset);
-
-                if (targetTypeName != typeName  && unsignedTypeName != null)
-                {
-                    if (typeName == TypeName.BYTE)
-                    {
-                        codeBlock.add(") & 0xFF)");
-                    }
-                    else if (typeName == TypeName.SHORT)
-                    {
-                        codeBlock.add(") & 0xFFFF)", ByteOrder.class);
-                    }
-                    else if (typeName == TypeName.INT)
-                    {
-                        codeBlock.add(") & 0xFFFF_FFFFL)", ByteOrder.class);
-                    }
-                    else
-                    {
-                        codeBlock.add(")");
-                    }
-                }
-                else
-                {
-                    codeBlock.add(")");
-                }
-                if (targetTypeName != typeName && unsignedTypeName == null)
-                {
-                    codeBlock.add(")");
-                }
-            }
+            builder.addStatement("$L = $LRO.limit()", dynamicLimit(name), name);
+            anchorLimit = dynamicLimit(name);
         }
 
         @Override
@@ -1329,84 +1885,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                             name, offset(name));
                 }
             }
-            anchorLimit = name + "RO.limit()";
-        }
-
-        private void addBufferGet(
-            CodeBlock.Builder codeBlock,
-            TypeName targetType,
-            AstType type,
-            TypeName typeName,
-            TypeName unsignedTypeName,
-            String offset)
-        {
-            if (type.bits() == 24)
-            {
-                if (type.isUnsignedInt())
-                {
-                    codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
-                             .add("(buffer().getByte($L) & 0xff) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L + 2) & 0xff)", offset)
-                             .add(" : ")
-                             .add("(buffer().getByte($L + 2) & 0xff) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L) & 0xff)", offset);
-                }
-                else
-                {
-                    codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
-                             .add("buffer().getByte($L) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L + 2) & 0xff)", offset)
-                             .add(" : ")
-                             .add("buffer().getByte($L + 2) << 16 |", offset)
-                             .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
-                             .add(" (buffer().getByte($L) & 0xff)", offset);
-                }
-            }
-            else
-            {
-                String getterName = GETTER_NAMES.get(typeName);
-                if (getterName == null)
-                {
-                    throw new IllegalStateException("member type not supported: " + typeName);
-                }
-                if (targetType != typeName)
-                {
-                    codeBlock.add("($T)(", targetType);
-                }
-
-                codeBlock.add("buffer().$L($L", getterName, offset);
-
-                if (targetType != typeName  && unsignedTypeName != null)
-                {
-                    if (typeName == TypeName.BYTE)
-                    {
-                        codeBlock.add(") & 0xFF)");
-                    }
-                    else if (typeName == TypeName.SHORT)
-                    {
-                        codeBlock.add(") & 0xFFFF)", ByteOrder.class);
-                    }
-                    else if (typeName == TypeName.INT)
-                    {
-                        codeBlock.add(") & 0xFFFF_FFFFL)", ByteOrder.class);
-                    }
-                    else
-                    {
-                        codeBlock.add(")");
-                    }
-                }
-                else
-                {
-                    codeBlock.add(")");
-                }
-                if (targetType != typeName && unsignedTypeName == null)
-                {
-                    codeBlock.add(")");
-                }
-            }
+            builder.addStatement("$L = $LRO.limit()", dynamicLimit(name), name);
+            anchorLimit = dynamicLimit(name);
         }
 
         @Override
@@ -1418,20 +1898,31 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         }
     }
 
-    private final class ToStringMethodGenerator extends MethodSpecGenerator
+    private MethodSpec toStringMethod()
     {
-        private final List<String> formats = new LinkedList<>();
-        private final List<String> args = new LinkedList<>();
+        return methodBuilder("toString")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(String.class)
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private final class AppendToMethodGenerator extends MethodSpecGenerator
+    {
+        private final CodeBlock.Builder members = CodeBlock.builder();
+        private String separator = " [";
 
-        private ToStringMethodGenerator()
+        private AppendToMethodGenerator()
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
-                    .returns(String.class));
+                    .addParameter(StringBuilder.class, "builder")
+                    .returns(StringBuilder.class));
         }
 
-        public ToStringMethodGenerator addMember(
+        public AppendToMethodGenerator addMember(
             String name,
             TypeName type,
             TypeName unsignedType,
@@ -1439,15 +1930,37 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             String sizeName)
         {
             boolean isArray = size != -1 || sizeName != null;
-            formats.add(String.format("%s=%%%s", name, type.isPrimitive() && !isArray ? "d" : "s"));
+            boolean isValue = isVarintType(type) || isVarbyteuint32Type(type);
+            members.addStatement("builder.append($S)", String.format("%s%s=", separator, name));
             if (type instanceof ClassName && isStringType((ClassName) type))
             {
-                args.add(String.format("%sRO.asString()", name));
+                members.addStatement("$LRO.appendStringTo(builder)", name);
+            }
+            else if (!isArray && !isValue && isFlyweightType(type))
+            {
+                members.addStatement("$L().appendTo(builder)", name);
+            }
+            else if (isArray && isFlyweightType(type))
+            {
+                members.beginControlFlow("if ($L() == null)", methodName(name))
+                       .addStatement("builder.append($S)", "null")
+                       .nextControlFlow("else")
+                       .addStatement("$L().appendTo(builder)", methodName(name))
+                       .endControlFlow();
+            }
+            else if (isArray && type.isPrimitive())
+            {
+                members.beginControlFlow("if ($L == null)", iterator(name))
+                       .addStatement("builder.append($S)", "null")
+                       .nextControlFlow("else")
+                       .addStatement("$L.appendTo(builder)", iterator(name))
+                       .endControlFlow();
             }
             else
             {
-                args.add(String.format("%s()", name));
+                members.addStatement("builder.append($L())", name);
             }
+            separator = ", ";
             return this;
         }
 
@@ -1455,18 +1968,16 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         public MethodSpec generate()
         {
             String typeName = constant(baseName);
-            if (formats.isEmpty())
-            {
-                builder.addStatement("return $S", typeName);
-            }
-            else
+            builder.addStatement("builder.append($S)", typeName);
+            CodeBlock memberBlock = members.build();
+            if (!memberBlock.isEmpty())
             {
-                String format = String.format("%s [%s]", typeName, String.join(", ", formats));
-                builder.addStatement("return String.format($S, $L)", format, String.join(", ", args));
+                builder.addCode(memberBlock)
+                       .addStatement("builder.append(']')");
             }
-            return builder.build();
+            return builder.addStatement("return builder")
+                          .build();
         }
-
     }
 
     private static final class BuilderClassGenerator extends ClassSpecGenerator
@@ -1479,6 +1990,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         private final MemberMutatorGenerator memberMutator;
         private final WrapMethodGenerator wrapMethod;
         private final WrapMethodWithArrayGenerator wrapMethodWithArray;
+        private final SizeofConstantGenerator sizeofConstant;
         private final TypeResolver resolver;
         private String priorFieldIfDefaulted;
         private boolean priorDefaultedIsPrimitive;
@@ -1491,15 +2003,18 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         private BuilderClassGenerator(
             ClassName structType,
             ClassName flyweightType,
+            SizeofConstantGenerator sizeofConstant,
             TypeResolver resolver)
         {
-            this(structType.nestedClass("Builder"), flyweightType.nestedClass("Builder"), structType, resolver);
+            this(structType.nestedClass("Builder"), flyweightType.nestedClass("Builder"), structType, sizeofConstant,
+                resolver);
         }
 
         private BuilderClassGenerator(
             ClassName thisType,
             ClassName builderRawType,
             ClassName structType,
+            SizeofConstantGenerator sizeofConstant,
             TypeResolver resolver)
         {
             super(thisType);
@@ -1513,6 +2028,7 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             this.memberMutator = new MemberMutatorGenerator(thisType, resolver, builder);
             this.wrapMethod = new WrapMethodGenerator(thisType, builder);
             this.wrapMethodWithArray = new WrapMethodWithArrayGenerator(structType, resolver);
+            this.sizeofConstant = sizeofConstant;
             this.resolver = resolver;
         }
 
@@ -1568,12 +2084,76 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             memberField.build();
             memberAccessor.build();
             memberMutator.build();
-            return builder.addMethod(constructor())
-                          .addMethod(wrapMethod.generate())
-                          .addMethod(wrapMethodWithArray.generate())
-                          .addMethod(rewrapMethod())
-                          .addMethod(buildMethod())
-                          .build();
+            builder.addMethod(constructor())
+                   .addMethod(wrapMethod.generate())
+                   .addMethod(wrapMethodWithArray.generate())
+                   .addMethod(rewrapMethod())
+                   .addMethod(buildMethod())
+                   .addMethod(tryClaimMethod());
+            if (sizeofConstant.isFixedSize())
+            {
+                builder.addMethod(tryClaimWithSizeofMethod());
+            }
+            else if (sizeofConstant.isBoundedSize())
+            {
+                builder.addMethod(tryClaimWithMaxSizeofMethod());
+            }
+            return builder.build();
+        }
+
+        private MethodSpec tryClaimWithSizeofMethod()
+        {
+            return methodBuilder("tryClaim")
+                    .addModifiers(PUBLIC)
+                    .addParameter(RING_BUFFER_TYPE, "ring")
+                    .addParameter(int.class, "msgTypeId")
+                    .addParameter(ParameterizedTypeName.get(ClassName.get(Consumer.class), thisName), "mutator")
+                    .returns(int.class)
+                    .addStatement("return tryClaim(ring, msgTypeId, $T.SIZEOF, mutator)", structType)
+                    .build();
+        }
+
+        private MethodSpec tryClaimWithMaxSizeofMethod()
+        {
+            // the worst case can exceed what the ring accepts, a struct built past the smaller claim still aborts it
+            return methodBuilder("tryClaim")
+                    .addModifiers(PUBLIC)
+                    .addParameter(RING_BUFFER_TYPE, "ring")
+                    .addParameter(int.class, "msgTypeId")
+                    .addParameter(ParameterizedTypeName.get(ClassName.get(Consumer.class), thisName), "mutator")
+                    .returns(int.class)
+                    .addStatement("return tryClaim(ring, msgTypeId, Math.min($T.MAX_SIZEOF, ring.maxMsgLength()), mutator)",
+                        structType)
+                    .build();
+        }
+
+        private MethodSpec tryClaimMethod()
+        {
+            return methodBuilder("tryClaim")
+                    .addModifiers(PUBLIC)
+                    .addParameter(RING_BUFFER_TYPE, "ring")
+                    .addParameter(int.class, "msgTypeId")
+                    .addParameter(int.class, "length")
+                    .addParameter(ParameterizedTypeName.get(ClassName.get(Consumer.class), thisName), "mutator")
+                    .returns(int.class)
+                    .addStatement("final int index = ring.tryClaim(msgTypeId, length)")
+                    .beginControlFlow("if (index < 0)")
+                    .addStatement("return index")
+                    .endControlFlow()
+                    .beginControlFlow("try")
+                    .addStatement("wrap(ring.buffer(), index, index + length)")
+                    .addStatement("mutator.accept(this)")
+                    .addStatement("final int sizeof = build().sizeof()")
+                    .beginControlFlow("if (sizeof < length)")
+                    .addStatement("ring.buffer().setMemory(index + sizeof, length - sizeof, (byte) 0)")
+                    .endControlFlow()
+                    .addStatement("ring.commit(index)")
+                    .addStatement("return sizeof")
+                    .nextControlFlow("catch ($T ex)", Throwable.class)
+                    .addStatement("ring.abort(index)")
+                    .addStatement("throw ex")
+                    .endControlFlow()
+                    .build();
         }
 
         private MethodSpec constructor()
@@ -1627,6 +2207,12 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
             return String.format("DEFAULT_%s", constant(fieldName));
         }
 
+        private static String defaultBufferName(
+            String fieldName)
+        {
+            return String.format("DEFAULT_%s_BUFFER", constant(fieldName));
+        }
+
         private static boolean isImplicitlyDefaulted(
             TypeName typeName,
             int size,
@@ -1716,7 +2302,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                 }
                 else if (priorDefaultedIsString)
                 {
-                    code.addStatement("$L($L)", priorFieldIfDefaulted, priorDefaultValue);
+                    String defaultBuffer = defaultBufferName(priorFieldIfDefaulted);
+                    code.addStatement("$L($L, 0, $L.capacity())", priorFieldIfDefaulted, defaultBuffer, defaultBuffer);
                 }
                 else
                 {
@@ -1801,6 +2388,15 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                                 .initializer(Objects.toString(defaultValueToSet))
                                 .build());
                     }
+
+                    if (isStringType(typeName) && defaultValueToSet != null)
+                    {
+                        builder.addField(
+                            FieldSpec.builder(DIRECT_BUFFER_TYPE, defaultBufferName(name), PRIVATE, STATIC, FINAL)
+                                .initializer("new $T($L.getBytes($T.UTF_8))", UNSAFE_BUFFER_TYPE, defaultName(name),
+                                    StandardCharsets.class)
+                                .build());
+                    }
                 }
                 return this;
             }
@@ -2088,6 +2684,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     {
                         addIntegerVariableArrayIteratorMutator(name, typeName, unsignedTypeName, sizeName, sizeTypeName,
                                 defaultValue, priorFieldIfDefaulted, defaultPriorField);
+                        addIntegerVariableArrayBulkMutator(name, type, typeName, unsignedTypeName, byteOrder, sizeName,
+                                sizeTypeName, defaultValue, priorFieldIfDefaulted, defaultPriorField);
                         addIntegerVariableArrayAppendMutator(name, type, typeName, unsignedTypeName, byteOrder,
                                 sizeName, sizeTypeName, priorFieldIfDefaulted, defaultPriorField);
                     }
@@ -2095,6 +2693,8 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                     {
                         addIntegerFixedArrayIteratorMutator(name, typeName, unsignedTypeName, size, priorFieldIfDefaulted,
                                 defaultPriorField);
+                        addIntegerFixedArrayBulkMutator(name, type, typeName, unsignedTypeName, byteOrder,
+                                priorFieldIfDefaulted, defaultPriorField);
                         addIntegerFixedArrayAppendMutator(name, type, typeName, unsignedTypeName, byteOrder, size,
                                 priorFieldIfDefaulted, defaultPriorField);
                     }
@@ -2311,6 +2911,127 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                         .build());
             }
 
+            private void addIntegerFixedArrayBulkMutator(
+                String name,
+                AstType type,
+                TypeName typeName,
+                TypeName unsignedTypeName,
+                AstByteOrder byteOrder,
+                String priorFieldIfDefaulted,
+                Consumer<CodeBlock.Builder> defaultPriorField)
+            {
+                CodeBlock.Builder code = CodeBlock.builder();
+                if (priorRequiredField != null)
+                {
+                    code.addStatement("assert lastFieldSet >= $L", index(priorRequiredField));
+                }
+                TypeName inputType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
+                TypeName valueType = inputType == TypeName.LONG ? TypeName.LONG : TypeName.INT;
+                if (defaultPriorField != null)
+                {
+                    generateDefaultPriorField(priorFieldIfDefaulted, defaultPriorField, code);
+                }
+                code.beginControlFlow("if (values == null)");
+                code.addStatement("throw new $T($S)",
+                        IllegalArgumentException.class, format("fixed size array %s cannot be set to null", name));
+                code.endControlFlow();
+                code.beginControlFlow("if (length != $L)", arraySize(name));
+                code.addStatement("throw new $T($S + $L + $S + length)",
+                        IllegalArgumentException.class, "Expected ", arraySize(name),
+                        format(" values for %s, got ", name));
+                code.endControlFlow();
+
+                addIntegerArrayBulkPut(code, name, type, typeName, unsignedTypeName, valueType, byteOrder);
+
+                code.beginControlFlow("if ($L == -1)", dynamicOffset(name))
+                    .addStatement("assert lastFieldSet == $L - 1", index(name))
+                    .addStatement("$L = limit()", dynamicOffset(name))
+                    .endControlFlow();
+                code.addStatement("lastFieldSet = $L", index(name))
+                    .addStatement("limit(newLimit)")
+                    .addStatement("return this");
+
+                builder.addMethod(methodBuilder(methodName(name))
+                        .addModifiers(PUBLIC)
+                        .addParameter(valueType == TypeName.LONG ? long[].class : int[].class, "values")
+                        .addParameter(int.class, "offset")
+                        .addParameter(int.class, "length")
+                        .returns(thisType)
+                        .addCode(code.build())
+                        .build());
+            }
+
+            private void addIntegerArrayBulkPut(
+                CodeBlock.Builder code,
+                String name,
+                AstType type,
+                TypeName typeName,
+                TypeName unsignedTypeName,
+                TypeName valueType,
+                AstByteOrder byteOrder)
+            {
+                code.addStatement("$T.checkFromIndexSize(offset, length, values.length)", Objects.class)
+                    .addStatement("int newLimit = limit() + length * $L", size(name))
+                    .addStatement("checkLimit(newLimit, maxLimit())");
+
+                code.beginControlFlow("for (int i = 0, o = limit(); i < length; i++, o += $L)", size(name));
+                code.addStatement("$T value = values[offset + i]", valueType);
+                if (unsignedTypeName != null)
+                {
+                    generateUnsignedIntRangeCheck(name, typeName, code);
+                }
+                addBufferPut(code, type, typeName, valueType, byteOrder, "o");
+                code.endControlFlow();
+            }
+
+            private void addBufferPut(
+                CodeBlock.Builder code,
+                AstType type,
+                TypeName typeName,
+                TypeName valueType,
+                AstByteOrder byteOrder,
+                String offset)
+            {
+                if (type.bits() == 24)
+                {
+                    if (byteOrder != NETWORK)
+                    {
+                        code.beginControlFlow("if ($T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN)", BUFFER_UTIL_TYPE, ByteOrder.class);
+                    }
+                    code.addStatement("buffer().putByte($L, (byte) (value >> 16))", offset);
+                    code.addStatement("buffer().putByte($L + 1, (byte) (value >> 8))", offset);
+                    code.addStatement("buffer().putByte($L + 2, (byte) value)", offset);
+                    if (byteOrder != NETWORK)
+                    {
+                        code.nextControlFlow("else");
+                        code.addStatement("buffer().putByte($L, (byte) value)", offset);
+                        code.addStatement("buffer().putByte($L + 1, (byte) (value >> 8))", offset);
+                        code.addStatement("buffer().putByte($L + 2, (byte) (value >> 16))", offset);
+                        code.endControlFlow();
+                    }
+                }
+                else
+                {
+                    String putterName = PUTTER_NAMES.get(typeName);
+                    if (putterName == null)
+                    {
+                        throw new IllegalStateException("member type not supported: " + typeName);
+                    }
+                    code.add("$[");
+                    code.add("buffer().$L($L, ", putterName, offset);
+                    if (valueType != typeName)
+                    {
+                        code.add("($T) ", typeName);
+                    }
+                    code.add("value");
+                    if (byteOrder == NETWORK && typeName != TypeName.BYTE)
+                    {
+                        code.add(", $T.BIG_ENDIAN", ByteOrder.class);
+                    }
+                    code.add(");\n$]");
+                }
+            }
+
             private void addIntegerFixedArrayAppendMutator(
                 String name,
                 AstType type,
@@ -2529,6 +3250,91 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
                         .build());
             }
 
+            private void addIntegerVariableArrayBulkMutator(
+                String name,
+                AstType type,
+                TypeName typeName,
+                TypeName unsignedTypeName,
+                AstByteOrder byteOrder,
+                String sizeName,
+                TypeName sizeType,
+                Object defaultValue,
+                String priorFieldIfDefaulted,
+                Consumer<CodeBlock.Builder> defaultPriorField)
+            {
+                CodeBlock.Builder code = CodeBlock.builder();
+                if (priorRequiredField != null)
+                {
+                    code.addStatement("assert lastFieldSet >= $L", index(priorRequiredField));
+                }
+                code.addStatement("assert lastFieldSet <= $L", index(name));
+                TypeName inputType = (unsignedTypeName != null) ? unsignedTypeName : typeName;
+                TypeName valueType = inputType == TypeName.LONG ? TypeName.LONG : TypeName.INT;
+                if (defaultPriorField != null)
+                {
+                    generateDefaultPriorField(priorFieldIfDefaulted, defaultPriorField, code);
+                }
+                if (defaultValue != null)
+                {
+                    code.beginControlFlow("if (values == null || length == 0)");
+                    code.addStatement("int limit = limit()");
+                    code.addStatement("limit($L)", dynamicOffset(sizeName));
+                    code.add("$[");
+                    code.add("$L(values == null ? ", methodName(sizeName));
+                    if (sizeType == TypeName.BYTE || sizeType == TypeName.SHORT)
+                    {
+                        code.add("($T) ", sizeType);
+                    }
+                    code.add("-1 : 0)");
+                    code.add(";\n$]");
+                }
+                else
+                {
+                    code.beginControlFlow("if (values == null)");
+                    code.addStatement("throw new $T($S + $S)",
+                            IllegalArgumentException.class, name, " does not default to null so cannot be set to null");
+                    code.endControlFlow();
+                    code.beginControlFlow("if (length == 0)");
+                    code.addStatement("int limit = limit()");
+                    code.addStatement("limit($L)", dynamicOffset(sizeName));
+                    code.addStatement("$L(0)", methodName(sizeName));
+                }
+                code.addStatement("limit(limit)");
+                code.addStatement("assert lastFieldSet == $L - 1", index(name));
+                code.addStatement("lastFieldSet = $L", index(name));
+                code.nextControlFlow("else");
+
+                addIntegerArrayBulkPut(code, name, type, typeName, unsignedTypeName, valueType, byteOrder);
+
+                code.beginControlFlow("if (lastFieldSet < $L)", index(name))
+                    .addStatement("assert lastFieldSet == $L - 1", index(name))
+                    .addStatement("$L = limit()", dynamicOffset(name))
+                    .addStatement("lastFieldSet = $L", index(name))
+                    .endControlFlow();
+                code.addStatement("limit($L)", dynamicOffset(sizeName))
+                    .addStatement("int newSize = (newLimit - $L) / $L", dynamicOffset(name), size(name));
+                code.add("$[");
+                code.add("$L(", methodName(sizeName));
+                if (sizeType == TypeName.BYTE || sizeType == TypeName.SHORT)
+                {
+                    code.add("($T) ", sizeType);
+                }
+                code.add("newSize)");
+                code.add(";\n$]");
+                code.addStatement("limit(newLimit)");
+                code.endControlFlow();
+                code.addStatement("return this");
+
+                builder.addMethod(methodBuilder(methodName(name))
+                        .addModifiers(PUBLIC)
+                        .addParameter(valueType == TypeName.LONG ? long[].class : int[].class, "values")
+                        .addParameter(int.class, "offset")
+                        .addParameter(int.class, "length")
+                        .returns(thisType)
+                        .addCode(code.build())
+                        .build());
+            }
+
             private void addIntegerVariableArrayAppendMutator(
                 String name,
                 AstType type,
@@ -3410,6 +4216,22 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         return type instanceof ClassName && "Varint64FW".equals(((ClassName) type).simpleName());
     }
 
+    private static boolean isVarintArrayType(
+        TypeName type)
+    {
+        return type instanceof ParameterizedTypeName &&
+                ((ParameterizedTypeName) type).rawType.simpleName().matches("Array(8|16|32)?FW") &&
+                isVarintType(((ParameterizedTypeName) type).typeArguments.get(0));
+    }
+
+    private static boolean isFlyweightType(
+        TypeName type)
+    {
+        ClassName className = type instanceof ParameterizedTypeName ? ((ParameterizedTypeName) type).rawType :
+            type instanceof ClassName ? (ClassName) type : null;
+        return className != null && className.simpleName().endsWith("FW");
+    }
+
     private static boolean isStringType(
         TypeName type)
     {
@@ -3470,6 +4292,88 @@ public final class StructFlyweightGenerator extends ClassSpecGenerator
         return "iterator" + initCap(fieldName);
     }
 
+    private static void addBufferGet(
+        CodeBlock.Builder codeBlock,
+        TypeName targetTypeName,
+        AstType type,
+        TypeName typeName,
+        TypeName unsignedTypeName,
+        String offset)
+    {
+        if (type.bits() == 24)
+        {
+            if (type.isUnsignedInt())
+            {
+                codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
+                         .add("(buffer().getByte($L) & 0xff) << 16 |", offset)
+                         .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
+                         .add(" (buffer().getByte($L + 2) & 0xff)", offset)
+                         .add(" : ")
+                         .add("(buffer().getByte($L + 2) & 0xff) << 16 |", offset)
+                         .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
+                         .add(" (buffer().getByte($L) & 0xff)", offset);
+            }
+            else
+            {
+                codeBlock.add("$T.NATIVE_BYTE_ORDER == $T.BIG_ENDIAN ? ", BUFFER_UTIL_TYPE, ByteOrder.class)
+                         .add("buffer().getByte($L) << 16 |", offset)
+                         .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
+                         .add(" (buffer().getByte($L + 2) & 0xff)", offset)
+                         .add(" : ")
+                         .add("buffer().getByte($L + 2) << 16 |", offset)
+                         .add(" (buffer().getByte($L + 1) & 0xff) << 8 |", offset)
+                         .add(" (buffer().getByte($L) & 0xff)", offset);
+            }
+        }
+        else
+        {
+            String getterName = GETTER_NAMES.get(typeName);
+            if (getterName == null)
+            {
+                throw new IllegalStateException("member type not supported: " + typeName);
+            }
+            if (targetTypeName != typeName)
+            {
+                codeBlock.add("($T)(", targetTypeName);
+            }
+
+            codeBlock.add("buffer().$L($L", getterName, offset);
+
+            if (targetTypeName != typeName  && unsignedTypeName != null)
+            {
+                if (typeName == TypeName.BYTE)
+                {
+                    codeBlock.add(") & 0xFF)");
+                }
+                else if (typeName == TypeName.SHORT)
+                {
+                    codeBlock.add(") & 0xFFFF)", ByteOrder.class);
+                }
+                else if (typeName == TypeName.INT)
+                {
+                    codeBlock.add(") & 0xFFFF_FFFFL)", ByteOrder.class);
+                }
+                else
+                {
+                    codeBlock.add(")");
+                }
+            }
+            else
+            {
+                codeBlock.add(")");
+            }
+            if (targetTypeName != typeName && unsignedTypeName == null)
+            {
+                codeBlock.add(")");
+            }
+        }
+    }
+
+    private static String forEachMethodName(String fieldName)
+    {
+        return "forEach" + initCap(fieldName);
+    }
+
     private static ClassName iteratorClass(
         ClassName structName,
         TypeName type,
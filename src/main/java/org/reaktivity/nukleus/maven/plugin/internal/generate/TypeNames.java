@@ -25,6 +25,7 @@ public final class TypeNames
     private static final String AGRONA_PACKAGE = "org.agrona";
     private static final String AGRONA_CONCURRENT_PACKAGE = AGRONA_PACKAGE + ".concurrent";
     private static final String AGRONA_COLLECTIONS_PACKAGE = AGRONA_PACKAGE + ".collections";
+    private static final String AGRONA_RINGBUFFER_PACKAGE = AGRONA_CONCURRENT_PACKAGE + ".ringbuffer";
 
     public static final ClassName BIT_UTIL_TYPE = ClassName.get(AGRONA_PACKAGE, "BitUtil");
     public static final ClassName BUFFER_UTIL_TYPE = ClassName.get(AGRONA_PACKAGE, "BufferUtil");
@@ -32,8 +33,11 @@ public final class TypeNames
     public static final ClassName MUTABLE_DIRECT_BUFFER_TYPE = ClassName.get(AGRONA_PACKAGE, "MutableDirectBuffer");
 
     public static final ClassName UNSAFE_BUFFER_TYPE = ClassName.get(AGRONA_CONCURRENT_PACKAGE, "UnsafeBuffer");
+    public static final ClassName MESSAGE_HANDLER_TYPE = ClassName.get(AGRONA_CONCURRENT_PACKAGE, "MessageHandler");
+    public static final ClassName RING_BUFFER_TYPE = ClassName.get(AGRONA_RINGBUFFER_PACKAGE, "RingBuffer");
     public static final ClassName LONG_2_OBJECT_HASH_MAP_TYPE =
         ClassName.get(AGRONA_COLLECTIONS_PACKAGE, "Long2ObjectHashMap");
+    public static final ClassName HASHING_TYPE = ClassName.get(AGRONA_COLLECTIONS_PACKAGE, "Hashing");
 
     public static final TypeName BYTE_ARRAY = ArrayTypeName.of(byte.class);
 
@@ -18,11 +18,14 @@ package org.reaktivity.nukleus.maven.plugin.internal.generate;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstAbstractMemberNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstEnumNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstListNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstMapNode;
@@ -30,6 +33,7 @@ import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNamedNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstScopeNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstStructMemberNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstStructNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstType;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstTypedefNode;
@@ -37,6 +41,7 @@ import org.reaktivity.nukleus.maven.plugin.internal.ast.AstUnionNode;
 import org.reaktivity.nukleus.maven.plugin.internal.ast.AstVariantNode;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 
 public final class TypeResolver
@@ -45,13 +50,24 @@ public final class TypeResolver
     private final Map<String, AstNamedNode> namedNodesByName;
     private final Map<AstType, TypeName> namesByType;
     private final Map<AstType, TypeName> namesByUnsignedType;
+    private final Set<ClassName> specializedArrayItemTypes;
+    private final boolean specializeArrays;
 
     public TypeResolver(
         String packageName)
+    {
+        this(packageName, false);
+    }
+
+    public TypeResolver(
+        String packageName,
+        boolean specializeArrays)
     {
         this.namedNodesByName = new HashMap<>();
         this.namesByType = initNamesByType(packageName);
         this.namesByUnsignedType =  initNamesByUnsignedType(packageName);
+        this.specializedArrayItemTypes = new LinkedHashSet<>();
+        this.specializeArrays = specializeArrays;
         this.packageName = packageName;
     }
 
@@ -84,6 +100,121 @@ public final class TypeResolver
         return (ClassName) namesByType.get(type);
     }
 
+    public TypeName resolveSpecializedType(
+        TypeName typeName)
+    {
+        TypeName specializedType = typeName;
+        if (specializeArrays && typeName instanceof ParameterizedTypeName)
+        {
+            ParameterizedTypeName parameterizedType = (ParameterizedTypeName) typeName;
+            TypeName itemType = parameterizedType.typeArguments.get(0);
+            if (parameterizedType.rawType.equals(namesByType.get(AstType.ARRAY32)) && itemType instanceof ClassName)
+            {
+                ClassName itemClassName = (ClassName) itemType;
+                specializedArrayItemTypes.add(itemClassName);
+                specializedType = itemClassName.peerClass(String.format("Array32Of%s", itemClassName.simpleName()));
+            }
+        }
+        return specializedType;
+    }
+
+    public Set<ClassName> specializedArrayItemTypes()
+    {
+        return specializedArrayItemTypes;
+    }
+
+    public boolean isFixedSize(
+        AstType type)
+    {
+        boolean fixedSize = type.bits() > 0;
+        if (!fixedSize && type.isDynamicType())
+        {
+            AstNamedNode node = resolve(type.name());
+            switch (node != null ? node.getKind() : AstNamedNode.Kind.DEFAULT)
+            {
+            case STRUCT:
+                fixedSize = isFixedSize((AstStructNode) node);
+                break;
+            case ENUM:
+                AstType valueType = ((AstEnumNode) node).valueType();
+                fixedSize = valueType == null || valueType.bits() > 0;
+                break;
+            case TYPEDEF:
+                fixedSize = isFixedSize(((AstTypedefNode) node).originalType());
+                break;
+            default:
+                break;
+            }
+        }
+        return fixedSize;
+    }
+
+    public boolean isBoundedSize(
+        AstType type)
+    {
+        boolean boundedSize = isFixedSize(type) || AstType.STRING8.equals(type) || AstType.STRING16.equals(type) ||
+            AstType.VARINT32.equals(type) || AstType.VARINT64.equals(type) || AstType.VARBYTEUINT32.equals(type);
+        if (!boundedSize && type.isDynamicType())
+        {
+            AstNamedNode node = resolve(type.name());
+            switch (node != null ? node.getKind() : AstNamedNode.Kind.DEFAULT)
+            {
+            case STRUCT:
+                boundedSize = isBoundedSize((AstStructNode) node);
+                break;
+            case ENUM:
+                AstType valueType = ((AstEnumNode) node).valueType();
+                boundedSize = AstType.STRING8.equals(valueType) || AstType.STRING16.equals(valueType);
+                break;
+            case LIST:
+                AstListNode listNode = (AstListNode) node;
+                AstType lengthType = listNode.lengthType();
+                boundedSize = listNode.templateType() == null && lengthType != null &&
+                    (lengthType.bits() == Byte.SIZE || lengthType.bits() == Short.SIZE);
+                break;
+            case TYPEDEF:
+                boundedSize = isBoundedSize(((AstTypedefNode) node).originalType());
+                break;
+            default:
+                break;
+            }
+        }
+        return boundedSize;
+    }
+
+    private boolean isFixedSize(
+        AstStructNode structNode)
+    {
+        AstType supertype = structNode.supertype();
+        boolean fixedSize = supertype == null || isFixedSize(supertype);
+        for (AstStructMemberNode member : structNode.members())
+        {
+            fixedSize &= isFixedSize(member);
+        }
+        return fixedSize;
+    }
+
+    private boolean isBoundedSize(
+        AstStructNode structNode)
+    {
+        AstType supertype = structNode.supertype();
+        boolean boundedSize = supertype == null || isBoundedSize(supertype);
+        for (AstStructMemberNode member : structNode.members())
+        {
+            boundedSize &= isFixedSize(member) || !AstType.OCTETS.equals(member.type()) && member.type().bits() < 0 &&
+                isBoundedSize(member.type());
+        }
+        return boundedSize;
+    }
+
+    private boolean isFixedSize(
+        AstAbstractMemberNode member)
+    {
+        AstType type = member.type();
+        return AstType.OCTETS.equals(type) ? member.size() >= 0 :
+            type.bits() > 0 ? member.sizeName() == null : isFixedSize(type);
+    }
+
     public void visit(
         AstSpecificationNode specification)
     {
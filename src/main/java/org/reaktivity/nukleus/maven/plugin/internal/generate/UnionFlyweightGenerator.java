@@ -26,6 +26,11 @@ import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstAbstractMemberNode.NULL_DEFAULT;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NETWORK;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.requiredOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BUFFER_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BYTE_ARRAY;
@@ -73,10 +78,12 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
     private final MemberOffsetConstantGenerator memberOffsetConstant;
     private final KindAccessorGenerator kindAccessor;
     private final MemberAccessorGenerator memberAccessor;
+    private final LimitOfMethodGenerator limitOfMethod;
+    private final RequiredOfMethodGenerator requiredOfMethod;
     private final TryWrapMethodGenerator tryWrapMethod;
     private final WrapMethodGenerator wrapMethod;
     private final LimitMethodGenerator limitMethod;
-    private final ToStringMethodGenerator toStringMethod;
+    private final AppendToMethodGenerator appendToMethod;
     private final BuilderClassGenerator builderClass;
 
     public UnionFlyweightGenerator(
@@ -94,13 +101,15 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         this.memberKindConstant = new KindConstantGenerator(unionName, kindTypeName, builder);
         this.memberSizeConstant = new MemberSizeConstantGenerator(unionName, superType, kindTypeName, builder);
         this.memberOffsetConstant = new MemberOffsetConstantGenerator(unionName, superType, kindTypeName, builder);
-        this.memberField = new MemberFieldGenerator(unionName, kindTypeName, builder);
+        this.memberField = new MemberFieldGenerator(unionName, kindTypeName, builder, resolver);
         this.kindAccessor = new KindAccessorGenerator(unionName, kindTypeName, builder);
-        this.memberAccessor = new MemberAccessorGenerator(unionName, flyweightName.nestedClass("Visitor"), builder);
+        this.memberAccessor = new MemberAccessorGenerator(unionName, flyweightName.nestedClass("Visitor"), builder, resolver);
+        this.limitOfMethod = new LimitOfMethodGenerator(superType, kindTypeName);
+        this.requiredOfMethod = new RequiredOfMethodGenerator(superType, kindTypeName);
         this.tryWrapMethod = new TryWrapMethodGenerator(kindTypeName);
         this.wrapMethod = new WrapMethodGenerator(kindTypeName);
         this.limitMethod = new LimitMethodGenerator(superType);
-        this.toStringMethod = new ToStringMethodGenerator(superType);
+        this.appendToMethod = new AppendToMethodGenerator(superType);
         this.builderClass = new BuilderClassGenerator(unionName, flyweightName, superType, kindTypeName, resolver);
     }
 
@@ -109,7 +118,8 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         String name,
         AstType type,
         TypeName typeName,
-        TypeName unsignedType,
+        AstType unsignedType,
+        TypeName unsignedTypeName,
         int size,
         String sizeName,
         AstByteOrder byteOrder)
@@ -117,12 +127,14 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         memberKindConstant.addMember(value, name);
         memberOffsetConstant.addMember(name);
         memberSizeConstant.addMember(name, typeName, size);
-        memberField.addMember(name, typeName, byteOrder);
-        memberAccessor.addMember(name, typeName, unsignedType, byteOrder);
+        memberField.addMember(name, typeName, unsignedType, byteOrder);
+        memberAccessor.addMember(name, typeName, unsignedType, unsignedTypeName, byteOrder);
+        limitOfMethod.addMember(value, name, typeName, size, sizeName, byteOrder);
+        requiredOfMethod.addMember(value, name, typeName, size, sizeName, byteOrder);
         tryWrapMethod.addMember(value, name, typeName, size, sizeName);
         wrapMethod.addMember(value, name, typeName, size, sizeName);
         limitMethod.addMember(value, name, typeName);
-        toStringMethod.addMember(value, name, typeName);
+        appendToMethod.addMember(value, name, typeName);
         builderClass.addMember(name, type, typeName, size, sizeName, byteOrder);
         return this;
     }
@@ -142,9 +154,10 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
     {
         memberSizeConstant.addParentMember(name, type, typeName);
         memberOffsetConstant.addParentMember(name, type, typeName);
-        memberAccessor.addMember(name, typeName, unsignedTypeName, byteOrder);
+        memberAccessor.addMember(name, typeName, unsignedType, unsignedTypeName, byteOrder);
         limitMethod.addParentMember(name);
-        toStringMethod.addParentMember(name, typeName);
+        limitOfMethod.addParentMember(name, typeName, unsignedTypeName);
+        appendToMethod.addParentMember(name, typeName);
         builderClass.addParentMember(name, type, typeName, unsignedType, unsignedTypeName, size, sizeName, sizeTypeName,
             usedAsSize, defaultValue, byteOrder);
         return this;
@@ -168,10 +181,16 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         kindAccessor.build();
         memberAccessor.build();
 
-        return builder.addMethod(tryWrapMethod.generate())
+        return builder.addMethod(limitOfMethod())
+                      .addMethod(validateMethod())
+                      .addMethod(limitOfMethod.generate())
+                      .addMethod(requiredOfMethod.generate())
+                      .addMethod(requiredMethod())
+                      .addMethod(tryWrapMethod.generate())
                       .addMethod(wrapMethod.generate())
                       .addMethod(limitMethod.generate())
-                      .addMethod(toStringMethod.generate())
+                      .addMethod(appendToMethod.generate())
+                      .addMethod(toStringMethod())
                       .addType(builderClass.generate())
                       .build();
     }
@@ -356,12 +375,16 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
 
     private static final class MemberFieldGenerator extends ClassSpecMixinGenerator
     {
+        private final TypeResolver resolver;
+
         private MemberFieldGenerator(
             ClassName thisType,
             TypeName kindTypeName,
-            TypeSpec.Builder builder)
+            TypeSpec.Builder builder,
+            TypeResolver resolver)
         {
             super(thisType, builder);
+            this.resolver = resolver;
             if (!kindTypeName.isPrimitive())
             {
                 builder.addField(FieldSpec.builder(kindTypeName, enumRO(kindTypeName), PRIVATE, FINAL)
@@ -373,12 +396,31 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         public MemberFieldGenerator addMember(
             String name,
             TypeName type,
+            AstType unsignedType,
             AstByteOrder byteOrder)
         {
             if (!type.isPrimitive())
             {
                 String fieldRO = String.format("%sRO", name);
-                Builder fieldBuilder = FieldSpec.builder(type, fieldRO, PRIVATE);
+                TypeName specializedType = resolver.resolveSpecializedType(type);
+                Builder fieldBuilder;
+                if (specializedType != type)
+                {
+                    fieldBuilder = FieldSpec.builder(specializedType, fieldRO, PRIVATE, FINAL);
+                    if (unsignedType != null && resolver.isFixedSize(unsignedType))
+                    {
+                        TypeName typeArgument = ((ParameterizedTypeName) type).typeArguments.get(0);
+                        fieldBuilder.initializer("new $T(new $T(), $T.SIZEOF)", specializedType, typeArgument, typeArgument);
+                    }
+                    else
+                    {
+                        fieldBuilder.initializer("new $T()", specializedType);
+                    }
+                }
+                else
+                {
+                    fieldBuilder = FieldSpec.builder(type, fieldRO, PRIVATE);
+                }
 
                 builder.addField(fieldBuilder.build());
             }
@@ -428,23 +470,27 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         }
 
         private final ClassName visitorRawType;
+        private final TypeResolver resolver;
 
         private MemberAccessorGenerator(
             ClassName thisType,
             ClassName visitorRawType,
-            TypeSpec.Builder builder)
+            TypeSpec.Builder builder,
+            TypeResolver resolver)
         {
             super(thisType, builder);
             this.visitorRawType = visitorRawType;
+            this.resolver = resolver;
         }
 
         public MemberAccessorGenerator addMember(
             String name,
             TypeName type,
-            TypeName unsignedType,
+            AstType unsignedType,
+            TypeName unsignedTypeName,
             AstByteOrder byteOrder)
         {
-            TypeName publicType = (unsignedType != null) ? unsignedType : type;
+            TypeName publicType = (unsignedTypeName != null) ? unsignedTypeName : resolver.resolveSpecializedType(type);
 
             CodeBlock.Builder codeBlock = CodeBlock.builder();
 
@@ -491,6 +537,10 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
 
                 codeBlock.add(";\n$]");
             }
+            else if (unsignedTypeName == null && publicType != type)
+            {
+                codeBlock.addStatement("return $LRO", name);
+            }
             else
             {
                 codeBlock.beginControlFlow("if ($LRO == null)", name);
@@ -503,7 +553,15 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
                 {
                     ParameterizedTypeName parameterizedType = (ParameterizedTypeName) type;
                     TypeName typeArgument = parameterizedType.typeArguments.get(0);
-                    codeBlock.addStatement("$LRO = new $T(new $T())", name, type, typeArgument);
+                    if (unsignedType != null && resolver.isFixedSize(unsignedType))
+                    {
+                        codeBlock.addStatement("$LRO = new $T(new $T(), $T.SIZEOF)", name, publicType, typeArgument,
+                            typeArgument);
+                    }
+                    else
+                    {
+                        codeBlock.addStatement("$LRO = new $T(new $T())", name, type, typeArgument);
+                    }
                 }
                 else if (type instanceof ClassName && (isString16Type((ClassName) type) ||
                                                            isString32Type((ClassName) type)) && byteOrder == NETWORK)
@@ -608,6 +666,240 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
 
     }
 
+    private final class LimitOfMethodGenerator extends MethodSpecGenerator
+    {
+        private final AstType superType;
+        private final TypeName kindTypeName;
+        private final Map<String, CodeBlock> parentMemberGetters = new HashMap<>();
+        private String lastParentMemberName;
+
+        private LimitOfMethodGenerator(
+            AstType superType,
+            TypeName kindTypeName)
+        {
+            super(limitOfMethodBuilder());
+            this.superType = superType;
+            this.kindTypeName = kindTypeName;
+            if (kindTypeName.isPrimitive())
+            {
+                builder.beginControlFlow("if (depth < 1)")
+                       .addStatement("return -1")
+                       .endControlFlow()
+                       .beginControlFlow("if (offset + $L + $L > maxLimit)", offset("kind"), size("kind"))
+                       .addStatement("return -2")
+                       .endControlFlow()
+                       .addStatement("final int kind = buffer.getByte(offset + $L) & 0xFF", offset("kind"));
+            }
+            else
+            {
+                builder.beginControlFlow("if (depth < 1)")
+                       .addStatement("return -1")
+                       .endControlFlow()
+                       .addStatement("final int kindLimit = $T.limitOf(buffer, offset, maxLimit, depth - 1)", kindTypeName)
+                       .beginControlFlow("if (kindLimit < 0)")
+                       .addStatement("return kindLimit")
+                       .endControlFlow()
+                       .addStatement("final $T kind = $T.get(buffer, offset)", enumClassName(kindTypeName), kindTypeName)
+                       .beginControlFlow("if (kind == null)")
+                       .addStatement("return -1")
+                       .endControlFlow();
+            }
+            builder.addStatement("final int limit")
+                   .beginControlFlow("switch (kind)");
+        }
+
+        public LimitOfMethodGenerator addParentMember(
+            String name,
+            TypeName type,
+            TypeName unsignedType)
+        {
+            lastParentMemberName = name;
+            if (type.isPrimitive())
+            {
+                String getterName = MemberAccessorGenerator.GETTER_NAMES.get(type);
+                CodeBlock getter = CodeBlock.of("buffer.$L(offset + $L)", getterName, offset(name));
+                if (unsignedType != null && type == TypeName.BYTE)
+                {
+                    getter = CodeBlock.of("(buffer.$L(offset + $L) & 0xFF)", getterName, offset(name));
+                }
+                else if (unsignedType != null && type == TypeName.SHORT)
+                {
+                    getter = CodeBlock.of("(buffer.$L(offset + $L, $T.BIG_ENDIAN) & 0xFFFF)", getterName, offset(name),
+                        ByteOrder.class);
+                }
+                else if (unsignedType != null && type == TypeName.INT)
+                {
+                    getter = CodeBlock.of("(int) (buffer.$L(offset + $L, $T.BIG_ENDIAN) & 0xFFFF_FFFFL)", getterName,
+                        offset(name), ByteOrder.class);
+                }
+                parentMemberGetters.put(name, getter);
+            }
+            return this;
+        }
+
+        public LimitOfMethodGenerator addMember(
+            Object value,
+            String name,
+            TypeName type,
+            int size,
+            String sizeName,
+            AstByteOrder byteOrder)
+        {
+            builder.beginControlFlow("case $L:", value instanceof String ? value.toString() : kind(name));
+
+            String memberOffset = kindTypeName.isPrimitive() ? String.format("offset + %s", offset(name)) : "kindLimit";
+            if (DIRECT_BUFFER_TYPE.equals(type) || type.isPrimitive())
+            {
+                builder.addStatement("limit = offset + $L + $L", offset(name), size(name));
+            }
+            else
+            {
+                TypeName rawType = type instanceof ParameterizedTypeName ? ((ParameterizedTypeName) type).rawType : type;
+                if (size >= 0)
+                {
+                    builder.addStatement("limit = $L + $L > maxLimit ? -2 : " +
+                        "Math.max($T.limitOf(buffer, $L, $L + $L, depth - 1), -1)",
+                        memberOffset, size, rawType, memberOffset, memberOffset, size);
+                }
+                else if (sizeName != null)
+                {
+                    CodeBlock sizeGetter = parentMemberGetters.get(sizeName);
+                    builder.addStatement("limit = $L + $L > maxLimit ? -2 : " +
+                        "Math.max($T.limitOf(buffer, $L, $L + $L, depth - 1), -1)",
+                        memberOffset, sizeGetter, rawType, memberOffset, memberOffset, sizeGetter);
+                }
+                else if (rawType instanceof ClassName && (isString16Type((ClassName) rawType) ||
+                    isString32Type((ClassName) rawType)) && byteOrder == NETWORK)
+                {
+                    builder.addStatement("limit = $T.limitOf(buffer, $L, maxLimit, $T.BIG_ENDIAN)", rawType, memberOffset,
+                        ByteOrder.class);
+                }
+                else
+                {
+                    builder.addStatement("limit = $T.limitOf(buffer, $L, maxLimit, depth - 1)", rawType, memberOffset);
+                }
+            }
+            builder.addStatement("break")
+                   .endControlFlow();
+            return this;
+        }
+
+        @Override
+        public MethodSpec generate()
+        {
+            builder.beginControlFlow("default:");
+            if (superType == null)
+            {
+                builder.addStatement("limit = offset");
+            }
+            else
+            {
+                builder.addStatement("limit = offset + $L + $L", offset(lastParentMemberName), size(lastParentMemberName));
+            }
+            return builder.addStatement("break")
+                          .endControlFlow()
+                          .endControlFlow()
+                          .addStatement("return limit > maxLimit ? -2 : limit")
+                          .build();
+        }
+    }
+
+    private final class RequiredOfMethodGenerator extends MethodSpecGenerator
+    {
+        private final AstType superType;
+        private final TypeName kindTypeName;
+
+        private RequiredOfMethodGenerator(
+            AstType superType,
+            TypeName kindTypeName)
+        {
+            super(requiredOfMethodBuilder());
+            this.superType = superType;
+            this.kindTypeName = kindTypeName;
+            if (kindTypeName.isPrimitive())
+            {
+                builder.beginControlFlow("if (offset + $L + $L > maxLimit)", offset("kind"), size("kind"))
+                       .addStatement("return $L + $L", offset("kind"), size("kind"))
+                       .endControlFlow()
+                       .addStatement("final int kind = buffer.getByte(offset + $L) & 0xFF", offset("kind"));
+            }
+            else
+            {
+                builder.addStatement("final int kindLimit = $T.limitOf(buffer, offset, maxLimit, DEFAULT_MAX_DEPTH)",
+                            kindTypeName)
+                       .beginControlFlow("if (kindLimit < 0)")
+                       .addStatement("return kindLimit == -2 ? $T.requiredOf(buffer, offset, maxLimit) : -1", kindTypeName)
+                       .endControlFlow()
+                       .addStatement("final $T kind = $T.get(buffer, offset)", enumClassName(kindTypeName), kindTypeName)
+                       .beginControlFlow("if (kind == null)")
+                       .addStatement("return -1")
+                       .endControlFlow();
+            }
+            builder.beginControlFlow("switch (kind)");
+        }
+
+        public RequiredOfMethodGenerator addMember(
+            Object value,
+            String name,
+            TypeName type,
+            int size,
+            String sizeName,
+            AstByteOrder byteOrder)
+        {
+            builder.beginControlFlow("case $L:", value instanceof String ? value.toString() : kind(name));
+
+            String memberOffset = kindTypeName.isPrimitive() ? String.format("offset + %s", offset(name)) : "kindLimit";
+            String relativeOffset = kindTypeName.isPrimitive() ? offset(name) : "kindLimit - offset";
+            if (DIRECT_BUFFER_TYPE.equals(type) || type.isPrimitive())
+            {
+                builder.addStatement("return $L + $L", offset(name), size(name));
+            }
+            else
+            {
+                TypeName rawType = type instanceof ParameterizedTypeName ? ((ParameterizedTypeName) type).rawType : type;
+                if (size >= 0)
+                {
+                    builder.addStatement("return $L + $L", relativeOffset, size);
+                }
+                else if (sizeName != null)
+                {
+                    builder.addStatement("return $L + $L", relativeOffset, limitOfMethod.parentMemberGetters.get(sizeName));
+                }
+                else if (rawType instanceof ClassName && (isString16Type((ClassName) rawType) ||
+                    isString32Type((ClassName) rawType)) && byteOrder == NETWORK)
+                {
+                    builder.addStatement("return $L + $T.requiredOf(buffer, $L, maxLimit, $T.BIG_ENDIAN)", relativeOffset,
+                        rawType, memberOffset, ByteOrder.class);
+                }
+                else
+                {
+                    builder.addStatement("return $L + $T.requiredOf(buffer, $L, maxLimit)", relativeOffset, rawType,
+                        memberOffset);
+                }
+            }
+            builder.endControlFlow();
+            return this;
+        }
+
+        @Override
+        public MethodSpec generate()
+        {
+            builder.beginControlFlow("default:");
+            if (superType == null)
+            {
+                builder.addStatement("return 0");
+            }
+            else
+            {
+                builder.addStatement("return $L + $L", offset(limitOfMethod.lastParentMemberName),
+                    size(limitOfMethod.lastParentMemberName));
+            }
+            return builder.endControlFlow()
+                          .endControlFlow()
+                          .build();
+        }
+    }
+
     private final class TryWrapMethodGenerator extends MethodSpecGenerator
     {
         private final TypeName kindTypeName;
@@ -774,70 +1066,66 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         }
     }
 
-    private final class ToStringMethodGenerator extends MethodSpecGenerator
+    private MethodSpec toStringMethod()
+    {
+        return methodBuilder("toString")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .returns(String.class)
+                .addStatement("return appendTo(new StringBuilder()).toString()")
+                .build();
+    }
+
+    private final class AppendToMethodGenerator extends MethodSpecGenerator
     {
         private final AstType superType;
-        private final StringBuilder fieldStringBuilder = new StringBuilder();
-        private final StringBuilder fieldMethodBuilder = new StringBuilder();
+        private final CodeBlock.Builder parentMembers = CodeBlock.builder();
         private String lastParentMemberName;
 
-        private ToStringMethodGenerator(
+        private AppendToMethodGenerator(
             AstType superType)
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                     .addAnnotation(Override.class)
                     .addModifiers(PUBLIC)
-                    .returns(String.class)
+                    .addParameter(StringBuilder.class, "builder")
+                    .returns(StringBuilder.class)
                     .beginControlFlow("switch (kind())"));
             this.superType = superType;
         }
 
-        public ToStringMethodGenerator addMember(
+        public AppendToMethodGenerator addMember(
             Object value,
             String name,
             TypeName typeName)
         {
-            String fieldString = fieldStringBuilder.toString();
-            String fieldMethod = fieldMethodBuilder.toString();
-            builder.beginControlFlow("case $L:", value instanceof String ? value.toString() : kind(name));
-
-            if (typeName instanceof ClassName && isStringType((ClassName) typeName))
-            {
-                builder.addStatement("return String.format(\"$L [$L$L=%s]\", $L$L().asString())", constant(baseName),
-                    fieldString, name, fieldMethod, name);
-            }
-            else if (typeName.isPrimitive())
-            {
-                builder.addStatement("return String.format(\"$L [$L$L=%d]\", $L$L())", constant(baseName), fieldString,
-                    name, fieldMethod, name);
-            }
-            else
-            {
-                builder.addStatement("return String.format(\"$L [$L$L=%s]\", $L$L())", constant(baseName), fieldString,
-                    name, fieldMethod, name);
-            }
-            builder.endControlFlow();
+            builder.beginControlFlow("case $L:", value instanceof String ? value.toString() : kind(name))
+                .addStatement("builder.append($S)", String.format("%s [", constant(baseName)))
+                .addCode(parentMembers.build());
+            addMemberValue(name, typeName);
+            builder.addStatement("return builder.append(']')")
+                .endControlFlow();
             return this;
         }
 
-        public ToStringMethodGenerator addParentMember(
+        public AppendToMethodGenerator addParentMember(
             String name,
             TypeName typeName)
         {
+            parentMembers.addStatement("builder.append($S)", String.format("%s=", name));
             if (typeName.isPrimitive())
             {
-                fieldStringBuilder.append(String.format("%s=%%d, ", name));
-                fieldMethodBuilder.append(String.format("%s(), ", name));
+                parentMembers.addStatement("builder.append($L())", name);
             }
             else if (typeName instanceof ClassName && isStringType((ClassName) typeName))
             {
-                fieldMethodBuilder.append(String.format("%sRO.asString(), ", name));
+                parentMembers.addStatement("$LRO.appendStringTo(builder)", name);
             }
             else
             {
-                fieldStringBuilder.append(String.format("%s=%%s, ", name));
-                fieldMethodBuilder.append(String.format("%s(), ", name));
+                parentMembers.addStatement("builder.append($L())", name);
             }
+            parentMembers.addStatement("builder.append($S)", ", ");
             lastParentMemberName = name;
 
             return this;
@@ -849,17 +1137,36 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
             builder.beginControlFlow("default:");
             if (superType == null)
             {
-                builder.addStatement("return String.format(\"$L [unknown]\")", constant(baseName));
+                builder.addStatement("return builder.append($S)", String.format("%s [unknown]", constant(baseName)));
             }
             else
             {
-                builder.addStatement("return String.format(\"$L [$L=%d]\", $L())", constant(baseName), lastParentMemberName,
-                    lastParentMemberName);
+                builder.addStatement("return builder.append($S).append($L()).append(']')",
+                    String.format("%s [%s=", constant(baseName), lastParentMemberName), lastParentMemberName);
             }
             return builder.endControlFlow()
                 .endControlFlow()
                 .build();
         }
+
+        private void addMemberValue(
+            String name,
+            TypeName typeName)
+        {
+            builder.addStatement("builder.append($S)", String.format("%s=", name));
+            if (typeName instanceof ClassName && isStringType((ClassName) typeName))
+            {
+                builder.addStatement("$L().appendStringTo(builder)", name);
+            }
+            else if (isFlyweightType(typeName))
+            {
+                builder.addStatement("$L().appendTo(builder)", name);
+            }
+            else
+            {
+                builder.addStatement("builder.append($L())", name);
+            }
+        }
     }
 
     private static final class BuilderClassGenerator extends ClassSpecGenerator
@@ -1785,15 +2092,18 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
                 ClassName consumerType = ClassName.get(Consumer.class);
                 ClassName itemType = (ClassName) parameterizedType.typeArguments.get(0);
                 ClassName itemBuilderType = itemType.nestedClass("Builder");
-                TypeName mutatorType = ParameterizedTypeName.get(consumerType, itemBuilderType);
+                ClassName builderRawType = parameterizedType.rawType.nestedClass("Builder");
+                TypeName builderType = ParameterizedTypeName.get(builderRawType, itemBuilderType, itemType);
+                TypeName mutatorType = ParameterizedTypeName.get(consumerType, builderType);
 
                 builder.addMethod(methodBuilder(name)
                         .addModifiers(PUBLIC)
                         .returns(thisType)
                         .addParameter(mutatorType, "mutator")
                         .addStatement("kind($L)", kind(name))
-                        .addStatement("$L().item(mutator)", name)
-                        .addStatement("super.limit($LRW.limit())", name)
+                        .addStatement("$T $L = $L(offset() + $L)", builderType, name, name, offset(name))
+                        .addStatement("mutator.accept($L)", name)
+                        .addStatement("limit($L.build().limit())", name)
                         .addStatement("return this")
                         .build());
             }
@@ -1916,6 +2226,14 @@ public final class UnionFlyweightGenerator extends ClassSpecGenerator
         }
     }
 
+    private static boolean isFlyweightType(
+        TypeName type)
+    {
+        ClassName className = type instanceof ParameterizedTypeName ? ((ParameterizedTypeName) type).rawType :
+            type instanceof ClassName ? (ClassName) type : null;
+        return className != null && className.simpleName().endsWith("FW");
+    }
+
     private static boolean isStringType(
         ClassName classType)
     {
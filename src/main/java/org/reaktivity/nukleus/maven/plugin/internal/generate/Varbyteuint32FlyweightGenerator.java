@@ -22,9 +22,14 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 
+import java.nio.ByteOrder;
+
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
@@ -49,17 +54,31 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
     @Override
     public TypeSpec generate()
     {
-        return classBuilder.addField(fieldSize())
+        return classBuilder.addField(maxSizeofConstant())
+                           .addField(fieldSize())
                            .addMethod(limitMethod())
                            .addMethod(valueMethod())
+                           .addMethod(staticValueOfMethod())
+                           .addMethod(limitOfMethod())
+                           .addMethod(validateMethod())
+                           .addMethod(limitOfWithDepthMethod())
                            .addMethod(tryWrapMethod())
                            .addMethod(wrapMethod())
+                           .addMethod(appendToMethod())
                            .addMethod(toStringMethod())
                            .addMethod(length0Method())
+                           .addMethod(lengthMethod())
                            .addType(builderClassBuilder.build())
                            .build();
     }
 
+    private FieldSpec maxSizeofConstant()
+    {
+        return FieldSpec.builder(int.class, "MAX_SIZEOF", PUBLIC, STATIC, FINAL)
+                .initializer("$L", 5)
+                .build();
+    }
+
     private FieldSpec fieldSize()
     {
         return FieldSpec.builder(int.class, "size", PRIVATE)
@@ -81,9 +100,27 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
         return methodBuilder("value")
                 .addModifiers(PUBLIC)
                 .returns(int.class)
-                .addStatement("final DirectBuffer buffer = buffer()")
-                .addStatement("final int offset = offset()")
-                .addStatement("final int limit = limit()")
+                .addStatement("return valueOf(buffer(), offset(), limit())")
+                .build();
+    }
+
+    private MethodSpec staticValueOfMethod()
+    {
+        return methodBuilder("valueOf")
+                .addModifiers(PUBLIC, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "limit")
+                .returns(int.class)
+                .addStatement("final int size = limit - offset")
+                .beginControlFlow("if (size == 1)")
+                    .addStatement("return buffer.getByte(offset)")
+                .nextControlFlow("else if (buffer.capacity() - offset >= Long.BYTES)")
+                    .addStatement("final long bits = buffer.getLong(offset, $T.LITTLE_ENDIAN) & " +
+                            "(-1L >>> ((Long.BYTES - size) << 3))", ByteOrder.class)
+                    .addStatement("return (int) (bits & 0x7fL | (bits >>> 1) & 0x3f80L | (bits >>> 2) & 0x1fc000L | " +
+                            "(bits >>> 3) & 0xfe00000L | (bits >>> 4) & 0x7f0000000L)")
+                .endControlFlow()
                 .addStatement("int value = 0")
                 .addStatement("int index = 0")
                 .addStatement("int multiplier = 1")
@@ -98,6 +135,18 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec limitOfWithDepthMethod()
+    {
+        return limitOfMethodBuilder()
+                .beginControlFlow("if (maxLimit - offset < 1)")
+                .addStatement("return -2")
+                .endControlFlow()
+                .addStatement("final int size = length(buffer, offset, maxLimit)")
+                .addStatement("final int limit = offset + size")
+                .addStatement("return size < 0 || size > 5 ? -1 : limit > maxLimit ? -2 : limit")
+                .build();
+    }
+
     private MethodSpec tryWrapMethod()
     {
         return methodBuilder("tryWrap")
@@ -139,13 +188,24 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class)
+                .addStatement("return builder.append(value())")
+                .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return Integer.toString(value())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
                 .build();
     }
 
@@ -154,9 +214,29 @@ public final class Varbyteuint32FlyweightGenerator extends ClassSpecGenerator
         return methodBuilder("length0")
                 .addModifiers(PRIVATE)
                 .returns(int.class)
-                .addStatement("final DirectBuffer buffer = buffer()")
-                .addStatement("final int offset = offset()")
-                .addStatement("final int maxPos = Math.min(offset + 5,  maxLimit())")
+                .addStatement("return length(buffer(), offset(), maxLimit())")
+                .build();
+    }
+
+    private MethodSpec lengthMethod()
+    {
+        return methodBuilder("length")
+                .addModifiers(PRIVATE, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(int.class)
+                .beginControlFlow("if ((buffer.getByte(offset) & 0x80) == 0)")
+                    .addStatement("return 1")
+                .nextControlFlow("else if (buffer.capacity() - offset >= Long.BYTES)")
+                    .addStatement("final long stops = ~buffer.getLong(offset, $T.LITTLE_ENDIAN) & 0x80808080_80808080L",
+                            ByteOrder.class)
+                    .addStatement("final int size = (Long.numberOfTrailingZeros(stops) + 1) >> 3")
+                    .beginControlFlow("if (size <= 5)")
+                        .addStatement("return size")
+                    .endControlFlow()
+                .endControlFlow()
+                .addStatement("final int maxPos = Math.min(offset + 5,  maxLimit)")
                 .addStatement("int index = 0")
                 .beginControlFlow("while (index + offset < maxPos && (buffer.getByte(index + offset) & 0x80) != 0)")
                     .addStatement("index++")
@@ -24,6 +24,7 @@ import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NATIVE;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NETWORK;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BIT_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.BUFFER_UTIL_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
@@ -83,7 +84,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
     private final TryWrapMethodGenerator tryWrapMethod;
     private final WrapMethodGenerator wrapMethod;
     private final WrapMethodWithArrayGenerator wrapMethodWithArray;
-    private final ToStringMethodGenerator toStringMethod;
+    private final AppendToMethodGenerator appendToMethod;
     private final StringOfTypeMethodsGenerator stringOfTypeMethods;
     private final ListOfTypeMethodsGenerator listOfTypeMethods;
     private final ArrayOfTypeMethodsGenerator arrayOfTypeMethods;
@@ -91,14 +92,20 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
     private final KindAccessorGenerator kindAccessor;
     private final MemberAccessorGenerator memberAccessor;
     private final LimitMethodGenerator limitMethod;
+    private final LimitOfMethodGenerator limitOfMethod;
+    private final RequiredOfMethodGenerator requiredOfMethod;
     private final MapOfTypeMethodsGenerator mapOfTypeMethods;
     private final BuilderClassGenerator builderClass;
     private final GetMethodGenerator getMethod;
+    private final StaticGetMethodGenerator staticGetMethod;
+    private final StaticListMethodGenerator staticFieldCountMethod;
+    private final StaticListMethodGenerator staticFieldsOffsetMethod;
     private final BitMaskConstantGenerator bitMaskConstant;
     private final TypeVariableName typeVarV;
     private final TypeVariableName typeVarO;
     private final TypeVariableName typeVarKV;
     private final TypeVariableName typeVarVV;
+    private final AstByteOrder byteOrder;
 
     static
     {
@@ -162,6 +169,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         this.typeVarV = TypeVariableName.get("V", flyweightName);
         this.typeVarKV = TypeVariableName.get("K", flyweightName);
         this.typeVarVV = TypeVariableName.get("V", flyweightName);
+        this.byteOrder = byteOrder;
         this.baseName = baseName;
         this.builder = builder(variantName, kindTypeName, ofType, resolver);
         this.memberField = new MemberFieldGenerator(variantName, kindTypeName, ofType, typeVarV, typeVarKV, typeVarVV, builder,
@@ -171,11 +179,11 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         this.memberOffsetConstant = new MemberOffsetConstantGenerator(variantName, kindTypeName, builder);
         this.memberFieldValueConstant = new MemberFieldValueConstantGenerator(variantName, builder);
         this.missingFieldPlaceholderConstant = new MissingFieldPlaceholderConstantGenerator(variantName, builder);
-        this.constructor = new ConstructorGenerator(ofType, typeVarV, typeVarKV, typeVarVV, byteOrder);
+        this.constructor = new ConstructorGenerator(ofType, typeVarV, typeVarKV, typeVarVV);
         this.tryWrapMethod = new TryWrapMethodGenerator(kindTypeName, ofType, resolver);
         this.wrapMethod = new WrapMethodGenerator(kindTypeName, ofType, resolver);
         this.wrapMethodWithArray = new WrapMethodWithArrayGenerator(kindTypeName, ofType, resolver);
-        this.toStringMethod = new ToStringMethodGenerator(kindTypeName, ofType, resolver);
+        this.appendToMethod = new AppendToMethodGenerator(kindTypeName, ofType, resolver);
         this.stringOfTypeMethods = new StringOfTypeMethodsGenerator(variantName, builder, kindTypeName, ofType);
         this.listOfTypeMethods = new ListOfTypeMethodsGenerator(variantName, builder, kindTypeName, ofType);
         this.arrayOfTypeMethods = new ArrayOfTypeMethodsGenerator(variantName, builder, kindTypeName, typeVarV, ofType);
@@ -183,8 +191,14 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         this.kindAccessor = new KindAccessorGenerator(variantName, kindTypeName, ofType, builder);
         this.memberAccessor = new MemberAccessorGenerator(variantName, kindTypeName, ofType, builder, resolver, byteOrder);
         this.limitMethod = new LimitMethodGenerator(kindTypeName, ofType, resolver);
+        this.limitOfMethod = new LimitOfMethodGenerator(flyweightName, kindTypeName, ofType, resolver, byteOrder);
+        this.requiredOfMethod = new RequiredOfMethodGenerator(kindTypeName, ofType, limitOfMethod);
         this.mapOfTypeMethods = new MapOfTypeMethodsGenerator(variantName, ofType, builder);
         this.getMethod = new GetMethodGenerator(kindTypeName, ofType, ofTypeName, unsignedOfTypeName, resolver);
+        this.staticGetMethod = new StaticGetMethodGenerator(kindTypeName, ofType, ofTypeName, unsignedOfTypeName, resolver,
+            byteOrder);
+        this.staticFieldCountMethod = new StaticListMethodGenerator("fieldCount", kindTypeName, ofType);
+        this.staticFieldsOffsetMethod = new StaticListMethodGenerator("fieldsOffset", kindTypeName, ofType);
         this.bitMaskConstant = new BitMaskConstantGenerator(variantName, ofTypeName, builder);
         this.builderClass = new BuilderClassGenerator(variantName, flyweightName, kindTypeName, ofType, ofTypeName,
             unsignedOfTypeName, resolver, typeVarO, byteOrder);
@@ -200,6 +214,11 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         AstType mapKeyType,
         AstType mapValueType)
     {
+        if (byteOrder == NETWORK && isByteOrderSpecialized(memberType))
+        {
+            ClassName memberRawName = (ClassName) memberTypeName;
+            memberTypeName = memberRawName.peerClass(String.format("Network%s", memberRawName.simpleName()));
+        }
         memberKindConstant.addMember(kindValue, memberName, memberType, memberTypeName);
         memberOffsetConstant.addMember(memberName, memberTypeName);
         memberFieldValueConstant.addMember(memberName, memberTypeName);
@@ -210,10 +229,15 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         wrapMethod.addMember(kindValue, memberName, memberTypeName, mapKeyType);
         wrapMethodWithArray.addMember(kindValue, memberName);
         tryWrapMethod.addMember(kindValue, memberName, memberTypeName, mapKeyType);
-        toStringMethod.addMember(memberName, kindValue, memberName, memberType, memberTypeName, mapKeyType);
+        appendToMethod.addMember(memberName, kindValue, memberName, memberType, memberTypeName, mapKeyType);
         memberAccessor.addMember(memberName, memberType, memberTypeName, unsignedMemberTypeName, mapKeyType, mapValueType);
         limitMethod.addMember(memberName, kindValue, memberName, memberTypeName, mapKeyType);
+        limitOfMethod.addMember(kindValue, memberName, memberTypeName, mapKeyType, mapValueType);
+        requiredOfMethod.addMember(kindValue, memberName, memberTypeName);
         getMethod.addMember(memberName, kindValue, memberType, memberTypeName);
+        staticGetMethod.addMember(memberName, kindValue, memberType, memberTypeName, unsignedMemberTypeName);
+        staticFieldCountMethod.addMember(memberName, kindValue, memberTypeName);
+        staticFieldsOffsetMethod.addMember(memberName, kindValue, memberTypeName);
         bitMaskConstant.addMember(memberName, memberType, memberTypeName, unsignedMemberTypeName);
         builderClass.addMember(kindValue, memberName, memberType, memberTypeName, unsignedMemberTypeName, mapKeyType,
             mapValueType);
@@ -232,10 +256,16 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         bitMaskConstant.build();
         constructor.mixin(builder);
         getMethod.mixin(builder);
+        staticGetMethod.mixin(builder);
+        staticFieldCountMethod.mixin(builder);
+        staticFieldsOffsetMethod.mixin(builder);
+        limitOfMethod.mixin(builder);
+        requiredOfMethod.mixin(builder);
         tryWrapMethod.mixin(builder);
         wrapMethod.mixin(builder);
         wrapMethodWithArray.mixin(builder);
-        toStringMethod.mixin(builder);
+        appendToMethod.mixin(builder);
+        builder.addMethod(toStringMethod());
         stringOfTypeMethods.build();
         listOfTypeMethods.build();
         arrayOfTypeMethods.build();
@@ -352,7 +382,8 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 {
                     fieldBuilder = FieldSpec.builder(memberTypeName, fieldRO, PRIVATE, FINAL);
                     if (byteOrder == NATIVE || memberType.equals(AstType.LIST0) || memberType.equals(AstType.LIST8) ||
-                        memberType.equals(AstType.BOUNDED_OCTETS8) || memberType.equals(AstType.STRING8))
+                        memberType.equals(AstType.BOUNDED_OCTETS8) || memberType.equals(AstType.STRING8) ||
+                        isByteOrderSpecialized(memberType))
                     {
                         fieldBuilder.initializer("new $T()", memberTypeName);
                     }
@@ -553,14 +584,12 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         private final TypeVariableName typeVarV;
         private final TypeVariableName typeVarKV;
         private final TypeVariableName typeVarVV;
-        private final AstByteOrder byteOrder;
 
         private ConstructorGenerator(
             AstType ofType,
             TypeVariableName typeVarV,
             TypeVariableName typeVarKV,
-            TypeVariableName typeVarVV,
-            AstByteOrder byteOrder)
+            TypeVariableName typeVarVV)
         {
             super(constructorBuilder()
                 .addModifiers(PUBLIC));
@@ -568,7 +597,6 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             this.typeVarV = typeVarV;
             this.typeVarKV = typeVarKV;
             this.typeVarVV = typeVarVV;
-            this.byteOrder = byteOrder;
         }
 
         public ConstructorGenerator addMember(
@@ -578,26 +606,12 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         {
             if (isArrayType(ofType))
             {
-                if (byteOrder == NATIVE || memberType.equals(AstType.ARRAY8))
-                {
-                    builder.addStatement("$LRO = new $T<>(type)", memberName, memberTypeName);
-                }
-                else
-                {
-                    builder.addStatement("$LRO = new $T<>(type, $T.BIG_ENDIAN)", memberName, memberTypeName, ByteOrder.class);
-                }
+                builder.addStatement("$LRO = new $T<>(type, itemSize)", memberName, memberTypeName);
             }
             else if (isMapType(ofType))
             {
-                if (byteOrder == NATIVE || memberType.equals(AstType.MAP8))
-                {
-                    builder.addStatement("$LRO = new $T<>(keyType, valueType)", memberName, memberTypeName);
-                }
-                else
-                {
-                    builder.addStatement("$LRO = new $T<>(keyType, valueType, $T.BIG_ENDIAN)", memberName, memberTypeName,
-                        ByteOrder.class);
-                }
+                builder.addStatement("$LRO = new $T<>(keyType, valueType, lookupKeyType, lookupValueType)", memberName,
+                    memberTypeName);
             }
             return this;
         }
@@ -607,12 +621,15 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         {
             if (isArrayType(ofType))
             {
-                builder.addParameter(typeVarV, "type");
+                builder.addParameter(typeVarV, "type")
+                    .addParameter(int.class, "itemSize");
             }
             else if (isMapType(ofType))
             {
                 builder.addParameter(typeVarKV, "keyType")
-                    .addParameter(typeVarVV, "valueType");
+                    .addParameter(typeVarVV, "valueType")
+                    .addParameter(typeVarKV, "lookupKeyType")
+                    .addParameter(typeVarVV, "lookupValueType");
             }
             return builder.build();
         }
@@ -625,6 +642,24 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             {
                 super.mixin(builder);
             }
+
+            if (isArrayType(ofType))
+            {
+                builder.addMethod(constructorBuilder()
+                    .addModifiers(PUBLIC)
+                    .addParameter(typeVarV, "type")
+                    .addStatement("this(type, -1)")
+                    .build());
+            }
+            else if (isMapType(ofType))
+            {
+                builder.addMethod(constructorBuilder()
+                    .addModifiers(PUBLIC)
+                    .addParameter(typeVarKV, "keyType")
+                    .addParameter(typeVarVV, "valueType")
+                    .addStatement("this(keyType, valueType, keyType, valueType)")
+                    .build());
+            }
         }
     }
 
@@ -928,21 +963,32 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         }
     }
 
-    private final class ToStringMethodGenerator extends MethodSpecGenerator
+    private MethodSpec toStringMethod()
+    {
+        return methodBuilder("toString")
+            .addAnnotation(Override.class)
+            .addModifiers(PUBLIC)
+            .returns(String.class)
+            .addStatement("return appendTo(new StringBuilder()).toString()")
+            .build();
+    }
+
+    private final class AppendToMethodGenerator extends MethodSpecGenerator
     {
         private final TypeName kindTypeName;
         private final AstType ofType;
         private final TypeResolver resolver;
 
-        private ToStringMethodGenerator(
+        private AppendToMethodGenerator(
             TypeName kindTypeName,
             AstType ofType,
             TypeResolver resolver)
         {
-            super(methodBuilder("toString")
+            super(methodBuilder("appendTo")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
-                .returns(String.class));
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class));
             this.kindTypeName = kindTypeName;
             this.ofType = ofType;
             this.resolver = resolver;
@@ -952,7 +998,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             }
         }
 
-        public ToStringMethodGenerator addMember(
+        public AppendToMethodGenerator addMember(
             String name,
             Object kindValue,
             String memberName,
@@ -968,33 +1014,34 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 {
                     if (isStringType(memberType))
                     {
-                        builder.addStatement("return String.format(\"$L [$L=%s]\", $LRO.asString())", constant(baseName),
-                            memberName, memberName);
+                        builder.addStatement("builder.append($S)", String.format("%s [%s=", constant(baseName), memberName))
+                            .addStatement("return $LRO.appendStringTo(builder).append(']')", memberName);
                     }
                     else if (memberTypeName == null || memberTypeName.isPrimitive())
                     {
-                        builder.addStatement("return String.format(\"$L [$L=%d]\", $L())", constant(baseName),
-                            NUMBER_WORDS.get(memberName) == null ? memberName : NUMBER_WORDS.get(memberName), getAs(memberName));
+                        builder.addStatement("return builder.append($S).append($L()).append(']')", String.format("%s [%s=",
+                            constant(baseName), NUMBER_WORDS.get(memberName) == null ? memberName : NUMBER_WORDS.get(memberName)),
+                            getAs(memberName));
                     }
                     else if (ofType == null)
                     {
                         if (mapKeyType == null)
                         {
-                            builder.addStatement("return $LRO.toString()", fieldName(memberTypeName));
+                            builder.addStatement("return $LRO.appendTo(builder)", fieldName(memberTypeName));
                         }
                         else
                         {
-                            builder.addStatement("return $L().toString()", fieldName(memberTypeName));
+                            builder.addStatement("return $L().appendTo(builder)", fieldName(memberTypeName));
                         }
                     }
                     else if (resolver.resolve(name) != null && resolver.resolve(name).getKind() == Kind.VARIANT)
                     {
-                        builder.addStatement("return $LRO.toString()", fieldName(memberTypeName));
+                        builder.addStatement("return $LRO.appendTo(builder)", fieldName(memberTypeName));
                     }
                     else
                     {
-                        builder.addStatement("return String.format(\"$L [$L=%s]\", $L())", constant(baseName), memberName,
-                            getAs(memberName));
+                        builder.addStatement("return builder.append($S).append($L()).append(']')",
+                            String.format("%s [%s=", constant(baseName), memberName), getAs(memberName));
                     }
                 }
                 builder.endControlFlow();
@@ -1007,12 +1054,12 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         {
             if (isListType(ofType) || isArrayType(ofType) || isMapType(ofType) || isBoundedOctetsType(ofType))
             {
-                builder.addStatement("return get().toString()");
+                builder.addStatement("return get().appendTo(builder)");
             }
             else
             {
                 builder.beginControlFlow("default:")
-                    .addStatement("return String.format(\"$L [unknown]\")", constant(baseName))
+                    .addStatement("return builder.append($S)", String.format("%s [unknown]", constant(baseName)))
                     .endControlFlow()
                     .endControlFlow();
             }
@@ -1049,6 +1096,13 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         .addModifiers(PUBLIC)
                         .returns(int.class)
                         .addStatement("return get().length()")
+                        .build())
+                    .addMethod(methodBuilder("appendStringTo")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .addParameter(StringBuilder.class, "builder")
+                        .returns(StringBuilder.class)
+                        .addStatement("return get().appendStringTo(builder)")
                         .build());
             }
         }
@@ -1149,6 +1203,13 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         .addParameter(parameterizedPredicateType, "predicate")
                         .addStatement("return get().matchFirst(predicate)")
                         .build())
+                    .addMethod(methodBuilder("item")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .returns(typeVarV)
+                        .addParameter(int.class, "index")
+                        .addStatement("return get().item(index)")
+                        .build())
                     .addMethod(methodBuilder("isEmpty")
                         .addAnnotation(Override.class)
                         .addModifiers(PUBLIC)
@@ -1366,8 +1427,8 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                     ClassName mapKeyTypeName = resolver.resolveClass(mapKeyType);
                     ClassName mapValueTypeName = resolver.resolveClass(mapValueType);
                     codeBlock.beginControlFlow("if ($LRO == null)", memberName)
-                        .addStatement("$LRO = new $T<>(new $T(), new $T())",
-                            memberName, memberTypeName, mapKeyTypeName, mapValueTypeName)
+                        .addStatement("$LRO = new $T<>(new $T(), new $T(), new $T(), new $T())",
+                            memberName, memberTypeName, mapKeyTypeName, mapValueTypeName, mapKeyTypeName, mapValueTypeName)
                         .endControlFlow()
                         .addStatement("return $LRO", memberName);
                 }
@@ -1546,6 +1607,504 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         }
     }
 
+    private final class StaticGetMethodGenerator extends MethodSpecGenerator
+    {
+        private final TypeName kindTypeName;
+        private final AstType ofType;
+        private final TypeName ofTypeName;
+        private final TypeName unsignedOfType;
+        private final TypeResolver resolver;
+        private final AstByteOrder byteOrder;
+
+        private StaticGetMethodGenerator(
+            TypeName kindTypeName,
+            AstType ofType,
+            TypeName ofTypeName,
+            TypeName unsignedOfType,
+            TypeResolver resolver,
+            AstByteOrder byteOrder)
+        {
+            super(methodBuilder("get")
+                .addModifiers(PUBLIC, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset"));
+            this.kindTypeName = kindTypeName;
+            this.ofType = ofType;
+            this.ofTypeName = ofTypeName;
+            this.unsignedOfType = unsignedOfType;
+            this.resolver = resolver;
+            this.byteOrder = byteOrder;
+            if (kindTypeName.isPrimitive())
+            {
+                builder.addStatement("final int kind = buffer.getByte(offset + $L) & 0xFF", offset("kind"));
+            }
+            else
+            {
+                builder.addStatement("final $T kind = $T.get(buffer, offset)", enumClassName(kindTypeName), kindTypeName)
+                       .beginControlFlow("if (kind == null)")
+                       .addStatement("throw new IllegalStateException(\"Unrecognized kind: \" + kind)")
+                       .endControlFlow()
+                       .addStatement("final int kindLimit = $T.limitOf(buffer, offset, buffer.capacity())", kindTypeName);
+            }
+            builder.beginControlFlow("switch (kind)");
+        }
+
+        public StaticGetMethodGenerator addMember(
+            String name,
+            Object kindValue,
+            AstType memberType,
+            TypeName memberTypeName,
+            TypeName unsignedMemberTypeName)
+        {
+            if (!isEnabled())
+            {
+                return this;
+            }
+            builder.beginControlFlow("case $L:", kindTypeName.isPrimitive() ? kind(name) : kindValue);
+            String memberOffset = kindTypeName.isPrimitive() ? String.format("offset + %s", offset(name)) : "kindLimit";
+            if (memberTypeName == null)
+            {
+                builder.addStatement("return $L", value(name));
+            }
+            else if (memberType == AstType.INT24 || memberType == AstType.UINT24)
+            {
+                builder.addStatement("final int memberOffset = $L", memberOffset)
+                    .addStatement("int bits = (buffer.getByte(memberOffset) & 0xff) << 16 | " +
+                        "(buffer.getByte(memberOffset + 1) & 0xff) << 8 | (buffer.getByte(memberOffset + 2) & 0xff)")
+                    .beginControlFlow("if ($T.NATIVE_BYTE_ORDER != $T.BIG_ENDIAN)", BUFFER_UTIL_TYPE, ByteOrder.class)
+                    .addStatement("bits = (buffer.getByte(memberOffset) & 0xff) | " +
+                        "(buffer.getByte(memberOffset + 1) & 0xff) << 8 | (buffer.getByte(memberOffset + 2) & 0xff) << 16")
+                    .endControlFlow()
+                    .addStatement("return bits");
+            }
+            else if (memberTypeName.isPrimitive())
+            {
+                String unsignedHex = "";
+                if (unsignedMemberTypeName != null)
+                {
+                    if (memberTypeName.equals(TypeName.BYTE))
+                    {
+                        unsignedHex = " & 0xFF";
+                    }
+                    else if (memberTypeName.equals(TypeName.SHORT))
+                    {
+                        unsignedHex = " & 0xFFFF";
+                    }
+                    else if (memberTypeName.equals(TypeName.INT))
+                    {
+                        unsignedHex = " & 0xFFFF_FFFFL";
+                    }
+                }
+                if (byteOrder == AstByteOrder.NETWORK &&
+                    (memberTypeName == TypeName.SHORT || memberTypeName == TypeName.INT || memberTypeName == TypeName.LONG))
+                {
+                    builder.addStatement("return buffer.get$L($L, $T.BIG_ENDIAN)$L", TYPE_NAMES.get(memberTypeName),
+                        memberOffset, ByteOrder.class, unsignedHex);
+                }
+                else
+                {
+                    builder.addStatement("return buffer.get$L($L)$L", TYPE_NAMES.get(memberTypeName), memberOffset, unsignedHex);
+                }
+            }
+            else if (resolver.resolve(name) != null && resolver.resolve(name).getKind() == Kind.VARIANT)
+            {
+                builder.addStatement("return $T.get(buffer, $L)", memberTypeName, memberOffset);
+            }
+            builder.endControlFlow();
+            return this;
+        }
+
+        @Override
+        public MethodSpec generate()
+        {
+            TypeName primitiveReturnType = ofTypeName.equals(TypeName.BYTE) || ofTypeName.equals(TypeName.SHORT) ||
+                ofTypeName.equals(TypeName.INT) ? TypeName.INT : TypeName.LONG;
+            return builder.beginControlFlow("default:")
+                .addStatement("throw new IllegalStateException(\"Unrecognized kind: \" + kind)")
+                .endControlFlow()
+                .endControlFlow()
+                .returns(Objects.requireNonNullElse(unsignedOfType, primitiveReturnType))
+                .build();
+        }
+
+        @Override
+        public void mixin(
+            TypeSpec.Builder builder)
+        {
+            if (isEnabled())
+            {
+                super.mixin(builder);
+            }
+        }
+
+        private boolean isEnabled()
+        {
+            return ofType != null && ofTypeName != null && ofTypeName.isPrimitive() && !isNonPrimitiveType(ofType);
+        }
+    }
+
+    private final class StaticListMethodGenerator extends MethodSpecGenerator
+    {
+        private final String methodName;
+        private final TypeName kindTypeName;
+        private final AstType ofType;
+
+        private StaticListMethodGenerator(
+            String methodName,
+            TypeName kindTypeName,
+            AstType ofType)
+        {
+            super(methodBuilder(methodName)
+                .addModifiers(PUBLIC, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .returns(int.class));
+            this.methodName = methodName;
+            this.kindTypeName = kindTypeName;
+            this.ofType = ofType;
+            if (kindTypeName.isPrimitive())
+            {
+                builder.addStatement("final int kind = buffer.getByte(offset + $L) & 0xFF", offset("kind"));
+            }
+            else
+            {
+                builder.addStatement("final $T kind = $T.get(buffer, offset)", enumClassName(kindTypeName), kindTypeName)
+                       .beginControlFlow("if (kind == null)")
+                       .addStatement("throw new IllegalStateException(\"Unrecognized kind: \" + kind)")
+                       .endControlFlow()
+                       .addStatement("final int kindLimit = $T.limitOf(buffer, offset, buffer.capacity())", kindTypeName);
+            }
+            builder.beginControlFlow("switch (kind)");
+        }
+
+        public StaticListMethodGenerator addMember(
+            String memberName,
+            Object kindValue,
+            TypeName memberTypeName)
+        {
+            if (!isListType(ofType))
+            {
+                return this;
+            }
+            builder.beginControlFlow("case $L:", kindTypeName.isPrimitive() ? kind(memberName) : kindValue);
+            String memberOffset = kindTypeName.isPrimitive() ? String.format("offset + %s", offset(memberName)) : "kindLimit";
+            ClassName memberRawName = (ClassName) memberTypeName;
+            if ("fieldsOffset".equals(methodName))
+            {
+                builder.addStatement("return $T.fieldsOffset($L)", memberRawName, memberOffset);
+            }
+            else
+            {
+                builder.addStatement("return $T.fieldCount(buffer, $L)", memberRawName, memberOffset);
+            }
+            builder.endControlFlow();
+            return this;
+        }
+
+        @Override
+        public MethodSpec generate()
+        {
+            return builder.beginControlFlow("default:")
+                .addStatement("throw new IllegalStateException(\"Unrecognized kind: \" + kind)")
+                .endControlFlow()
+                .endControlFlow()
+                .build();
+        }
+
+        @Override
+        public void mixin(
+            TypeSpec.Builder builder)
+        {
+            if (isListType(ofType))
+            {
+                super.mixin(builder);
+            }
+        }
+    }
+
+    private final class LimitOfMethodGenerator extends MethodSpecGenerator
+    {
+        private final ClassName validatorType;
+        private final TypeName kindTypeName;
+        private final AstType ofType;
+        private final TypeResolver resolver;
+        private final AstByteOrder byteOrder;
+
+        private LimitOfMethodGenerator(
+            ClassName flyweightName,
+            TypeName kindTypeName,
+            AstType ofType,
+            TypeResolver resolver,
+            AstByteOrder byteOrder)
+        {
+            super(methodBuilder("limitOf")
+                .addModifiers(PUBLIC, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(int.class));
+            this.validatorType = flyweightName.nestedClass("Validator");
+            this.kindTypeName = kindTypeName;
+            this.ofType = ofType;
+            this.resolver = resolver;
+            this.byteOrder = byteOrder;
+
+            if (isMapType(ofType))
+            {
+                builder.addParameter(validatorType, "keyValidator")
+                       .addParameter(validatorType, "valueValidator");
+            }
+            builder.addParameter(int.class, "depth");
+
+            if (kindTypeName.isPrimitive())
+            {
+                builder.beginControlFlow("if (depth < 1)")
+                       .addStatement("return -1")
+                       .endControlFlow()
+                       .beginControlFlow("if (offset + $L + $L > maxLimit)", offset("kind"), size("kind"))
+                       .addStatement("return -2")
+                       .endControlFlow()
+                       .addStatement("final int kind = buffer.getByte(offset + $L) & 0xFF", offset("kind"));
+            }
+            else
+            {
+                builder.beginControlFlow("if (depth < 1)")
+                       .addStatement("return -1")
+                       .endControlFlow()
+                       .addStatement("final int kindLimit = $T.limitOf(buffer, offset, maxLimit, depth - 1)", kindTypeName)
+                       .beginControlFlow("if (kindLimit < 0)")
+                       .addStatement("return kindLimit")
+                       .endControlFlow()
+                       .addStatement("final $T kind = $T.get(buffer, offset)", enumClassName(kindTypeName), kindTypeName)
+                       .beginControlFlow("if (kind == null)")
+                       .addStatement("return -1")
+                       .endControlFlow();
+            }
+            builder.addStatement("final int limit")
+                   .beginControlFlow("switch (kind)");
+        }
+
+        public LimitOfMethodGenerator addMember(
+            Object kindValue,
+            String memberName,
+            TypeName memberTypeName,
+            AstType mapKeyType,
+            AstType mapValueType)
+        {
+            builder.beginControlFlow("case $L:", kindTypeName.isPrimitive() ? kind(memberName) : kindValue);
+            String memberOffset = kindTypeName.isPrimitive() ? String.format("offset + %s", offset(memberName)) : "kindLimit";
+            if (isNonPrimitiveType(ofType))
+            {
+                ClassName memberRawName = (ClassName) memberTypeName;
+                if (isMapType(ofType))
+                {
+                    if (isByteOrdered(memberRawName))
+                    {
+                        builder.addStatement("limit = $T.limitOf(buffer, $L, maxLimit, keyValidator, valueValidator, " +
+                            "$T.BIG_ENDIAN, depth - 1)", memberRawName, memberOffset, ByteOrder.class);
+                    }
+                    else
+                    {
+                        builder.addStatement("limit = $T.limitOf(buffer, $L, maxLimit, keyValidator, valueValidator, depth - 1)",
+                            memberRawName, memberOffset);
+                    }
+                }
+                else if (isByteOrdered(memberRawName))
+                {
+                    builder.addStatement("limit = $T.limitOf(buffer, $L, maxLimit, $T.BIG_ENDIAN)", memberRawName,
+                        memberOffset, ByteOrder.class);
+                }
+                else
+                {
+                    builder.addStatement("limit = $T.limitOf(buffer, $L, maxLimit, depth - 1)", memberRawName, memberOffset);
+                }
+            }
+            else if (ofType == null)
+            {
+                if (memberTypeName == null)
+                {
+                    builder.endControlFlow();
+                    return this;
+                }
+                else if (mapKeyType != null)
+                {
+                    builder.addStatement("limit = $T.limitOf(buffer, offset, maxLimit, $T::limitOf, $T::limitOf, depth - 1)",
+                        memberTypeName, resolver.resolveClass(mapKeyType), resolver.resolveClass(mapValueType));
+                }
+                else
+                {
+                    builder.addStatement("limit = $T.limitOf(buffer, offset, maxLimit, depth - 1)", memberTypeName);
+                }
+            }
+            else if (memberTypeName == null)
+            {
+                builder.addStatement("limit = $L", kindTypeName.isPrimitive() ? "offset" : "kindLimit");
+            }
+            else if (DIRECT_BUFFER_TYPE.equals(memberTypeName) || memberTypeName.isPrimitive())
+            {
+                builder.addStatement("limit = $L + $L", kindTypeName.isPrimitive() ? String.format("offset + %s",
+                    offset(memberName)) : "kindLimit", size(memberName));
+            }
+            else
+            {
+                builder.addStatement("limit = $T.limitOf(buffer, $L, maxLimit, depth - 1)", memberTypeName, memberOffset);
+            }
+            builder.addStatement("break")
+                   .endControlFlow();
+            return this;
+        }
+
+        @Override
+        public MethodSpec generate()
+        {
+            return builder.beginControlFlow("default:")
+                          .addStatement("return -1")
+                          .endControlFlow()
+                          .endControlFlow()
+                          .addStatement("return limit > maxLimit ? -2 : limit")
+                          .build();
+        }
+
+        @Override
+        public void mixin(
+            TypeSpec.Builder builder)
+        {
+            if (isMapType(ofType))
+            {
+                builder.addMethod(methodBuilder("limitOf")
+                    .addModifiers(PUBLIC, STATIC)
+                    .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                    .addParameter(int.class, "offset")
+                    .addParameter(int.class, "maxLimit")
+                    .addParameter(validatorType, "keyValidator")
+                    .addParameter(validatorType, "valueValidator")
+                    .returns(int.class)
+                    .addStatement("return Math.max(limitOf(buffer, offset, maxLimit, keyValidator, valueValidator, " +
+                        "DEFAULT_MAX_DEPTH), -1)")
+                    .build());
+            }
+            else
+            {
+                builder.addMethod(FlyweightGenerator.limitOfMethod())
+                       .addMethod(FlyweightGenerator.validateMethod());
+            }
+            super.mixin(builder);
+        }
+
+        private boolean isByteOrdered(
+            ClassName memberRawName)
+        {
+            String simpleName = memberRawName.simpleName();
+            return byteOrder != NATIVE && !simpleName.endsWith("8FW") && !"List0FW".equals(simpleName) &&
+                !simpleName.startsWith("Network");
+        }
+    }
+
+    private static final class RequiredOfMethodGenerator extends MethodSpecGenerator
+    {
+        private final TypeName kindTypeName;
+        private final AstType ofType;
+        private final LimitOfMethodGenerator limitOfMethod;
+
+        private RequiredOfMethodGenerator(
+            TypeName kindTypeName,
+            AstType ofType,
+            LimitOfMethodGenerator limitOfMethod)
+        {
+            super(FlyweightGenerator.requiredOfMethodBuilder());
+            this.kindTypeName = kindTypeName;
+            this.ofType = ofType;
+            this.limitOfMethod = limitOfMethod;
+
+            if (kindTypeName.isPrimitive())
+            {
+                builder.beginControlFlow("if (offset + $L + $L > maxLimit)", offset("kind"), size("kind"))
+                       .addStatement("return $L + $L", offset("kind"), size("kind"))
+                       .endControlFlow()
+                       .addStatement("final int kind = buffer.getByte(offset + $L) & 0xFF", offset("kind"));
+            }
+            else
+            {
+                builder.addStatement("final int kindLimit = $T.limitOf(buffer, offset, maxLimit, DEFAULT_MAX_DEPTH)",
+                            kindTypeName)
+                       .beginControlFlow("if (kindLimit < 0)")
+                       .addStatement("return kindLimit == -2 ? $T.requiredOf(buffer, offset, maxLimit) : -1", kindTypeName)
+                       .endControlFlow()
+                       .addStatement("final $T kind = $T.get(buffer, offset)", enumClassName(kindTypeName), kindTypeName)
+                       .beginControlFlow("if (kind == null)")
+                       .addStatement("return -1")
+                       .endControlFlow();
+            }
+            builder.beginControlFlow("switch (kind)");
+        }
+
+        public RequiredOfMethodGenerator addMember(
+            Object kindValue,
+            String memberName,
+            TypeName memberTypeName)
+        {
+            builder.beginControlFlow("case $L:", kindTypeName.isPrimitive() ? kind(memberName) : kindValue);
+            String memberOffset = kindTypeName.isPrimitive() ? String.format("offset + %s", offset(memberName)) : "kindLimit";
+            String relativeOffset = kindTypeName.isPrimitive() ? offset(memberName) : "kindLimit - offset";
+            if (isNonPrimitiveType(ofType))
+            {
+                ClassName memberRawName = (ClassName) memberTypeName;
+                if (limitOfMethod.isByteOrdered(memberRawName))
+                {
+                    builder.addStatement("return $L + $T.requiredOf(buffer, $L, maxLimit, $T.BIG_ENDIAN)", relativeOffset,
+                        memberRawName, memberOffset, ByteOrder.class);
+                }
+                else
+                {
+                    builder.addStatement("return $L + $T.requiredOf(buffer, $L, maxLimit)", relativeOffset, memberRawName,
+                        memberOffset);
+                }
+            }
+            else if (ofType == null)
+            {
+                if (memberTypeName == null)
+                {
+                    builder.endControlFlow();
+                    return this;
+                }
+                builder.addStatement("return $T.requiredOf(buffer, offset, maxLimit)", memberTypeName);
+            }
+            else if (memberTypeName == null)
+            {
+                builder.addStatement("return $L", kindTypeName.isPrimitive() ? "0" : relativeOffset);
+            }
+            else if (DIRECT_BUFFER_TYPE.equals(memberTypeName) || memberTypeName.isPrimitive())
+            {
+                builder.addStatement("return $L + $L", relativeOffset, size(memberName));
+            }
+            else
+            {
+                builder.addStatement("return $L + $T.requiredOf(buffer, $L, maxLimit)", relativeOffset, memberTypeName,
+                    memberOffset);
+            }
+            builder.endControlFlow();
+            return this;
+        }
+
+        @Override
+        public MethodSpec generate()
+        {
+            return builder.beginControlFlow("default:")
+                          .addStatement("return -1")
+                          .endControlFlow()
+                          .endControlFlow()
+                          .build();
+        }
+
+        @Override
+        public void mixin(
+            TypeSpec.Builder builder)
+        {
+            super.mixin(builder);
+            builder.addMethod(FlyweightGenerator.requiredMethod());
+        }
+    }
+
     private static final class BitMaskConstantGenerator extends ClassSpecMixinGenerator
     {
         private final TypeName ofTypeName;
@@ -1733,6 +2292,20 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                         .addParameter(parameterizedBiConsumerType, "consumer")
                         .addStatement("get().forEach(consumer)")
                         .build())
+                    .addMethod(methodBuilder("get")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .addParameter(typeVarKV, "key")
+                        .returns(typeVarVV)
+                        .addStatement("return get().get(key)")
+                        .build())
+                    .addMethod(methodBuilder("containsKey")
+                        .addAnnotation(Override.class)
+                        .addModifiers(PUBLIC)
+                        .addParameter(typeVarKV, "key")
+                        .returns(boolean.class)
+                        .addStatement("return get().containsKey(key)")
+                        .build())
                     .addMethod(methodBuilder("entries")
                         .addAnnotation(Override.class)
                         .addModifiers(PUBLIC)
@@ -1842,13 +2415,14 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             this.memberField = new MemberFieldGenerator(thisVariantBuilderType, kindTypeName, typeVarB, typeVarV, typeVarKB,
                 typeVarKV, typeVarVB, typeVarVV, ofType, builder, resolver, byteOrder);
             this.constructor = new ConstructorGenerator(thisVariantType, ofType, typeVarB, typeVarV, typeVarKB, typeVarKV,
-                typeVarVB, typeVarVV, byteOrder);
+                typeVarVB, typeVarVV);
             this.setMethod = new SetMethodGenerator(ofType, ofTypeName, unsignedOfTypeName, kindTypeName, resolver);
             this.setMethodWithBuffer = new SetMethodWithBufferGenerator(kindTypeName, ofType);
             this.setMethodWithString = new SetMethodWithStringGenerator(kindTypeName, ofType);
             this.setMethodWithByteArray = new SetMethodWithByteArrayGenerator(kindTypeName, ofType);
-            this.buildMethod = new BuildMethodGenerator(kindTypeName, thisVariantType, ofType);
-            this.setList32FieldsMethod = new SetList32FieldsMethodGenerator(ofType);
+            this.buildMethod = new BuildMethodGenerator(kindTypeName, thisVariantType, ofType, flyweightType, byteOrder);
+            this.setList32FieldsMethod = new SetList32FieldsMethodGenerator(ofType,
+                memberClassName(flyweightType, AstType.LIST32, byteOrder));
             this.arrayField = new ArrayFieldGenerator(thisVariantType, flyweightBuilderRawType, kindTypeName, ofType, resolver,
                 builder);
         }
@@ -1962,7 +2536,6 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         {
             private final ClassName thisVariantType;
             private final AstType ofType;
-            private final AstByteOrder byteOrder;
 
             private ConstructorGenerator(
                 ClassName thisVariantType,
@@ -1972,13 +2545,11 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 TypeVariableName typeVarKB,
                 TypeVariableName typeVarKV,
                 TypeVariableName typeVarVB,
-                TypeVariableName typeVarVV,
-                AstByteOrder byteOrder)
+                TypeVariableName typeVarVV)
             {
                 super(constructorBuilder());
                 this.thisVariantType = thisVariantType;
                 this.ofType = ofType;
-                this.byteOrder = byteOrder;
                 if (isArrayType(ofType))
                 {
                     builder.addParameter(typeVarB, "itemRW")
@@ -2002,28 +2573,12 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             {
                 if (isArrayType(ofType))
                 {
-                    if (byteOrder == NATIVE || memberType.equals(AstType.ARRAY8))
-                    {
-                        builder.addStatement("$LRW = new $T.Builder<>(itemRW, itemRO)", memberName, memberTypeName);
-                    }
-                    else
-                    {
-                        builder.addStatement("$LRW = new $T.Builder<>(itemRW, itemRO, $T.BIG_ENDIAN)", memberName,
-                            memberTypeName, ByteOrder.class);
-                    }
+                    builder.addStatement("$LRW = new $T.Builder<>(itemRW, itemRO)", memberName, memberTypeName);
                 }
                 else if (isMapType(ofType))
                 {
-                    if (byteOrder == NATIVE || memberType.equals(AstType.MAP8))
-                    {
-                        builder.addStatement("$LRW = new $T.Builder<>(keyRO, valueRO, keyRW, valueRW)", memberName,
-                            memberTypeName);
-                    }
-                    else
-                    {
-                        builder.addStatement("$LRW = new $T.Builder<>(keyRO, valueRO, keyRW, valueRW, $T.BIG_ENDIAN)", memberName,
-                            memberTypeName, ByteOrder.class);
-                    }
+                    builder.addStatement("$LRW = new $T.Builder<>(keyRO, valueRO, keyRW, valueRW)", memberName,
+                        memberTypeName);
                 }
                 return this;
             }
@@ -3392,12 +3947,16 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             private final TypeName kindTypeName;
             private final AstType ofType;
             private final ClassName variantType;
+            private final ClassName flyweightType;
+            private final AstByteOrder byteOrder;
             private AstType largestListTypeName;
 
             private BuildMethodGenerator(
                 TypeName kindTypeName,
                 ClassName variantType,
-                AstType ofType)
+                AstType ofType,
+                ClassName flyweightType,
+                AstByteOrder byteOrder)
             {
                 super(methodBuilder("build")
                     .addAnnotation(Override.class)
@@ -3407,6 +3966,8 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 this.ofType = ofType;
                 this.largestListTypeName = AstType.LIST0;
                 this.variantType = variantType;
+                this.flyweightType = flyweightType;
+                this.byteOrder = byteOrder;
                 if (isArrayType(ofType))
                 {
                     builder.returns(ParameterizedTypeName.get(variantType, typeVarV));
@@ -3462,8 +4023,9 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 Collections.sort(sizes);
                 int largestSize = sizes.get(sizes.size() - 1);
 
-                builder.addStatement("Array$LFW<V> array$L = array$LRW.build()", largestSize, largestSize,
-                    largestSize)
+                AstType largestType = largestSize == 32 ? AstType.ARRAY32 : largestSize == 16 ? AstType.ARRAY16 : AstType.ARRAY8;
+                ClassName arrayType = memberClassName(flyweightType, largestType, byteOrder);
+                builder.addStatement("$T<V> array$L = array$LRW.build()", arrayType, largestSize, largestSize)
                     .addStatement("long length = Math.max(array$L.length(), array$L.fieldCount())", largestSize, largestSize)
                     .addStatement("int highestByteIndex = Long.numberOfTrailingZeros(Long.highestOneBit(length)) >> 3")
                     .beginControlFlow("switch (highestByteIndex)");
@@ -3554,7 +4116,9 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                 Collections.sort(sizes);
                 int largestSize = sizes.get(sizes.size() - 1);
 
-                builder.addStatement("Map$LFW<K,V> map$L = map$LRW.build()", largestSize, largestSize, largestSize)
+                AstType largestType = largestSize == 32 ? AstType.MAP32 : largestSize == 16 ? AstType.MAP16 : AstType.MAP8;
+                ClassName mapType = memberClassName(flyweightType, largestType, byteOrder);
+                builder.addStatement("$T<K,V> map$L = map$LRW.build()", mapType, largestSize, largestSize)
                     .addStatement("long length = Math.max(map$L.length(), map$L.fieldCount())", largestSize, largestSize)
                     .addStatement("int highestByteIndex = Long.numberOfTrailingZeros(Long.highestOneBit(length)) >> 3")
                     .addStatement("int fieldCount = map$L.fieldCount()", largestSize)
@@ -3635,8 +4199,8 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             {
                 builder.addStatement("$LFW kind = $L.build()", enumClassName(kindTypeName), enumRW(kindTypeName))
                     .beginControlFlow("if (kind.get() == $L)", kind(largestListTypeName.name()))
-                    .addStatement("$L $L = $LRW.build()", listClassName(largestListTypeName.name()), largestListTypeName,
-                        largestListTypeName)
+                    .addStatement("$T $L = $LRW.build()", memberClassName(flyweightType, largestListTypeName, byteOrder),
+                        largestListTypeName, largestListTypeName)
                     .addStatement("long length = $L.fieldCount() == 0 ? 0 : Math.max($L.length(), $L.fieldCount())",
                         largestListTypeName, largestListTypeName, largestListTypeName)
                     .addStatement("int highestByteIndex = Long.numberOfTrailingZeros(Long.highestOneBit(length)) >> 3")
@@ -4435,9 +4999,11 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         private static final class SetList32FieldsMethodGenerator extends MethodSpecGenerator
         {
             private final AstType ofType;
+            private final ClassName list32Type;
 
             private SetList32FieldsMethodGenerator(
-                AstType ofType)
+                AstType ofType,
+                ClassName list32Type)
             {
                 super(methodBuilder("setList32Fields")
                     .addModifiers(PRIVATE)
@@ -4446,6 +5012,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                     .addParameter(int.class, "offset")
                     .addParameter(int.class, "maxLimit"));
                 this.ofType = ofType;
+                this.list32Type = list32Type;
             }
 
             public SetList32FieldsMethodGenerator addMember(
@@ -4453,7 +5020,7 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
             {
                 if (AstType.LIST32.equals(memberType))
                 {
-                    builder.addStatement("List32FW list32 = list32RW.build()")
+                    builder.addStatement("$T list32 = list32RW.build()", list32Type)
                         .addStatement("final DirectBuffer fields = list32.fields()")
                         .addStatement("buffer.putBytes(offset, fields, 0, fields.capacity())")
                         .addStatement("return fields.capacity()");
@@ -4571,7 +5138,8 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
                     else if (isListType(ofType) || isBoundedOctetsType(ofType) || isStringType(ofType))
                     {
                         if (byteOrder == NATIVE || memberType.equals(AstType.LIST0) || memberType.equals(AstType.LIST8) ||
-                            memberType.equals(AstType.BOUNDED_OCTETS8) || memberType.equals(AstType.STRING8))
+                            memberType.equals(AstType.BOUNDED_OCTETS8) || memberType.equals(AstType.STRING8) ||
+                            isByteOrderSpecialized(memberType))
                         {
                             builder.addField(FieldSpec.builder(builderType, fieldRW, PRIVATE, FINAL)
                                 .initializer("new $T()", builderType)
@@ -4632,6 +5200,13 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         return AstType.LIST.equals(type);
     }
 
+    private static boolean isByteOrderSpecialized(
+        AstType type)
+    {
+        return AstType.LIST32.equals(type) || AstType.ARRAY16.equals(type) || AstType.ARRAY32.equals(type) ||
+            AstType.MAP16.equals(type) || AstType.MAP32.equals(type);
+    }
+
     private static boolean isArrayType(
         AstType type)
     {
@@ -4729,6 +5304,16 @@ public final class VariantFlyweightGenerator extends ClassSpecGenerator
         return String.format("%s%sFW", Character.toUpperCase(listTypeName.charAt(0)), listTypeName.substring(1));
     }
 
+    private static ClassName memberClassName(
+        ClassName flyweightType,
+        AstType memberType,
+        AstByteOrder byteOrder)
+    {
+        String simpleName = listClassName(memberType.name());
+        return flyweightType.peerClass(byteOrder == NETWORK && isByteOrderSpecialized(memberType) ?
+            String.format("Network%s", simpleName) : simpleName);
+    }
+
     private static int typeSize(
         AstType type)
     {
@@ -22,9 +22,14 @@ import static javax.lang.model.element.Modifier.FINAL;
 import static javax.lang.model.element.Modifier.PRIVATE;
 import static javax.lang.model.element.Modifier.PUBLIC;
 import static javax.lang.model.element.Modifier.STATIC;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethod;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.limitOfMethodBuilder;
+import static org.reaktivity.nukleus.maven.plugin.internal.generate.FlyweightGenerator.validateMethod;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.DIRECT_BUFFER_TYPE;
 import static org.reaktivity.nukleus.maven.plugin.internal.generate.TypeNames.MUTABLE_DIRECT_BUFFER_TYPE;
 
+import java.nio.ByteOrder;
+
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
@@ -49,17 +54,33 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
     @Override
     public TypeSpec generate()
     {
-        return classBuilder.addField(fieldSize())
+        return classBuilder.addField(maxSizeofConstant())
+                           .addField(fieldSize())
                            .addMethod(limitMethod())
                            .addMethod(valueMethod())
+                           .addMethod(staticValueOfMethod())
+                           .addMethod(limitOfMethod())
+                           .addMethod(validateMethod())
+                           .addMethod(limitOfWithDepthMethod())
                            .addMethod(tryWrapMethod())
                            .addMethod(wrapMethod())
+                           .addMethod(appendToMethod())
                            .addMethod(toStringMethod())
                            .addMethod(length0Method())
+                           .addMethod(decodeAllMethod())
+                           .addMethod(lengthMethod())
+                           .addMethod(staticValueMethod())
                            .addType(builderClassBuilder.build())
                            .build();
     }
 
+    private FieldSpec maxSizeofConstant()
+    {
+        return FieldSpec.builder(int.class, "MAX_SIZEOF", PUBLIC, STATIC, FINAL)
+                .initializer("$L", 10)
+                .build();
+    }
+
     private FieldSpec fieldSize()
     {
         return FieldSpec.builder(int.class, "size", PRIVATE)
@@ -81,21 +102,37 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
         return methodBuilder("value")
                 .addModifiers(PUBLIC)
                 .returns(long.class)
-                .addStatement("long value = 0L")
-                .addStatement("int i = 0;")
-                .addStatement("long b")
-                .addStatement("int pos  = offset()")
-                .beginControlFlow("while (((b = buffer().getByte(pos++)) & 0x80L) != 0)")
-                .addStatement("value |= (b & 0x7F) << i")
-                .addStatement("i += 7")
-                .beginControlFlow("if (i > 65)")
-                .addStatement("throw new $T($S)", IllegalArgumentException.class, "varint64 value too long")
+                .addStatement("return value(buffer(), offset(), size)")
+                .build();
+    }
+
+    private MethodSpec staticValueOfMethod()
+    {
+        return methodBuilder("valueOf")
+                .addModifiers(PUBLIC, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "limit")
+                .returns(long.class)
+                .addStatement("return value(buffer, offset, limit - offset)")
+                .build();
+    }
+
+    private MethodSpec limitOfWithDepthMethod()
+    {
+        return limitOfMethodBuilder()
+                .addStatement("final int maxPos = Math.min(offset + 10, maxLimit)")
+                .addStatement("int pos = offset")
+                .beginControlFlow("while (pos < maxPos && (buffer.getByte(pos) & 0x80) != 0)")
+                .addStatement("pos++")
                 .endControlFlow()
+                .beginControlFlow("if (pos >= maxPos)")
+                .addStatement("return pos - offset == 10 ? -1 : -2")
                 .endControlFlow()
-                .addStatement("long unsigned = value | (b << i);")
-                .addStatement("long result = (((unsigned << 63) >> 63) ^ unsigned) >> 1")
-                .addStatement("result = result ^ (unsigned & (1L << 63))")
-                .addStatement("return result")
+                .beginControlFlow("if (pos - offset == 9 && (buffer.getByte(pos) & 0xfe) != 0)")
+                .addStatement("return -1")
+                .endControlFlow()
+                .addStatement("return pos + 1")
                 .build();
     }
 
@@ -141,13 +178,24 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
                 .build();
     }
 
+    private MethodSpec appendToMethod()
+    {
+        return methodBuilder("appendTo")
+                .addAnnotation(Override.class)
+                .addModifiers(PUBLIC)
+                .addParameter(StringBuilder.class, "builder")
+                .returns(StringBuilder.class)
+                .addStatement("return builder.append(value())")
+                .build();
+    }
+
     private MethodSpec toStringMethod()
     {
         return methodBuilder("toString")
                 .addAnnotation(Override.class)
                 .addModifiers(PUBLIC)
                 .returns(String.class)
-                .addStatement("return Long.toString(value())")
+                .addStatement("return appendTo(new StringBuilder()).toString()")
                 .build();
     }
 
@@ -156,22 +204,105 @@ public final class Varint64FlyweightGenerator extends ClassSpecGenerator
         return methodBuilder("length0")
                 .addModifiers(PRIVATE)
                 .returns(int.class)
-                .addStatement("int pos = offset()")
+                .addStatement("return length(buffer(), offset(), maxLimit())")
+                .build();
+    }
+
+    private MethodSpec decodeAllMethod()
+    {
+        return methodBuilder("decodeAll")
+                .addModifiers(PUBLIC, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "limit")
+                .addParameter(long[].class, "dst")
+                .addParameter(int.class, "dstOffset")
+                .returns(int.class)
+                .addStatement("int count = 0")
+                .beginControlFlow("for (int pos = offset; pos < limit; count++)")
+                .addStatement("final int size = length(buffer, pos, limit)")
+                .addStatement("checkLimit(pos + size, limit)")
+                .addStatement("dst[dstOffset + count] = value(buffer, pos, size)")
+                .addStatement("pos += size")
+                .endControlFlow()
+                .addStatement("return count")
+                .build();
+    }
+
+    private MethodSpec lengthMethod()
+    {
+        return methodBuilder("length")
+                .addModifiers(PRIVATE, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "maxLimit")
+                .returns(int.class)
+                .beginControlFlow("if ((buffer.getByte(offset) & 0x80) == 0)")
+                .addStatement("return 1")
+                .nextControlFlow("else if (offset + 1 < maxLimit && (buffer.getByte(offset + 1) & 0x80) == 0)")
+                .addStatement("return 2")
+                .nextControlFlow("else if (buffer.capacity() - offset >= Long.BYTES)")
+                .addStatement("final long stops = ~buffer.getLong(offset, $T.LITTLE_ENDIAN) & 0x80808080_80808080L",
+                        ByteOrder.class)
+                .beginControlFlow("if (stops != 0L)")
+                .addStatement("return (Long.numberOfTrailingZeros(stops) + 1) >> 3")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("int pos = offset")
                 .addStatement("byte b = (byte) 0")
-                .addStatement("final int maxPos = Math.min(pos + 10,  maxLimit())")
-                .beginControlFlow("while (pos < maxPos && ((b = buffer().getByte(pos)) & 0x80L) != 0)")
+                .addStatement("final int maxPos = Math.min(pos + 10,  maxLimit)")
+                .beginControlFlow("while (pos < maxPos && ((b = buffer.getByte(pos)) & 0x80L) != 0)")
                 .addStatement("pos++")
                 .endControlFlow()
-                .addStatement("int size = 1 + pos - offset()")
+                .addStatement("int size = 1 + pos - offset")
                 .addStatement("int mask = size < 10 ? 0x80 : 0xfe") // 64 % 7 = 1 bit allowed only in 10th byte
                 .beginControlFlow("if ((b & mask) != 0 && size >= 10)")
-                .addStatement("throw new $T(String.format($S, offset()))", IllegalArgumentException.class,
+                .addStatement("throw new $T(String.format($S, offset))", IllegalArgumentException.class,
                         "varint64 value at offset %d exceeds 64 bits")
                 .endControlFlow()
                 .addStatement("return size")
                 .build();
     }
 
+    private MethodSpec staticValueMethod()
+    {
+        return methodBuilder("value")
+                .addModifiers(PRIVATE, STATIC)
+                .addParameter(DIRECT_BUFFER_TYPE, "buffer")
+                .addParameter(int.class, "offset")
+                .addParameter(int.class, "size")
+                .returns(long.class)
+                .addStatement("long unsigned")
+                .beginControlFlow("if (size == 1)")
+                .addStatement("unsigned = buffer.getByte(offset)")
+                .nextControlFlow("else if (size == 2)")
+                .addStatement("unsigned = buffer.getByte(offset) & 0x7fL | buffer.getByte(offset + 1) << 7")
+                .nextControlFlow("else if (size <= Long.BYTES && buffer.capacity() - offset >= Long.BYTES)")
+                .addStatement("final long bits = buffer.getLong(offset, $T.LITTLE_ENDIAN) & (-1L >>> ((Long.BYTES - size) << 3))",
+                        ByteOrder.class)
+                .addStatement("unsigned = bits & 0x7fL | (bits >>> 1) & 0x3f80L | (bits >>> 2) & 0x1fc000L | " +
+                        "(bits >>> 3) & 0xfe00000L | (bits >>> 4) & 0x7f0000000L | (bits >>> 5) & 0x3f800000000L | " +
+                        "(bits >>> 6) & 0x1fc0000000000L | (bits >>> 7) & 0xfe000000000000L")
+                .nextControlFlow("else")
+                .addStatement("long value = 0L")
+                .addStatement("int i = 0")
+                .addStatement("long b")
+                .addStatement("int pos = offset")
+                .beginControlFlow("while (((b = buffer.getByte(pos++)) & 0x80L) != 0)")
+                .addStatement("value |= (b & 0x7F) << i")
+                .addStatement("i += 7")
+                .beginControlFlow("if (i > 65)")
+                .addStatement("throw new $T($S)", IllegalArgumentException.class, "varint64 value too long")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("unsigned = value | (b << i)")
+                .endControlFlow()
+                .addStatement("long result = (((unsigned << 63) >> 63) ^ unsigned) >> 1")
+                .addStatement("result = result ^ (unsigned & (1L << 63))")
+                .addStatement("return result")
+                .build();
+    }
+
     private static final class BuilderClassBuilder
     {
         private final TypeSpec.Builder classBuilder;
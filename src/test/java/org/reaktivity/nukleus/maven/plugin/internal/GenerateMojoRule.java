@@ -61,6 +61,18 @@ public class GenerateMojoRule extends MojoRule
         return this;
     }
 
+    GenerateMojoRule specializeArrays(boolean specializeArrays)
+    {
+        configuration.addChild("specializeArrays", Boolean.toString(specializeArrays));
+        return this;
+    }
+
+    GenerateMojoRule cacheStrings(boolean cacheStrings)
+    {
+        configuration.addChild("cacheStrings", Boolean.toString(cacheStrings));
+        return this;
+    }
+
     public void generate() throws Exception
     {
         configureMojo(mojo, configuration);
@@ -38,6 +38,8 @@ public class GenerateMojoTest
         throws Exception
     {
         generator.scopeNames("test")
+            .specializeArrays(true)
+            .cacheStrings(true)
             .generate();
     }
 
@@ -90,4 +92,19 @@ public class GenerateMojoTest
             .generate();
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotGenerateListWithMissingFieldByteTooWide()
+        throws Exception
+    {
+        generator.scopeNames("invalidListWithMissingFieldByteTooWide")
+            .generate();
+    }
+
+    @Test
+    public void shouldGenerateDuplicateStructTypeIdWithoutFrameDispatcher()
+        throws Exception
+    {
+        generator.scopeNames("duplicateStructTypeId")
+            .generate();
+    }
 }
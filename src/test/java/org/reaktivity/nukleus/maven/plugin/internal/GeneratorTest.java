@@ -0,0 +1,280 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GeneratorTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File inputDirectory;
+    private File outputDirectory;
+    private ClassLoader loader;
+    private Generator generator;
+
+    @Before
+    public void initGenerator() throws IOException
+    {
+        inputDirectory = folder.newFolder("input");
+        outputDirectory = folder.newFolder("output");
+        loader = new URLClassLoader(new URL[] { inputDirectory.toURI().toURL() }, null);
+
+        generator = new Generator();
+        generator.setPackageName("org.reaktivity.reaktor.internal.incremental.types");
+        generator.setInputDirectory(inputDirectory);
+        generator.setOutputDirectory(outputDirectory);
+        generator.setScopeNames("incremental");
+    }
+
+    @Test
+    public void shouldSkipGenerationWhenInputsUnchanged() throws Exception
+    {
+        writeResource("scope incremental { struct First { uint8 a; } struct Second { uint8 b; } }");
+        generator.generate(loader);
+
+        File[] stateFiles = outputDirectory.listFiles((d, n) -> n.startsWith(".reaktivity-generate-"));
+        assertEquals(1, stateFiles.length);
+
+        File stateFile = stateFiles[0];
+        File firstFile = output("FirstFW.java").toFile();
+        assertTrue(stateFile.setLastModified(0L));
+        assertTrue(firstFile.setLastModified(0L));
+
+        generator.generate(loader);
+
+        assertEquals(0L, stateFile.lastModified());
+        assertEquals(0L, firstFile.lastModified());
+    }
+
+    @Test
+    public void shouldWriteOnlyChangedOutputs() throws Exception
+    {
+        writeResource("scope incremental { struct First { uint8 a; } struct Second { uint8 b; } }");
+        generator.generate(loader);
+
+        File firstFile = output("FirstFW.java").toFile();
+        File secondFile = output("SecondFW.java").toFile();
+        File flyweightFile = output("Flyweight.java").toFile();
+        assertTrue(firstFile.setLastModified(0L));
+        assertTrue(secondFile.setLastModified(0L));
+        assertTrue(flyweightFile.setLastModified(0L));
+
+        writeResource("scope incremental { struct First { uint8 a; } struct Second { uint8 b; uint16 c; } }");
+        generator.generate(loader);
+
+        assertEquals(0L, firstFile.lastModified());
+        assertEquals(0L, flyweightFile.lastModified());
+        assertNotEquals(0L, secondFile.lastModified());
+    }
+
+    @Test
+    public void shouldDeleteStaleOutputs() throws Exception
+    {
+        writeResource("scope incremental { struct First { uint8 a; } struct Second { uint8 b; } }");
+        generator.generate(loader);
+
+        assertTrue(Files.exists(output("SecondFW.java")));
+
+        writeResource("scope incremental { struct First { uint8 a; } }");
+        generator.generate(loader);
+
+        assertTrue(Files.exists(output("FirstFW.java")));
+        assertFalse(Files.exists(output("SecondFW.java")));
+    }
+
+    @Test
+    public void shouldNotDeleteOutputsOfOtherScopes() throws Exception
+    {
+        writeResource("scope incremental { struct First { uint8 a; } }");
+        Files.write(inputDirectory.toPath().resolve("other.idl"),
+            "scope other { struct Second { uint8 b; } }".getBytes(UTF_8));
+
+        generator.generate(loader);
+
+        generator.setScopeNames("other");
+        generator.generate(loader);
+
+        assertTrue(Files.exists(output("FirstFW.java")));
+        assertTrue(Files.exists(output("SecondFW.java")));
+        assertEquals(2, outputDirectory.listFiles((d, n) -> n.startsWith(".reaktivity-generate-")).length);
+    }
+
+    @Test
+    public void shouldRegenerateModifiedOutputs() throws Exception
+    {
+        writeResource("scope incremental { struct First { uint8 a; } }");
+        generator.generate(loader);
+
+        Path first = output("FirstFW.java");
+        byte[] expected = Files.readAllBytes(first);
+        assertTrue(first.toFile().setWritable(true));
+        Files.write(first, "modified".getBytes(UTF_8));
+
+        generator.generate(loader);
+
+        assertEquals(new String(expected, UTF_8), new String(Files.readAllBytes(first), UTF_8));
+    }
+
+    @Test
+    public void shouldGenerateSpecializedArraysWhenEnabled() throws Exception
+    {
+        writeResource("scope incremental { struct First { string8[] a; } struct Second { First[] b; } }");
+        generator.generate(loader);
+
+        assertFalse(Files.exists(output("Array32OfString8FW.java")));
+
+        generator.setSpecializeArrays(true);
+        generator.generate(loader);
+
+        assertTrue(Files.exists(output("Array32OfString8FW.java")));
+        assertTrue(Files.exists(output("Array32OfFirstFW.java")));
+        assertFalse(Files.exists(output("Array32OfSecondFW.java")));
+    }
+
+    @Test
+    public void shouldUseSpecializedArraysForMembersWhenEnabled() throws Exception
+    {
+        writeResource("scope incremental { struct First { string8[] a; } " +
+            "list<uint32, uint32> Second { string8[] b; } union Third switch (uint8) { case 1: string8[] c; } }");
+        generator.generate(loader);
+
+        assertTrue(new String(Files.readAllBytes(output("FirstFW.java")), UTF_8).contains("public Array32FW<String8FW> a()"));
+
+        generator.setSpecializeArrays(true);
+        generator.generate(loader);
+
+        assertTrue(new String(Files.readAllBytes(output("FirstFW.java")), UTF_8).contains("public Array32OfString8FW a()"));
+        assertTrue(new String(Files.readAllBytes(output("SecondFW.java")), UTF_8).contains("public Array32OfString8FW b()"));
+        assertTrue(new String(Files.readAllBytes(output("ThirdFW.java")), UTF_8).contains("public Array32OfString8FW c()"));
+    }
+
+    @Test
+    public void shouldGenerateStringCacheWhenEnabled() throws Exception
+    {
+        writeResource("scope incremental { struct First { string8 a; } }");
+        generator.generate(loader);
+
+        assertFalse(new String(Files.readAllBytes(output("StringFW.java")), UTF_8).contains("class Cache"));
+
+        generator.setCacheStrings(true);
+        generator.generate(loader);
+
+        assertTrue(new String(Files.readAllBytes(output("StringFW.java")), UTF_8).contains("public static final class Cache"));
+    }
+
+    @Test
+    public void shouldSkipFrameDispatcherWithDuplicateTypeIds() throws Exception
+    {
+        List<String> warnings = new ArrayList<>();
+        writeResource("scope incremental { struct First [0x01] { uint8 a; } struct Second [0x01] { uint8 b; } }");
+        generator.warn(warnings::add);
+        generator.generate(loader);
+
+        assertTrue(Files.exists(output("FirstFW.java")));
+        assertTrue(Files.exists(output("SecondFW.java")));
+        assertFalse(Files.exists(output("IncrementalFrameDispatcher.java")));
+        assertEquals(2, warnings.size());
+    }
+
+    @Test
+    public void shouldGenerateSameOutputRegardlessOfParallelism() throws Exception
+    {
+        File sequentialDirectory = folder.newFolder("sequential");
+        File parallelDirectory = folder.newFolder("parallel");
+        ForkJoinPool sequential = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+        try
+        {
+            generateTestIdl(sequentialDirectory, sequential);
+            generateTestIdl(parallelDirectory, parallel);
+        }
+        finally
+        {
+            sequential.shutdown();
+            parallel.shutdown();
+        }
+
+        Map<String, String> expected = readSources(sequentialDirectory.toPath());
+        Map<String, String> actual = readSources(parallelDirectory.toPath());
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    private void generateTestIdl(
+        File outputDirectory,
+        ForkJoinPool pool) throws IOException
+    {
+        File inputDirectory = new File("src/test/resources/test-project");
+        ClassLoader loader = new URLClassLoader(new URL[] { inputDirectory.toURI().toURL() }, null);
+
+        Generator generator = new Generator().pool(pool);
+        generator.setInputDirectory(inputDirectory);
+        generator.setOutputDirectory(outputDirectory);
+        generator.generate(loader);
+    }
+
+    private static Map<String, String> readSources(
+        Path directory) throws IOException
+    {
+        Map<String, String> sources = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(directory))
+        {
+            for (Path path : paths.filter(Files::isRegularFile).collect(toList()))
+            {
+                sources.put(directory.relativize(path).toString(), new String(Files.readAllBytes(path), UTF_8));
+            }
+        }
+        return sources;
+    }
+
+    private void writeResource(
+        String content) throws IOException
+    {
+        Files.write(inputDirectory.toPath().resolve("incremental.idl"), content.getBytes(UTF_8));
+    }
+
+    private Path output(
+        String path)
+    {
+        return outputDirectory.toPath().resolve("org/reaktivity/reaktor/internal/incremental/types").resolve(path);
+    }
+}
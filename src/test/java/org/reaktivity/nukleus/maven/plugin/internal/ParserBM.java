@@ -0,0 +1,132 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(MILLISECONDS)
+public class ParserBM
+{
+    private static final int SCOPE_COUNT = 16;
+    private static final int STRUCT_COUNT = 200;
+
+    private Path corpus;
+    private ClassLoader loader;
+    private ForkJoinPool sequential;
+    private ForkJoinPool parallel;
+
+    @Setup
+    public void init() throws IOException
+    {
+        corpus = Files.createTempDirectory("parser-bm");
+
+        StringBuilder root = new StringBuilder("scope root\n{\n");
+        for (int i = 0; i < SCOPE_COUNT; i++)
+        {
+            root.append(String.format("    struct Root%d extends scope%d::Type0 { uint8 field; }\n", i, i));
+
+            StringBuilder scope = new StringBuilder(String.format("scope scope%d\n{\n", i));
+            for (int j = 0; j < STRUCT_COUNT; j++)
+            {
+                scope.append(String.format("    struct Type%d\n    {\n", j))
+                     .append("        uint8 field0;\n")
+                     .append("        int32 field1 = 1;\n")
+                     .append("        string8 field2;\n")
+                     .append("        int64 field3;\n")
+                     .append("    }\n");
+            }
+            scope.append("}\n");
+            Files.write(corpus.resolve(String.format("scope%d.idl", i)), scope.toString().getBytes(UTF_8));
+        }
+        root.append("}\n");
+        Files.write(corpus.resolve("root.idl"), root.toString().getBytes(UTF_8));
+
+        loader = new URLClassLoader(new URL[] { corpus.toUri().toURL() }, null);
+        sequential = new ForkJoinPool(1);
+        parallel = ForkJoinPool.commonPool();
+    }
+
+    @TearDown
+    public void close() throws IOException
+    {
+        sequential.shutdown();
+        try (Stream<Path> paths = Files.walk(corpus))
+        {
+            paths.sorted(Comparator.reverseOrder())
+                 .map(Path::toFile)
+                 .forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public List<AstSpecificationNode> parseSequential() throws IOException
+    {
+        return new Parser().pool(sequential).parseAST(singletonList("root"), loader);
+    }
+
+    @Benchmark
+    public List<AstSpecificationNode> parseParallel() throws IOException
+    {
+        return new Parser().pool(parallel).parseAST(singletonList("root"), loader);
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(ParserBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reaktivity.nukleus.maven.plugin.internal.ast.AstSpecificationNode;
+
+public class ParserTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ClassLoader loader;
+
+    @Before
+    public void initResources() throws IOException
+    {
+        writeResource("root.idl", "scope root { struct Root extends a::A { uint8 root; } " +
+                                  "struct Other extends b::B { uint8 other; } }");
+        writeResource("a.idl", "scope a { struct A extends c::C { uint8 a; } }");
+        writeResource("b.idl", "scope b { struct B extends c::C { uint8 b; } " +
+                               "struct Missing extends missing::M { uint8 m; } }");
+        writeResource("c.idl", "scope c { struct C { uint8 c; } }");
+        writeResource("invalid.idl", "scope invalid { struct Invalid { uint8 } }");
+
+        loader = new URLClassLoader(new URL[] { folder.getRoot().toURI().toURL() }, null);
+    }
+
+    @Test
+    public void shouldParseReferencedResourcesInDiscoveryOrder() throws Exception
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try
+        {
+            List<AstSpecificationNode> specifications = new Parser()
+                .pool(pool)
+                .parseAST(singletonList("root"), loader);
+
+            assertEquals(asList("root", "a", "b", "c"), scopeNames(specifications));
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldParseInSameOrderRegardlessOfParallelism() throws Exception
+    {
+        ForkJoinPool sequential = new ForkJoinPool(1);
+        ForkJoinPool parallel = new ForkJoinPool(4);
+        try
+        {
+            for (int i = 0; i < 10; i++)
+            {
+                List<AstSpecificationNode> expected = new Parser()
+                    .pool(sequential)
+                    .parseAST(asList("root", "c", "b"), loader);
+                List<AstSpecificationNode> actual = new Parser()
+                    .pool(parallel)
+                    .parseAST(asList("root", "c", "b"), loader);
+
+                assertEquals(scopeNames(expected), scopeNames(actual));
+            }
+        }
+        finally
+        {
+            sequential.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldWarnWhenReferencedResourceNotFound() throws Exception
+    {
+        List<String> warnings = new ArrayList<>();
+
+        new Parser()
+            .warn(warnings::add)
+            .parseAST(singletonList("root"), loader);
+
+        assertEquals(singletonList("Resource missing.idl not found"), warnings);
+    }
+
+    @Test(expected = ParseCancellationException.class)
+    public void shouldPropagateParseFailure() throws Exception
+    {
+        List<String> errors = new ArrayList<>();
+
+        try
+        {
+            new Parser()
+                .error(errors::add)
+                .parseAST(asList("root", "invalid"), loader);
+        }
+        finally
+        {
+            assertEquals(1, errors.size());
+        }
+    }
+
+    private void writeResource(
+        String resourceName,
+        String content) throws IOException
+    {
+        File resource = folder.newFile(resourceName);
+        Files.write(resource.toPath(), content.getBytes(UTF_8));
+    }
+
+    private static List<String> scopeNames(
+        List<AstSpecificationNode> specifications)
+    {
+        return specifications.stream()
+            .map(s -> s.scope().name())
+            .collect(toList());
+    }
+}
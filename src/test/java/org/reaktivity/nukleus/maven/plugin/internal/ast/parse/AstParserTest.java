@@ -19,6 +19,7 @@ import static org.junit.Assert.assertEquals;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstAbstractMemberNode.NULL_DEFAULT;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NATIVE;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstByteOrder.NETWORK;
+import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstOffsets.LAZY;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstType.INT32;
 import static org.reaktivity.nukleus.maven.plugin.internal.ast.AstType.dynamicType;
 
@@ -319,6 +320,44 @@ public class AstParserTest
         new AstParser().visitOption(ctx);
     }
 
+    @Test
+    public void shouldParseOptionOffsetsLazy()
+    {
+        NukleusParser parser = newParser("option offsets lazy;");
+        OptionContext ctx = parser.option();
+        new AstParser().visitOption(ctx);
+    }
+
+    @Test
+    public void shouldParseOptionOffsetsEager()
+    {
+        NukleusParser parser = newParser("option offsets eager;");
+        OptionContext ctx = parser.option();
+        new AstParser().visitOption(ctx);
+    }
+
+    @Test
+    public void shouldParseScopedListWithLazyOffsets()
+    {
+        NukleusParser parser = newParser("scope common { option offsets lazy; list<uint8, uint8> Holder { int32 value; } }");
+        ScopeContext ctx = parser.scope();
+        AstScopeNode actual = new AstParser().visitScope(ctx);
+
+        AstScopeNode expected = new AstScopeNode.Builder()
+                .name("common")
+                .list(new AstListNode.Builder()
+                    .name("Holder")
+                    .lengthType(AstType.UINT8)
+                    .fieldCountType(AstType.UINT8)
+                    .offsets(LAZY)
+                    .member((AstListMemberNode) new AstListMemberNode.Builder()
+                        .type(INT32).name("value").byteOrder(NATIVE).build())
+                    .build())
+                .build();
+
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void shouldParseScopedStructWithNetworkOrderField()
     {
@@ -0,0 +1,370 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.function.Consumer;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.Array16FW;
+import org.reaktivity.reaktor.internal.test.types.Array32FW;
+import org.reaktivity.reaktor.internal.test.types.Array32OfString8FW;
+import org.reaktivity.reaktor.internal.test.types.Array8FW;
+import org.reaktivity.reaktor.internal.test.types.NetworkArray32FW;
+import org.reaktivity.reaktor.internal.test.types.String16FW;
+import org.reaktivity.reaktor.internal.test.types.String32FW;
+import org.reaktivity.reaktor.internal.test.types.String8FW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatParentFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class ArrayFlyweightBM
+{
+    private static final int ITEM_COUNT = 8;
+    private static final int ITEM_LENGTH = 12;
+    private static final int FIXED_ITEM_COUNT = 256;
+
+    private MutableDirectBuffer buffer;
+    private MutableDirectBuffer values;
+
+    private MutableDirectBuffer array8Buffer;
+    private MutableDirectBuffer array16Buffer;
+    private MutableDirectBuffer array32Buffer;
+    private MutableDirectBuffer networkArray32Buffer;
+    private MutableDirectBuffer array32OfString8Buffer;
+
+    private int array8Limit;
+    private int array16Limit;
+    private int array32Limit;
+    private int networkArray32Limit;
+    private int array32OfString8Limit;
+    private int itemLengths;
+    private int itemIndex;
+
+    private MutableDirectBuffer fixedArray32Buffer;
+    private int fixedArray32Limit;
+
+    private final Array8FW.Builder<String8FW.Builder, String8FW> array8RW =
+        new Array8FW.Builder<>(new String8FW.Builder(), new String8FW());
+    private final Array8FW<String8FW> array8RO = new Array8FW<>(new String8FW());
+
+    private final Array16FW.Builder<String16FW.Builder, String16FW> array16RW =
+        new Array16FW.Builder<>(new String16FW.Builder(), new String16FW());
+    private final Array16FW<String16FW> array16RO = new Array16FW<>(new String16FW());
+
+    private final Array32FW.Builder<String32FW.Builder, String32FW> array32RW =
+        new Array32FW.Builder<>(new String32FW.Builder(), new String32FW());
+    private final Array32FW<String32FW> array32RO = new Array32FW<>(new String32FW());
+    private final Array32FW<String32FW> indexedArray32RO = new Array32FW<>(new String32FW());
+
+    private final Array32FW<String8FW> genericArray32OfString8RO = new Array32FW<>(new String8FW());
+    private final Array32OfString8FW.Builder array32OfString8RW = new Array32OfString8FW.Builder();
+    private final Array32OfString8FW array32OfString8RO = new Array32OfString8FW();
+
+    private final NetworkArray32FW.Builder<String32FW.Builder, String32FW> networkArray32RW =
+        new NetworkArray32FW.Builder<>(new String32FW.Builder(BIG_ENDIAN), new String32FW(BIG_ENDIAN));
+    private final NetworkArray32FW<String32FW> networkArray32RO = new NetworkArray32FW<>(new String32FW(BIG_ENDIAN));
+
+    private final Array32FW.Builder<FlatParentFW.Builder, FlatParentFW> fixedArray32RW =
+        new Array32FW.Builder<>(new FlatParentFW.Builder(), new FlatParentFW());
+    private final Array32FW<FlatParentFW> fixedArray32RO = new Array32FW<>(new FlatParentFW());
+    private final Array32FW<FlatParentFW> sizedArray32RO = new Array32FW<>(new FlatParentFW(), Long.BYTES);
+
+    private final Consumer<String8FW.Builder> setString8 = b -> b.set(values, 0, ITEM_LENGTH);
+    private final Consumer<String16FW.Builder> setString16 = b -> b.set(values, 0, ITEM_LENGTH);
+    private final Consumer<String32FW.Builder> setString32 = b -> b.set(values, 0, ITEM_LENGTH);
+
+    private final Consumer<String8FW> sumString8 = s -> itemLengths += s.length();
+    private final Consumer<String16FW> sumString16 = s -> itemLengths += s.length();
+    private final Consumer<String32FW> sumString32 = s -> itemLengths += s.length();
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        this.buffer = new UnsafeBuffer(allocateDirect(4096).order(nativeOrder()));
+        this.values = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        for (int i = 0; i < values.capacity(); i++)
+        {
+            values.putByte(i, (byte) ('a' + i % 26));
+        }
+
+        this.array8Buffer = new UnsafeBuffer(allocateDirect(4096).order(nativeOrder()));
+        this.array16Buffer = new UnsafeBuffer(allocateDirect(4096).order(nativeOrder()));
+        this.array32Buffer = new UnsafeBuffer(allocateDirect(4096).order(nativeOrder()));
+
+        this.array8Limit = writeArray8(array8Buffer);
+        this.array16Limit = writeArray16(array16Buffer);
+        this.array32Limit = writeArray32(array32Buffer);
+
+        this.networkArray32Buffer = new UnsafeBuffer(allocateDirect(4096).order(nativeOrder()));
+        this.networkArray32Limit = writeNetworkArray32(networkArray32Buffer);
+
+        this.array32OfString8Buffer = new UnsafeBuffer(allocateDirect(4096).order(nativeOrder()));
+        this.array32OfString8Limit = writeArray32OfString8(array32OfString8Buffer);
+
+        this.fixedArray32Buffer = new UnsafeBuffer(allocateDirect(4096).order(nativeOrder()));
+        fixedArray32RW.wrap(fixedArray32Buffer, 0, fixedArray32Buffer.capacity());
+        for (int i = 0; i < FIXED_ITEM_COUNT; i++)
+        {
+            final long value = i;
+            fixedArray32RW.item(b -> b.fixed1(value));
+        }
+        this.fixedArray32Limit = fixedArray32RW.build().limit();
+
+        indexedArray32RO.wrap(array32Buffer, 0, array32Limit);
+        networkArray32RO.wrap(networkArray32Buffer, 0, networkArray32Limit);
+        fixedArray32RO.wrap(fixedArray32Buffer, 0, fixedArray32Limit);
+        sizedArray32RO.wrap(fixedArray32Buffer, 0, fixedArray32Limit);
+    }
+
+    @Benchmark
+    public int array8Read()
+    {
+        itemLengths = 0;
+        array8RO.wrap(array8Buffer, 0, array8Limit).forEach(sumString8);
+        return itemLengths;
+    }
+
+    @Benchmark
+    public int array8TryWrap()
+    {
+        return array8RO.tryWrap(array8Buffer, 0, array8Limit).limit();
+    }
+
+    @Benchmark
+    public int array8Write()
+    {
+        return writeArray8(buffer);
+    }
+
+    @Benchmark
+    public int array16Read()
+    {
+        itemLengths = 0;
+        array16RO.wrap(array16Buffer, 0, array16Limit).forEach(sumString16);
+        return itemLengths;
+    }
+
+    @Benchmark
+    public int array16TryWrap()
+    {
+        return array16RO.tryWrap(array16Buffer, 0, array16Limit).limit();
+    }
+
+    @Benchmark
+    public int array16Write()
+    {
+        return writeArray16(buffer);
+    }
+
+    @Benchmark
+    public int array32Read()
+    {
+        itemLengths = 0;
+        array32RO.wrap(array32Buffer, 0, array32Limit).forEach(sumString32);
+        return itemLengths;
+    }
+
+    @Benchmark
+    public int array32TryWrap()
+    {
+        return array32RO.tryWrap(array32Buffer, 0, array32Limit).limit();
+    }
+
+    @Benchmark
+    public int array32Write()
+    {
+        return writeArray32(buffer);
+    }
+
+    @Benchmark
+    public int array32FieldCount()
+    {
+        return indexedArray32RO.fieldCount() + indexedArray32RO.length();
+    }
+
+    @Benchmark
+    public int genericArray32OfString8Read()
+    {
+        itemLengths = 0;
+        genericArray32OfString8RO.wrap(array32OfString8Buffer, 0, array32OfString8Limit).forEach(sumString8);
+        return itemLengths;
+    }
+
+    @Benchmark
+    public int array32OfString8Read()
+    {
+        itemLengths = 0;
+        array32OfString8RO.wrap(array32OfString8Buffer, 0, array32OfString8Limit).forEach(sumString8);
+        return itemLengths;
+    }
+
+    @Benchmark
+    public int array32OfString8Write()
+    {
+        return writeArray32OfString8(buffer);
+    }
+
+    @Benchmark
+    public int networkArray32Read()
+    {
+        itemLengths = 0;
+        networkArray32RO.wrap(networkArray32Buffer, 0, networkArray32Limit).forEach(sumString32);
+        return itemLengths;
+    }
+
+    @Benchmark
+    public int networkArray32TryWrap()
+    {
+        return networkArray32RO.tryWrap(networkArray32Buffer, 0, networkArray32Limit).limit();
+    }
+
+    @Benchmark
+    public int networkArray32Write()
+    {
+        return writeNetworkArray32(buffer);
+    }
+
+    @Benchmark
+    public int networkArray32FieldCount()
+    {
+        return networkArray32RO.fieldCount() + networkArray32RO.length();
+    }
+
+    @Benchmark
+    public int array32ItemByIndex()
+    {
+        return indexedArray32RO.item(itemIndex++ & (ITEM_COUNT - 1)).length();
+    }
+
+    @Benchmark
+    public int array32ItemByScan()
+    {
+        final int index = itemIndex++ & (ITEM_COUNT - 1);
+        itemLengths = 0;
+        return array32RO.wrap(array32Buffer, 0, array32Limit).matchFirst(s -> itemLengths++ == index).length();
+    }
+
+    @Benchmark
+    public long fixedArray32ItemByIndex()
+    {
+        return sizedArray32RO.item(itemIndex++ & (FIXED_ITEM_COUNT - 1)).fixed1();
+    }
+
+    @Benchmark
+    public long fixedArray32ItemByLazyIndex()
+    {
+        return fixedArray32RO.item(itemIndex++ & (FIXED_ITEM_COUNT - 1)).fixed1();
+    }
+
+    @Benchmark
+    public long fixedArray32ItemByScan()
+    {
+        final int index = itemIndex++ & (FIXED_ITEM_COUNT - 1);
+        itemLengths = 0;
+        return fixedArray32RO.matchFirst(s -> itemLengths++ == index).fixed1();
+    }
+
+    private int writeArray8(
+        MutableDirectBuffer buffer)
+    {
+        array8RW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < ITEM_COUNT; i++)
+        {
+            array8RW.item(setString8);
+        }
+        return array8RW.build().limit();
+    }
+
+    private int writeArray16(
+        MutableDirectBuffer buffer)
+    {
+        array16RW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < ITEM_COUNT; i++)
+        {
+            array16RW.item(setString16);
+        }
+        return array16RW.build().limit();
+    }
+
+    private int writeArray32(
+        MutableDirectBuffer buffer)
+    {
+        array32RW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < ITEM_COUNT; i++)
+        {
+            array32RW.item(setString32);
+        }
+        return array32RW.build().limit();
+    }
+
+    private int writeArray32OfString8(
+        MutableDirectBuffer buffer)
+    {
+        array32OfString8RW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < ITEM_COUNT; i++)
+        {
+            array32OfString8RW.item(setString8);
+        }
+        return array32OfString8RW.build().limit();
+    }
+
+    private int writeNetworkArray32(
+        MutableDirectBuffer buffer)
+    {
+        networkArray32RW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < ITEM_COUNT; i++)
+        {
+            networkArray32RW.item(setString32);
+        }
+        return networkArray32RW.build().limit();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(ArrayFlyweightBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
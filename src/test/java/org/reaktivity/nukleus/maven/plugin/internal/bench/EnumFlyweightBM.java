@@ -0,0 +1,289 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithInt64;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithInt64FW;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithString;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithStringFW;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithUint16;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithUint16FW;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithUint8;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithUint8FW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class EnumFlyweightBM
+{
+    private MutableDirectBuffer buffer;
+
+    private MutableDirectBuffer uint8Buffer;
+    private MutableDirectBuffer uint16Buffer;
+    private MutableDirectBuffer int64Buffer;
+    private MutableDirectBuffer stringBuffer;
+
+    private int uint8Limit;
+    private int uint16Limit;
+    private int int64Limit;
+    private int stringLimit;
+
+    private final EnumWithUint8FW.Builder uint8RW = new EnumWithUint8FW.Builder();
+    private final EnumWithUint8FW uint8RO = new EnumWithUint8FW();
+
+    private final EnumWithUint16FW.Builder uint16RW = new EnumWithUint16FW.Builder();
+    private final EnumWithUint16FW uint16RO = new EnumWithUint16FW();
+
+    private final EnumWithInt64FW.Builder int64RW = new EnumWithInt64FW.Builder();
+    private final EnumWithInt64FW int64RO = new EnumWithInt64FW();
+
+    private final EnumWithStringFW.Builder stringRW = new EnumWithStringFW.Builder();
+    private final EnumWithStringFW stringRO = new EnumWithStringFW();
+
+    private final Long2ObjectHashMap<EnumWithInt64> int64ByValue = new Long2ObjectHashMap<>();
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        this.buffer = new UnsafeBuffer(allocateDirect(64).order(nativeOrder()));
+
+        this.uint8Buffer = new UnsafeBuffer(allocateDirect(64).order(nativeOrder()));
+        this.uint16Buffer = new UnsafeBuffer(allocateDirect(64).order(nativeOrder()));
+        this.int64Buffer = new UnsafeBuffer(allocateDirect(64).order(nativeOrder()));
+        this.stringBuffer = new UnsafeBuffer(allocateDirect(64).order(nativeOrder()));
+
+        this.uint8Limit = uint8RW.wrap(uint8Buffer, 0, uint8Buffer.capacity()).set(EnumWithUint8.SAN).build().limit();
+        this.uint16Limit = uint16RW.wrap(uint16Buffer, 0, uint16Buffer.capacity()).set(EnumWithUint16.SAN).build().limit();
+        this.int64Limit = int64RW.wrap(int64Buffer, 0, int64Buffer.capacity()).set(EnumWithInt64.TWELVE).build().limit();
+        this.stringLimit = stringRW.wrap(stringBuffer, 0, stringBuffer.capacity())
+            .set(EnumWithString.YELLOW, UTF_8)
+            .build()
+            .limit();
+
+        for (EnumWithInt64 value : EnumWithInt64.values())
+        {
+            int64ByValue.put(value.value(), value);
+        }
+    }
+
+    @Benchmark
+    public EnumWithUint8 uint8Read()
+    {
+        return uint8RO.wrap(uint8Buffer, 0, uint8Limit).get();
+    }
+
+    @Benchmark
+    public int uint8TryWrap()
+    {
+        return uint8RO.tryWrap(uint8Buffer, 0, uint8Limit).limit();
+    }
+
+    @Benchmark
+    public EnumWithUint8 uint8Get()
+    {
+        return EnumWithUint8FW.get(uint8Buffer, 0);
+    }
+
+    @Benchmark
+    public EnumWithUint8 uint8Switch()
+    {
+        return uint8ValueOf(uint8Buffer.getByte(0) & 0xFF);
+    }
+
+    @Benchmark
+    public int uint8Write()
+    {
+        return uint8RW.wrap(buffer, 0, buffer.capacity()).set(EnumWithUint8.SAN).build().limit();
+    }
+
+    @Benchmark
+    public EnumWithUint16 uint16Read()
+    {
+        return uint16RO.wrap(uint16Buffer, 0, uint16Limit).get();
+    }
+
+    @Benchmark
+    public int uint16TryWrap()
+    {
+        return uint16RO.tryWrap(uint16Buffer, 0, uint16Limit).limit();
+    }
+
+    @Benchmark
+    public EnumWithUint16 uint16Get()
+    {
+        return EnumWithUint16FW.get(uint16Buffer, 0);
+    }
+
+    @Benchmark
+    public EnumWithUint16 uint16Switch()
+    {
+        return uint16ValueOf(uint16Buffer.getShort(0) & 0xFFFF);
+    }
+
+    @Benchmark
+    public int uint16Write()
+    {
+        return uint16RW.wrap(buffer, 0, buffer.capacity()).set(EnumWithUint16.SAN).build().limit();
+    }
+
+    @Benchmark
+    public EnumWithInt64 int64Read()
+    {
+        return int64RO.wrap(int64Buffer, 0, int64Limit).get();
+    }
+
+    @Benchmark
+    public int int64TryWrap()
+    {
+        return int64RO.tryWrap(int64Buffer, 0, int64Limit).limit();
+    }
+
+    @Benchmark
+    public EnumWithInt64 int64Get()
+    {
+        return EnumWithInt64FW.get(int64Buffer, 0);
+    }
+
+    @Benchmark
+    public EnumWithInt64 int64HashMap()
+    {
+        return int64ByValue.get(int64Buffer.getLong(0));
+    }
+
+    @Benchmark
+    public int int64Write()
+    {
+        return int64RW.wrap(buffer, 0, buffer.capacity()).set(EnumWithInt64.TWELVE).build().limit();
+    }
+
+    @Benchmark
+    public EnumWithString stringRead()
+    {
+        return stringRO.wrap(stringBuffer, 0, stringLimit).get();
+    }
+
+    @Benchmark
+    public int stringTryWrap()
+    {
+        return stringRO.tryWrap(stringBuffer, 0, stringLimit).limit();
+    }
+
+    @Benchmark
+    public EnumWithString stringGet()
+    {
+        return EnumWithStringFW.get(stringBuffer, 0);
+    }
+
+    @Benchmark
+    public EnumWithString stringDecode()
+    {
+        return stringValueOf(stringBuffer, 0);
+    }
+
+    @Benchmark
+    public int stringWrite()
+    {
+        return stringRW.wrap(buffer, 0, buffer.capacity()).set(EnumWithString.YELLOW, UTF_8).build().limit();
+    }
+
+    private static EnumWithUint8 uint8ValueOf(
+        int value)
+    {
+        switch (value)
+        {
+        case 201:
+            return EnumWithUint8.ICHI;
+        case 202:
+            return EnumWithUint8.NI;
+        case 203:
+            return EnumWithUint8.SAN;
+        default:
+            return null;
+        }
+    }
+
+    private static EnumWithUint16 uint16ValueOf(
+        int value)
+    {
+        switch (value)
+        {
+        case 60001:
+            return EnumWithUint16.ICHI;
+        case 60002:
+            return EnumWithUint16.NI;
+        case 60003:
+            return EnumWithUint16.SAN;
+        default:
+            return null;
+        }
+    }
+
+    private static EnumWithString stringValueOf(
+        DirectBuffer buffer,
+        int offset)
+    {
+        final int length = buffer.getByte(offset) & 0xFF;
+        switch (buffer.getStringWithoutLengthUtf8(offset + 1, length))
+        {
+        case "blue":
+            return EnumWithString.BLUE;
+        case "red":
+            return EnumWithString.RED;
+        case "yellow":
+            return EnumWithString.YELLOW;
+        default:
+            return null;
+        }
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(EnumFlyweightBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
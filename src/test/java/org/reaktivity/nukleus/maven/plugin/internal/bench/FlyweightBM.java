@@ -56,10 +56,16 @@ public class FlyweightBM
 
     private FlatFW.Builder flatRW = new FlatFW.Builder();
     private FlatFW flatRO = new FlatFW();
+    private FlatFW flatCopyRO = new FlatFW();
+    private UnsafeBuffer compareBuffer = new UnsafeBuffer(new byte[0]);
+    private UnsafeBuffer thatCompareBuffer = new UnsafeBuffer(new byte[0]);
 
     private FlatWithOctetsFW.Builder flatWithOctetsRW = new FlatWithOctetsFW.Builder();
     private FlatWithOctetsFW flatWithOctetsRO = new FlatWithOctetsFW();
 
+    private MutableDirectBuffer text;
+    private StringBuilder textBuilder = new StringBuilder();
+
     @Setup(Level.Trial)
     public void init()
     {
@@ -67,9 +73,27 @@ public class FlyweightBM
         this.buffer.setMemory(0, 1024, (byte) new Random().nextInt(256));
         this.values = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
         this.values.setMemory(0, 1024, (byte) new Random().nextInt(256));
+        this.text = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
         iterations = 0;
     }
 
+    @Setup(Level.Iteration)
+    public void initFlat()
+    {
+        flatRW.wrap(buffer, 0, buffer.capacity())
+              .fixed1(10)
+              .fixed2(20)
+              .string1("value1...........................")
+              .fixed3(30)
+              .string2("value2...........................")
+              .fixed4(40)
+              .string3("value3...........................")
+              .build();
+        int limit = flatRO.wrap(buffer, 0, buffer.capacity()).limit();
+        buffer.putBytes(512, buffer, 0, limit);
+        flatCopyRO.wrap(buffer, 512, buffer.capacity());
+    }
+
     @Benchmark
     public long flatFWUsingString(
         final Control control) throws Exception
@@ -130,6 +154,85 @@ public class FlyweightBM
         return flatWithOctetsRO.wrap(buffer, 0, buffer.capacity()).fixed1();
     }
 
+    @Benchmark
+    public int flatFWToString(
+        final Control control) throws Exception
+    {
+        return flatRO.toString().length();
+    }
+
+    @Benchmark
+    public int flatFWAppendToStringBuilder(
+        final Control control) throws Exception
+    {
+        textBuilder.setLength(0);
+        return flatRO.appendTo(textBuilder).length();
+    }
+
+    @Benchmark
+    public int flatFWAppendToBuffer(
+        final Control control) throws Exception
+    {
+        return flatRO.appendTo(text, 0);
+    }
+
+    @Benchmark
+    public int flatFWHashCode(
+        final Control control) throws Exception
+    {
+        return flatRO.hashCode();
+    }
+
+    @Benchmark
+    public int flatFWHashCodeByteAtATime(
+        final Control control) throws Exception
+    {
+        int result = 1;
+        for (int i = flatRO.offset(); i < flatRO.limit(); i++)
+        {
+            result = 31 * result + flatRO.buffer().getByte(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public boolean flatFWEquals(
+        final Control control) throws Exception
+    {
+        return flatRO.equals(flatCopyRO);
+    }
+
+    @Benchmark
+    public boolean flatFWEqualsUsingCompareBuffer(
+        final Control control) throws Exception
+    {
+        compareBuffer.wrap(flatRO.buffer(), flatRO.offset(), flatRO.sizeof());
+        thatCompareBuffer.wrap(flatCopyRO.buffer(), flatCopyRO.offset(), flatCopyRO.sizeof());
+        return compareBuffer.equals(thatCompareBuffer);
+    }
+
+    @Benchmark
+    public long flatFWTrailingFixedFields(
+        final Control control) throws Exception
+    {
+        return flatRO.fixed3() + flatRO.fixed4() + flatRO.limit();
+    }
+
+    @Benchmark
+    public long flatFWFixedFieldsByWrap(
+        final Control control) throws Exception
+    {
+        flatCopyRO.wrap(buffer, 512, buffer.capacity());
+        return flatCopyRO.fixed1() + flatCopyRO.fixed2();
+    }
+
+    @Benchmark
+    public long flatFWFixedFieldsByStaticAccessor(
+        final Control control) throws Exception
+    {
+        return FlatFW.fixed1(buffer, 512) + FlatFW.fixed2(buffer, 512);
+    }
+
     public static void main(
         String[] args) throws RunnerException
     {
@@ -0,0 +1,150 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.inner.IntegerVariableArraysFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class IntegerArrayFlyweightBM
+{
+    private static final int ARRAY_SIZE = 1024;
+
+    private final IntegerVariableArraysFW.Builder arraysRW = new IntegerVariableArraysFW.Builder();
+    private final IntegerVariableArraysFW arraysRO = new IntegerVariableArraysFW();
+
+    private MutableDirectBuffer buffer;
+    private long[] values;
+    private long[] target;
+    private long sum;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        final int capacity = ARRAY_SIZE * Long.BYTES + 1024;
+        this.buffer = new UnsafeBuffer(allocateDirect(capacity).order(nativeOrder()));
+        this.values = new Random().longs(ARRAY_SIZE, 0, Long.MAX_VALUE).toArray();
+        this.target = new long[ARRAY_SIZE];
+    }
+
+    @Setup(Level.Iteration)
+    public void initArrays()
+    {
+        arraysRW.wrap(buffer, 0, buffer.capacity())
+                .unsigned64Array(values, 0, values.length)
+                .appendSigned16Array((short) 0)
+                .appendSigned24Array(0)
+                .build();
+        arraysRO.wrap(buffer, 0, buffer.capacity());
+    }
+
+    @Benchmark
+    public long readUsingIterator(
+        final Control control) throws Exception
+    {
+        long result = 0L;
+        PrimitiveIterator.OfLong iterator = arraysRO.unsigned64Array();
+        while (iterator.hasNext())
+        {
+            result += iterator.nextLong();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long readUsingArray(
+        final Control control) throws Exception
+    {
+        final int count = arraysRO.unsigned64Array(target, 0);
+        return target[count - 1];
+    }
+
+    @Benchmark
+    public long readUsingForEach(
+        final Control control) throws Exception
+    {
+        sum = 0L;
+        arraysRO.forEachUnsigned64Array(v -> sum += v);
+        return sum;
+    }
+
+    @Benchmark
+    public int writeUsingAppend(
+        final Control control) throws Exception
+    {
+        IntegerVariableArraysFW.Builder builder = arraysRW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < values.length; i++)
+        {
+            builder.appendUnsigned64Array(values[i]);
+        }
+        return builder.appendSigned16Array((short) 0)
+                      .appendSigned24Array(0)
+                      .build()
+                      .limit();
+    }
+
+    @Benchmark
+    public int writeUsingArray(
+        final Control control) throws Exception
+    {
+        return arraysRW.wrap(buffer, 0, buffer.capacity())
+                       .unsigned64Array(values, 0, values.length)
+                       .appendSigned16Array((short) 0)
+                       .appendSigned24Array(0)
+                       .build()
+                       .limit();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(IntegerArrayFlyweightBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,295 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.List0FW;
+import org.reaktivity.reaktor.internal.test.types.List32FW;
+import org.reaktivity.reaktor.internal.test.types.List8FW;
+import org.reaktivity.reaktor.internal.test.types.inner.ListWithPhysicalAndLogicalLengthFW;
+import org.reaktivity.reaktor.internal.test.types.inner.ListWithWideBitmaskFW;
+import org.reaktivity.reaktor.internal.test.types.lazyOffsets.ListWithLazyOffsetsFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class ListFlyweightBM
+{
+    private static final int FIELD_COUNT = 8;
+    private static final int FIELD_SIZE = Long.BYTES;
+
+    private MutableDirectBuffer buffer;
+    private MutableDirectBuffer values;
+
+    private MutableDirectBuffer list0Buffer;
+    private MutableDirectBuffer list8Buffer;
+    private MutableDirectBuffer list32Buffer;
+    private MutableDirectBuffer listWithLengthBuffer;
+    private MutableDirectBuffer listWithLazyOffsetsBuffer;
+    private MutableDirectBuffer listWithWideBitmaskBuffer;
+
+    private int list0Limit;
+    private int list8Limit;
+    private int list32Limit;
+    private int listWithLengthLimit;
+    private int listWithLazyOffsetsLimit;
+    private int listWithWideBitmaskLimit;
+
+    private final List0FW.Builder list0RW = new List0FW.Builder();
+    private final List0FW list0RO = new List0FW();
+
+    private final List8FW.Builder list8RW = new List8FW.Builder();
+    private final List8FW list8RO = new List8FW();
+
+    private final List32FW.Builder list32RW = new List32FW.Builder();
+    private final List32FW list32RO = new List32FW();
+
+    private final ListWithPhysicalAndLogicalLengthFW.Builder listWithLengthRW =
+        new ListWithPhysicalAndLogicalLengthFW.Builder();
+    private final ListWithPhysicalAndLogicalLengthFW listWithLengthRO = new ListWithPhysicalAndLogicalLengthFW();
+
+    private final ListWithLazyOffsetsFW.Builder listWithLazyOffsetsRW = new ListWithLazyOffsetsFW.Builder();
+    private final ListWithLazyOffsetsFW listWithLazyOffsetsRO = new ListWithLazyOffsetsFW();
+
+    private final ListWithWideBitmaskFW.Builder listWithWideBitmaskRW = new ListWithWideBitmaskFW.Builder();
+    private final ListWithWideBitmaskFW listWithWideBitmaskRO = new ListWithWideBitmaskFW();
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        this.buffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.values = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        for (int i = 0; i < values.capacity(); i++)
+        {
+            values.putByte(i, (byte) ('a' + i % 26));
+        }
+
+        this.list0Buffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.list8Buffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.list32Buffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.listWithLengthBuffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.listWithLazyOffsetsBuffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.listWithWideBitmaskBuffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+
+        this.list0Limit = list0RW.wrap(list0Buffer, 0, list0Buffer.capacity())
+            .fields(FIELD_COUNT, values, 0, FIELD_COUNT * FIELD_SIZE)
+            .build()
+            .limit();
+        this.list8Limit = list8RW.wrap(list8Buffer, 0, list8Buffer.capacity())
+            .fields(FIELD_COUNT, values, 0, FIELD_COUNT * FIELD_SIZE)
+            .build()
+            .limit();
+        this.list32Limit = list32RW.wrap(list32Buffer, 0, list32Buffer.capacity())
+            .fields(FIELD_COUNT, values, 0, FIELD_COUNT * FIELD_SIZE)
+            .build()
+            .limit();
+        this.listWithLengthLimit = listWithLengthRW.wrap(listWithLengthBuffer, 0, listWithLengthBuffer.capacity())
+            .field0("value0")
+            .field1(1L)
+            .field2("value2")
+            .build()
+            .limit();
+        this.listWithLazyOffsetsLimit = listWithLazyOffsetsRW.wrap(listWithLazyOffsetsBuffer, 0,
+                listWithLazyOffsetsBuffer.capacity())
+            .field0("value0")
+            .field1(1L)
+            .field2("value2")
+            .field3(3)
+            .field4(4L)
+            .build()
+            .limit();
+        this.listWithWideBitmaskLimit = listWithWideBitmaskRW.wrap(listWithWideBitmaskBuffer, 0,
+                listWithWideBitmaskBuffer.capacity())
+            .field0("value0")
+            .field1(1L)
+            .field40("value40")
+            .field63(63L)
+            .field65(65L)
+            .field69(69L)
+            .build()
+            .limit();
+    }
+
+    @Benchmark
+    public int list0Read()
+    {
+        return list0RO.wrap(list0Buffer, 0, list0Limit).fieldCount();
+    }
+
+    @Benchmark
+    public int list0TryWrap()
+    {
+        return list0RO.tryWrap(list0Buffer, 0, list0Limit).limit();
+    }
+
+    @Benchmark
+    public int list0Write()
+    {
+        return list0RW.wrap(buffer, 0, buffer.capacity())
+            .fields(FIELD_COUNT, values, 0, FIELD_COUNT * FIELD_SIZE)
+            .build()
+            .limit();
+    }
+
+    @Benchmark
+    public int list8Read()
+    {
+        return list8RO.wrap(list8Buffer, 0, list8Limit).fieldCount();
+    }
+
+    @Benchmark
+    public int list8TryWrap()
+    {
+        return list8RO.tryWrap(list8Buffer, 0, list8Limit).limit();
+    }
+
+    @Benchmark
+    public int list8Write()
+    {
+        return list8RW.wrap(buffer, 0, buffer.capacity())
+            .fields(FIELD_COUNT, values, 0, FIELD_COUNT * FIELD_SIZE)
+            .build()
+            .limit();
+    }
+
+    @Benchmark
+    public int list32Read()
+    {
+        return list32RO.wrap(list32Buffer, 0, list32Limit).fieldCount();
+    }
+
+    @Benchmark
+    public int list32TryWrap()
+    {
+        return list32RO.tryWrap(list32Buffer, 0, list32Limit).limit();
+    }
+
+    @Benchmark
+    public int list32Write()
+    {
+        return list32RW.wrap(buffer, 0, buffer.capacity())
+            .fields(FIELD_COUNT, values, 0, FIELD_COUNT * FIELD_SIZE)
+            .build()
+            .limit();
+    }
+
+    @Benchmark
+    public long listWithLengthRead()
+    {
+        return listWithLengthRO.wrap(listWithLengthBuffer, 0, listWithLengthLimit).field1();
+    }
+
+    @Benchmark
+    public int listWithLengthWrap()
+    {
+        return listWithLengthRO.wrap(listWithLengthBuffer, 0, listWithLengthLimit).fieldCount();
+    }
+
+    @Benchmark
+    public int listWithLengthTryWrap()
+    {
+        return listWithLengthRO.tryWrap(listWithLengthBuffer, 0, listWithLengthLimit).limit();
+    }
+
+    @Benchmark
+    public int listWithLengthWrite()
+    {
+        return listWithLengthRW.wrap(buffer, 0, buffer.capacity())
+            .field0(values, 0, 6)
+            .field1(1L)
+            .field2(values, 6, 6)
+            .build()
+            .limit();
+    }
+
+    @Benchmark
+    public int listWithLazyOffsetsWrap()
+    {
+        return listWithLazyOffsetsRO.wrap(listWithLazyOffsetsBuffer, 0, listWithLazyOffsetsLimit).fieldCount();
+    }
+
+    @Benchmark
+    public long listWithLazyOffsetsReadFirst()
+    {
+        return listWithLazyOffsetsRO.wrap(listWithLazyOffsetsBuffer, 0, listWithLazyOffsetsLimit).field1();
+    }
+
+    @Benchmark
+    public long listWithLazyOffsetsReadLast()
+    {
+        return listWithLazyOffsetsRO.wrap(listWithLazyOffsetsBuffer, 0, listWithLazyOffsetsLimit).field4();
+    }
+
+    @Benchmark
+    public long listWithWideBitmaskRead()
+    {
+        return listWithWideBitmaskRO.wrap(listWithWideBitmaskBuffer, 0, listWithWideBitmaskLimit).field69();
+    }
+
+    @Benchmark
+    public int listWithWideBitmaskTryWrap()
+    {
+        return listWithWideBitmaskRO.tryWrap(listWithWideBitmaskBuffer, 0, listWithWideBitmaskLimit).limit();
+    }
+
+    @Benchmark
+    public int listWithWideBitmaskWrite()
+    {
+        return listWithWideBitmaskRW.wrap(buffer, 0, buffer.capacity())
+            .field0(values, 0, 6)
+            .field1(1L)
+            .field40(values, 6, 6)
+            .field63(63L)
+            .field65(65L)
+            .field69(69L)
+            .build()
+            .limit();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(ListFlyweightBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
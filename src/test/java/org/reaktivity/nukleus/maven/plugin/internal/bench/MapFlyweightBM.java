@@ -0,0 +1,268 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.Map16FW;
+import org.reaktivity.reaktor.internal.test.types.Map32FW;
+import org.reaktivity.reaktor.internal.test.types.Map8FW;
+import org.reaktivity.reaktor.internal.test.types.inner.TypedefStringFW;
+import org.reaktivity.reaktor.internal.test.types.inner.VariantEnumKindOfStringFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class MapFlyweightBM
+{
+    private static final int ENTRY_COUNT = 4;
+    private static final int KEY_LENGTH = 8;
+    private static final int VALUE_LENGTH = 16;
+    private static final int LOOKUP_ENTRY_COUNT = 16;
+
+    private MutableDirectBuffer buffer;
+    private MutableDirectBuffer values;
+
+    private MutableDirectBuffer map8Buffer;
+    private MutableDirectBuffer map16Buffer;
+    private MutableDirectBuffer map32Buffer;
+
+    private int map8Limit;
+    private int map16Limit;
+    private int map32Limit;
+    private int entryLengths;
+
+    private MutableDirectBuffer lookupMapBuffer;
+    private int lookupMapLimit;
+    private TypedefStringFW[] lookupKeys;
+    private int lookupIndex;
+    private VariantEnumKindOfStringFW lookupValue;
+
+    private final Map8FW.Builder<TypedefStringFW, VariantEnumKindOfStringFW, TypedefStringFW.Builder,
+        VariantEnumKindOfStringFW.Builder> map8RW = new Map8FW.Builder<>(new TypedefStringFW(),
+        new VariantEnumKindOfStringFW(), new TypedefStringFW.Builder(), new VariantEnumKindOfStringFW.Builder());
+    private final Map8FW<TypedefStringFW, VariantEnumKindOfStringFW> map8RO =
+        new Map8FW<>(new TypedefStringFW(), new VariantEnumKindOfStringFW());
+
+    private final Map16FW.Builder<TypedefStringFW, VariantEnumKindOfStringFW, TypedefStringFW.Builder,
+        VariantEnumKindOfStringFW.Builder> map16RW = new Map16FW.Builder<>(new TypedefStringFW(),
+        new VariantEnumKindOfStringFW(), new TypedefStringFW.Builder(), new VariantEnumKindOfStringFW.Builder());
+    private final Map16FW<TypedefStringFW, VariantEnumKindOfStringFW> map16RO =
+        new Map16FW<>(new TypedefStringFW(), new VariantEnumKindOfStringFW());
+
+    private final Map32FW.Builder<TypedefStringFW, VariantEnumKindOfStringFW, TypedefStringFW.Builder,
+        VariantEnumKindOfStringFW.Builder> map32RW = new Map32FW.Builder<>(new TypedefStringFW(),
+        new VariantEnumKindOfStringFW(), new TypedefStringFW.Builder(), new VariantEnumKindOfStringFW.Builder());
+    private final Map32FW<TypedefStringFW, VariantEnumKindOfStringFW> map32RO =
+        new Map32FW<>(new TypedefStringFW(), new VariantEnumKindOfStringFW());
+
+    private final Map32FW<TypedefStringFW, VariantEnumKindOfStringFW> lookupMapRO =
+        new Map32FW<>(new TypedefStringFW(), new VariantEnumKindOfStringFW());
+    private final Map32FW<TypedefStringFW, VariantEnumKindOfStringFW> scanMapRO =
+        new Map32FW<>(new TypedefStringFW(), new VariantEnumKindOfStringFW());
+
+    private final Consumer<TypedefStringFW.Builder> setKey = k -> k.set(values, 0, KEY_LENGTH);
+    private final Consumer<VariantEnumKindOfStringFW.Builder> setValue = v -> v.set(values, KEY_LENGTH, VALUE_LENGTH);
+    private final BiConsumer<TypedefStringFW, VariantEnumKindOfStringFW> sumEntry =
+        (k, v) -> entryLengths += k.length() + v.length();
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        this.buffer = new UnsafeBuffer(allocateDirect(4096).order(nativeOrder()));
+        this.values = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        for (int i = 0; i < values.capacity(); i++)
+        {
+            values.putByte(i, (byte) ('a' + i % 26));
+        }
+
+        this.map8Buffer = new UnsafeBuffer(allocateDirect(4096).order(nativeOrder()));
+        this.map16Buffer = new UnsafeBuffer(allocateDirect(4096).order(nativeOrder()));
+        this.map32Buffer = new UnsafeBuffer(allocateDirect(4096).order(nativeOrder()));
+
+        this.map8Limit = writeMap8(map8Buffer);
+        this.map16Limit = writeMap16(map16Buffer);
+        this.map32Limit = writeMap32(map32Buffer);
+
+        this.lookupMapBuffer = new UnsafeBuffer(allocateDirect(4096).order(nativeOrder()));
+        this.lookupKeys = new TypedefStringFW[LOOKUP_ENTRY_COUNT];
+        map32RW.wrap(lookupMapBuffer, 0, lookupMapBuffer.capacity());
+        for (int i = 0; i < LOOKUP_ENTRY_COUNT; i++)
+        {
+            final int keyOffset = i;
+            map32RW.entry(k -> k.set(values, keyOffset, KEY_LENGTH), setValue);
+
+            MutableDirectBuffer keyBuffer = new UnsafeBuffer(allocateDirect(64).order(nativeOrder()));
+            lookupKeys[i] = new TypedefStringFW.Builder().wrap(keyBuffer, 0, keyBuffer.capacity())
+                .set(values, keyOffset, KEY_LENGTH)
+                .build();
+        }
+        this.lookupMapLimit = map32RW.build().limit();
+
+        lookupMapRO.wrap(lookupMapBuffer, 0, lookupMapLimit);
+        scanMapRO.wrap(lookupMapBuffer, 0, lookupMapLimit);
+    }
+
+    @Benchmark
+    public int map8Read()
+    {
+        entryLengths = 0;
+        map8RO.wrap(map8Buffer, 0, map8Limit).forEach(sumEntry);
+        return entryLengths;
+    }
+
+    @Benchmark
+    public int map8TryWrap()
+    {
+        return map8RO.tryWrap(map8Buffer, 0, map8Limit).limit();
+    }
+
+    @Benchmark
+    public int map8Write()
+    {
+        return writeMap8(buffer);
+    }
+
+    @Benchmark
+    public int map16Read()
+    {
+        entryLengths = 0;
+        map16RO.wrap(map16Buffer, 0, map16Limit).forEach(sumEntry);
+        return entryLengths;
+    }
+
+    @Benchmark
+    public int map16TryWrap()
+    {
+        return map16RO.tryWrap(map16Buffer, 0, map16Limit).limit();
+    }
+
+    @Benchmark
+    public int map16Write()
+    {
+        return writeMap16(buffer);
+    }
+
+    @Benchmark
+    public int map32Read()
+    {
+        entryLengths = 0;
+        map32RO.wrap(map32Buffer, 0, map32Limit).forEach(sumEntry);
+        return entryLengths;
+    }
+
+    @Benchmark
+    public int map32TryWrap()
+    {
+        return map32RO.tryWrap(map32Buffer, 0, map32Limit).limit();
+    }
+
+    @Benchmark
+    public int map32Write()
+    {
+        return writeMap32(buffer);
+    }
+
+    @Benchmark
+    public VariantEnumKindOfStringFW map32Get()
+    {
+        return lookupMapRO.get(lookupKeys[lookupIndex++ & (LOOKUP_ENTRY_COUNT - 1)]);
+    }
+
+    @Benchmark
+    public VariantEnumKindOfStringFW map32GetByScan()
+    {
+        final TypedefStringFW key = lookupKeys[lookupIndex++ & (LOOKUP_ENTRY_COUNT - 1)];
+        lookupValue = null;
+        scanMapRO.forEach((k, v) ->
+        {
+            if (lookupValue == null && k.equals(key))
+            {
+                lookupValue = v;
+            }
+        });
+        return lookupValue;
+    }
+
+    private int writeMap8(
+        MutableDirectBuffer buffer)
+    {
+        map8RW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < ENTRY_COUNT; i++)
+        {
+            map8RW.entry(setKey, setValue);
+        }
+        return map8RW.build().limit();
+    }
+
+    private int writeMap16(
+        MutableDirectBuffer buffer)
+    {
+        map16RW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < ENTRY_COUNT; i++)
+        {
+            map16RW.entry(setKey, setValue);
+        }
+        return map16RW.build().limit();
+    }
+
+    private int writeMap32(
+        MutableDirectBuffer buffer)
+    {
+        map32RW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < ENTRY_COUNT; i++)
+        {
+            map32RW.entry(setKey, setValue);
+        }
+        return map32RW.build().limit();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(MapFlyweightBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
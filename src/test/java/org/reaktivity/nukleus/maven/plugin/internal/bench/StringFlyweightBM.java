@@ -0,0 +1,243 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.String16FW;
+import org.reaktivity.reaktor.internal.test.types.String32FW;
+import org.reaktivity.reaktor.internal.test.types.String8FW;
+import org.reaktivity.reaktor.internal.test.types.StringFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class StringFlyweightBM
+{
+    private static final String VALUE = "application/json;charset=utf-8";
+    private static final String SHORT_VALUE = "GET";
+
+    private MutableDirectBuffer buffer;
+    private MutableDirectBuffer values;
+
+    private MutableDirectBuffer string8Buffer;
+    private MutableDirectBuffer string16Buffer;
+    private MutableDirectBuffer string32Buffer;
+
+    private int string8Limit;
+    private int string16Limit;
+    private int string32Limit;
+
+    private final String8FW.Builder string8RW = new String8FW.Builder();
+    private final String8FW string8RO = new String8FW();
+    private final String8FW string8CachedRO = new String8FW();
+
+    private final String16FW.Builder string16RW = new String16FW.Builder();
+    private final String16FW string16RO = new String16FW();
+
+    private final String32FW.Builder string32RW = new String32FW.Builder();
+    private final String32FW string32RO = new String32FW();
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        this.buffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.values = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        values.putStringWithoutLengthUtf8(0, VALUE);
+
+        string8CachedRO.cache(new StringFW.Cache(64, 64));
+
+        this.string8Buffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.string16Buffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.string32Buffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+
+        this.string8Limit = string8RW.wrap(string8Buffer, 0, string8Buffer.capacity()).set(VALUE, UTF_8).build().limit();
+        this.string16Limit = string16RW.wrap(string16Buffer, 0, string16Buffer.capacity()).set(VALUE, UTF_8).build().limit();
+        this.string32Limit = string32RW.wrap(string32Buffer, 0, string32Buffer.capacity()).set(VALUE, UTF_8).build().limit();
+    }
+
+    @Benchmark
+    public int string8Read()
+    {
+        return string8RO.wrap(string8Buffer, 0, string8Limit).length();
+    }
+
+    @Benchmark
+    public String string8AsString()
+    {
+        return string8RO.wrap(string8Buffer, 0, string8Limit).asString();
+    }
+
+    @Benchmark
+    public String string8AsStringCached()
+    {
+        return string8CachedRO.wrap(string8Buffer, 0, string8Limit).asString();
+    }
+
+    @Benchmark
+    public boolean string8AsStringEquals()
+    {
+        return VALUE.equals(string8RO.wrap(string8Buffer, 0, string8Limit).asString());
+    }
+
+    @Benchmark
+    public boolean string8ContentEquals()
+    {
+        return string8RO.wrap(string8Buffer, 0, string8Limit).contentEquals(VALUE);
+    }
+
+    @Benchmark
+    public boolean string8ContentEqualsBuffer()
+    {
+        return string8RO.wrap(string8Buffer, 0, string8Limit).contentEquals(values, 0, VALUE.length());
+    }
+
+    @Benchmark
+    public boolean string8EqualsIgnoreAsciiCase()
+    {
+        return string8RO.wrap(string8Buffer, 0, string8Limit).equalsIgnoreAsciiCase(VALUE);
+    }
+
+    @Benchmark
+    public int string8AsStringHashCode()
+    {
+        return string8RO.wrap(string8Buffer, 0, string8Limit).asString().hashCode();
+    }
+
+    @Benchmark
+    public int string8Hash()
+    {
+        return string8RO.wrap(string8Buffer, 0, string8Limit).hash();
+    }
+
+    @Benchmark
+    public int string8TryWrap()
+    {
+        return string8RO.tryWrap(string8Buffer, 0, string8Limit).limit();
+    }
+
+    @Benchmark
+    public int string8WriteUsingString()
+    {
+        return string8RW.wrap(buffer, 0, buffer.capacity()).set(VALUE, UTF_8).build().limit();
+    }
+
+    @Benchmark
+    public int string8WriteUsingShortString()
+    {
+        return string8RW.wrap(buffer, 0, buffer.capacity()).set(SHORT_VALUE, UTF_8).build().limit();
+    }
+
+    @Benchmark
+    public int string8WriteUsingBuffer()
+    {
+        return string8RW.wrap(buffer, 0, buffer.capacity()).set(values, 0, VALUE.length()).build().limit();
+    }
+
+    @Benchmark
+    public int string16Read()
+    {
+        return string16RO.wrap(string16Buffer, 0, string16Limit).length();
+    }
+
+    @Benchmark
+    public String string16AsString()
+    {
+        return string16RO.wrap(string16Buffer, 0, string16Limit).asString();
+    }
+
+    @Benchmark
+    public int string16TryWrap()
+    {
+        return string16RO.tryWrap(string16Buffer, 0, string16Limit).limit();
+    }
+
+    @Benchmark
+    public int string16WriteUsingString()
+    {
+        return string16RW.wrap(buffer, 0, buffer.capacity()).set(VALUE, UTF_8).build().limit();
+    }
+
+    @Benchmark
+    public int string16WriteUsingBuffer()
+    {
+        return string16RW.wrap(buffer, 0, buffer.capacity()).set(values, 0, VALUE.length()).build().limit();
+    }
+
+    @Benchmark
+    public int string32Read()
+    {
+        return string32RO.wrap(string32Buffer, 0, string32Limit).length();
+    }
+
+    @Benchmark
+    public String string32AsString()
+    {
+        return string32RO.wrap(string32Buffer, 0, string32Limit).asString();
+    }
+
+    @Benchmark
+    public int string32TryWrap()
+    {
+        return string32RO.tryWrap(string32Buffer, 0, string32Limit).limit();
+    }
+
+    @Benchmark
+    public int string32WriteUsingString()
+    {
+        return string32RW.wrap(buffer, 0, buffer.capacity()).set(VALUE, UTF_8).build().limit();
+    }
+
+    @Benchmark
+    public int string32WriteUsingBuffer()
+    {
+        return string32RW.wrap(buffer, 0, buffer.capacity()).set(values, 0, VALUE.length()).build().limit();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(StringFlyweightBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
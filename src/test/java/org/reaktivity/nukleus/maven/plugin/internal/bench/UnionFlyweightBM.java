@@ -0,0 +1,111 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.function.Consumer;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.OctetsFW;
+import org.reaktivity.reaktor.internal.test.types.inner.UnionOctetsFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class UnionFlyweightBM
+{
+    private MutableDirectBuffer buffer;
+    private MutableDirectBuffer values;
+
+    private MutableDirectBuffer unionBuffer;
+    private int unionLimit;
+
+    private final UnionOctetsFW.Builder unionRW = new UnionOctetsFW.Builder();
+    private final UnionOctetsFW unionRO = new UnionOctetsFW();
+
+    private final Consumer<OctetsFW.Builder> setOctets16 = b -> b.put(values, 0, 16);
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        this.buffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.values = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        for (int i = 0; i < values.capacity(); i++)
+        {
+            values.putByte(i, (byte) ('a' + i % 26));
+        }
+
+        this.unionBuffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.unionLimit = unionRW.wrap(unionBuffer, 0, unionBuffer.capacity())
+            .octets16(setOctets16)
+            .build()
+            .limit();
+    }
+
+    @Benchmark
+    public int unionRead()
+    {
+        return unionRO.wrap(unionBuffer, 0, unionLimit).octets16().sizeof();
+    }
+
+    @Benchmark
+    public int unionTryWrap()
+    {
+        return unionRO.tryWrap(unionBuffer, 0, unionLimit).limit();
+    }
+
+    @Benchmark
+    public int unionWrite()
+    {
+        return unionRW.wrap(buffer, 0, buffer.capacity())
+            .octets16(setOctets16)
+            .build()
+            .limit();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(UnionFlyweightBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.inner.VariantEnumKindOfStringFW;
+import org.reaktivity.reaktor.internal.test.types.inner.VariantUint8KindWithInt64TypeFW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class VariantFlyweightBM
+{
+    private static final long INT64_VALUE = 0x1234_5678_9abcL;
+    private static final int STRING_LENGTH = 24;
+
+    private MutableDirectBuffer buffer;
+    private MutableDirectBuffer values;
+
+    private MutableDirectBuffer variantOfInt64Buffer;
+    private MutableDirectBuffer variantOfStringBuffer;
+
+    private int variantOfInt64Limit;
+    private int variantOfStringLimit;
+
+    private final VariantUint8KindWithInt64TypeFW.Builder variantOfInt64RW = new VariantUint8KindWithInt64TypeFW.Builder();
+    private final VariantUint8KindWithInt64TypeFW variantOfInt64RO = new VariantUint8KindWithInt64TypeFW();
+
+    private final VariantEnumKindOfStringFW.Builder variantOfStringRW = new VariantEnumKindOfStringFW.Builder();
+    private final VariantEnumKindOfStringFW variantOfStringRO = new VariantEnumKindOfStringFW();
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        this.buffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.values = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        for (int i = 0; i < values.capacity(); i++)
+        {
+            values.putByte(i, (byte) ('a' + i % 26));
+        }
+
+        this.variantOfInt64Buffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+        this.variantOfStringBuffer = new UnsafeBuffer(allocateDirect(1024).order(nativeOrder()));
+
+        this.variantOfInt64Limit = variantOfInt64RW.wrap(variantOfInt64Buffer, 0, variantOfInt64Buffer.capacity())
+            .set(INT64_VALUE)
+            .build()
+            .limit();
+        this.variantOfStringLimit = variantOfStringRW.wrap(variantOfStringBuffer, 0, variantOfStringBuffer.capacity())
+            .set(values, 0, STRING_LENGTH)
+            .build()
+            .limit();
+    }
+
+    @Benchmark
+    public long variantOfInt64Read()
+    {
+        return variantOfInt64RO.wrap(variantOfInt64Buffer, 0, variantOfInt64Limit).get();
+    }
+
+    @Benchmark
+    public int variantOfInt64TryWrap()
+    {
+        return variantOfInt64RO.tryWrap(variantOfInt64Buffer, 0, variantOfInt64Limit).limit();
+    }
+
+    @Benchmark
+    public int variantOfInt64Write()
+    {
+        return variantOfInt64RW.wrap(buffer, 0, buffer.capacity())
+            .set(INT64_VALUE)
+            .build()
+            .limit();
+    }
+
+    @Benchmark
+    public int variantOfStringRead()
+    {
+        return variantOfStringRO.wrap(variantOfStringBuffer, 0, variantOfStringLimit).length();
+    }
+
+    @Benchmark
+    public int variantOfStringTryWrap()
+    {
+        return variantOfStringRO.tryWrap(variantOfStringBuffer, 0, variantOfStringLimit).limit();
+    }
+
+    @Benchmark
+    public int variantOfStringWrite()
+    {
+        return variantOfStringRW.wrap(buffer, 0, buffer.capacity())
+            .set(values, 0, STRING_LENGTH)
+            .build()
+            .limit();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(VariantFlyweightBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.Varint64FW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class VarintDecodeBM
+{
+    private static final int COUNT = 64;
+
+    @Param({ "1", "2", "3", "4", "5", "6", "7", "8", "9", "10" })
+    public int encodedSize;
+
+    private final Varint64FW.Builder varint64RW = new Varint64FW.Builder();
+    private final Varint64FW varint64RO = new Varint64FW();
+
+    private MutableDirectBuffer buffer;
+    private int limit;
+    private long[] values;
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        final long value = encodedSize == 1 ? 1L : 1L << (7 * (encodedSize - 1) - 1);
+
+        this.buffer = new UnsafeBuffer(allocateDirect(COUNT * 10 + Long.BYTES).order(nativeOrder()));
+        this.values = new long[COUNT];
+
+        int limit = 0;
+        for (int i = 0; i < COUNT; i++)
+        {
+            limit = varint64RW.wrap(buffer, limit, buffer.capacity()).set(value).build().limit();
+        }
+        this.limit = limit;
+    }
+
+    @Benchmark
+    public long varint64Read()
+    {
+        return varint64RO.wrap(buffer, 0, buffer.capacity()).value();
+    }
+
+    @Benchmark
+    public long varint64ReadEach()
+    {
+        long result = 0L;
+        for (int offset = 0; offset < limit; offset = varint64RO.limit())
+        {
+            result += varint64RO.wrap(buffer, offset, limit).value();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int varint64DecodeAll()
+    {
+        return Varint64FW.decodeAll(buffer, 0, limit, values, 0);
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(VarintDecodeBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
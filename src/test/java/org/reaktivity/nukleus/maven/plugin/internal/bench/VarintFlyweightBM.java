@@ -0,0 +1,154 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.bench;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.nativeOrder;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reaktivity.reaktor.internal.test.types.Varbyteuint32FW;
+import org.reaktivity.reaktor.internal.test.types.Varint32FW;
+import org.reaktivity.reaktor.internal.test.types.Varint64FW;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Fork(3)
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 3, time = 3, timeUnit = SECONDS)
+@OutputTimeUnit(SECONDS)
+public class VarintFlyweightBM
+{
+    private static final int VALUE32 = 0x0fff_ffff;
+    private static final long VALUE64 = 0x00ff_ffff_ffff_ffffL;
+
+    private MutableDirectBuffer buffer;
+
+    private MutableDirectBuffer varint32Buffer;
+    private MutableDirectBuffer varint64Buffer;
+    private MutableDirectBuffer varbyteuint32Buffer;
+
+    private int varint32Limit;
+    private int varint64Limit;
+    private int varbyteuint32Limit;
+
+    private final Varint32FW.Builder varint32RW = new Varint32FW.Builder();
+    private final Varint32FW varint32RO = new Varint32FW();
+
+    private final Varint64FW.Builder varint64RW = new Varint64FW.Builder();
+    private final Varint64FW varint64RO = new Varint64FW();
+
+    private final Varbyteuint32FW.Builder varbyteuint32RW = new Varbyteuint32FW.Builder();
+    private final Varbyteuint32FW varbyteuint32RO = new Varbyteuint32FW();
+
+    @Setup(Level.Trial)
+    public void init()
+    {
+        this.buffer = new UnsafeBuffer(allocateDirect(64).order(nativeOrder()));
+
+        this.varint32Buffer = new UnsafeBuffer(allocateDirect(64).order(nativeOrder()));
+        this.varint64Buffer = new UnsafeBuffer(allocateDirect(64).order(nativeOrder()));
+        this.varbyteuint32Buffer = new UnsafeBuffer(allocateDirect(64).order(nativeOrder()));
+
+        this.varint32Limit = varint32RW.wrap(varint32Buffer, 0, varint32Buffer.capacity()).set(VALUE32).build().limit();
+        this.varint64Limit = varint64RW.wrap(varint64Buffer, 0, varint64Buffer.capacity()).set(VALUE64).build().limit();
+        this.varbyteuint32Limit = varbyteuint32RW.wrap(varbyteuint32Buffer, 0, varbyteuint32Buffer.capacity())
+            .set(VALUE32)
+            .build()
+            .limit();
+    }
+
+    @Benchmark
+    public int varint32Read()
+    {
+        return varint32RO.wrap(varint32Buffer, 0, varint32Limit).value();
+    }
+
+    @Benchmark
+    public int varint32TryWrap()
+    {
+        return varint32RO.tryWrap(varint32Buffer, 0, varint32Limit).limit();
+    }
+
+    @Benchmark
+    public int varint32Write()
+    {
+        return varint32RW.wrap(buffer, 0, buffer.capacity()).set(VALUE32).build().limit();
+    }
+
+    @Benchmark
+    public long varint64Read()
+    {
+        return varint64RO.wrap(varint64Buffer, 0, varint64Limit).value();
+    }
+
+    @Benchmark
+    public int varint64TryWrap()
+    {
+        return varint64RO.tryWrap(varint64Buffer, 0, varint64Limit).limit();
+    }
+
+    @Benchmark
+    public int varint64Write()
+    {
+        return varint64RW.wrap(buffer, 0, buffer.capacity()).set(VALUE64).build().limit();
+    }
+
+    @Benchmark
+    public int varbyteuint32Read()
+    {
+        return varbyteuint32RO.wrap(varbyteuint32Buffer, 0, varbyteuint32Limit).value();
+    }
+
+    @Benchmark
+    public int varbyteuint32TryWrap()
+    {
+        return varbyteuint32RO.tryWrap(varbyteuint32Buffer, 0, varbyteuint32Limit).limit();
+    }
+
+    @Benchmark
+    public int varbyteuint32Write()
+    {
+        return varbyteuint32RW.wrap(buffer, 0, buffer.capacity()).set(VALUE32).build().limit();
+    }
+
+    public static void main(
+        String[] args) throws RunnerException
+    {
+        Options opt = new OptionsBuilder()
+                .include(VarintFlyweightBM.class.getSimpleName())
+                .forks(0)
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -16,6 +16,7 @@
 package org.reaktivity.nukleus.maven.plugin.internal.generated;
 
 import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.BIG_ENDIAN;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -30,9 +31,13 @@ import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 import org.reaktivity.reaktor.internal.test.types.Array32FW;
+import org.reaktivity.reaktor.internal.test.types.Array32OfString8FW;
+import org.reaktivity.reaktor.internal.test.types.NetworkArray32FW;
 import org.reaktivity.reaktor.internal.test.types.String32FW;
+import org.reaktivity.reaktor.internal.test.types.String8FW;
 import org.reaktivity.reaktor.internal.test.types.StringFW;
 import org.reaktivity.reaktor.internal.test.types.inner.EnumWithInt8;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatParentFW;
 import org.reaktivity.reaktor.internal.test.types.inner.VariantEnumKindOfStringFW;
 
 public class Array32FWTest
@@ -194,6 +199,60 @@ public class Array32FWTest
 
     }
 
+    @Test
+    public void shouldSetNonVariantItemsInNetworkOrder() throws Exception
+    {
+        NetworkArray32FW.Builder<String32FW.Builder, String32FW> flyweightRW =
+            new NetworkArray32FW.Builder<>(new String32FW.Builder(BIG_ENDIAN), new String32FW(BIG_ENDIAN));
+
+        NetworkArray32FW<String32FW> flyweightRO = new NetworkArray32FW<>(new String32FW(BIG_ENDIAN));
+
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .item(b -> b.set("value1", UTF_8))
+            .item(b -> b.set("value2", UTF_8))
+            .build()
+            .limit();
+
+        assertEquals(limit - lengthSize, buffer.getInt(0, BIG_ENDIAN));
+        assertEquals(2, buffer.getInt(lengthSize, BIG_ENDIAN));
+        assertEquals(limit, NetworkArray32FW.limitOf(buffer, 0, limit));
+
+        final NetworkArray32FW<String32FW> array = flyweightRO.wrap(buffer, 0, limit);
+        List<String> arrayItems = new ArrayList<>();
+        array.forEach(v -> arrayItems.add(v.asString()));
+        assertEquals(2, array.fieldCount());
+        assertEquals(limit - lengthSize, array.length());
+        assertEquals(2, arrayItems.size());
+        assertEquals("value1", arrayItems.get(0));
+        assertEquals("value2", arrayItems.get(1));
+    }
+
+    @Test
+    public void shouldSetItemsUsingSpecializedArray() throws Exception
+    {
+        Array32OfString8FW.Builder flyweightRW = new Array32OfString8FW.Builder();
+        Array32OfString8FW flyweightRO = new Array32OfString8FW();
+
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .item(b -> b.set("value1", UTF_8))
+            .item(b -> b.set("value2", UTF_8))
+            .build()
+            .limit();
+
+        final Array32OfString8FW array = flyweightRO.wrap(buffer, 0, limit);
+        assertEquals(2, array.fieldCount());
+        assertEquals("value1", array.item(0).asString());
+        assertEquals("value2", array.item(1).asString());
+        assertEquals(limit, Array32OfString8FW.limitOf(buffer, 0, limit));
+
+        final Array32FW<String8FW> genericRO = new Array32FW<>(new String8FW());
+        List<String> arrayItems = new ArrayList<>();
+        genericRO.wrap(buffer, 0, limit).forEach(v -> arrayItems.add(v.asString()));
+        assertEquals(2, arrayItems.size());
+        assertEquals("value1", arrayItems.get(0));
+        assertEquals("value2", arrayItems.get(1));
+    }
+
     @Test
     public void shouldSetVariantItemsUsingItemMethod() throws Exception
     {
@@ -218,6 +277,102 @@ public class Array32FWTest
         assertAllTestValuesReadCaseVariantItems(array, 0);
     }
 
+    @Test
+    public void shouldGetVariableSizeItemsByIndex() throws Exception
+    {
+        Array32FW.Builder<String8FW.Builder, String8FW> flyweightRW =
+            new Array32FW.Builder<>(new String8FW.Builder(), new String8FW());
+        Array32FW<String8FW> flyweightRO = new Array32FW<>(new String8FW());
+
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .item(b -> b.set("a", UTF_8))
+            .item(b -> b.set("bbb", UTF_8))
+            .item(b -> b.set("", UTF_8))
+            .item(b -> b.set("dddd", UTF_8))
+            .build()
+            .limit();
+        int limit2 = flyweightRW.wrap(buffer, limit, buffer.capacity())
+            .item(b -> b.set("eeeee", UTF_8))
+            .item(b -> b.set("f", UTF_8))
+            .build()
+            .limit();
+
+        final Array32FW<String8FW> array = flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals("bbb", array.item(1).asString());
+        assertEquals("dddd", array.item(3).asString());
+        assertEquals("a", array.item(0).asString());
+        assertEquals("", array.item(2).asString());
+
+        flyweightRO.wrap(buffer, limit, limit2);
+
+        assertEquals("f", array.item(1).asString());
+        assertEquals("eeeee", array.item(0).asString());
+    }
+
+    @Test
+    public void shouldGetFixedSizeItemsByIndex() throws Exception
+    {
+        Array32FW.Builder<FlatParentFW.Builder, FlatParentFW> flyweightRW =
+            new Array32FW.Builder<>(new FlatParentFW.Builder(), new FlatParentFW());
+        Array32FW<FlatParentFW> flyweightRO = new Array32FW<>(new FlatParentFW(), Long.BYTES);
+
+        Array32FW.Builder<FlatParentFW.Builder, FlatParentFW> builder = flyweightRW.wrap(buffer, 0, buffer.capacity());
+        for (int i = 0; i < 100; i++)
+        {
+            final long value = i * 10L;
+            builder.item(b -> b.fixed1(value));
+        }
+        int limit = builder.build().limit();
+
+        final Array32FW<FlatParentFW> array = flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals(100, array.fieldCount());
+        assertEquals(990L, array.item(99).fixed1());
+        assertEquals(0L, array.item(0).fixed1());
+        assertEquals(420L, array.item(42).fixed1());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldFailToGetItemWithIndexOutOfRange() throws Exception
+    {
+        Array32FW.Builder<String8FW.Builder, String8FW> flyweightRW =
+            new Array32FW.Builder<>(new String8FW.Builder(), new String8FW());
+        Array32FW<String8FW> flyweightRO = new Array32FW<>(new String8FW());
+
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .item(b -> b.set("a", UTF_8))
+            .build()
+            .limit();
+
+        flyweightRO.wrap(buffer, 0, limit).item(1);
+    }
+
+    @Test
+    public void shouldGetItemWhenFieldCountExceedsLength() throws Exception
+    {
+        Array32FW<String8FW> flyweightRO = new Array32FW<>(new String8FW());
+
+        buffer.putInt(0, fieldCountSize + Byte.BYTES + 1);
+        buffer.putInt(lengthSize, Integer.MAX_VALUE);
+        buffer.putByte(lengthSize + fieldCountSize, (byte) 1);
+        buffer.putByte(lengthSize + fieldCountSize + Byte.BYTES, (byte) 'a');
+        int limit = lengthSize + fieldCountSize + Byte.BYTES + 1;
+
+        final Array32FW<String8FW> array = flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals("a", array.item(0).asString());
+        try
+        {
+            array.item(Integer.MAX_VALUE - 1);
+            fail("Exception not thrown");
+        }
+        catch (IndexOutOfBoundsException e)
+        {
+            // expected
+        }
+    }
+
     private static StringFW asStringFW(
         String value)
     {
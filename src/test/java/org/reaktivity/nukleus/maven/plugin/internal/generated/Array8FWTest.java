@@ -181,6 +181,27 @@ public class Array8FWTest
 
     }
 
+    @Test
+    public void shouldGetItemsByIndex() throws Exception
+    {
+        Array8FW.Builder<String8FW.Builder, String8FW> flyweightRW =
+            new Array8FW.Builder<>(new String8FW.Builder(), new String8FW());
+        Array8FW<String8FW> flyweightRO = new Array8FW<>(new String8FW());
+
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .item(b -> b.set("a", UTF_8))
+            .item(b -> b.set("bb", UTF_8))
+            .item(b -> b.set("ccc", UTF_8))
+            .build()
+            .limit();
+
+        final Array8FW<String8FW> array = flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals("ccc", array.item(2).asString());
+        assertEquals("a", array.item(0).asString());
+        assertEquals("bb", array.item(1).asString());
+    }
+
     @Test
     public void shouldSetVariantItemsUsingItemMethod() throws Exception
     {
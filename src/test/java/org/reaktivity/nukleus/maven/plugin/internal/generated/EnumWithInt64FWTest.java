@@ -227,6 +227,17 @@ public class EnumWithInt64FWTest
                    .set(bigNumber);
     }
 
+    @Test
+    public void shouldResolveValueOutsideDenseRangeAsNull()
+    {
+        assertEquals(EnumWithInt64.TEN, EnumWithInt64.valueOf(0x10L));
+        assertEquals(EnumWithInt64.TWELVE, EnumWithInt64.valueOf(0x12L));
+        assertNull(EnumWithInt64.valueOf(0x0fL));
+        assertNull(EnumWithInt64.valueOf(0x13L));
+        assertNull(EnumWithInt64.valueOf(Long.MIN_VALUE));
+        assertNull(EnumWithInt64.valueOf(Long.MAX_VALUE));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void shouldFailToBuildWithNothingSet()
     {
@@ -177,6 +177,22 @@ public class EnumWithString8FWTest
             .set(asEnumWithStringFW(EnumWithString.BLUE));
     }
 
+    @Test
+    public void shouldResolveValueFromEncodedBytes()
+    {
+        for (EnumWithString value : EnumWithString.values())
+        {
+            int size = setAllTestValues(buffer, 10, value.value());
+            assertEquals(value, EnumWithString.valueOf(buffer, 10 + LENGTH_SIZE, size - LENGTH_SIZE));
+            assertEquals(value, EnumWithStringFW.get(buffer, 10));
+        }
+
+        int size = setAllTestValues(buffer, 10, "green");
+        assertNull(EnumWithString.valueOf(buffer, 10 + LENGTH_SIZE, size - LENGTH_SIZE));
+        size = setAllTestValues(buffer, 10, "blu");
+        assertNull(EnumWithString.valueOf(buffer, 10 + LENGTH_SIZE, size - LENGTH_SIZE));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void shouldFailToBuildWithNothingSet()
     {
@@ -175,6 +175,16 @@ public class EnumWithUint8FWTest
             .set(enumWithInt8);
     }
 
+    @Test
+    public void shouldResolveValueOutsideDenseRangeAsNull()
+    {
+        assertEquals(EnumWithUint8.ICHI, EnumWithUint8.valueOf(201));
+        assertEquals(EnumWithUint8.SAN, EnumWithUint8.valueOf(203));
+        assertNull(EnumWithUint8.valueOf(200));
+        assertNull(EnumWithUint8.valueOf(204));
+        assertNull(EnumWithUint8FW.get(asBuffer(0), 0));
+    }
+
     @Test(expected = IllegalStateException.class)
     public void shouldFailToBuildWithNothingSet()
     {
@@ -304,6 +304,61 @@ public class FlatFWTest
         assertEquals("value3", flatRO.string3().asString());
     }
 
+    @Test
+    public void shouldReadFixedOffsetFieldsWithoutWrap() throws Exception
+    {
+        flatRW.wrap(buffer, 10, buffer.capacity())
+                .fixed1(10)
+                .fixed2(20)
+                .string1("value1")
+                .fixed3(30)
+                .string2("value2")
+                .fixed4(40)
+                .string3("value3")
+                .build();
+
+        assertEquals(10, FlatFW.fixed1(buffer, 10));
+        assertEquals(20, FlatFW.fixed2(buffer, 10));
+    }
+
+    @Test
+    public void shouldReadTrailingFixedFieldsAfterRewrap() throws Exception
+    {
+        int limit1 = flatRW.wrap(buffer, 0, buffer.capacity())
+                .fixed1(10)
+                .string1("a")
+                .fixed3(30)
+                .string2("b")
+                .fixed4(40)
+                .string3("c")
+                .build()
+                .limit();
+        int limit2 = flatRW.wrap(buffer, limit1, buffer.capacity())
+                .fixed1(11)
+                .string1("longer a")
+                .fixed3(31)
+                .string2("longer b")
+                .fixed4(41)
+                .string3("longer c")
+                .build()
+                .limit();
+
+        flatRO.wrap(buffer, 0, limit1);
+        assertEquals(30, flatRO.fixed3());
+        assertEquals(40, flatRO.fixed4());
+        assertEquals(limit1, flatRO.limit());
+
+        flatRO.wrap(buffer, limit1, limit2);
+        assertEquals(31, flatRO.fixed3());
+        assertEquals(41, flatRO.fixed4());
+        assertEquals(limit2, flatRO.limit());
+
+        assertSame(flatRO, flatRO.tryWrap(buffer, 0, limit1));
+        assertEquals(30, flatRO.fixed3());
+        assertEquals(40, flatRO.fixed4());
+        assertEquals(limit1, flatRO.limit());
+    }
+
     @Test
     public void shouldSetStringValuesUsingString8FW() throws Exception
     {
@@ -406,4 +461,46 @@ public class FlatFWTest
         assertEquals("", flatRO.string3().asString());
     }
 
+    @Test
+    public void shouldAppendToStringBuilder() throws Exception
+    {
+        int limit = flatRW.wrap(buffer, 0, buffer.capacity())
+            .fixed1(10)
+            .fixed2(20)
+            .string1("value1")
+            .fixed3(30)
+            .string2((String) null)
+            .fixed4(40)
+            .string3("value3")
+            .build()
+            .limit();
+        flatRO.wrap(buffer,  0,  limit);
+
+        StringBuilder builder = new StringBuilder("prefix ");
+        assertSame(builder, flatRO.appendTo(builder));
+        assertEquals("prefix FLAT [fixed1=10, fixed2=20, string1=value1, fixed3=30, string2=null, fixed4=40, string3=value3]",
+            builder.toString());
+        assertEquals(builder.substring("prefix ".length()), flatRO.toString());
+    }
+
+    @Test
+    public void shouldAppendToBuffer() throws Exception
+    {
+        int limit = flatRW.wrap(buffer, 0, buffer.capacity())
+            .fixed1(10)
+            .string1("value1")
+            .string2("value2")
+            .string3("value3")
+            .build()
+            .limit();
+        flatRO.wrap(buffer,  0,  limit);
+
+        MutableDirectBuffer textBuffer = new UnsafeBuffer(new byte[200]);
+        String text = flatRO.toString();
+        int textLimit = flatRO.appendTo(textBuffer, 10);
+
+        assertEquals(10 + text.length(), textLimit);
+        assertEquals(text, textBuffer.getStringWithoutLengthAscii(10, text.length()));
+        assertEquals(textLimit, flatRO.appendTo(textBuffer, 10));
+    }
 }
@@ -115,6 +115,37 @@ public class FlyweightTest
         assertEquals(Arrays.hashCode("asdf".getBytes()), flyweight.hashCode());
     }
 
+    @Test
+    public void shouldReturnTrueFromEqualsSpanningWords() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(0, "asdfghjklqwertyuiop");
+        buffer.putStringWithoutLengthUtf8(33, "asdfghjklqwertyuiop");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  0,  19);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  33,  52);
+        assertTrue(zis.equals(zat));
+        assertEquals(zis.hashCode(), zat.hashCode());
+    }
+
+    @Test
+    public void shouldReturnFalseFromEqualsWithDifferentWord() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(0, "asdfghjklqwertyuiop");
+        buffer.putStringWithoutLengthUtf8(33, "asdfghjkXqwertyuiop");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  0,  19);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  33,  52);
+        assertFalse(zis.equals(zat));
+    }
+
+    @Test
+    public void shouldReturnFalseFromEqualsWithDifferentTail() throws Exception
+    {
+        buffer.putStringWithoutLengthUtf8(0, "asdfghjklqwertyuiop");
+        buffer.putStringWithoutLengthUtf8(33, "asdfghjklqwertyuiX");
+        Flyweight zis = new TestFlyweight().wrap(buffer,  0,  19);
+        Flyweight zat = new TestFlyweight().wrap(buffer,  33,  52);
+        assertFalse(zis.equals(zat));
+    }
+
     public static void putMediumInt(
         MutableDirectBuffer buffer,
         int index,
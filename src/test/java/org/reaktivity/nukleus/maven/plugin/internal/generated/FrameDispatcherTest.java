@@ -0,0 +1,132 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.agrona.concurrent.ringbuffer.RingBufferDescriptor.TRAILER_LENGTH;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.ringbuffer.OneToOneRingBuffer;
+import org.agrona.concurrent.ringbuffer.RingBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatFW;
+import org.reaktivity.reaktor.internal.test.types.inner.NestedFW;
+import org.reaktivity.reaktor.internal.test.types.inner.TestInnerFrameDispatcher;
+
+public class FrameDispatcherTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(100))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+
+    private final List<String> events = new ArrayList<>();
+
+    private final TestInnerFrameDispatcher dispatcher = new TestInnerFrameDispatcher(new TestInnerFrameDispatcher.Handler()
+    {
+        @Override
+        public void onFlat(
+            FlatFW flat)
+        {
+            events.add(String.format("flat:%d:%s", flat.fixed1(), flat.string1().asString()));
+        }
+
+        @Override
+        public void onNested(
+            NestedFW nested)
+        {
+            events.add(String.format("nested:%d:%d", nested.fixed4(), nested.flat().fixed1()));
+        }
+
+        @Override
+        public void onUnknown(
+            int msgTypeId,
+            DirectBuffer buffer,
+            int index,
+            int length)
+        {
+            events.add(String.format("unknown:%x:%d", msgTypeId, length));
+        }
+    });
+
+    @Test
+    public void shouldDispatchFrameByTypeId() throws Exception
+    {
+        int limit = writeFlat(buffer, 0);
+
+        dispatcher.onMessage(FlatFW.TYPE_ID, buffer, 0, limit);
+
+        assertEquals(1, events.size());
+        assertEquals("flat:10:value1", events.get(0));
+    }
+
+    @Test
+    public void shouldDispatchUnknownTypeId() throws Exception
+    {
+        dispatcher.onMessage(0x7fffffff, buffer, 0, 4);
+
+        assertEquals(1, events.size());
+        assertEquals("unknown:7fffffff:4", events.get(0));
+    }
+
+    @Test
+    public void shouldDispatchFramesReadFromRingBuffer() throws Exception
+    {
+        RingBuffer ring = new OneToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+
+        int flatLimit = writeFlat(buffer, 0);
+        ring.write(FlatFW.TYPE_ID, buffer, 0, flatLimit);
+
+        int nestedLimit = new NestedFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .fixed4(40)
+            .flat(f -> f
+                .fixed1(20)
+                .string1("value1")
+                .string2("value2")
+                .string3("value3"))
+            .fixed5(50)
+            .build()
+            .limit();
+        ring.write(NestedFW.TYPE_ID, buffer, 0, nestedLimit);
+
+        assertEquals(2, ring.read(dispatcher));
+        assertEquals(2, events.size());
+        assertEquals("flat:10:value1", events.get(0));
+        assertEquals("nested:40:20", events.get(1));
+    }
+
+    private static int writeFlat(
+        MutableDirectBuffer buffer,
+        int offset)
+    {
+        return new FlatFW.Builder().wrap(buffer, offset, buffer.capacity())
+            .fixed1(10)
+            .string1("value1")
+            .string2("value2")
+            .string3("value3")
+            .build()
+            .limit();
+    }
+}
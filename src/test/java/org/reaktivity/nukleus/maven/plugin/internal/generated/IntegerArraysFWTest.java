@@ -0,0 +1,55 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static org.junit.Assert.assertEquals;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.networkOrder.IntegerArraysFW;
+
+public class IntegerArraysFWTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(100))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xFF);
+        }
+    };
+    private final IntegerArraysFW.Builder flyweightRW = new IntegerArraysFW.Builder();
+
+    @Test
+    public void shouldSetAllValuesUsingArraysInNetworkOrder() throws Exception
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .int32Array(new int[] { 1, 2, -3 }, 1, 2)
+            .int64Array(new long[] { 3L, -4L, 5L }, 0, 3)
+            .build()
+            .limit();
+
+        assertEquals(4 * 2 + 1 + 8 * 3, limit);
+        assertEquals(2, buffer.getInt(0, BIG_ENDIAN));
+        assertEquals(-3, buffer.getInt(4, BIG_ENDIAN));
+        assertEquals(3, buffer.getByte(8));
+        assertEquals(3L, buffer.getLong(9, BIG_ENDIAN));
+        assertEquals(-4L, buffer.getLong(17, BIG_ENDIAN));
+        assertEquals(5L, buffer.getLong(25, BIG_ENDIAN));
+    }
+}
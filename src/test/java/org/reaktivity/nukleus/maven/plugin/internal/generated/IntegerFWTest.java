@@ -54,6 +54,27 @@ public class IntegerFWTest
         assertEquals(-234, integersRO.variable64());
     }
 
+    @Test
+    public void shouldReadFixedOffsetFieldsWithoutWrap() throws Exception
+    {
+        int limit = integersRW.wrap(buffer, 5, buffer.capacity())
+                .unsigned8(0xFE)
+                .unsigned16(0xFFFE)
+                .unsigned24(0xFFFFFE)
+                .unsigned32(0x7FFFFFFE)
+                .unsigned64(0x7FFFFFFE)
+                .build()
+                .limit();
+
+        assertEquals(0xFFFFFE, integersRO.wrap(buffer, 5, limit).unsigned24());
+
+        assertEquals(0xFE, IntegersFW.unsigned8(buffer, 5));
+        assertEquals(0xFFFE, IntegersFW.unsigned16(buffer, 5));
+        assertEquals(0xFFFFFE, IntegersFW.unsigned24(buffer, 5));
+        assertEquals(0x7FFFFFFE, IntegersFW.unsigned32(buffer, 5));
+        assertEquals(0x7FFFFFFE, IntegersFW.unsigned64(buffer, 5));
+    }
+
     @Test
     public void shouldSetUnsigned8ToMaximumValue()
     {
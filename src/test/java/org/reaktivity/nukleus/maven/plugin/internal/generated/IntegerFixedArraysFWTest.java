@@ -16,6 +16,7 @@
 package org.reaktivity.nukleus.maven.plugin.internal.generated;
 
 import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -422,6 +423,129 @@ public class IntegerFixedArraysFWTest
         assertEquals(expected.byteBuffer(), buffer.byteBuffer());
     }
 
+    @Test
+    public void shouldSetAllValuesUsingArrays() throws Exception
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .uint8Array(new int[] { 0xFF }, 0, 1)
+            .uint16Array(new int[] { -1, 2, 0xFFFF }, 1, 2)
+            .uint24Array(new int[] { 3, 0x00FF_FFFF, 1 }, 0, 3)
+            .uint32Array(new long[] { 4L, 0xFFFFFFFFL, 1L, 2L }, 0, 4)
+            .uint64Array(new long[] { 8L, 0x7FFF_FFFF_FFFF_FFFFL, 2L, 3L, 4L, 5L, 6L, 7L }, 0, 8)
+            .anchor("anchor")
+            .int8Array(new int[] { 127 }, 0, 1)
+            .int16Array(new int[] { 2, 0xFFFF }, 0, 2)
+            .int24Array(new int[] { 3, -1, -2 }, 0, 3)
+            .int32Array(new int[] { 4, -1, -2, -3 }, 0, 4)
+            .int64Array(new long[] { 8L, -1L, -2L, -3L, -4L, -5L, -6L, -7L }, 0, 8)
+            .build();
+
+        flyweightRO.wrap(buffer, 0, buffer.capacity());
+
+        int[] uint24Array = new int[4];
+        assertEquals(3, flyweightRO.uint24Array(uint24Array, 1));
+        assertArrayEquals(new int[] { 0, 3, 0x00FF_FFFF, 1 }, uint24Array);
+
+        long[] uint32Array = new long[4];
+        assertEquals(4, flyweightRO.uint32Array(uint32Array, 0));
+        assertArrayEquals(new long[] { 4L, 0xFFFFFFFFL, 1L, 2L }, uint32Array);
+
+        int[] int16Array = new int[2];
+        assertEquals(2, flyweightRO.int16Array(int16Array, 0));
+        assertArrayEquals(new int[] { 2, -1 }, int16Array);
+
+        int[] int24Array = new int[3];
+        assertEquals(3, flyweightRO.int24Array(int24Array, 0));
+        assertArrayEquals(new int[] { 3, -1, -2 }, int24Array);
+
+        long[] int64Array = new long[8];
+        assertEquals(8, flyweightRO.int64Array(int64Array, 0));
+        assertArrayEquals(new long[] { 8L, -1L, -2L, -3L, -4L, -5L, -6L, -7L }, int64Array);
+    }
+
+    @Test
+    public void shouldSetAllValuesUsingArraysInHeapBuffer() throws Exception
+    {
+        MutableDirectBuffer heapBuffer = new UnsafeBuffer(new byte[256], 8, 199);
+
+        flyweightRW.wrap(heapBuffer, 0, heapBuffer.capacity())
+            .uint8Array(new int[] { 0xFF }, 0, 1)
+            .uint16Array(new int[] { 2, 0xFFFF }, 0, 2)
+            .uint24Array(new int[] { 3, 0x00FF_FFFF, 1 }, 0, 3)
+            .uint32Array(new long[] { 4L, 0xFFFFFFFFL, 1L, 2L }, 0, 4)
+            .uint64Array(new long[] { 8L, 0x7FFF_FFFF_FFFF_FFFFL, 2L, 3L, 4L, 5L, 6L, 7L }, 0, 8)
+            .anchor("anchor")
+            .int8Array(new int[] { 127 }, 0, 1)
+            .int16Array(new int[] { 2, 0xFFFF }, 0, 2)
+            .int24Array(new int[] { 3, -1, -2 }, 0, 3)
+            .int32Array(new int[] { 0, 4, -1, -2, -3 }, 1, 4)
+            .int64Array(new long[] { 8L, -1L, -2L, -3L, -4L, -5L, -6L, -7L }, 0, 8)
+            .build();
+
+        flyweightRO.wrap(heapBuffer, 0, heapBuffer.capacity());
+
+        int[] int32Array = new int[4];
+        assertEquals(4, flyweightRO.int32Array(int32Array, 0));
+        assertArrayEquals(new int[] { 4, -1, -2, -3 }, int32Array);
+
+        long[] int64Array = new long[8];
+        assertEquals(8, flyweightRO.int64Array(int64Array, 0));
+        assertArrayEquals(new long[] { 8L, -1L, -2L, -3L, -4L, -5L, -6L, -7L }, int64Array);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailToIncompletelySetUint16ArrayUsingArray()
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .uint8Array(new int[] { 0xFF }, 0, 1)
+            .uint16Array(new int[] { 2, 0xFFFF }, 1, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailToSetUint32ArrayWithValueTooHighUsingArray()
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .uint8Array(new int[] { 0xFF }, 0, 1)
+            .uint16Array(new int[] { 2, 0xFFFF }, 0, 2)
+            .uint24Array(new int[] { 3, 0x00FF_FFFF, 1 }, 0, 3)
+            .uint32Array(new long[] { 4L, 0x1_0000_0000L, 1L, 2L }, 0, 4);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldFailToSetUint16ArrayWithRangeBeyondArray()
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .uint8Array(new int[] { 0xFF }, 0, 1)
+            .uint16Array(new int[] { 2, 0xFFFF }, 1, 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailToOverfillUint16ArrayUsingArray()
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .uint8Array(new int[] { 0xFF }, 0, 1)
+            .uint16Array(new int[] { 2, 0xFFFF, 3 }, 0, 3);
+    }
+
+    @Test
+    public void shouldReadAllValuesUsingForEach() throws Exception
+    {
+        setAllTestValues(buffer, 0);
+        flyweightRO.wrap(buffer, 0, buffer.capacity());
+
+        IntStream.Builder uint16Array = IntStream.builder();
+        flyweightRO.forEachUint16Array(uint16Array::add);
+        assertArrayEquals(new int[] { 2, 0xFFFF }, uint16Array.build().toArray());
+
+        LongStream.Builder uint64Array = LongStream.builder();
+        flyweightRO.forEachUint64Array(uint64Array::add);
+        assertArrayEquals(new long[] { 8L, 0x7FFF_FFFF_FFFF_FFFFL, 2L, 3L, 4L, 5L, 6L, 7L }, uint64Array.build().toArray());
+
+        IntStream.Builder int32Array = IntStream.builder();
+        flyweightRO.forEachInt32Array(int32Array::add);
+        assertArrayEquals(new int[] { 4, -1, -2, -3 }, int32Array.build().toArray());
+    }
+
     @Test
     public void shouldConvertToString() throws Exception
     {
@@ -16,6 +16,7 @@
 package org.reaktivity.nukleus.maven.plugin.internal.generated;
 
 import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -399,6 +400,88 @@ public class IntegerVariableArraysFWTest
         assertAllTestValuesRead(flyweightRO);
     }
 
+    @Test
+    public void shouldSetAllValuesUsingArrays() throws Exception
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .fixed1(11)
+            .fixed2((short) 22)
+            .varint32Array(a -> a.item(b -> b.set(-1))
+                                 .item(b -> b.set(1)))
+            .unsigned64Array(new long[] { 0L, 10L, 112345L, 11234567L }, 1, 3)
+            .signed16Array(new int[] { 2, -500 }, 0, 2)
+            .signed24Array(new int[] { 2, -500 }, 0, 2)
+            .varint64Array(a -> a.item(b -> b.set(12L)))
+            .arrayWithInt8Size(new int[] { 123 }, 0, 1)
+            .arrayWithInt16Size(new int[] { 124 }, 0, 1)
+            .arrayWithInt24Size(new int[] { 125 }, 0, 1)
+            .build();
+        setAllTestValues(expected, 0);
+
+        assertEquals(expected.byteBuffer(), buffer.byteBuffer());
+
+        flyweightRO.wrap(buffer,  0,  buffer.capacity());
+        assertAllTestValuesRead(flyweightRO);
+    }
+
+    @Test
+    public void shouldDefaultToNullUsingArrays()
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .unsigned64Array(null, 0, 0)
+            .signed16Array(new int[] { 0 }, 0, 1)
+            .signed24Array(new int[] { 0 }, 0, 1)
+            .arrayWithInt8Size(null, 0, 0)
+            .arrayWithInt16Size(new int[0], 0, 0)
+            .build();
+
+        flyweightRO.wrap(buffer,  0,  buffer.capacity());
+
+        assertEquals(-1, flyweightRO.unsigned64Array(new long[0], 0));
+        assertEquals(-1, flyweightRO.arrayWithInt8Size(new int[0], 0));
+        assertEquals(0, flyweightRO.arrayWithInt16Size(new int[0], 0));
+        assertEquals(-1, flyweightRO.arrayWithInt24Size(new int[0], 0));
+        flyweightRO.forEachArrayWithInt8Size(v -> fail());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailToSetSigned16ToNullUsingArray()
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .signed16Array(null, 0, 0);
+    }
+
+    @Test
+    public void shouldReadAllValuesUsingArrays() throws Exception
+    {
+        setAllTestValues(buffer, 20);
+        flyweightRO.wrap(buffer, 20,  buffer.capacity());
+
+        long[] unsigned64Array = new long[3];
+        assertEquals(3, flyweightRO.unsigned64Array(unsigned64Array, 0));
+        assertArrayEquals(new long[] { 10L, 112345L, 11234567L }, unsigned64Array);
+
+        int[] signed16Array = new int[2];
+        assertEquals(2, flyweightRO.signed16Array(signed16Array, 0));
+        assertArrayEquals(new int[] { 2, -500 }, signed16Array);
+
+        int[] signed24Array = new int[2];
+        assertEquals(2, flyweightRO.signed24Array(signed24Array, 0));
+        assertArrayEquals(new int[] { 2, -500 }, signed24Array);
+
+        List<Integer> arrayWithInt24Size = new ArrayList<>();
+        flyweightRO.forEachArrayWithInt24Size(arrayWithInt24Size::add);
+        assertEquals(Arrays.asList(125), arrayWithInt24Size);
+
+        int[] varint32Array = new int[2];
+        assertEquals(2, flyweightRO.varint32Array(varint32Array, 0));
+        assertArrayEquals(new int[] { -1, 1 }, varint32Array);
+
+        long[] varint64Array = new long[1];
+        assertEquals(1, flyweightRO.varint64Array(varint64Array, 0));
+        assertArrayEquals(new long[] { 12L }, varint64Array);
+    }
+
     @Test
     public void shouldReadAllValues() throws Exception
     {
@@ -0,0 +1,459 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.Array32FW;
+import org.reaktivity.reaktor.internal.test.types.BoundedOctets32FW;
+import org.reaktivity.reaktor.internal.test.types.Flyweight;
+import org.reaktivity.reaktor.internal.test.types.List32FW;
+import org.reaktivity.reaktor.internal.test.types.Map32FW;
+import org.reaktivity.reaktor.internal.test.types.String32FW;
+import org.reaktivity.reaktor.internal.test.types.String8FW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatFW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatWithOctetsFW;
+import org.reaktivity.reaktor.internal.test.types.inner.ListWithMissingFieldByteFW;
+import org.reaktivity.reaktor.internal.test.types.inner.NestedFW;
+import org.reaktivity.reaktor.internal.test.types.inner.VariantEnumKindOfStringFW;
+
+public class LimitOfTest
+{
+    private static final String TYPES_PACKAGE = "org.reaktivity.reaktor.internal.test.types";
+
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(100))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+
+    @Test
+    public void shouldAgreeWithTryWrapOnRandomInput() throws Exception
+    {
+        final Random random = new Random(0x5eedL);
+        final List<String> failures = new ArrayList<>();
+
+        for (Class<?> type : flyweightTypes())
+        {
+            final Method limitOf = type.getMethod("limitOf", DirectBuffer.class, int.class, int.class);
+            final Flyweight flyweight = (Flyweight) type.getConstructor().newInstance();
+
+            for (int i = 0; i < 2000; i++)
+            {
+                final byte[] bytes = new byte[random.nextInt(48)];
+                random.nextBytes(bytes);
+                if (random.nextBoolean())
+                {
+                    for (int j = 0; j < bytes.length; j++)
+                    {
+                        bytes[j] &= random.nextBoolean() ? 0x03 : 0x7f;
+                    }
+                }
+                final DirectBuffer input = new UnsafeBuffer(bytes);
+
+                final int limit;
+                try
+                {
+                    limit = (int) limitOf.invoke(null, input, 0, input.capacity());
+                }
+                catch (Exception ex)
+                {
+                    failures.add(String.format("%s.limitOf threw %s", type.getSimpleName(), ex.getCause()));
+                    break;
+                }
+
+                if (limit != -1)
+                {
+                    Flyweight wrapped = null;
+                    try
+                    {
+                        wrapped = flyweight.tryWrap(input, 0, input.capacity());
+                    }
+                    catch (RuntimeException ex)
+                    {
+                        // tryWrap is not guaranteed to be exception free on arbitrary input
+                    }
+
+                    if (wrapped == null || wrapped.limit() != limit)
+                    {
+                        failures.add(String.format("%s.limitOf returned %d but tryWrap returned %s for %s",
+                            type.getSimpleName(), limit, wrapped == null ? "null" : wrapped.limit(), input));
+                        break;
+                    }
+                }
+            }
+        }
+
+        assertEquals(String.join("\n", failures), 0, failures.size());
+    }
+
+    @Test
+    public void shouldRequireBytesLimitOfStillNeedsOnRandomInput() throws Exception
+    {
+        final Random random = new Random(0x5eedL);
+        final List<String> failures = new ArrayList<>();
+
+        for (Class<?> type : flyweightTypes())
+        {
+            final Method limitOf;
+            try
+            {
+                limitOf = type.getMethod("limitOf", DirectBuffer.class, int.class, int.class, int.class);
+            }
+            catch (NoSuchMethodException ex)
+            {
+                continue;
+            }
+            final Method requiredOf = type.getMethod("requiredOf", DirectBuffer.class, int.class, int.class);
+
+            for (int i = 0; i < 500 && failures.isEmpty(); i++)
+            {
+                final byte[] bytes = new byte[random.nextInt(48)];
+                random.nextBytes(bytes);
+                for (int j = 0; j < bytes.length; j++)
+                {
+                    bytes[j] &= 0x03;
+                }
+                final DirectBuffer input = new UnsafeBuffer(bytes);
+
+                final int limit = (int) limitOf.invoke(null, input, 0, input.capacity(), Flyweight.DEFAULT_MAX_DEPTH);
+                for (int maxLimit = 0; maxLimit < limit; maxLimit++)
+                {
+                    if ((int) limitOf.invoke(null, input, 0, maxLimit, Flyweight.DEFAULT_MAX_DEPTH) == -2)
+                    {
+                        // fewer than the required bytes must still leave limitOf unable to decide
+                        final int required = (int) requiredOf.invoke(null, input, 0, maxLimit);
+                        if (required <= maxLimit ||
+                            (int) limitOf.invoke(null, input, 0, required - 1, Flyweight.DEFAULT_MAX_DEPTH) != -2)
+                        {
+                            failures.add(String.format("%s.requiredOf returned %d for maxLimit %d of %d byte frame %s",
+                                type.getSimpleName(), required, maxLimit, limit, input));
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        assertEquals(String.join("\n", failures), 0, failures.size());
+    }
+
+    @Test
+    public void shouldReportRequiredLengthOfString() throws Exception
+    {
+        final int limit = new String8FW.Builder().wrap(buffer, 0, buffer.capacity())
+            .set("value1", UTF_8)
+            .build()
+            .limit();
+
+        final Flyweight.Progress progress = new Flyweight.Progress();
+        assertNull(new String8FW().tryWrap(buffer, 0, 0, progress));
+        assertEquals(Byte.BYTES, progress.required());
+        assertNull(new String8FW().tryWrap(buffer, 0, 3, progress));
+        assertEquals(limit, progress.required());
+        assertEquals(limit - 3, progress.remaining(0, 3));
+    }
+
+    @Test
+    public void shouldReportRequiredLengthOfVariant() throws Exception
+    {
+        final int limit = new VariantEnumKindOfStringFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .set("value1", UTF_8)
+            .build()
+            .limit();
+
+        final Flyweight.Progress progress = new Flyweight.Progress();
+        assertNull(new VariantEnumKindOfStringFW().tryWrap(buffer, 0, 3, progress));
+        assertEquals(limit, progress.required());
+        assertEquals(limit, VariantEnumKindOfStringFW.requiredOf(buffer, 0, limit - 1));
+    }
+
+    @Test
+    public void shouldReportRequiredLengthOfNestedMember() throws Exception
+    {
+        final int limit = new FlatFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .fixed1(10)
+            .string1("value1")
+            .string2("value2")
+            .string3("value3")
+            .build()
+            .limit();
+        final int string2Limit = new FlatFW().wrap(buffer, 0, limit).string2().limit();
+
+        final Flyweight.Progress progress = new Flyweight.Progress();
+        assertEquals(-2, FlatFW.limitOf(buffer, 0, string2Limit - 1, progress));
+        assertEquals(string2Limit, progress.required());
+        assertEquals(limit, FlatFW.requiredOf(buffer, 0, limit - 1));
+    }
+
+    @Test
+    public void shouldComputeLimitOfValidMessage() throws Exception
+    {
+        final int limit = new NestedFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .fixed4(40)
+            .flat(f -> f
+                .fixed1(10)
+                .fixed2(20)
+                .string1("value1")
+                .string2("value2")
+                .string3("value3"))
+            .fixed5(50)
+            .build()
+            .limit();
+
+        assertEquals(limit, NestedFW.limitOf(buffer, 0, buffer.capacity()));
+        assertEquals(limit, NestedFW.limitOf(buffer, 0, limit));
+        assertEquals(-1, NestedFW.limitOf(buffer, 0, limit - 1));
+    }
+
+    @Test
+    public void shouldRejectMessageBeyondMaxDepth() throws Exception
+    {
+        final int limit = new NestedFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .fixed4(40)
+            .flat(f -> f
+                .fixed1(10)
+                .fixed2(20)
+                .string1("value1")
+                .string2("value2")
+                .string3("value3"))
+            .fixed5(50)
+            .build()
+            .limit();
+
+        assertEquals(limit, NestedFW.limitOf(buffer, 0, limit, 2));
+        assertEquals(-1, NestedFW.limitOf(buffer, 0, limit, 1));
+        assertEquals(-1, FlatFW.limitOf(buffer, 0, limit, 0));
+    }
+
+    @Test
+    public void shouldRejectLengthThatOverflowsLimit() throws Exception
+    {
+        final int offset = 16;
+        buffer.putInt(offset, 0x7ffffff0);
+        buffer.putInt(offset + Integer.BYTES, 0x7ffffff0);
+
+        assertEquals(-1, String32FW.limitOf(buffer, offset, buffer.capacity()));
+        assertEquals(-1, BoundedOctets32FW.limitOf(buffer, offset, buffer.capacity()));
+        assertEquals(-1, Array32FW.limitOf(buffer, offset, buffer.capacity()));
+        assertEquals(-1, List32FW.limitOf(buffer, offset, buffer.capacity()));
+        assertEquals(-1, Map32FW.limitOf(buffer, offset, buffer.capacity(), String8FW::limitOf, String8FW::limitOf));
+    }
+
+    @Test
+    public void shouldRejectFieldCountBeyondDeclaredMembers() throws Exception
+    {
+        final int limit = new ListWithMissingFieldByteFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .variantOfString1(new String8FW("value1"))
+            .build()
+            .limit();
+
+        assertEquals(limit, ListWithMissingFieldByteFW.limitOf(buffer, 0, limit));
+        buffer.putInt(Integer.BYTES, Integer.MAX_VALUE);
+        assertEquals(-1, ListWithMissingFieldByteFW.limitOf(buffer, 0, limit));
+    }
+
+    @Test
+    public void shouldComputeLimitOfVariant() throws Exception
+    {
+        final int limit = new VariantEnumKindOfStringFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .set("value1", UTF_8)
+            .build()
+            .limit();
+
+        assertEquals(limit, VariantEnumKindOfStringFW.limitOf(buffer, 0, buffer.capacity()));
+        assertEquals(-1, VariantEnumKindOfStringFW.limitOf(buffer, 0, limit - 1));
+    }
+
+    @Test
+    public void shouldResumeLimitOfAcrossPartialReads() throws Exception
+    {
+        final int limit = new FlatFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .fixed1(10)
+            .string1("value1")
+            .string2("value2")
+            .string3("value3")
+            .build()
+            .limit();
+
+        final FlatFW flatRO = new FlatFW();
+        final Flyweight.Progress progress = new Flyweight.Progress();
+        for (int maxLimit = 0; maxLimit < limit; maxLimit++)
+        {
+            assertNull(flatRO.tryWrap(buffer, 0, maxLimit, progress));
+            assertTrue(progress.remaining(0, maxLimit) > 0);
+            assertTrue(progress.required() <= limit);
+        }
+
+        assertTrue(progress.member() > 0);
+        assertSame(flatRO, flatRO.tryWrap(buffer, 0, limit, progress));
+        assertEquals(limit, flatRO.limit());
+        assertEquals(0, progress.member());
+        assertEquals(0, progress.required());
+    }
+
+    @Test
+    public void shouldReportRequiredLengthOfSizedMember() throws Exception
+    {
+        final int limit = new FlatWithOctetsFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .octets1(b -> b.put("1234567890".getBytes(UTF_8)))
+            .string1("value1")
+            .octets2(b -> b.put("12345678901234567890".getBytes(UTF_8)))
+            .build()
+            .limit();
+        final int octets2Limit = new FlatWithOctetsFW().wrap(buffer, 0, limit).octets2().limit();
+
+        final Flyweight.Progress progress = new Flyweight.Progress();
+        assertEquals(-2, FlatWithOctetsFW.limitOf(buffer, 0, octets2Limit - 10, progress));
+        assertEquals(octets2Limit, progress.required());
+        assertEquals(10, progress.remaining(0, octets2Limit - 10));
+
+        assertEquals(-2, FlatWithOctetsFW.limitOf(buffer, 0, octets2Limit - 1, progress));
+        assertEquals(limit, FlatWithOctetsFW.limitOf(buffer, 0, limit, progress));
+        assertEquals(0, progress.required());
+    }
+
+    @Test
+    public void shouldRejectMalformedSizedMemberWithoutRequiringMore() throws Exception
+    {
+        final int limit = new FlatWithOctetsFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .octets1(b -> b.put("1234567890".getBytes(UTF_8)))
+            .string1("value1")
+            .octets2(b -> b.put("12345678901234567890".getBytes(UTF_8)))
+            .build()
+            .limit();
+        final int octets2Limit = new FlatWithOctetsFW().wrap(buffer, 0, limit).octets2().limit();
+
+        final Flyweight.Progress progress = new Flyweight.Progress();
+        assertEquals(-2, FlatWithOctetsFW.limitOf(buffer, 0, octets2Limit - 1, progress));
+        assertTrue(progress.required() > 0);
+
+        buffer.putInt(octets2Limit + Byte.BYTES, -5);
+        assertEquals(-1, FlatWithOctetsFW.limitOf(buffer, 0, buffer.capacity(), FlatWithOctetsFW.DEFAULT_MAX_DEPTH));
+        assertEquals(-1, FlatWithOctetsFW.limitOf(buffer, 0, buffer.capacity(), progress));
+        assertEquals(0, progress.required());
+        assertNull(new FlatWithOctetsFW().tryWrap(buffer, 0, buffer.capacity(), progress));
+        assertEquals(0, progress.required());
+    }
+
+    @Test
+    public void shouldRejectMalformedListWithoutRequiringMore() throws Exception
+    {
+        final int limit = new ListWithMissingFieldByteFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .variantOfString1(new String8FW("value1"))
+            .build()
+            .limit();
+
+        final ListWithMissingFieldByteFW listRO = new ListWithMissingFieldByteFW();
+        final Flyweight.Progress progress = new Flyweight.Progress();
+        assertEquals(-2, ListWithMissingFieldByteFW.limitOf(buffer, 0, limit - 1, Flyweight.DEFAULT_MAX_DEPTH));
+        assertNull(listRO.tryWrap(buffer, 0, limit - 1, progress));
+        assertEquals(limit, progress.required());
+
+        buffer.putInt(Integer.BYTES, Integer.MAX_VALUE);
+        assertEquals(-1, ListWithMissingFieldByteFW.limitOf(buffer, 0, limit, Flyweight.DEFAULT_MAX_DEPTH));
+        assertNull(listRO.tryWrap(buffer, 0, limit, progress));
+        assertEquals(0, progress.required());
+    }
+
+    @Test
+    public void shouldRejectUnknownVariantKindWithoutRequiringMore() throws Exception
+    {
+        final int limit = new VariantEnumKindOfStringFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .set("value1", UTF_8)
+            .build()
+            .limit();
+
+        assertEquals(-2, VariantEnumKindOfStringFW.limitOf(buffer, 0, limit - 1, Flyweight.DEFAULT_MAX_DEPTH));
+
+        buffer.putByte(0, (byte) 0x7f);
+        final Flyweight.Progress progress = new Flyweight.Progress();
+        assertEquals(-1, VariantEnumKindOfStringFW.limitOf(buffer, 0, limit, Flyweight.DEFAULT_MAX_DEPTH));
+        assertNull(new VariantEnumKindOfStringFW().tryWrap(buffer, 0, limit, progress));
+        assertEquals(0, progress.required());
+    }
+
+    private static List<Class<?>> flyweightTypes() throws IOException, URISyntaxException, ClassNotFoundException
+    {
+        final ClassLoader loader = LimitOfTest.class.getClassLoader();
+        final URL location = loader.getResource(TYPES_PACKAGE.replace('.', '/'));
+        assertNotNull(location);
+
+        final Path root = Paths.get(location.toURI());
+        final List<Class<?>> types = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(root))
+        {
+            for (Path path : paths.filter(p -> p.toString().endsWith("FW.class")).sorted().collect(Collectors.toList()))
+            {
+                final String relative = root.relativize(path).toString();
+                final String className = TYPES_PACKAGE + "." +
+                    relative.substring(0, relative.length() - ".class".length()).replace('/', '.');
+                final Class<?> type = Class.forName(className, false, loader);
+                if (isValidatable(type))
+                {
+                    types.add(type);
+                }
+            }
+        }
+        assertFalse(types.isEmpty());
+        return types;
+    }
+
+    private static boolean isValidatable(
+        Class<?> type)
+    {
+        boolean validatable = Flyweight.class.isAssignableFrom(type) && !Modifier.isAbstract(type.getModifiers());
+        try
+        {
+            type.getMethod("limitOf", DirectBuffer.class, int.class, int.class);
+            Constructor<?> constructor = type.getConstructor();
+            validatable &= Modifier.isPublic(constructor.getModifiers());
+        }
+        catch (NoSuchMethodException ex)
+        {
+            validatable = false;
+        }
+        return validatable;
+    }
+}
@@ -50,4 +50,22 @@ public class ListWithArrayOfStructFWTest
         assertEquals(48, listWithArray.limit());
         assertEquals(2, listWithArray.fieldCount());
     }
+
+    @Test
+    public void shouldGetArrayItemsByIndex() throws Exception
+    {
+        int limit = listWithArrayRW.wrap(buffer, 0, buffer.capacity())
+            .requiredField("string0")
+            .arrayFieldItem(c -> c.fixed1(1L))
+            .arrayFieldItem(c -> c.fixed1(2L))
+            .arrayFieldItem(c -> c.fixed1(3L))
+            .build()
+            .limit();
+
+        final ListWithArrayOfStructFW listWithArray = listWithArrayRO.wrap(buffer, 0, limit);
+
+        assertEquals(3L, listWithArray.arrayField().item(2).fixed1());
+        assertEquals(1L, listWithArray.arrayField().item(0).fixed1());
+        assertEquals(2L, listWithArray.arrayField().item(1).fixed1());
+    }
 }
@@ -0,0 +1,176 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.lazyOffsets.ListWithLazyOffsetsFW;
+
+public class ListWithLazyOffsetsFWTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(100))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+    private final ListWithLazyOffsetsFW.Builder flyweightRW = new ListWithLazyOffsetsFW.Builder();
+    private final ListWithLazyOffsetsFW flyweightRO = new ListWithLazyOffsetsFW();
+    private final int physicalLengthSize = Integer.BYTES;
+    private final int logicalLengthSize = Integer.BYTES;
+    private final int bitmaskSize = Long.BYTES;
+
+    private int setFieldsWithTruncatedField0(
+        int offset)
+    {
+        int physicalLength = physicalLengthSize + logicalLengthSize + bitmaskSize + Byte.BYTES + 2;
+        buffer.putInt(offset, physicalLength);
+        int offsetLogicalLength = offset + physicalLengthSize;
+        buffer.putInt(offsetLogicalLength, 1);
+        int offsetBitMask = offsetLogicalLength + logicalLengthSize;
+        buffer.putLong(offsetBitMask, 1L);
+        int offsetField0 = offsetBitMask + bitmaskSize;
+        buffer.putByte(offsetField0, (byte) 10);
+        return physicalLength;
+    }
+
+    @Test
+    public void shouldWrapWithoutResolvingFields()
+    {
+        int physicalLength = setFieldsWithTruncatedField0(10);
+
+        assertSame(flyweightRO, flyweightRO.wrap(buffer, 10, 10 + physicalLength));
+        assertEquals(1, flyweightRO.fieldCount());
+        assertFalse(flyweightRO.hasField4());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldFailToResolveFieldExceedingLength()
+    {
+        int physicalLength = setFieldsWithTruncatedField0(10);
+
+        flyweightRO.wrap(buffer, 10, 10 + physicalLength).field0();
+    }
+
+    @Test
+    public void shouldNotTryWrapWhenFieldExceedsLength()
+    {
+        int physicalLength = setFieldsWithTruncatedField0(10);
+
+        assertNull(flyweightRO.tryWrap(buffer, 10, 10 + physicalLength));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotWrapWhenRequiredFieldIsNotSet()
+    {
+        int physicalLength = physicalLengthSize + logicalLengthSize + bitmaskSize + Integer.BYTES;
+        buffer.putInt(0, physicalLength);
+        int offsetLogicalLength = physicalLengthSize;
+        buffer.putInt(offsetLogicalLength, 1);
+        int offsetBitMask = offsetLogicalLength + logicalLengthSize;
+        buffer.putLong(offsetBitMask, 2L);
+        int offsetField1 = offsetBitMask + bitmaskSize;
+        buffer.putInt(offsetField1, 100);
+
+        flyweightRO.wrap(buffer, 0, physicalLength);
+    }
+
+    @Test
+    public void shouldResolveFieldsInAnyOrder()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .field1(100L)
+            .field2("value2")
+            .field3(3)
+            .field4(-4L)
+            .build()
+            .limit();
+
+        flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals(-4L, flyweightRO.field4());
+        assertEquals("value2", flyweightRO.field2().asString());
+        assertEquals(100L, flyweightRO.field1());
+        assertEquals("value0", flyweightRO.field0().asString());
+        assertEquals(3, flyweightRO.field3());
+        assertEquals(5, flyweightRO.fieldCount());
+        assertEquals(limit, flyweightRO.limit());
+    }
+
+    @Test
+    public void shouldResolveFieldsAfterTryWrap()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .field2("value2")
+            .field4(4L)
+            .build()
+            .limit();
+
+        assertSame(flyweightRO, flyweightRO.tryWrap(buffer, 0, limit));
+
+        assertEquals("value0", flyweightRO.field0().asString());
+        assertEquals("value2", flyweightRO.field2().asString());
+        assertEquals(ListWithLazyOffsetsFW.DEFAULT_VALUE_FIELD3, flyweightRO.field3());
+        assertEquals(4L, flyweightRO.field4());
+    }
+
+    @Test
+    public void shouldResolveFieldsAgainAfterRewrap()
+    {
+        int limit1 = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .field1(100L)
+            .field4(4L)
+            .build()
+            .limit();
+        int limit2 = flyweightRW.wrap(buffer, limit1, buffer.capacity())
+            .field0("longer value0")
+            .field4(5L)
+            .build()
+            .limit();
+
+        flyweightRO.wrap(buffer, 0, limit1);
+        assertEquals(4L, flyweightRO.field4());
+        assertEquals(100L, flyweightRO.field1());
+
+        flyweightRO.wrap(buffer, limit1, limit2);
+        assertEquals(5L, flyweightRO.field4());
+        assertEquals("longer value0", flyweightRO.field0().asString());
+        assertFalse(flyweightRO.hasField1());
+    }
+
+    @Test(expected = AssertionError.class)
+    public void shouldFailToGetFieldNotSet()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .build()
+            .limit();
+
+        flyweightRO.wrap(buffer, 0, limit);
+        flyweightRO.field2();
+    }
+}
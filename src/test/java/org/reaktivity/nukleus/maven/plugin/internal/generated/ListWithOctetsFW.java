@@ -90,7 +90,7 @@ public final class ListWithOctetsFW extends Flyweight
         return buffer().getByte(offset() + LOGICAL_LENGTH_OFFSET);
     }
 
-    private long bitmask()
+    public long bitmask()
     {
         return buffer().getLong(offset() + BIT_MASK_OFFSET);
     }
@@ -0,0 +1,191 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.inner.ListWithWideBitmaskFW;
+
+public class ListWithWideBitmaskFWTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(200))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+    private final ListWithWideBitmaskFW.Builder flyweightRW = new ListWithWideBitmaskFW.Builder();
+    private final ListWithWideBitmaskFW flyweightRO = new ListWithWideBitmaskFW();
+    private final int physicalLengthSize = Integer.BYTES;
+    private final int logicalLengthSize = Integer.BYTES;
+    private final int bitmaskSize = 2 * Long.BYTES;
+
+    private int setRequiredFieldsInFirstWordOnly(
+        int offset)
+    {
+        int physicalLength = physicalLengthSize + logicalLengthSize + bitmaskSize + Byte.BYTES + 2;
+        buffer.putInt(offset, physicalLength);
+        int offsetLogicalLength = offset + physicalLengthSize;
+        buffer.putInt(offsetLogicalLength, 1);
+        int offsetBitMask = offsetLogicalLength + logicalLengthSize;
+        buffer.putLong(offsetBitMask, 1L);
+        buffer.putLong(offsetBitMask + Long.BYTES, 0L);
+        int offsetField0 = offsetBitMask + bitmaskSize;
+        buffer.putByte(offsetField0, (byte) 2);
+        buffer.putStringWithoutLengthUtf8(offsetField0 + Byte.BYTES, "f0");
+        return physicalLength;
+    }
+
+    @Test
+    public void shouldSetFieldsAcrossBitmaskWords()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .field31(31L)
+            .field32(32L)
+            .field63(63L)
+            .field64(64L)
+            .field65(65L)
+            .field69(69L)
+            .build()
+            .limit();
+
+        int offsetBitMask = physicalLengthSize + logicalLengthSize;
+        assertEquals(limit, buffer.getInt(0));
+        assertEquals(7, buffer.getInt(physicalLengthSize));
+        assertEquals(1L | 1L << 31 | 1L << 32 | 1L << 63, buffer.getLong(offsetBitMask));
+        assertEquals(1L | 1L << 1 | 1L << 5, buffer.getLong(offsetBitMask + Long.BYTES));
+
+        flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals(1L | 1L << 31 | 1L << 32 | 1L << 63, flyweightRO.bitmask(0));
+        assertEquals(1L | 1L << 1 | 1L << 5, flyweightRO.bitmask(1));
+        assertEquals("value0", flyweightRO.field0().asString());
+        assertEquals(31L, flyweightRO.field31());
+        assertEquals(32L, flyweightRO.field32());
+        assertEquals(63L, flyweightRO.field63());
+        assertEquals(64L, flyweightRO.field64());
+        assertEquals(65L, flyweightRO.field65());
+        assertEquals(69L, flyweightRO.field69());
+        assertTrue(flyweightRO.hasField63());
+        assertTrue(flyweightRO.hasField64());
+        assertFalse(flyweightRO.hasField1());
+        assertFalse(flyweightRO.hasField68());
+        assertEquals(ListWithWideBitmaskFW.DEFAULT_VALUE_FIELD66, flyweightRO.field66());
+        assertEquals(7, flyweightRO.fieldCount());
+        assertEquals(limit, flyweightRO.limit());
+    }
+
+    @Test
+    public void shouldTryWrapFieldsAcrossBitmaskWords()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .field60("value60")
+            .field65(65L)
+            .field66(66)
+            .build()
+            .limit();
+
+        assertSame(flyweightRO, flyweightRO.tryWrap(buffer, 0, limit));
+
+        assertEquals("value60", flyweightRO.field60().asString());
+        assertEquals(65L, flyweightRO.field65());
+        assertEquals(66, flyweightRO.field66());
+        assertEquals(limit, flyweightRO.limit());
+    }
+
+    @Test
+    public void shouldResetFieldsMaskOnRewrap()
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .field64(64L)
+            .field65(65L)
+            .build();
+
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .field65(65L)
+            .build()
+            .limit();
+
+        flyweightRO.wrap(buffer, 0, limit);
+
+        assertFalse(flyweightRO.hasField64());
+        assertEquals(2, flyweightRO.fieldCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotWrapWhenRequiredFieldInSecondWordIsNotSet()
+    {
+        int physicalLength = setRequiredFieldsInFirstWordOnly(10);
+
+        flyweightRO.wrap(buffer, 10, 10 + physicalLength);
+    }
+
+    @Test
+    public void shouldNotTryWrapWhenRequiredFieldInSecondWordIsNotSet()
+    {
+        int physicalLength = setRequiredFieldsInFirstWordOnly(10);
+
+        assertNull(flyweightRO.tryWrap(buffer, 10, 10 + physicalLength));
+    }
+
+    @Test(expected = AssertionError.class)
+    public void shouldFailToSetFieldOutOfOrderAcrossBitmaskWords()
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .field65(65L)
+            .field41(41L);
+    }
+
+    @Test(expected = AssertionError.class)
+    public void shouldFailToBuildWhenRequiredFieldInSecondWordIsNotSet()
+    {
+        flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .field64(64L)
+            .build();
+    }
+
+    @Test
+    public void shouldAppendBitmaskWordsToStringBuilder()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .field0("value0")
+            .field63(63L)
+            .field65(65L)
+            .build()
+            .limit();
+
+        flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals("LIST_WITH_WIDE_BITMASK [bitmask=0x00000000000000028000000000000001, field0=\"value0\", " +
+            "field63=63, field65=65, field66=6]", flyweightRO.appendTo(new StringBuilder()).toString());
+        assertEquals(flyweightRO.appendTo(new StringBuilder()).toString(), flyweightRO.toString());
+    }
+}
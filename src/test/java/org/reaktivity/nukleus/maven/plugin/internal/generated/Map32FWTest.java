@@ -18,9 +18,11 @@ package org.reaktivity.nukleus.maven.plugin.internal.generated;
 import static java.nio.ByteBuffer.allocateDirect;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
@@ -236,6 +238,100 @@ public class Map32FWTest
         assertEquals(0, flyweight.fieldCount());
     }
 
+    @Test
+    public void shouldGetValuesByKey() throws Exception
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .entry(k -> k.set(asStringFW("entry1Key")), v -> v.set(asStringFW("entry1Value")))
+            .entry(k -> k.set(asStringFW("entry2Key")), v -> v.set(asStringFW("entry2Value")))
+            .build()
+            .limit();
+
+        final Map32FW<TypedefStringFW, VariantEnumKindOfStringFW> map = flyweightRO.wrap(buffer,  0,  limit);
+
+        assertEquals("entry2Value", map.get(asKey("entry2Key")).get().asString());
+        assertEquals("entry1Value", map.get(asKey("entry1Key")).get().asString());
+        assertTrue(map.containsKey(asKey("entry1Key")));
+        assertFalse(map.containsKey(asKey("entry3Key")));
+        assertNull(map.get(asKey("entry3Key")));
+    }
+
+    @Test
+    public void shouldGetValuesByKeyAfterRewrap() throws Exception
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .entry(k -> k.set(asStringFW("entry1Key")), v -> v.set(asStringFW("entry1Value")))
+            .build()
+            .limit();
+        int limit2 = flyweightRW.wrap(buffer, limit, buffer.capacity())
+            .entry(k -> k.set(asStringFW("entry2Key")), v -> v.set(asStringFW("entry2Value")))
+            .build()
+            .limit();
+
+        assertTrue(flyweightRO.wrap(buffer, 0, limit).containsKey(asKey("entry1Key")));
+
+        final Map32FW<TypedefStringFW, VariantEnumKindOfStringFW> map = flyweightRO.wrap(buffer, limit, limit2);
+
+        assertFalse(map.containsKey(asKey("entry1Key")));
+        assertEquals("entry2Value", map.get(asKey("entry2Key")).get().asString());
+    }
+
+    @Test
+    public void shouldGetValuesByKeyDuringForEach() throws Exception
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .entry(k -> k.set(asStringFW("entry1Key")), v -> v.set(asStringFW("entry1Value")))
+            .entry(k -> k.set(asStringFW("entry2Key")), v -> v.set(asStringFW("entry2Value")))
+            .build()
+            .limit();
+
+        final Map32FW<TypedefStringFW, VariantEnumKindOfStringFW> map =
+            new Map32FW<>(new TypedefStringFW(), new VariantEnumKindOfStringFW(),
+                new TypedefStringFW(), new VariantEnumKindOfStringFW()).wrap(buffer, 0, limit);
+
+        List<String> mapItems = new ArrayList<>();
+        map.forEach((k, v) ->
+        {
+            assertEquals("entry2Value", map.get(asKey("entry2Key")).get().asString());
+            assertTrue(map.containsKey(k));
+            mapItems.add(k.get().asString());
+            mapItems.add(v.get().asString());
+        });
+
+        assertEquals(4, mapItems.size());
+        assertEquals("entry1Key", mapItems.get(0));
+        assertEquals("entry1Value", mapItems.get(1));
+        assertEquals("entry2Key", mapItems.get(2));
+        assertEquals("entry2Value", mapItems.get(3));
+    }
+
+    @Test
+    public void shouldGetValueByIteratedKeyWithSharedLookupFlyweights() throws Exception
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .entry(k -> k.set(asStringFW("entry1Key")), v -> v.set(asStringFW("entry1Value")))
+            .entry(k -> k.set(asStringFW("entry2Key")), v -> v.set(asStringFW("entry2Value")))
+            .build()
+            .limit();
+
+        final Map32FW<TypedefStringFW, VariantEnumKindOfStringFW> map =
+            new Map32FW<>(new TypedefStringFW(), new VariantEnumKindOfStringFW()).wrap(buffer, 0, limit);
+
+        List<String> values = new ArrayList<>();
+        map.forEach((k, v) -> values.add(map.get(k).get().asString()));
+
+        assertEquals(2, values.size());
+        assertEquals("entry1Value", values.get(0));
+        assertEquals("entry2Value", values.get(1));
+    }
+
+    private static TypedefStringFW asKey(
+        String value)
+    {
+        MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(Byte.SIZE + value.length()));
+        return new TypedefStringFW.Builder().wrap(buffer, 0, buffer.capacity()).set(asStringFW(value)).build();
+    }
+
     private static StringFW asStringFW(
         String value)
     {
@@ -18,6 +18,7 @@ package org.reaktivity.nukleus.maven.plugin.internal.generated;
 import static java.nio.ByteBuffer.allocateDirect;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
@@ -236,6 +237,29 @@ public class Map8FWTest
         assertEquals(0, flyweight.fieldCount());
     }
 
+    @Test
+    public void shouldGetValuesByKey() throws Exception
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .entry(k -> k.set(asStringFW("entry1Key")), v -> v.set(asStringFW("entry1Value")))
+            .entry(k -> k.set(asStringFW("entry2Key")), v -> v.set(asStringFW("entry2Value")))
+            .build()
+            .limit();
+
+        final Map8FW<TypedefStringFW, VariantEnumKindOfStringFW> map = flyweightRO.wrap(buffer,  0,  limit);
+
+        assertEquals("entry1Value", map.get(asKey("entry1Key")).get().asString());
+        assertEquals("entry2Value", map.get(asKey("entry2Key")).get().asString());
+        assertFalse(map.containsKey(asKey("entry3Key")));
+    }
+
+    private static TypedefStringFW asKey(
+        String value)
+    {
+        MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(Byte.SIZE + value.length()));
+        return new TypedefStringFW.Builder().wrap(buffer, 0, buffer.capacity()).set(asStringFW(value)).build();
+    }
+
     private static StringFW asStringFW(
         String value)
     {
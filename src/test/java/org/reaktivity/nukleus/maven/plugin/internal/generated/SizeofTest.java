@@ -0,0 +1,114 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.String16FW;
+import org.reaktivity.reaktor.internal.test.types.String8FW;
+import org.reaktivity.reaktor.internal.test.types.Varbyteuint32FW;
+import org.reaktivity.reaktor.internal.test.types.Varint32FW;
+import org.reaktivity.reaktor.internal.test.types.Varint64FW;
+import org.reaktivity.reaktor.internal.test.types.inner.EnumWithInt64FW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatFW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatParentFW;
+import org.reaktivity.reaktor.internal.test.types.inner.NestedFW;
+import org.reaktivity.reaktor.internal.test.types.inner.RollFW;
+import org.reaktivity.reaktor.internal.test.types.inner.StructWithEnumDefaultFW;
+
+public class SizeofTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(1000))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+
+    @Test
+    public void shouldDefineSizeofForFixedStruct() throws Exception
+    {
+        final FlatParentFW flatParent = new FlatParentFW.Builder().wrap(buffer, 10, buffer.capacity())
+            .fixed1(10)
+            .build();
+
+        assertEquals(8, FlatParentFW.SIZEOF);
+        assertEquals(FlatParentFW.SIZEOF, FlatParentFW.MAX_SIZEOF);
+        assertEquals(FlatParentFW.SIZEOF, flatParent.sizeof());
+        assertEquals(10 + FlatParentFW.SIZEOF, new FlatParentFW().wrap(buffer, 10, buffer.capacity()).limit());
+    }
+
+    @Test
+    public void shouldDefineSizeofForFixedStructWithEnumMember() throws Exception
+    {
+        final StructWithEnumDefaultFW struct = new StructWithEnumDefaultFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .field2((byte) 2)
+            .build();
+
+        assertEquals(RollFW.SIZEOF + Byte.BYTES, StructWithEnumDefaultFW.SIZEOF);
+        assertEquals(StructWithEnumDefaultFW.SIZEOF, struct.sizeof());
+    }
+
+    @Test
+    public void shouldDefineSizeofForPrimitiveEnum() throws Exception
+    {
+        assertEquals(Long.BYTES, EnumWithInt64FW.SIZEOF);
+        assertEquals(EnumWithInt64FW.SIZEOF, EnumWithInt64FW.MAX_SIZEOF);
+    }
+
+    @Test
+    public void shouldDefineMaxSizeofForBoundedTypes() throws Exception
+    {
+        assertEquals(Byte.BYTES + 254, String8FW.MAX_SIZEOF);
+        assertEquals(Short.BYTES + 65534, String16FW.MAX_SIZEOF);
+        assertEquals(5, Varint32FW.MAX_SIZEOF);
+        assertEquals(10, Varint64FW.MAX_SIZEOF);
+        assertEquals(5, Varbyteuint32FW.MAX_SIZEOF);
+    }
+
+    @Test
+    public void shouldBoundSizeofOfLongestVarbyteuint32() throws Exception
+    {
+        buffer.putBytes(0, new byte[] { (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x01 });
+
+        assertEquals(Varbyteuint32FW.MAX_SIZEOF, new Varbyteuint32FW().wrap(buffer, 0, buffer.capacity()).sizeof());
+    }
+
+    @Test
+    public void shouldBoundSizeofOfBoundedStruct() throws Exception
+    {
+        final String value = new String(new char[254]).replace('\0', 'x');
+        final NestedFW nested = new NestedFW.Builder().wrap(buffer, 0, buffer.capacity())
+            .fixed4(40)
+            .flat(f -> f
+                .fixed1(10)
+                .fixed2(20)
+                .string1(value)
+                .string2(value)
+                .string3(value))
+            .fixed5(50)
+            .build();
+
+        assertEquals(NestedFW.MAX_SIZEOF, nested.sizeof());
+        assertTrue(FlatFW.MAX_SIZEOF < NestedFW.MAX_SIZEOF);
+    }
+}
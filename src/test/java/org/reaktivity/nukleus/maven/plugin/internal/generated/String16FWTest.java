@@ -21,6 +21,8 @@ import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -34,6 +36,8 @@ import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
 import org.reaktivity.reaktor.internal.test.types.String16FW;
+import org.reaktivity.reaktor.internal.test.types.String8FW;
+import org.reaktivity.reaktor.internal.test.types.StringFW;
 
 @RunWith(Parameterized.class)
 public class String16FWTest
@@ -360,6 +364,45 @@ public class String16FWTest
         assertEquals("value1", stringRO.value().getStringWithoutLengthUtf8(0, stringRO.value().capacity()));
     }
 
+    @Test
+    public void shouldCompareAndHashContentIndependentOfLengthEncoding() throws Exception
+    {
+        String value = "caf\u00e9 \ud83d\ude00";
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set(value, UTF_8)
+            .build()
+            .limit();
+        stringRO.wrap(buffer, 0, limit);
+
+        assertTrue(stringRO.contentEquals(value));
+        assertTrue(stringRO.equalsIgnoreAsciiCase("CAF\u00e9 \ud83d\ude00"));
+        assertEquals(new String8FW(value).hash(), stringRO.hash());
+    }
+
+    @Test
+    public void shouldShareCacheAcrossLengthEncodings() throws Exception
+    {
+        StringFW.Cache cache = new StringFW.Cache(16, 64);
+        String8FW string8 = new String8FW("text/plain");
+        string8.cache(cache);
+        stringRO.cache(cache);
+
+        try
+        {
+            int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+                .set("text/plain", UTF_8)
+                .build()
+                .limit();
+
+            assertSame(string8.asString(), stringRO.wrap(buffer, 0, limit).asString());
+            assertEquals(1L, cache.hits());
+        }
+        finally
+        {
+            stringRO.cache(null);
+        }
+    }
+
     private static MutableDirectBuffer asBuffer(String value)
     {
         MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(value.length()));
@@ -16,15 +16,23 @@
 package org.reaktivity.nukleus.maven.plugin.internal.generated;
 
 import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.ByteOrder.BIG_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_16BE;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.agrona.BitUtil;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
 import org.reaktivity.reaktor.internal.test.types.String8FW;
+import org.reaktivity.reaktor.internal.test.types.StringFW;
 
 public class String8FWTest
 {
@@ -259,6 +267,39 @@ public class String8FWTest
                 .set(str, UTF_8);
     }
 
+    @Test
+    public void shouldSetUsingNonAsciiString() throws Exception
+    {
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set("caf\u00e9", UTF_8)
+            .build()
+            .limit();
+        stringRO.wrap(buffer, 0, limit);
+
+        assertEquals(5, stringRO.length());
+        assertEquals("caf\u00e9", stringRO.asString());
+    }
+
+    @Test
+    public void shouldSetUsingStringAndNonAsciiCompatibleCharset() throws Exception
+    {
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set("test", UTF_16BE)
+            .build()
+            .limit();
+        stringRO.wrap(buffer, 0, limit);
+
+        assertEquals(8, stringRO.length());
+        assertEquals('t', buffer.getChar(LENGTH_SIZE, BIG_ENDIAN));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldFailToSetUsingAsciiStringWhenExceedsMaxLimit() throws Exception
+    {
+        stringRW.wrap(buffer, 10, 14)
+            .set("test", UTF_8);
+    }
+
     @Test
     public void shouldSetToEmptyString() throws Exception
     {
@@ -315,6 +356,145 @@ public class String8FWTest
         assertEquals("value1", stringRO.value().getStringWithoutLengthUtf8(0, stringRO.value().capacity()));
     }
 
+    @Test
+    public void shouldCompareContentWithoutDecoding() throws Exception
+    {
+        String value = "caf\u00e9 \u20ac \ud83d\ude00";
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set(value, UTF_8)
+            .build()
+            .limit();
+        stringRO.wrap(buffer, 0, limit);
+
+        assertTrue(stringRO.contentEquals(value));
+        assertFalse(stringRO.contentEquals("caf\u00e9 \u20ac"));
+        assertFalse(stringRO.contentEquals(value + "!"));
+        assertFalse(stringRO.contentEquals("caf\u00e8 \u20ac \ud83d\ude00"));
+        assertFalse(stringRO.contentEquals("caf\u00e9 \u20ac \ud83d"));
+        assertFalse(stringRO.contentEquals(null));
+    }
+
+    @Test
+    public void shouldCompareNullContent() throws Exception
+    {
+        String8FW string = new String8FW(null);
+
+        assertTrue(string.contentEquals(null));
+        assertFalse(string.contentEquals(""));
+        assertFalse(string.contentEquals(asBuffer(""), 0, 0));
+        assertEquals(0, string.hash());
+    }
+
+    @Test
+    public void shouldCompareContentWithBuffer() throws Exception
+    {
+        String8FW string = new String8FW("application/octet-stream");
+
+        assertTrue(string.contentEquals(asBuffer("application/octet-stream"), 0, 24));
+        assertTrue(string.contentEquals(asBuffer("xapplication/octet-stream"), 1, 24));
+        assertFalse(string.contentEquals(asBuffer("application/octet-streams"), 0, 25));
+        assertFalse(string.contentEquals(asBuffer("application/octet-strean"), 0, 24));
+        assertFalse(string.contentEquals(asBuffer("bpplication/octet-stream"), 0, 24));
+    }
+
+    @Test
+    public void shouldCompareIgnoringAsciiCase() throws Exception
+    {
+        String8FW string = new String8FW("Content-Type: \u00e9");
+
+        assertTrue(string.equalsIgnoreAsciiCase("content-type: \u00e9"));
+        assertTrue(string.equalsIgnoreAsciiCase("CONTENT-TYPE: \u00e9"));
+        assertFalse(string.equalsIgnoreAsciiCase("CONTENT-TYPE: \u00c9"));
+        assertFalse(string.equalsIgnoreAsciiCase("content-type\u001a \u00e9"));
+        assertFalse(string.contentEquals("content-type: \u00e9"));
+        assertTrue(new String8FW("content-type").equalsIgnoreAsciiCase(asBuffer("CONTENT-TYPE"), 0, 12));
+        assertFalse(string.equalsIgnoreAsciiCase(asBuffer("CONTENT-TYPE"), 0, 12));
+        assertFalse(new String8FW("@").equalsIgnoreAsciiCase(asBuffer("`"), 0, 1));
+    }
+
+    @Test
+    public void shouldHashContent() throws Exception
+    {
+        String value = "application/octet-stream";
+        int limit = stringRW.wrap(buffer, 10, buffer.capacity())
+            .set(value, UTF_8)
+            .build()
+            .limit();
+        stringRO.wrap(buffer, 10, limit);
+
+        assertEquals(new String8FW(value).hash(), stringRO.hash());
+        assertEquals(String8FW.hash(asBuffer(value), 0, value.length()), stringRO.hash());
+        assertNotEquals(new String8FW("application/octet-streams").hash(), stringRO.hash());
+    }
+
+    @Test
+    public void shouldDecodeUsingCache() throws Exception
+    {
+        StringFW.Cache cache = new StringFW.Cache(16, 64);
+        stringRO.cache(cache);
+
+        int limit = stringRW.wrap(buffer, 0, buffer.capacity())
+            .set("caf\u00e9", UTF_8)
+            .build()
+            .limit();
+        String first = stringRO.wrap(buffer, 0, limit).asString();
+        String second = stringRO.wrap(buffer, 0, limit).asString();
+
+        assertEquals("caf\u00e9", first);
+        assertSame(first, second);
+        assertEquals(1L, cache.hits());
+        assertEquals(1L, cache.misses());
+    }
+
+    @Test
+    public void shouldNotCacheNullString() throws Exception
+    {
+        StringFW.Cache cache = new StringFW.Cache(16, 64);
+        String8FW string = new String8FW(null);
+        string.cache(cache);
+
+        assertNull(string.asString());
+        assertEquals(0L, cache.hits());
+        assertEquals(0L, cache.misses());
+    }
+
+    @Test
+    public void shouldEvictFromCache() throws Exception
+    {
+        StringFW.Cache cache = new StringFW.Cache(1, 64);
+        String8FW first = new String8FW("GET");
+        String8FW second = new String8FW("POST");
+        first.cache(cache);
+        second.cache(cache);
+
+        String value = first.asString();
+        assertEquals("POST", second.asString());
+        assertNotSame(value, first.asString());
+        assertEquals("GET", first.asString());
+        assertEquals(1L, cache.hits());
+        assertEquals(3L, cache.misses());
+    }
+
+    @Test
+    public void shouldBypassCacheWhenExceedsMaxLength() throws Exception
+    {
+        StringFW.Cache cache = new StringFW.Cache(16, 4);
+        String8FW string = new String8FW("application/json");
+        string.cache(cache);
+
+        String value = string.asString();
+        assertEquals("application/json", value);
+        assertNotSame(value, string.asString());
+        assertEquals(0L, cache.hits());
+        assertEquals(2L, cache.misses());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldFailToCreateCacheWithZeroCapacity() throws Exception
+    {
+        new StringFW.Cache(0, 64);
+    }
+
     private static MutableDirectBuffer asBuffer(
         String value)
     {
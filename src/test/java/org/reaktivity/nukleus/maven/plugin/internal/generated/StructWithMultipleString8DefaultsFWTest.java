@@ -0,0 +1,82 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.inner.StructWithMultipleString8DefaultsFW;
+
+public class StructWithMultipleString8DefaultsFWTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(150))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+    private final StructWithMultipleString8DefaultsFW.Builder structRW = new StructWithMultipleString8DefaultsFW.Builder();
+    private final StructWithMultipleString8DefaultsFW structRO = new StructWithMultipleString8DefaultsFW();
+
+    @Test
+    public void shouldDefaultAllFields() throws Exception
+    {
+        int limit = structRW.wrap(buffer, 0, buffer.capacity())
+            .build()
+            .limit();
+        structRO.wrap(buffer, 0, limit);
+
+        assertEquals("field1", structRO.field1().asString());
+        assertEquals("field2", structRO.field2().asString());
+        assertNull(structRO.field3().asString());
+        assertEquals(1 + 6 + 1 + 6 + 1, structRO.sizeof());
+    }
+
+    @Test
+    public void shouldDefaultPriorFields() throws Exception
+    {
+        int limit = structRW.wrap(buffer, 0, buffer.capacity())
+            .field3("caf\u00e9")
+            .build()
+            .limit();
+        structRO.wrap(buffer, 0, limit);
+
+        assertEquals("field1", structRO.field1().asString());
+        assertEquals("field2", structRO.field2().asString());
+        assertEquals("caf\u00e9", structRO.field3().asString());
+    }
+
+    @Test
+    public void shouldSetAllFields() throws Exception
+    {
+        int limit = structRW.wrap(buffer, 0, buffer.capacity())
+            .field1("value1")
+            .field2("value2")
+            .field3("value3")
+            .build()
+            .limit();
+        structRO.wrap(buffer, 0, limit);
+
+        assertEquals("value1", structRO.field1().asString());
+        assertEquals("value2", structRO.field2().asString());
+        assertEquals("value3", structRO.field3().asString());
+    }
+}
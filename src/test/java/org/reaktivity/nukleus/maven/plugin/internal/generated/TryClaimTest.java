@@ -0,0 +1,189 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.agrona.concurrent.ringbuffer.RingBuffer.INSUFFICIENT_CAPACITY;
+import static org.agrona.concurrent.ringbuffer.RingBufferDescriptor.TRAILER_LENGTH;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.ringbuffer.OneToOneRingBuffer;
+import org.agrona.concurrent.ringbuffer.RingBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatFW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatParentFW;
+import org.reaktivity.reaktor.internal.test.types.inner.FlatWithArrayFW;
+
+public class TryClaimTest
+{
+    private final RingBuffer ring = new OneToOneRingBuffer(new UnsafeBuffer(allocateDirect(8192 + TRAILER_LENGTH)));
+    private final FlatFW.Builder flatRW = new FlatFW.Builder();
+    private final FlatFW flatRO = new FlatFW();
+
+    @Test
+    public void shouldClaimSizeofOfFixedSizeStructAndCommit() throws Exception
+    {
+        final int sizeof = new FlatParentFW.Builder().tryClaim(ring, FlatParentFW.TYPE_ID, f -> f.fixed1(10));
+
+        final int read = ring.read((msgTypeId, buffer, index, length) ->
+        {
+            assertEquals(FlatParentFW.TYPE_ID, msgTypeId);
+            assertEquals(FlatParentFW.SIZEOF, length);
+            FlatParentFW flatParent = new FlatParentFW().wrap(buffer, index, index + length);
+            assertEquals(sizeof, flatParent.sizeof());
+            assertEquals(10, flatParent.fixed1());
+        });
+
+        assertEquals(1, read);
+    }
+
+    @Test
+    public void shouldClaimMaxSizeofOfBoundedStructAndCommit() throws Exception
+    {
+        final int sizeof = flatRW.tryClaim(ring, FlatFW.TYPE_ID, f -> f
+            .fixed1(10)
+            .string1("value1")
+            .string2("value2")
+            .string3("value3"));
+
+        final int read = ring.read((msgTypeId, buffer, index, length) ->
+        {
+            assertEquals(FlatFW.TYPE_ID, msgTypeId);
+            assertEquals(FlatFW.MAX_SIZEOF, length);
+            FlatFW flat = flatRO.wrap(buffer, index, index + length);
+            assertEquals(sizeof, flat.sizeof());
+            assertEquals("value3", flat.string3().asString());
+        });
+
+        assertEquals(1, read);
+    }
+
+    @Test
+    public void shouldClaimMaxMsgLengthWhenMaxSizeofExceedsIt() throws Exception
+    {
+        final RingBuffer smallRing = new OneToOneRingBuffer(new UnsafeBuffer(allocateDirect(1024 + TRAILER_LENGTH)));
+        assertTrue(FlatFW.MAX_SIZEOF > smallRing.maxMsgLength());
+
+        final int sizeof = flatRW.tryClaim(smallRing, FlatFW.TYPE_ID, f -> f
+            .fixed1(10)
+            .string1("value1")
+            .string2("value2")
+            .string3("value3"));
+
+        final int read = smallRing.read((msgTypeId, buffer, index, length) ->
+        {
+            assertEquals(smallRing.maxMsgLength(), length);
+            assertEquals(sizeof, flatRO.wrap(buffer, index, index + length).sizeof());
+        });
+
+        assertEquals(1, read);
+    }
+
+    @Test
+    public void shouldClaimGivenLengthAndCommit() throws Exception
+    {
+        final int sizeof = flatRW.tryClaim(ring, FlatFW.TYPE_ID, 64, f -> f
+            .fixed1(10)
+            .string1("value1")
+            .string2("value2")
+            .string3("value3"));
+
+        final List<String> frames = new ArrayList<>();
+        final int read = ring.read((msgTypeId, buffer, index, length) ->
+        {
+            assertEquals(FlatFW.TYPE_ID, msgTypeId);
+            assertEquals(64, length);
+            FlatFW flat = flatRO.wrap(buffer, index, index + length);
+            assertEquals(sizeof, flat.sizeof());
+            frames.add(flat.string3().asString());
+        });
+
+        assertEquals(1, read);
+        assertEquals("value3", frames.get(0));
+    }
+
+    @Test
+    public void shouldZeroUnusedTailOfClaim() throws Exception
+    {
+        ring.buffer().setMemory(0, ring.capacity(), (byte) 0xab);
+
+        final int sizeof = new FlatWithArrayFW.Builder().tryClaim(ring, 1, 64, f -> f
+            .fixed1(10)
+            .string1("value1")
+            .array1Item(b -> b.set("item1", UTF_8))
+            .array1Item(b -> b.set("item2", UTF_8)));
+
+        final int read = ring.read((msgTypeId, buffer, index, length) ->
+        {
+            assertEquals(64, length);
+            FlatWithArrayFW flat = new FlatWithArrayFW().wrap(buffer, index, index + length);
+            assertEquals(sizeof, flat.sizeof());
+            assertEquals(2, flat.array1().fieldCount());
+            for (int i = sizeof; i < length; i++)
+            {
+                assertEquals(0, buffer.getByte(index + i));
+            }
+        });
+
+        assertEquals(1, read);
+    }
+
+    @Test
+    public void shouldAbortClaimWhenBuildFails() throws Exception
+    {
+        try
+        {
+            flatRW.tryClaim(ring, FlatFW.TYPE_ID, 16, f -> f
+                .fixed1(10)
+                .string1("value1")
+                .string2("value2")
+                .string3("value3"));
+            fail("expected build to exceed claimed length");
+        }
+        catch (IndexOutOfBoundsException ex)
+        {
+            // expected
+        }
+
+        assertEquals(0, ring.read((msgTypeId, buffer, index, length) -> fail("aborted frame should be skipped")));
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    public void shouldNotClaimWhenInsufficientCapacity() throws Exception
+    {
+        int sizeof;
+        int claims = 0;
+        while ((sizeof = flatRW.tryClaim(ring, FlatFW.TYPE_ID, 256, f -> f
+            .fixed1(10)
+            .string1("value1")
+            .string2("value2")
+            .string3("value3"))) > 0)
+        {
+            claims++;
+        }
+
+        assertEquals(INSUFFICIENT_CAPACITY, sizeof);
+        assertEquals(claims, ring.read((msgTypeId, buffer, index, length) -> {}, Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright 2016-2020 The Reaktivity Project
+ *
+ * The Reaktivity Project licenses this file to you under the Apache License,
+ * version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at:
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+package org.reaktivity.nukleus.maven.plugin.internal.generated;
+
+import static java.nio.ByteBuffer.allocateDirect;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.reaktivity.reaktor.internal.test.types.Array32OfString8FW;
+import org.reaktivity.reaktor.internal.test.types.inner.UnionWithArrayFW;
+
+public class UnionWithArrayFWTest
+{
+    private final MutableDirectBuffer buffer = new UnsafeBuffer(allocateDirect(100))
+    {
+        {
+            // Make sure the code is not secretly relying upon memory being initialized to 0
+            setMemory(0, capacity(), (byte) 0xab);
+        }
+    };
+
+    private final UnionWithArrayFW.Builder flyweightRW = new UnionWithArrayFW.Builder();
+    private final UnionWithArrayFW flyweightRO = new UnionWithArrayFW();
+
+    @Test
+    public void shouldSetArray()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .array1(a -> a.item(b -> b.set("value1", UTF_8)))
+            .build()
+            .limit();
+
+        final UnionWithArrayFW union = flyweightRO.wrap(buffer, 0, limit);
+        final Array32OfString8FW array = union.array1();
+
+        assertEquals(UnionWithArrayFW.KIND_ARRAY1, union.kind());
+        assertEquals(1, array.fieldCount());
+        assertEquals("value1", array.item(0).asString());
+        assertEquals(limit, array.limit());
+    }
+
+    @Test
+    public void shouldSetString()
+    {
+        int limit = flyweightRW.wrap(buffer, 0, buffer.capacity())
+            .string1("value1")
+            .build()
+            .limit();
+
+        final UnionWithArrayFW union = flyweightRO.wrap(buffer, 0, limit);
+
+        assertEquals(UnionWithArrayFW.KIND_STRING1, union.kind());
+        assertEquals("value1", union.string1().asString());
+    }
+}
@@ -231,4 +231,20 @@ public class Varbyteuint32FWTest
         varbyteuint32RW.wrap(buffer, 10, 11)
             .set(268435455);
     }
+
+    @Test
+    public void shouldReadValueOfEachSizeAwayFromAndNearBufferEnd() throws Exception
+    {
+        for (int size = 1; size <= 4; size++)
+        {
+            final int value = (1 << (7 * size)) - 1;
+            for (int offset : new int[] { 0, buffer.capacity() - size })
+            {
+                final int limit = varbyteuint32RW.wrap(buffer, offset, buffer.capacity()).set(value).build().limit();
+                assertEquals(size, limit - offset);
+                assertEquals(value, varbyteuint32RO.wrap(buffer, offset, buffer.capacity()).value());
+                assertEquals(size, varbyteuint32RO.tryWrap(buffer, offset, buffer.capacity()).limit() - offset);
+            }
+        }
+    }
 }
@@ -22,6 +22,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -193,6 +194,31 @@ public class VariantOfArrayFWTest
         assertAllTestValuesRead(variantOfList, 0);
     }
 
+    @Test
+    public void shouldWrapArray32InNetworkOrder() throws Exception
+    {
+        final int offset = 10;
+        buffer.putByte(offset, org.reaktivity.reaktor.internal.test.types.networkOrder.EnumWithInt8.SEVEN.value());
+        buffer.putInt(offset + 1, 20, ByteOrder.BIG_ENDIAN);
+        buffer.putInt(offset + 5, 2, ByteOrder.BIG_ENDIAN);
+        buffer.putByte(offset + 9, (byte) "symbolA".length());
+        buffer.putBytes(offset + 10, "symbolA".getBytes(UTF_8));
+        buffer.putByte(offset + 17, (byte) "symbolB".length());
+        buffer.putBytes(offset + 18, "symbolB".getBytes(UTF_8));
+
+        final org.reaktivity.reaktor.internal.test.types.networkOrder.VariantOfArrayFW<String8FW> networkRO =
+            new org.reaktivity.reaktor.internal.test.types.networkOrder.VariantOfArrayFW<>(new String8FW());
+        networkRO.wrap(buffer, offset, buffer.capacity());
+
+        List<String> arrayItems = new ArrayList<>();
+        networkRO.get().forEach(v -> arrayItems.add(v.asString()));
+
+        assertEquals(2, networkRO.get().fieldCount());
+        assertEquals("symbolA", arrayItems.get(0));
+        assertEquals("symbolB", arrayItems.get(1));
+        assertEquals(offset + 25, networkRO.limit());
+    }
+
     private static StringFW asStringFW(
         String value)
     {
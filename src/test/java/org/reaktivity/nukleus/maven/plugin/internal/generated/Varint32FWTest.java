@@ -16,9 +16,12 @@
 package org.reaktivity.nukleus.maven.plugin.internal.generated;
 
 import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
+import java.util.Arrays;
+
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
@@ -139,6 +142,17 @@ public class Varint32FWTest
         assertEquals(-66, varint32RO.value());
     }
 
+    @Test
+    public void shouldReadTwoByteValueWithAllBitsSet() throws Exception
+    {
+        // Zigzagged value is 0x3fff (14 bits set), actual value is -8192
+        MutableDirectBuffer buffer = new UnsafeBuffer(new byte[2]);
+        buffer.putByte(0, (byte) 0xff);
+        buffer.putByte(1, (byte) 0x7f);
+        assertEquals(2, varint32RO.wrap(buffer,  0,  buffer.capacity()).limit());
+        assertEquals(-8192, varint32RO.value());
+    }
+
     @Test
     public void shouldReadMostPositiveValue() throws Exception
     {
@@ -264,4 +278,47 @@ public class Varint32FWTest
         varint32RW.wrap(buffer, 10, 11)
             .set(70);
     }
+
+    @Test
+    public void shouldReadValueOfEachSizeAwayFromAndNearBufferEnd() throws Exception
+    {
+        for (int size = 1; size <= 5; size++)
+        {
+            final int value = size == 1 ? -1 : 1 << (7 * (size - 1) - 1);
+            for (int offset : new int[] { 0, buffer.capacity() - size })
+            {
+                final int limit = varint32RW.wrap(buffer, offset, buffer.capacity()).set(value).build().limit();
+                assertEquals(size, limit - offset);
+                assertEquals(value, varint32RO.wrap(buffer, offset, buffer.capacity()).value());
+                assertEquals(-value, varint32RW.wrap(buffer, offset, buffer.capacity()).set(-value).build().value());
+            }
+        }
+    }
+
+    @Test
+    public void shouldDecodeAll() throws Exception
+    {
+        final int[] values = { 0, -1, 64, -8192, Integer.MAX_VALUE, Integer.MIN_VALUE, 1 << 20, 12 };
+        int limit = 0;
+        for (int value : values)
+        {
+            limit = varint32RW.wrap(buffer, limit, buffer.capacity()).set(value).build().limit();
+        }
+        buffer.putBytes(buffer.capacity() - limit, buffer, 0, limit);
+
+        final int[] dst = new int[values.length + 1];
+        assertEquals(values.length, Varint32FW.decodeAll(buffer, 0, limit, dst, 1));
+        assertArrayEquals(values, Arrays.copyOfRange(dst, 1, dst.length));
+
+        assertEquals(values.length, Varint32FW.decodeAll(buffer, buffer.capacity() - limit, buffer.capacity(), dst, 0));
+        assertArrayEquals(values, Arrays.copyOf(dst, values.length));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotDecodeAllValueWith33bits() throws Exception
+    {
+        buffer.putInt(0, 0xffffffff);
+        buffer.putByte(4, (byte) 0x1f);
+        Varint32FW.decodeAll(buffer, 0, 5, new int[1], 0);
+    }
 }
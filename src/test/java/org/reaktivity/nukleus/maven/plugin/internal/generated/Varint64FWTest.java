@@ -16,9 +16,12 @@
 package org.reaktivity.nukleus.maven.plugin.internal.generated;
 
 import static java.nio.ByteBuffer.allocateDirect;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
+import java.util.Arrays;
+
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Test;
@@ -141,6 +144,17 @@ public class Varint64FWTest
         assertEquals(-66L, varint64RO.value());
     }
 
+    @Test
+    public void shouldReadTwoByteValueWithAllBitsSet() throws Exception
+    {
+        // Zigzagged value is 0x3fff (14 bits set), actual value is -8192
+        MutableDirectBuffer buffer = new UnsafeBuffer(new byte[2]);
+        buffer.putByte(0, (byte) 0xff);
+        buffer.putByte(1, (byte) 0x7f);
+        assertEquals(2, varint64RO.wrap(buffer,  0,  buffer.capacity()).limit());
+        assertEquals(-8192L, varint64RO.value());
+    }
+
     @Test
     public void shouldReadFiveBytePositiveValue() throws Exception
     {
@@ -302,4 +316,46 @@ public class Varint64FWTest
         varintRW.wrap(buffer, 10, 11)
             .set(70);
     }
+
+    @Test
+    public void shouldReadValueOfEachSizeAwayFromAndNearBufferEnd() throws Exception
+    {
+        for (int size = 1; size <= 10; size++)
+        {
+            final long value = size == 1 ? -1L : 1L << (7 * (size - 1) - 1);
+            for (int offset : new int[] { 0, buffer.capacity() - size })
+            {
+                final int limit = varintRW.wrap(buffer, offset, buffer.capacity()).set(value).build().limit();
+                assertEquals(size, limit - offset);
+                assertEquals(value, varint64RO.wrap(buffer, offset, buffer.capacity()).value());
+                assertEquals(-value, varintRW.wrap(buffer, offset, buffer.capacity()).set(-value).build().value());
+            }
+        }
+    }
+
+    @Test
+    public void shouldDecodeAll() throws Exception
+    {
+        final long[] values = { 0L, -1L, 64L, -8192L, Integer.MAX_VALUE, Long.MIN_VALUE, 1L << 55, Long.MAX_VALUE, 12L };
+        int limit = 0;
+        for (long value : values)
+        {
+            limit = varintRW.wrap(buffer, limit, buffer.capacity()).set(value).build().limit();
+        }
+        buffer.putBytes(buffer.capacity() - limit, buffer, 0, limit);
+
+        final long[] dst = new long[values.length + 1];
+        assertEquals(values.length, Varint64FW.decodeAll(buffer, 0, limit, dst, 1));
+        assertArrayEquals(values, Arrays.copyOfRange(dst, 1, dst.length));
+
+        assertEquals(values.length, Varint64FW.decodeAll(buffer, buffer.capacity() - limit, buffer.capacity(), dst, 0));
+        assertArrayEquals(values, Arrays.copyOf(dst, values.length));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldNotDecodeAllIncompleteValue() throws Exception
+    {
+        final int limit = varintRW.wrap(buffer, 0, buffer.capacity()).set(1L << 20).build().limit();
+        Varint64FW.decodeAll(buffer, 0, limit - 1, new long[1], 0);
+    }
 }